@@ -17,12 +17,50 @@ public class BuildDataManagerClassTask extends DefaultTask {
         String sourceCode = "";
         sourceCode += "package ru.vladislav117.mcdata;\n\n";
         sourceCode += """
+                import org.bukkit.Location;
                 import org.bukkit.NamespacedKey;
                 import org.bukkit.persistence.PersistentDataContainer;
                 import org.bukkit.persistence.PersistentDataType;
                 import org.jetbrains.annotations.Nullable;
+                import ru.vladislav117.mcdata.adapter.DataAdapters;
+                import ru.vladislav117.mcdata.adapter.EnumDataType;
+                import ru.vladislav117.mcdata.backend.DataBackend;
+                import ru.vladislav117.mcdata.backend.KeyVisitor;
+                import ru.vladislav117.mcdata.backend.MergePolicy;
+                import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+                import ru.vladislav117.mcdata.backend.SnapshotDataBackend;
+                import ru.vladislav117.mcdata.collection.DataLists;
+                import ru.vladislav117.mcdata.collection.StringMapDataType;
                 import ru.vladislav117.mcdata.error.DataManagerKeyError;
                 import ru.vladislav117.mcdata.error.DataManagerTypeError;
+                import ru.vladislav117.mcdata.io.ByteBufferPool;
+                import ru.vladislav117.mcdata.io.DataCompression;
+                import ru.vladislav117.mcdata.io.DataSerializer;
+                import ru.vladislav117.mcdata.jfr.DataEvents;
+                import ru.vladislav117.mcdata.key.DataKey;
+                import ru.vladislav117.mcdata.key.DataPath;
+                import ru.vladislav117.mcdata.key.KeyCache;
+                import ru.vladislav117.mcdata.key.KeyFilters;
+                import ru.vladislav117.mcdata.result.BooleanResult;
+                import ru.vladislav117.mcdata.result.ByteResult;
+                import ru.vladislav117.mcdata.result.DoubleResult;
+                import ru.vladislav117.mcdata.result.FloatResult;
+                import ru.vladislav117.mcdata.result.IntegerResult;
+                import ru.vladislav117.mcdata.result.LongResult;
+                import ru.vladislav117.mcdata.result.ReadStatus;
+                import ru.vladislav117.mcdata.result.ShortResult;
+                import ru.vladislav117.mcdata.tracking.DataDelta;
+                import ru.vladislav117.mcdata.tracking.DirtyTrackingBackend;
+                import ru.vladislav117.mcdata.tracking.KeyIndexBackend;
+                import ru.vladislav117.mcdata.transaction.DataTransaction;
+
+                import java.nio.ByteBuffer;
+                import java.time.Instant;
+                import java.util.List;
+                import java.util.Map;
+                import java.util.UUID;
+                import java.util.function.Consumer;
+                import java.util.function.Predicate;
                 
                 """;
 
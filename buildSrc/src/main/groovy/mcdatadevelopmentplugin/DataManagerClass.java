@@ -20,6 +20,11 @@ public class DataManagerClass extends Class {
         protected String primitive;
         protected String klass;
         protected String type;
+        protected String storedKlass;
+        protected String zero;
+        protected String typeExpression;
+        protected String readConversion;
+        protected String writeConversion;
         protected boolean custom = false;
 
         public DataManagerDataType(String name, String primitive, String klass, String type) {
@@ -27,6 +32,7 @@ public class DataManagerClass extends Class {
             this.primitive = primitive;
             this.klass = klass;
             this.type = type;
+            this.storedKlass = klass;
         }
 
         public String getName() {
@@ -45,10 +51,60 @@ public class DataManagerClass extends Class {
             return type;
         }
 
+        public String getTypeExpression() {
+            return typeExpression != null ? typeExpression : "PersistentDataType." + type;
+        }
+
+        public DataManagerDataType setTypeExpression(String typeExpression) {
+            this.typeExpression = typeExpression;
+            return this;
+        }
+
+        public String getReadConversion() {
+            return readConversion;
+        }
+
+        public String getWriteConversion() {
+            return writeConversion;
+        }
+
+        public DataManagerDataType setConversions(String readConversion, String writeConversion) {
+            this.readConversion = readConversion;
+            this.writeConversion = writeConversion;
+            this.custom = true;
+            return this;
+        }
+
+        public String getStoredKlass() {
+            return storedKlass;
+        }
+
+        public DataManagerDataType setStoredKlass(String storedKlass) {
+            this.storedKlass = storedKlass;
+            return this;
+        }
+
+        public String getZero() {
+            return zero;
+        }
+
+        public DataManagerDataType setZero(String zero) {
+            this.zero = zero;
+            return this;
+        }
+
+        public boolean isUnboxed() {
+            return zero != null;
+        }
+
         public boolean isCustom() {
             return custom;
         }
 
+        public boolean isAdapter() {
+            return typeExpression != null && typeExpression.startsWith("DataAdapters.");
+        }
+
         public DataManagerDataType setCustom(boolean custom) {
             this.custom = custom;
             return this;
@@ -58,6 +114,7 @@ public class DataManagerClass extends Class {
     public static class DataManagerKeyType {
         protected Argument argument;
         protected boolean isString;
+        protected boolean isPath = false;
 
         public DataManagerKeyType(Argument argument, boolean isString) {
             this.argument = argument;
@@ -71,12 +128,43 @@ public class DataManagerClass extends Class {
         public boolean isString() {
             return isString;
         }
+
+        public boolean isPath() {
+            return isPath;
+        }
+
+        public DataManagerKeyType setPath(boolean isPath) {
+            this.isPath = isPath;
+            return this;
+        }
+
+        public String getBackend() {
+            return isPath ? "container" : "chain.backend";
+        }
+
+        public void addReadStatements(StatementBasedCode code) {
+            if (isString) code.addStatement("NamespacedKey key = keyCache.get(keyString)");
+            if (isPath) {
+                code.addStatement("NamespacedKey key = path.getKey(keyCache)");
+                code.addStatement("DataBackend container = path.getParent(chain.backend, keyCache)");
+            }
+        }
+
+        public void addWriteStatements(StatementBasedCode code, String statement) {
+            if (isString) code.addStatement("NamespacedKey key = keyCache.get(keyString)");
+            if (isPath) {
+                code.addStatement("NamespacedKey key = path.getKey(keyCache)");
+                code.addStatement("path.update(chain.backend, keyCache, container -> " + statement + ")");
+                return;
+            }
+            code.addStatement(statement);
+        }
     }
 
     public DataManagerClass() {
         super("DataManager");
         setDocumentation(new ClassDocumentation() {{
-            addLine("Менеджер данных для PersistentDataContainer.");
+            addLine("Менеджер данных для PersistentDataContainer и других хранилищ данных.");
         }});
         setAccessModifier(AccessModifier.PUBLIC);
         createFields();
@@ -85,17 +173,50 @@ public class DataManagerClass extends Class {
 
     protected void createFields() {
         Field.defaultAccessModifier = AccessModifier.PROTECTED;
-        addField(new Field("String", "defaultNamespace") {{
+        addField(new Field("volatile String", "defaultNamespace") {{
             setAccessModifier(AccessModifier.NOTHING);
             setStatic(true);
             setInitializer("\"minecraft\"");
         }});
         addField(new Field("String", "namespace"));
-        addField(new Field("PersistentDataContainer", "container"));
+        addField(new Field("DataBackendChain", "chain"));
+        addField(new Field("KeyCache", "keyCache"));
     }
 
     protected void createMethods() {
         Method.defaultAccessModifier = AccessModifier.PUBLIC;
+        addMethod(new Method(name) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Создание менеджера данных.");
+                addLine("Если включены события Java Flight Recorder (см. DataEvents), хранилище оборачивается в хранилище, записывающее события.");
+            }});
+            setConstructor(true);
+            addArgument(new Argument("DataBackend", "backend") {{
+                setDescription("Хранилище данных");
+            }});
+            addArgument(new Argument("String", "namespace") {{
+                setDescription("Пространство имён");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("this.chain = new DataBackendChain(DataEvents.wrap(backend))");
+                addStatement("this.namespace = namespace");
+                addStatement("this.keyCache = KeyCache.of(namespace)");
+            }});
+        }});
+
+        addMethod(new Method(name) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Создание менеджера данных.");
+            }});
+            setConstructor(true);
+            addArgument(new Argument("DataBackend", "backend") {{
+                setDescription("Хранилище данных");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("this(backend, defaultNamespace)");
+            }});
+        }});
+
         addMethod(new Method(name) {{
             setDocumentation(new MethodDocumentation() {{
                 addLine("Создание менеджера данных.");
@@ -108,8 +229,7 @@ public class DataManagerClass extends Class {
                 setDescription("Пространство имён");
             }});
             setCode(new StatementBasedCode() {{
-                addStatement("this.container = container");
-                addStatement("this.namespace = namespace");
+                addStatement("this(new PersistentDataContainerBackend(container), namespace)");
             }});
         }});
 
@@ -122,8 +242,46 @@ public class DataManagerClass extends Class {
                 setDescription("Контейнер");
             }});
             setCode(new StatementBasedCode() {{
-                addStatement("this.container = container");
-                addStatement("this.namespace = defaultNamespace");
+                addStatement("this(new PersistentDataContainerBackend(container), defaultNamespace)");
+            }});
+        }});
+
+        addMethod(new Method(name) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Создание менеджера данных с кэшем ключей.");
+                addLine("Пространство имён и префикс строковых ключей берутся из кэша.");
+            }});
+            setConstructor(true);
+            addArgument(new Argument("DataBackend", "backend") {{
+                setDescription("Хранилище данных");
+            }});
+            addArgument(new Argument("KeyCache", "keyCache") {{
+                setDescription("Кэш ключей");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("this.chain = new DataBackendChain(DataEvents.wrap(backend))");
+                addStatement("this.namespace = keyCache.getNamespace()");
+                addStatement("this.keyCache = keyCache");
+            }});
+        }});
+
+        addMethod(new Method(name) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Создание представления другого менеджера данных с кэшем ключей.");
+                addLine("Представление использует общую с исходным менеджером цепочку хранилищ (см. DataBackendChain),");
+                addLine("поэтому отслеживание изменённых ключей и индекс ключей, включённые позже через любой из них, действуют для обоих.");
+            }});
+            setConstructor(true);
+            addArgument(new Argument("DataManager", "source") {{
+                setDescription("Исходный менеджер данных");
+            }});
+            addArgument(new Argument("KeyCache", "keyCache") {{
+                setDescription("Кэш ключей");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("this.chain = source.chain");
+                addStatement("this.namespace = keyCache.getNamespace()");
+                addStatement("this.keyCache = keyCache");
             }});
         }});
 
@@ -153,6 +311,43 @@ public class DataManagerClass extends Class {
             }});
         }});
 
+        addMethod(new Method("getBackend") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение хранилища данных менеджера.");
+            }});
+            setReturn(new Return("DataBackend") {{
+                setDescription("Хранилище данных.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return chain.backend");
+            }});
+        }});
+
+        addMethod(new Method("getNamespace") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение пространства имён менеджера.");
+            }});
+            setReturn(new Return("String") {{
+                setDescription("Пространство имён.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return namespace");
+            }});
+        }});
+
+        addMethod(new Method("getKeyCache") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение кэша ключей пространства имён менеджера.");
+                addLine("Кэш используется методами со строковыми ключами.");
+            }});
+            setReturn(new Return("KeyCache") {{
+                setDescription("Кэш ключей.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return keyCache");
+            }});
+        }});
+
         addMethod(new Method("contains") {{
             setDocumentation(new MethodDocumentation() {{
                 addLine("Проверка наличия ключа.");
@@ -164,7 +359,7 @@ public class DataManagerClass extends Class {
                 setDescription("Ключ");
             }});
             setCode(new StatementBasedCode() {{
-                addStatement("return container.has(key)");
+                addStatement("return chain.backend.has(key)");
             }});
         }});
 
@@ -179,150 +374,1036 @@ public class DataManagerClass extends Class {
                 setDescription("Ключ");
             }});
             setCode(new StatementBasedCode() {{
-                addStatement("NamespacedKey key = new NamespacedKey(namespace, keyString)");
-                addStatement("return container.has(key)");
+                addStatement("NamespacedKey key = keyCache.get(keyString)");
+                addStatement("return chain.backend.has(key)");
             }});
         }});
-        createDataTypesMethods();
-    }
 
-    public void createDataTypesMethods() {
-        List<DataManagerDataType> dataTypes = new ArrayList<>();
-        dataTypes.add(new DataManagerDataType("Byte", "byte", "Byte", "BYTE"));
-        dataTypes.add(new DataManagerDataType("Short", "short", "Short", "SHORT"));
-        dataTypes.add(new DataManagerDataType("Integer", "int", "Integer", "INTEGER"));
-        dataTypes.add(new DataManagerDataType("Long", "long", "Long", "LONG"));
-        dataTypes.add(new DataManagerDataType("Float", "float", "Float", "FLOAT"));
-        dataTypes.add(new DataManagerDataType("Double", "double", "Double", "DOUBLE"));
-        dataTypes.add(new DataManagerDataType("Boolean", "boolean", "Boolean", "BOOLEAN"));
-        dataTypes.add(new DataManagerDataType("String", "String", "String", "STRING"));
-        dataTypes.add(new DataManagerDataType("ByteArray", "byte[]", "byte[]", "BYTE_ARRAY"));
-        dataTypes.add(new DataManagerDataType("IntegerArray", "int[]", "int[]", "INTEGER_ARRAY"));
-        dataTypes.add(new DataManagerDataType("LongArray", "long[]", "long[]", "LONG_ARRAY"));
-        dataTypes.add(new DataManagerDataType("Container", "DataManager", "DataManager", "TAG_CONTAINER").setCustom(true));
+        addMethod(new Method("contains") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Проверка наличия значения по пути во вложенных контейнерах.");
+            }});
+            setReturn(new Return("boolean") {{
+                setDescription("Наличие значения.");
+            }});
+            addArgument(new Argument("DataPath", "path") {{
+                setDescription("Путь");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return path.getParent(chain.backend, keyCache).has(path.getKey(keyCache))");
+            }});
+        }});
 
-        List<DataManagerKeyType> keyTypes = new ArrayList<>();
-        keyTypes.add(new DataManagerKeyType(new Argument("NamespacedKey", "key") {{
-            setDescription("Ключ");
-        }}, false));
-        keyTypes.add(new DataManagerKeyType(new Argument("String", "keyString") {{
-            setDescription("Ключ");
-        }}, true));
-        for (DataManagerDataType dataType : dataTypes) {
-            for (DataManagerKeyType keyType : keyTypes) {
-                createDataTypeMethods(dataType, keyType);
-            }
-        }
-    }
+        addMethod(new Method("remove") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Удаление значения по ключу.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("NamespacedKey", "key") {{
+                setDescription("Ключ");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("chain.backend.remove(key)");
+                addStatement("return this");
+            }});
+        }});
 
-    public void createDataTypeMethods(DataManagerDataType dataType, DataManagerKeyType keyType) {
-        addMethod(new Method("is" + dataType.getName()) {{
+        addMethod(new Method("remove") {{
             setDocumentation(new MethodDocumentation() {{
-                addLine("Проверка значения по ключу на тип " + dataType.getName() + ".");
-                addLine("Если значения по ключу нет, будет возвращено false.");
+                addLine("Удаление значения по ключу.");
             }});
-            setReturn(new Return("boolean") {{
-                setDescription("Является ли значение по ключу " + dataType.getName() + ".");
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("String", "keyString") {{
+                setDescription("Ключ");
             }});
-            addArgument(keyType.getArgument());
             setCode(new StatementBasedCode() {{
-                if (keyType.isString()) addStatement("NamespacedKey key = new NamespacedKey(namespace, keyString)");
-                addStatement("return container.has(key, PersistentDataType." + dataType.getType() + ")");
+                addStatement("chain.backend.remove(keyCache.get(keyString))");
+                addStatement("return this");
             }});
         }});
 
-        addMethod(new Method("get" + dataType.getName()) {{
+        addMethod(new Method("remove") {{
             setDocumentation(new MethodDocumentation() {{
-                addLine("Получение " + dataType.getName() + " значения по ключу.");
-                addLine("Если в контейнере нет указанного ключа, будет вызвано исключение.");
-                addLine("Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
-                addThrowDescription("DataManagerKeyError", "Если в контейнере нет указанного ключа, будет вызвано исключение.");
-                addThrowDescription("DataManagerTypeError", "Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+                addLine("Удаление значения по пути во вложенных контейнерах.");
+                addLine("Промежуточные контейнеры не удаляются.");
             }});
-            setReturn(new Return(dataType.getPrimitive()) {{
-                setDescription("Значение по ключу.");
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("DataPath", "path") {{
+                setDescription("Путь");
             }});
-            addArgument(keyType.getArgument());
             setCode(new StatementBasedCode() {{
-                if (keyType.isString()) addStatement("NamespacedKey key = new NamespacedKey(namespace, keyString)");
-                addSimpleIf("!container.has(key)", "throw new DataManagerKeyError(key)");
-                addSimpleIf("!container.has(key, PersistentDataType." + dataType.getType() + ")", "throw new DataManagerTypeError(PersistentDataType." + dataType.getType() + ")");
-                if (!dataType.isCustom()) {
-                    addStatement("return container.get(key, PersistentDataType." + dataType.getType() + ")");
-                } else if (dataType.getName().equals("Container")) {
-                    addStatement("return new DataManager(container.get(key, PersistentDataType." + dataType.getType() + "))");
-                }
+                addStatement("NamespacedKey key = path.getKey(keyCache)");
+                addStatement("path.update(chain.backend, keyCache, container -> container.remove(key))");
+                addStatement("return this");
             }});
         }});
+        createDataKeyMethods();
 
-        addMethod(new Method("get" + dataType.getName() + "OrNull") {{
+        addMethod(new Method("getPrefix") {{
             setDocumentation(new MethodDocumentation() {{
-                addLine("Получение " + dataType.getName() + " значения по ключу.");
-                addLine("Если в контейнере нет указанного ключа, будет возвращено null.");
-                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено null.");
+                addLine("Получение префикса строковых ключей менеджера.");
             }});
-            setReturn(new Return(dataType.getKlass()) {{
-                setDescription("Значение по ключу или null.");
-                setAnnotation(new Annotation("@Nullable"));
+            setReturn(new Return("String") {{
+                setDescription("Префикс ключей или пустая строка.");
             }});
-            addArgument(keyType.getArgument());
             setCode(new StatementBasedCode() {{
-                if (keyType.isString()) addStatement("NamespacedKey key = new NamespacedKey(namespace, keyString)");
-                addSimpleIf("!container.has(key)", "return null");
-                addSimpleIf("!container.has(key, PersistentDataType." + dataType.getType() + ")", "return null");
-                if (!dataType.isCustom()) {
-                    addStatement("return container.get(key, PersistentDataType." + dataType.getType() + ")");
-                } else if (dataType.getName().equals("Container")) {
-                    addStatement("return new DataManager(container.get(key, PersistentDataType." + dataType.getType() + "))");
-                }
+                addStatement("return keyCache.getPrefix()");
             }});
         }});
 
-        addMethod(new Method("get" + dataType.getName() + "OrDefault") {{
+        addMethod(new Method("withNamespace") {{
             setDocumentation(new MethodDocumentation() {{
-                addLine("Получение " + dataType.getName() + " значения по ключу.");
-                addLine("Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.");
-                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.");
+                addLine("Получение представления менеджера в другом пространстве имён.");
+                addLine("Представление работает с тем же хранилищем без копирования данных и использует общий кэш ключей пространства имён");
+                addLine("(или собственный небольшой кэш, если у менеджера есть префикс).");
+                addLine("Префикс строковых ключей сохраняется.");
             }});
-            setReturn(new Return(dataType.getKlass()) {{
-                setDescription("Значение по ключу или значение по умолчанию.");
+            setReturn(new Return("DataManager") {{
+                setDescription("Представление менеджера или этот же менеджер, если пространство имён совпадает.");
             }});
-            addArgument(keyType.getArgument());
-            addArgument(new Argument(dataType.getKlass(), "defaultValue") {{
-                setDescription("Значение по умолчанию");
+            addArgument(new Argument("String", "namespace") {{
+                setDescription("Пространство имён");
             }});
             setCode(new StatementBasedCode() {{
-                if (keyType.isString()) addStatement("NamespacedKey key = new NamespacedKey(namespace, keyString)");
-                addSimpleIf("!container.has(key)", "return defaultValue");
-                addSimpleIf("!container.has(key, PersistentDataType." + dataType.getType() + ")", "return defaultValue");
-                if (!dataType.isCustom()) {
-                    addStatement("return container.get(key, PersistentDataType." + dataType.getType() + ")");
-                } else if (dataType.getName().equals("Container")) {
-                    addStatement("return new DataManager(container.get(key, PersistentDataType." + dataType.getType() + "))");
-                }
+                addSimpleIf("namespace.equals(this.namespace)", "return this");
+                addStatement("return createView(KeyCache.of(namespace, keyCache.getPrefix()))");
             }});
         }});
 
-        addMethod(new Method("set" + dataType.getName()) {{
+        addMethod(new Method("withPrefix") {{
             setDocumentation(new MethodDocumentation() {{
-                addLine("Установка " + dataType.getName() + " значения по ключу.");
+                addLine("Получение представления менеджера, добавляющего префикс к строковым ключам.");
+                addLine("Префикс дописывается к префиксу этого менеджера и применяется к строковым ключам и сегментам путей;");
+                addLine("NamespacedKey и типизированные ключи не изменяются.");
+                addLine("Представление работает с тем же хранилищем без копирования данных и использует собственный небольшой кэш ключей,");
+                addLine("который освобождается вместе с представлением.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Представление менеджера или этот же менеджер для пустого префикса.");
+            }});
+            addArgument(new Argument("String", "prefix") {{
+                setDescription("Префикс ключей, например \"quest.\"");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("prefix.isEmpty()", "return this");
+                addStatement("return createView(KeyCache.of(namespace, keyCache.getPrefix() + prefix))");
+            }});
+        }});
+
+        Method.defaultAccessModifier = AccessModifier.PROTECTED;
+        addMethod(new Method("createView") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Создание представления этого менеджера с другим кэшем ключей.");
+                addLine("Наследники переопределяют метод, чтобы представления имели их тип.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Представление менеджера.");
+            }});
+            addArgument(new Argument("KeyCache", "keyCache") {{
+                setDescription("Кэш ключей");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return new DataManager(this, keyCache)");
+            }});
+        }});
+        Method.defaultAccessModifier = AccessModifier.PUBLIC;
+
+        addMethod(new Method("transaction") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Начало транзакции.");
+                addLine("Записи через менеджер транзакции накапливаются и применяются к хранилищу одним проходом при фиксации.");
+            }});
+            setReturn(new Return("DataTransaction") {{
+                setDescription("Транзакция.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return new DataTransaction(this)");
+            }});
+        }});
+
+        addMethod(new Method("batch") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Выполнение действия в транзакции.");
+                addLine("Если действие завершилось исключением, изменения будут отменены.");
             }});
             setReturn(new Return("DataManager") {{
                 setDescription("Этот же менеджер.");
             }});
-            addArgument(keyType.getArgument());
-            addArgument(new Argument(dataType.getPrimitive(), "value") {{
-                setDescription("Значение");
+            addArgument(new Argument("Consumer<DataManager>", "action") {{
+                setDescription("Действие над менеджером данных транзакции");
             }});
             setCode(new StatementBasedCode() {{
-                if (keyType.isString()) addStatement("NamespacedKey key = new NamespacedKey(namespace, keyString)");
-                if (!dataType.isCustom()){
-                    addStatement("container.set(key, PersistentDataType." + dataType.getType() + ", value)");
-                } else if (dataType.getName().equals("Container")) {
-                    addStatement("container.set(key, PersistentDataType." + dataType.getType() + ", value.container)");
-                }
+                addStatement("new DataTransaction(this).run(action)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("snapshot") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Создание неизменяемого снимка данных.");
+                addLine("Все значения копируются один раз, после чего снимок можно читать из любых потоков.");
+                addLine("Запись в менеджер снимка вызывает UnsupportedOperationException.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Менеджер данных снимка.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return new DataManager(new SnapshotDataBackend(chain.backend), keyCache)");
+            }});
+        }});
+
+        addMethod(new Method("copyTo") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Копирование всех значений в другой менеджер с заменой существующих.");
+                addLine("Если оба менеджера работают над PersistentDataContainer, используется встроенное копирование контейнера.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("DataManager", "target") {{
+                setDescription("Менеджер, в который копируются значения");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("target.chain.backend != chain.backend", "chain.backend.copyTo(target.chain.backend)");
                 addStatement("return this");
             }});
         }});
+
+        addMethod(new Method("copyTo") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Копирование значений с подходящими ключами в другой менеджер с заменой существующих.");
+                addLine("Значения копируются без преобразования в объекты менеджера данных.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("DataManager", "target") {{
+                setDescription("Менеджер, в который копируются значения");
+            }});
+            addArgument(new Argument("Predicate<NamespacedKey>", "filter") {{
+                setDescription("Фильтр ключей (см. KeyFilters)");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("target.chain.backend != chain.backend", "chain.backend.copyTo(target.chain.backend, filter)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("mergeFrom") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Слияние всех значений другого менеджера с этим менеджером.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("DataManager", "source") {{
+                setDescription("Менеджер, из которого берутся значения");
+            }});
+            addArgument(new Argument("MergePolicy", "policy") {{
+                setDescription("Политика разрешения конфликтов");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("source.chain.backend != chain.backend", "source.chain.backend.mergeTo(chain.backend, KeyFilters.all(), policy)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("mergeFrom") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Слияние значений другого менеджера с подходящими ключами с этим менеджером.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("DataManager", "source") {{
+                setDescription("Менеджер, из которого берутся значения");
+            }});
+            addArgument(new Argument("Predicate<NamespacedKey>", "filter") {{
+                setDescription("Фильтр ключей (см. KeyFilters)");
+            }});
+            addArgument(new Argument("MergePolicy", "policy") {{
+                setDescription("Политика разрешения конфликтов");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("source.chain.backend != chain.backend", "source.chain.backend.mergeTo(chain.backend, filter, policy)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("serializedSize") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение размера сериализованных данных без их записи.");
+            }});
+            setReturn(new Return("int") {{
+                setDescription("Размер в байтах.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return DataSerializer.getSerializedSize(chain.backend)");
+            }});
+        }});
+
+        addMethod(new Method("writeTo") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Запись всех значений в буфер с текущей позиции.");
+                addLine("Значения пишутся прямо из хранилища, без промежуточных массивов.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("ByteBuffer", "buffer") {{
+                setDescription("Буфер, в котором не меньше serializedSize() свободных байтов");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("DataSerializer.write(chain.backend, buffer)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("writeToPooled") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Запись всех значений в прямой буфер из общего пула.");
+                addLine("Буфер возвращается готовым к чтению; после использования его следует вернуть в ByteBufferPool.getDefault().");
+            }});
+            setReturn(new Return("ByteBuffer") {{
+                setDescription("Буфер с данными.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return DataSerializer.writeToPooled(chain.backend, ByteBufferPool.getDefault())");
+            }});
+        }});
+
+        addMethod(new Method("readFrom") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Чтение значений из буфера с текущей позиции.");
+                addLine("Прочитанные значения заменяют существующие.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("ByteBuffer", "buffer") {{
+                setDescription("Буфер");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("DataSerializer.read(buffer, chain.backend)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("trackDirty") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Включение отслеживания изменённых ключей.");
+                addLine("После включения записи и удаления через этот менеджер и его представления запоминаются до следующей выборки drainDirty().");
+                addLine("Повторный вызов ничего не делает.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("chain.dirtyTracking == null", "chain.backend = chain.dirtyTracking = new DirtyTrackingBackend(chain.backend)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("isTrackingDirty") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Проверка включённости отслеживания изменённых ключей.");
+            }});
+            setReturn(new Return("boolean") {{
+                setDescription("Включено ли отслеживание.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return chain.dirtyTracking != null");
+            }});
+        }});
+
+        addMethod(new Method("drainDirty") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Выборка изменений с момента предыдущей выборки.");
+                addLine("Возвращаются только изменённые ключи с их текущими значениями и удалённые ключи.");
+                addLine("Значения типов, не входящих в основной набор, в PersistentDataContainer не выбираются.");
+                addThrowDescription("IllegalStateException", "Если отслеживание изменённых ключей не включено, будет вызвано исключение.");
+            }});
+            setReturn(new Return("DataDelta") {{
+                setDescription("Изменения.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("chain.dirtyTracking == null", "throw new IllegalStateException(\"Dirty tracking is not enabled\")");
+                addStatement("return chain.dirtyTracking.drain()");
+            }});
+        }});
+
+        addMethod(new Method("indexKeys") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Включение кэшированного индекса ключей по пространствам имён.");
+                addLine("После включения forEachKey() для пространства имён обходит готовый индекс, который перестраивается после записей через этот менеджер.");
+                addLine("Повторный вызов ничего не делает.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addSimpleIf("chain.keyIndex == null", "chain.backend = chain.keyIndex = new KeyIndexBackend(chain.backend)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("isIndexingKeys") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Проверка включённости индекса ключей.");
+            }});
+            setReturn(new Return("boolean") {{
+                setDescription("Включён ли индекс.");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return chain.keyIndex != null");
+            }});
+        }});
+
+        addMethod(new Method("forEachKey") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Обход ключей пространства имён вместе с видами значений за один проход.");
+                addLine("Хранилища в памяти и индекс ключей (см. indexKeys()) обходят ключи без выделения памяти.");
+            }});
+            addArgument(new Argument("String", "namespace") {{
+                setDescription("Пространство имён");
+            }});
+            addArgument(new Argument("KeyVisitor", "visitor") {{
+                setDescription("Обходчик ключей");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("chain.backend.forEachKey(namespace, visitor)");
+            }});
+        }});
+
+        addMethod(new Method("forEachKey") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Обход ключей пространства имён менеджера вместе с видами значений за один проход.");
+            }});
+            addArgument(new Argument("KeyVisitor", "visitor") {{
+                setDescription("Обходчик ключей");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("chain.backend.forEachKey(namespace, visitor)");
+            }});
+        }});
+        createDataTypesMethods();
+    }
+
+    public void createDataKeyMethods() {
+        addMethod(new Method("has") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Проверка значения по типизированному ключу на тип ключа.");
+                addLine("Если значения по ключу нет, будет возвращено false.");
+            }});
+            setReturn(new Return("boolean") {{
+                setDescription("Является ли значение по ключу значением типа ключа.");
+            }});
+            addArgument(new Argument("DataKey<?, ?>", "key") {{
+                setDescription("Типизированный ключ");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return chain.backend.has(key.getKey(), key.getType())");
+            }});
+        }});
+
+        addMethod(new Method("get") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение значения по типизированному ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет вызвано исключение.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+                addThrowDescription("DataManagerKeyError", "Если в контейнере нет указанного ключа, будет вызвано исключение.");
+                addThrowDescription("DataManagerTypeError", "Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+            }});
+            setReturn(new Return("<P, C> C") {{
+                setDescription("Значение по ключу.");
+            }});
+            addArgument(new Argument("DataKey<P, C>", "key") {{
+                setDescription("Типизированный ключ");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("C value = chain.backend.get(key.getKey(), key.getType())");
+                addSimpleIf("value == null", "throw DataAccess.missingOrWrongType(chain.backend, key.getKey(), key.getType())");
+                addStatement("return value");
+            }});
+        }});
+
+        addMethod(new Method("getOrNull") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение значения по типизированному ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено null.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено null.");
+            }});
+            setReturn(new Return("<P, C> C") {{
+                setDescription("Значение по ключу или null.");
+                setAnnotation(new Annotation("@Nullable"));
+            }});
+            addArgument(new Argument("DataKey<P, C>", "key") {{
+                setDescription("Типизированный ключ");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("return chain.backend.get(key.getKey(), key.getType())");
+            }});
+        }});
+
+        addMethod(new Method("getOrDefault") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение значения по типизированному ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию ключа.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию ключа.");
+            }});
+            setReturn(new Return("<P, C> C") {{
+                setDescription("Значение по ключу или значение по умолчанию ключа.");
+                setAnnotation(new Annotation("@Nullable"));
+            }});
+            addArgument(new Argument("DataKey<P, C>", "key") {{
+                setDescription("Типизированный ключ");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("C value = chain.backend.get(key.getKey(), key.getType())");
+                addSimpleIf("value == null", "return key.getDefaultValue()");
+                addStatement("return value");
+            }});
+        }});
+
+        addMethod(new Method("getOrDefault") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение значения по типизированному ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.");
+            }});
+            setReturn(new Return("<P, C> C") {{
+                setDescription("Значение по ключу или значение по умолчанию.");
+            }});
+            addArgument(new Argument("DataKey<P, C>", "key") {{
+                setDescription("Типизированный ключ");
+            }});
+            addArgument(new Argument("C", "defaultValue") {{
+                setDescription("Значение по умолчанию");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("C value = chain.backend.get(key.getKey(), key.getType())");
+                addSimpleIf("value == null", "return defaultValue");
+                addStatement("return value");
+            }});
+        }});
+
+        addMethod(new Method("set") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Установка значения по типизированному ключу.");
+            }});
+            setReturn(new Return("<P, C> DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("DataKey<P, C>", "key") {{
+                setDescription("Типизированный ключ");
+            }});
+            addArgument(new Argument("C", "value") {{
+                setDescription("Значение");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("chain.backend.set(key.getKey(), key.getType(), value)");
+                addStatement("return this");
+            }});
+        }});
+
+        addMethod(new Method("remove") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Удаление значения по типизированному ключу.");
+            }});
+            setReturn(new Return("<P, C> DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(new Argument("DataKey<P, C>", "key") {{
+                setDescription("Типизированный ключ");
+            }});
+            setCode(new StatementBasedCode() {{
+                addStatement("chain.backend.remove(key.getKey())");
+                addStatement("return this");
+            }});
+        }});
+    }
+
+    public void createDataTypesMethods() {
+        List<DataManagerDataType> dataTypes = new ArrayList<>();
+        dataTypes.add(new DataManagerDataType("Byte", "byte", "Byte", "BYTE").setZero("(byte) 0"));
+        dataTypes.add(new DataManagerDataType("Short", "short", "Short", "SHORT").setZero("(short) 0"));
+        dataTypes.add(new DataManagerDataType("Integer", "int", "Integer", "INTEGER").setZero("0"));
+        dataTypes.add(new DataManagerDataType("Long", "long", "Long", "LONG").setZero("0L"));
+        dataTypes.add(new DataManagerDataType("Float", "float", "Float", "FLOAT").setZero("0F"));
+        dataTypes.add(new DataManagerDataType("Double", "double", "Double", "DOUBLE").setZero("0D"));
+        dataTypes.add(new DataManagerDataType("Boolean", "boolean", "Boolean", "BOOLEAN").setZero("false"));
+        dataTypes.add(new DataManagerDataType("String", "String", "String", "STRING"));
+        dataTypes.add(new DataManagerDataType("ByteArray", "byte[]", "byte[]", "BYTE_ARRAY"));
+        dataTypes.add(new DataManagerDataType("IntegerArray", "int[]", "int[]", "INTEGER_ARRAY"));
+        dataTypes.add(new DataManagerDataType("LongArray", "long[]", "long[]", "LONG_ARRAY"));
+        dataTypes.add(new DataManagerDataType("Container", "DataManager", "DataManager", "TAG_CONTAINER").setCustom(true).setStoredKlass("DataBackend"));
+        for (DataManagerDataType elementType : List.copyOf(dataTypes)) {
+            dataTypes.add(createListDataType(elementType));
+        }
+        dataTypes.add(new DataManagerDataType("UUID", "UUID", "UUID", "UUID").setTypeExpression("DataAdapters.UUID"));
+        dataTypes.add(new DataManagerDataType("Instant", "Instant", "Instant", "INSTANT").setTypeExpression("DataAdapters.INSTANT"));
+        dataTypes.add(new DataManagerDataType("Location", "Location", "Location", "LOCATION").setTypeExpression("DataAdapters.LOCATION"));
+
+        List<DataManagerKeyType> keyTypes = new ArrayList<>();
+        keyTypes.add(new DataManagerKeyType(new Argument("NamespacedKey", "key") {{
+            setDescription("Ключ");
+        }}, false));
+        keyTypes.add(new DataManagerKeyType(new Argument("String", "keyString") {{
+            setDescription("Ключ");
+        }}, true));
+        keyTypes.add(new DataManagerKeyType(new Argument("DataPath", "path") {{
+            setDescription("Путь во вложенных контейнерах");
+        }}, false).setPath(true));
+        for (DataManagerDataType dataType : dataTypes) {
+            for (DataManagerKeyType keyType : keyTypes) {
+                createDataTypeMethods(dataType, keyType);
+            }
+        }
+        for (DataManagerDataType dataType : dataTypes) {
+            if (!dataType.getName().equals("ByteArray") && !dataType.getName().equals("String")) continue;
+            for (DataManagerKeyType keyType : keyTypes) {
+                createCompressedMethods(dataType, keyType);
+            }
+        }
+        for (DataManagerKeyType keyType : keyTypes) {
+            createEnumMethods(keyType);
+            createMapMethods(keyType);
+        }
+    }
+
+    protected DataManagerDataType createListDataType(DataManagerDataType elementType) {
+        String name = elementType.getName() + "List";
+        String type = elementType.getType() + "S";
+        if (elementType.isUnboxed()) {
+            return new DataManagerDataType(name, elementType.getPrimitive() + "[]", elementType.getPrimitive() + "[]", type)
+                    .setTypeExpression("DataLists." + type)
+                    .setStoredKlass("List<" + elementType.getKlass() + ">")
+                    .setConversions("DataLists.to" + elementType.getName() + "Array(%s)", "DataLists.of" + elementType.getName() + "s(%1$s)");
+        }
+        if (elementType.getName().equals("Container")) {
+            return new DataManagerDataType(name, "List<DataManager>", "List<DataManager>", "CONTAINERS")
+                    .setTypeExpression("DataLists.CONTAINERS")
+                    .setStoredKlass("List<PersistentDataContainer>")
+                    .setConversions("DataLists.toManagers(%s, keyCache)", "DataLists.toContainers(%1$s, %2$s.getAdapterContext())");
+        }
+        return new DataManagerDataType(name, "List<" + elementType.getKlass() + ">", "List<" + elementType.getKlass() + ">", type)
+                .setTypeExpression("DataLists." + type);
+    }
+
+    public void createDataTypeMethods(DataManagerDataType dataType, DataManagerKeyType keyType) {
+        addMethod(new Method("is" + dataType.getName()) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Проверка значения по ключу на тип " + dataType.getName() + ".");
+                addLine("Если значения по ключу нет, будет возвращено false.");
+            }});
+            setReturn(new Return("boolean") {{
+                setDescription("Является ли значение по ключу " + dataType.getName() + ".");
+            }});
+            addArgument(keyType.getArgument());
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                if (dataType.isAdapter()) {
+                    addStatement("return " + keyType.getBackend() + ".get(key, " + dataType.getTypeExpression() + ") != null");
+                } else {
+                    addStatement("return " + keyType.getBackend() + ".has(key, " + dataType.getTypeExpression() + ")");
+                }
+            }});
+        }});
+
+        addMethod(new Method("get" + dataType.getName()) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение " + dataType.getName() + " значения по ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет вызвано исключение.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+                addThrowDescription("DataManagerKeyError", "Если в контейнере нет указанного ключа, будет вызвано исключение.");
+                addThrowDescription("DataManagerTypeError", "Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+            }});
+            setReturn(new Return(dataType.getPrimitive()) {{
+                setDescription("Значение по ключу.");
+            }});
+            addArgument(keyType.getArgument());
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                if (dataType.isUnboxed()) {
+                    String condition = dataType.getPrimitive().equals("boolean") ? "!value" : "value == 0";
+                    addStatement(dataType.getPrimitive() + " value = " + keyType.getBackend() + ".get" + dataType.getName() + "(key, " + dataType.getZero() + ")");
+                    addSimpleIf(condition + " && !" + keyType.getBackend() + ".has(key, " + dataType.getTypeExpression() + ")", "throw DataAccess.missingOrWrongType(" + keyType.getBackend() + ", key, " + dataType.getTypeExpression() + ")");
+                } else {
+                    addStatement(dataType.getStoredKlass() + " value = " + createReadExpression(dataType, keyType));
+                    addSimpleIf("value == null", "throw DataAccess.missingOrWrongType(" + keyType.getBackend() + ", key, " + dataType.getTypeExpression() + ")");
+                }
+                addStatement("return " + createValueExpression(dataType));
+            }});
+        }});
+
+        addMethod(new Method("get" + dataType.getName() + "OrNull") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение " + dataType.getName() + " значения по ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено null.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено null.");
+            }});
+            setReturn(new Return(dataType.getKlass()) {{
+                setDescription("Значение по ключу или null.");
+                setAnnotation(new Annotation("@Nullable"));
+            }});
+            addArgument(keyType.getArgument());
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                if (!dataType.isCustom()) {
+                    addStatement("return " + createReadExpression(dataType, keyType));
+                } else {
+                    addStatement(dataType.getStoredKlass() + " value = " + createReadExpression(dataType, keyType));
+                    addSimpleIf("value == null", "return null");
+                    addStatement("return " + createValueExpression(dataType));
+                }
+            }});
+        }});
+
+        addMethod(new Method("get" + dataType.getName() + "OrDefault") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение " + dataType.getName() + " значения по ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.");
+            }});
+            setReturn(new Return(dataType.getKlass()) {{
+                setDescription("Значение по ключу или значение по умолчанию.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument(dataType.getKlass(), "defaultValue") {{
+                setDescription("Значение по умолчанию");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement(dataType.getStoredKlass() + " value = " + createReadExpression(dataType, keyType));
+                addSimpleIf("value == null", "return defaultValue");
+                addStatement("return " + createValueExpression(dataType));
+            }});
+        }});
+
+        if (dataType.isUnboxed()) addMethod(new Method("get" + dataType.getName() + "OrDefault") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение " + dataType.getName() + " значения по ключу без упаковки.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.");
+            }});
+            setReturn(new Return(dataType.getPrimitive()) {{
+                setDescription("Значение по ключу или значение по умолчанию.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument(dataType.getPrimitive(), "defaultValue") {{
+                setDescription("Значение по умолчанию");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("return " + keyType.getBackend() + ".get" + dataType.getName() + "(key, defaultValue)");
+            }});
+        }});
+
+        if (dataType.isUnboxed()) addMethod(new Method("read") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Чтение " + dataType.getName() + " значения по ключу в держатель результата без упаковки и исключений.");
+                addLine("Держатель можно переиспользовать между чтениями.");
+            }});
+            setReturn(new Return("ReadStatus") {{
+                setDescription("Результат чтения: PRESENT, MISSING или WRONG_TYPE.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument(dataType.getName() + "Result", "result") {{
+                setDescription("Держатель результата");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement(dataType.getPrimitive() + " value = " + keyType.getBackend() + ".get" + dataType.getName() + "(key, " + dataType.getZero() + ")");
+                addSimpleIf("value == " + dataType.getZero() + " && !" + keyType.getBackend() + ".has(key, " + dataType.getTypeExpression() + ")", "return result.fail(DataAccess.getFailedReadStatus(" + keyType.getBackend() + ", key))");
+                addStatement("return result.set(value)");
+            }});
+        }});
+
+        addMethod(new Method("set" + dataType.getName()) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Установка " + dataType.getName() + " значения по ключу.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument(dataType.getPrimitive(), "value") {{
+                setDescription("Значение");
+            }});
+            setCode(new StatementBasedCode() {{
+                if (dataType.isUnboxed()) {
+                    keyType.addWriteStatements(this, keyType.getBackend() + ".set" + dataType.getName() + "(key, value)");
+                } else if (!dataType.isCustom()) {
+                    keyType.addWriteStatements(this, keyType.getBackend() + ".set(key, " + dataType.getTypeExpression() + ", value)");
+                } else if (dataType.getName().equals("Container")) {
+                    keyType.addWriteStatements(this, keyType.getBackend() + ".setContainer(key, value.chain.backend)");
+                } else {
+                    keyType.addWriteStatements(this, keyType.getBackend() + ".set(key, " + dataType.getTypeExpression() + ", " + String.format(dataType.getWriteConversion(), "value", keyType.getBackend()) + ")");
+                }
+                addStatement("return this");
+            }});
+        }});
+    }
+
+    public void createEnumMethods(DataManagerKeyType keyType) {
+        addMethod(new Method("isEnum") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Проверка значения по ключу на тип перечисления.");
+                addLine("Если значения по ключу нет, будет возвращено false.");
+            }});
+            setReturn(new Return("<E extends Enum<E>> boolean") {{
+                setDescription("Соответствие значения типу.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("Class<E>", "type") {{
+                setDescription("Класс перечисления");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("return " + keyType.getBackend() + ".get(key, DataAdapters.getEnum(type)) != null");
+            }});
+        }});
+
+        addMethod(new Method("getEnum") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение значения перечисления по ключу.");
+                addLine("Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).");
+                addThrowDescription("DataManagerKeyError", "Если в контейнере нет указанного ключа, будет вызвано исключение.");
+                addThrowDescription("DataManagerTypeError", "Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+            }});
+            setReturn(new Return("<E extends Enum<E>> E") {{
+                setDescription("Значение по ключу.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("Class<E>", "type") {{
+                setDescription("Класс перечисления");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("EnumDataType<E> dataType = DataAdapters.getEnum(type)");
+                addStatement("E value = " + keyType.getBackend() + ".get(key, dataType)");
+                addSimpleIf("value == null", "throw DataAccess.missingOrWrongType(" + keyType.getBackend() + ", key, dataType)");
+                addStatement("return value");
+            }});
+        }});
+
+        addMethod(new Method("getEnumOrNull") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение значения перечисления по ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено null.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено null.");
+            }});
+            setReturn(new Return("<E extends Enum<E>> E") {{
+                setDescription("Значение по ключу или null.");
+                setAnnotation(new Annotation("@Nullable"));
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("Class<E>", "type") {{
+                setDescription("Класс перечисления");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("return " + keyType.getBackend() + ".get(key, DataAdapters.getEnum(type))");
+            }});
+        }});
+
+        addMethod(new Method("getEnumOrDefault") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение значения перечисления по ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.");
+            }});
+            setReturn(new Return("<E extends Enum<E>> E") {{
+                setDescription("Значение по ключу или значение по умолчанию.");
+                setAnnotation(new Annotation("@Nullable"));
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("Class<E>", "type") {{
+                setDescription("Класс перечисления");
+            }});
+            addArgument(new Argument("E", "defaultValue") {{
+                setDescription("Значение по умолчанию");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("E value = " + keyType.getBackend() + ".get(key, DataAdapters.getEnum(type))");
+                addSimpleIf("value == null", "return defaultValue");
+                addStatement("return value");
+            }});
+        }});
+
+        addMethod(new Method("setEnum") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Установка значения перечисления по ключу.");
+                addLine("Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).");
+            }});
+            setReturn(new Return("<E extends Enum<E>> DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("E", "value") {{
+                setDescription("Значение");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addWriteStatements(this, keyType.getBackend() + ".set(key, DataAdapters.getEnum(value.getDeclaringClass()), value)");
+                addStatement("return this");
+            }});
+        }});
+    }
+
+    public void createMapMethods(DataManagerKeyType keyType) {
+        addMethod(new Method("isMap") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Проверка значения по ключу на тип словаря со строковыми ключами.");
+                addLine("Если значения по ключу нет, будет возвращено false.");
+            }});
+            setReturn(new Return("<P, V> boolean") {{
+                setDescription("Соответствие значения типу.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("PersistentDataType<P, V>", "valueType") {{
+                setDescription("Тип данных значений словаря");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("return " + keyType.getBackend() + ".get(key, DataLists.mapOf(valueType)) != null");
+            }});
+        }});
+
+        addMethod(new Method("getMap") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение словаря со строковыми ключами по ключу.");
+                addLine("Словарь хранится как контейнер со списками ключей и значений (см. StringMapDataType).");
+                addThrowDescription("DataManagerKeyError", "Если в контейнере нет указанного ключа, будет вызвано исключение.");
+                addThrowDescription("DataManagerTypeError", "Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+            }});
+            setReturn(new Return("<P, V> Map<String, V>") {{
+                setDescription("Значение по ключу.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("PersistentDataType<P, V>", "valueType") {{
+                setDescription("Тип данных значений словаря");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("StringMapDataType<P, V> dataType = DataLists.mapOf(valueType)");
+                addStatement("Map<String, V> value = " + keyType.getBackend() + ".get(key, dataType)");
+                addSimpleIf("value == null", "throw DataAccess.missingOrWrongType(" + keyType.getBackend() + ", key, dataType)");
+                addStatement("return value");
+            }});
+        }});
+
+        addMethod(new Method("getMapOrNull") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение словаря со строковыми ключами по ключу.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено null.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено null.");
+            }});
+            setReturn(new Return("<P, V> Map<String, V>") {{
+                setDescription("Значение по ключу или null.");
+                setAnnotation(new Annotation("@Nullable"));
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("PersistentDataType<P, V>", "valueType") {{
+                setDescription("Тип данных значений словаря");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("return " + keyType.getBackend() + ".get(key, DataLists.mapOf(valueType))");
+            }});
+        }});
+
+        addMethod(new Method("setMap") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Установка словаря со строковыми ключами по ключу.");
+                addLine("Хранилище должно иметь контекст адаптеров.");
+            }});
+            setReturn(new Return("<P, V> DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument("PersistentDataType<P, V>", "valueType") {{
+                setDescription("Тип данных значений словаря");
+            }});
+            addArgument(new Argument("Map<String, V>", "value") {{
+                setDescription("Значение");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addWriteStatements(this, keyType.getBackend() + ".set(key, DataLists.mapOf(valueType), value)");
+                addStatement("return this");
+            }});
+        }});
+    }
+
+    public void createCompressedMethods(DataManagerDataType dataType, DataManagerKeyType keyType) {
+        addMethod(new Method("getCompressed" + dataType.getName()) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение " + dataType.getName() + " значения, записанного со сжатием или без него.");
+                addThrowDescription("DataManagerKeyError", "Если в контейнере нет указанного ключа, будет вызвано исключение.");
+                addThrowDescription("DataManagerTypeError", "Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.");
+            }});
+            setReturn(new Return(dataType.getKlass()) {{
+                setDescription("Значение по ключу.");
+            }});
+            addArgument(keyType.getArgument());
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement(dataType.getKlass() + " value = DataCompression.get" + dataType.getName() + "(" + keyType.getBackend() + ", key)");
+                addSimpleIf("value == null", "throw DataAccess.missingOrWrongType(" + keyType.getBackend() + ", key, " + dataType.getTypeExpression() + ")");
+                addStatement("return value");
+            }});
+        }});
+
+        addMethod(new Method("getCompressed" + dataType.getName() + "OrNull") {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Получение " + dataType.getName() + " значения, записанного со сжатием или без него.");
+                addLine("Если в контейнере нет указанного ключа, будет возвращено null.");
+                addLine("Если в контейнере значение по ключу неправильного типа, будет возвращено null.");
+            }});
+            setReturn(new Return(dataType.getKlass()) {{
+                setDescription("Значение по ключу или null.");
+                setAnnotation(new Annotation("@Nullable"));
+            }});
+            addArgument(keyType.getArgument());
+            setCode(new StatementBasedCode() {{
+                keyType.addReadStatements(this);
+                addStatement("return DataCompression.get" + dataType.getName() + "(" + keyType.getBackend() + ", key)");
+            }});
+        }});
+
+        addMethod(new Method("setCompressed" + dataType.getName()) {{
+            setDocumentation(new MethodDocumentation() {{
+                addLine("Установка " + dataType.getName() + " значения по ключу со сжатием.");
+                addLine("Значения меньше порога сжатия (см. DataCompression) записываются без сжатия.");
+            }});
+            setReturn(new Return("DataManager") {{
+                setDescription("Этот же менеджер.");
+            }});
+            addArgument(keyType.getArgument());
+            addArgument(new Argument(dataType.getKlass(), "value") {{
+                setDescription("Значение");
+            }});
+            setCode(new StatementBasedCode() {{
+                keyType.addWriteStatements(this, "DataCompression.set" + dataType.getName() + "(" + keyType.getBackend() + ", key, value)");
+                addStatement("return this");
+            }});
+        }});
+    }
+
+    protected String createReadExpression(DataManagerDataType dataType, DataManagerKeyType keyType) {
+        if (dataType.isCustom() && dataType.getName().equals("Container")) return keyType.getBackend() + ".getContainer(key)";
+        return keyType.getBackend() + ".get(key, " + dataType.getTypeExpression() + ")";
+    }
+
+    protected String createValueExpression(DataManagerDataType dataType) {
+        if (dataType.isCustom() && dataType.getName().equals("Container")) return "new DataManager(value, keyCache)";
+        if (dataType.getReadConversion() != null) return String.format(dataType.getReadConversion(), "value");
+        return "value";
     }
 }
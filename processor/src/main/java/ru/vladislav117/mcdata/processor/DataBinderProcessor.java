@@ -0,0 +1,265 @@
+package ru.vladislav117.mcdata.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Процессор аннотаций, создающий связыватели данных для классов с аннотацией DataObject.
+ * Связыватель загружает и сохраняет все поля с аннотацией DataField одним линейным методом,
+ * без рефлексии и без упаковки чисел.
+ */
+@SupportedAnnotationTypes(DataBinderProcessor.DATA_OBJECT)
+public class DataBinderProcessor extends AbstractProcessor {
+    static final String DATA_OBJECT = "ru.vladislav117.mcdata.bind.DataObject";
+    static final String DATA_FIELD = "ru.vladislav117.mcdata.bind.DataField";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@DataObject can only be applied to classes");
+                    continue;
+                }
+                TypeElement type = (TypeElement) element;
+                if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+                    error(element, "@DataObject can only be applied to top-level classes");
+                    continue;
+                }
+                try {
+                    writeBinder(type);
+                } catch (IOException exception) {
+                    error(element, "Can not write data binder: " + exception.getMessage());
+                }
+            }
+        }
+        return true;
+    }
+
+    protected void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    protected String getAnnotationValue(Element element, String annotationName, String valueName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(valueName)) return entry.getValue().getValue().toString();
+            }
+            return "";
+        }
+        return null;
+    }
+
+    protected static String toKey(String fieldName) {
+        StringBuilder key = new StringBuilder();
+        for (int index = 0; index < fieldName.length(); index++) {
+            char character = fieldName.charAt(index);
+            if (Character.isUpperCase(character)) {
+                if (index > 0) key.append('_');
+                key.append(Character.toLowerCase(character));
+            } else {
+                key.append(character);
+            }
+        }
+        return key.toString();
+    }
+
+    protected static String toConstant(String key) {
+        StringBuilder constant = new StringBuilder();
+        for (char character : key.toCharArray()) {
+            constant.append(Character.isLetterOrDigit(character) ? Character.toUpperCase(character) : '_');
+        }
+        return constant.toString();
+    }
+
+    protected List<BoundField> collectFields(TypeElement type) {
+        List<BoundField> fields = new ArrayList<>();
+        Map<String, BoundField> constants = new HashMap<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.FIELD) continue;
+            String key = getAnnotationValue(member, DATA_FIELD, "value");
+            if (key == null) continue;
+            VariableElement field = (VariableElement) member;
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.STATIC)) {
+                error(field, "@DataField fields must not be private, final or static");
+                continue;
+            }
+            FieldKind kind = FieldKind.byType(field.asType());
+            if (kind == null) {
+                error(field, "Unsupported @DataField type " + field.asType());
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            if (key.isEmpty()) key = toKey(name);
+            if (!key.matches("[a-z0-9/._-]+")) {
+                error(field, "Invalid data key \"" + key + "\"");
+                continue;
+            }
+            BoundField boundField = new BoundField(name, key, toConstant(key), kind);
+            BoundField other = constants.putIfAbsent(boundField.constant, boundField);
+            if (other != null) {
+                error(field, "Data key \"" + key + "\" collides with key \"" + other.key + "\" of field " + other.name);
+                continue;
+            }
+            fields.add(boundField);
+        }
+        return fields;
+    }
+
+    protected void writeBinder(TypeElement type) throws IOException {
+        String namespace = getAnnotationValue(type, DATA_OBJECT, "namespace");
+        boolean fixedNamespace = namespace != null && !namespace.isEmpty();
+        if (fixedNamespace && !namespace.matches("[a-z0-9._-]+")) {
+            error(type, "Invalid namespace \"" + namespace + "\"");
+            return;
+        }
+        List<BoundField> fields = collectFields(type);
+        String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        String typeName = type.getSimpleName().toString();
+        String binderName = typeName + "DataBinder";
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        if (fixedNamespace) source.append("import org.bukkit.NamespacedKey;\n");
+        source.append("import org.bukkit.persistence.PersistentDataType;\n");
+        source.append("import ru.vladislav117.mcdata.DataManager;\n");
+        source.append("import ru.vladislav117.mcdata.backend.DataBackend;\n");
+        source.append("import ru.vladislav117.mcdata.bind.DataBinder;\n");
+        if (!fixedNamespace) source.append("import ru.vladislav117.mcdata.key.KeyCache;\n");
+        source.append("\n");
+        source.append("/**\n");
+        source.append(" * Связыватель данных для ").append(typeName).append(".\n");
+        source.append(" * Создан процессором аннотаций DataBinderProcessor.\n");
+        source.append(" */\n");
+        source.append("public final class ").append(binderName).append(" implements DataBinder<").append(typeName).append("> {\n");
+        source.append("    public static final ").append(binderName).append(" INSTANCE = new ").append(binderName).append("();\n");
+        if (fixedNamespace) {
+            for (BoundField field : fields) {
+                source.append("    private static final NamespacedKey ").append(field.constant).append(" = new NamespacedKey(\"").append(namespace).append("\", \"").append(field.key).append("\");\n");
+            }
+        }
+        source.append("\n");
+        source.append("    private ").append(binderName).append("() {\n");
+        source.append("    }\n");
+
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public void load(DataManager manager, ").append(typeName).append(" object) {\n");
+        source.append("        DataBackend backend = manager.getBackend();\n");
+        if (!fixedNamespace && !fields.isEmpty()) source.append("        KeyCache keys = manager.getKeyCache();\n");
+        for (BoundField field : fields) {
+            String key = fixedNamespace ? field.constant : "keys.get(\"" + field.key + "\")";
+            if (field.kind.primitive) {
+                source.append("        object.").append(field.name).append(" = backend.get").append(field.kind.name).append("(").append(key).append(", object.").append(field.name).append(");\n");
+            } else {
+                String local = field.name + "Value";
+                source.append("        ").append(field.kind.typeName.replace("java.lang.", "")).append(" ").append(local).append(" = backend.get(").append(key).append(", PersistentDataType.").append(field.kind.type).append(");\n");
+                source.append("        if (").append(local).append(" != null) object.").append(field.name).append(" = ").append(local).append(";\n");
+            }
+        }
+        source.append("    }\n");
+
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public void store(").append(typeName).append(" object, DataManager manager) {\n");
+        source.append("        DataBackend backend = manager.getBackend();\n");
+        if (!fixedNamespace && !fields.isEmpty()) source.append("        KeyCache keys = manager.getKeyCache();\n");
+        for (BoundField field : fields) {
+            String key = fixedNamespace ? field.constant : "keys.get(\"" + field.key + "\")";
+            if (field.kind.primitive) {
+                source.append("        backend.set").append(field.kind.name).append("(").append(key).append(", object.").append(field.name).append(");\n");
+            } else {
+                source.append("        if (object.").append(field.name).append(" != null) backend.set(").append(key).append(", PersistentDataType.").append(field.kind.type).append(", object.").append(field.name).append(");\n");
+            }
+        }
+        source.append("    }\n");
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    protected enum FieldKind {
+        BYTE("byte", "Byte", "BYTE", true),
+        SHORT("short", "Short", "SHORT", true),
+        INTEGER("int", "Integer", "INTEGER", true),
+        LONG("long", "Long", "LONG", true),
+        FLOAT("float", "Float", "FLOAT", true),
+        DOUBLE("double", "Double", "DOUBLE", true),
+        BOOLEAN("boolean", "Boolean", "BOOLEAN", true),
+        STRING("java.lang.String", "String", "STRING", false),
+        BYTE_ARRAY("byte[]", "ByteArray", "BYTE_ARRAY", false),
+        INTEGER_ARRAY("int[]", "IntegerArray", "INTEGER_ARRAY", false),
+        LONG_ARRAY("long[]", "LongArray", "LONG_ARRAY", false);
+
+        protected final String typeName;
+        protected final String name;
+        protected final String type;
+        protected final boolean primitive;
+
+        FieldKind(String typeName, String name, String type, boolean primitive) {
+            this.typeName = typeName;
+            this.name = name;
+            this.type = type;
+            this.primitive = primitive;
+        }
+
+        protected static FieldKind byType(TypeMirror type) {
+            return switch (type.getKind()) {
+                case BYTE -> BYTE;
+                case SHORT -> SHORT;
+                case INT -> INTEGER;
+                case LONG -> LONG;
+                case FLOAT -> FLOAT;
+                case DOUBLE -> DOUBLE;
+                case BOOLEAN -> BOOLEAN;
+                case ARRAY -> switch (((ArrayType) type).getComponentType().getKind()) {
+                    case BYTE -> BYTE_ARRAY;
+                    case INT -> INTEGER_ARRAY;
+                    case LONG -> LONG_ARRAY;
+                    default -> null;
+                };
+                case DECLARED -> {
+                    TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                    yield element.getQualifiedName().contentEquals(STRING.typeName) ? STRING : null;
+                }
+                default -> null;
+            };
+        }
+    }
+
+    protected record BoundField(String name, String key, String constant, FieldKind kind) {
+    }
+}
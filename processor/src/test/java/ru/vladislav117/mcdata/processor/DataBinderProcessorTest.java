@@ -0,0 +1,173 @@
+package ru.vladislav117.mcdata.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataBinderProcessorTest {
+    static final String DATA_OBJECT = """
+            package ru.vladislav117.mcdata.bind;
+
+            public @interface DataObject {
+                String namespace() default "";
+            }
+            """;
+    static final String DATA_FIELD = """
+            package ru.vladislav117.mcdata.bind;
+
+            public @interface DataField {
+                String value() default "";
+            }
+            """;
+    static final String NULLABLE = """
+            package test;
+
+            import java.lang.annotation.ElementType;
+            import java.lang.annotation.Target;
+
+            @Target(ElementType.TYPE_USE)
+            public @interface Nullable {
+            }
+            """;
+
+    @TempDir
+    Path generated;
+
+    record Result(List<Diagnostic<? extends JavaFileObject>> errors, Path generated) {
+        String binder(String name) throws IOException {
+            return Files.readString(generated.resolve("test").resolve(name + "DataBinder.java"));
+        }
+    }
+
+    static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    Result compile(String code) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = List.of(
+                source("ru.vladislav117.mcdata.bind.DataObject", DATA_OBJECT),
+                source("ru.vladislav117.mcdata.bind.DataField", DATA_FIELD),
+                source("test.Nullable", NULLABLE),
+                source("test.Player", code)
+        );
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            // Созданные связыватели не компилируются: классы MCData и Paper не нужны процессору.
+            List<String> options = List.of("-proc:only", "-s", generated.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+            task.setProcessors(List.of(new DataBinderProcessor()));
+            task.call();
+        }
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR || diagnostic.getSource() == null) continue;
+            if (diagnostic.getSource().toUri().getScheme().equals("string")) errors.add(diagnostic);
+        }
+        return new Result(errors, generated);
+    }
+
+    @Test
+    void generatesBinderForSupportedFields() throws IOException {
+        Result result = compile("""
+                package test;
+
+                import ru.vladislav117.mcdata.bind.DataField;
+                import ru.vladislav117.mcdata.bind.DataObject;
+
+                @DataObject(namespace = "plugin")
+                public class Player {
+                    @DataField int level;
+                    @DataField("display_name") String displayName;
+                    @DataField long[] history;
+                }
+                """);
+
+        assertTrue(result.errors().isEmpty(), result.errors().toString());
+        String binder = result.binder("Player");
+        assertTrue(binder.contains("LEVEL = new NamespacedKey(\"plugin\", \"level\")"), binder);
+        assertTrue(binder.contains("backend.getInteger(LEVEL, object.level)"), binder);
+        assertTrue(binder.contains("String displayNameValue = backend.get(DISPLAY_NAME, PersistentDataType.STRING)"), binder);
+        assertTrue(binder.contains("backend.set(HISTORY, PersistentDataType.LONG_ARRAY, object.history)"), binder);
+    }
+
+    @Test
+    void acceptsTypeUseAnnotatedFields() throws IOException {
+        Result result = compile("""
+                package test;
+
+                import ru.vladislav117.mcdata.bind.DataField;
+                import ru.vladislav117.mcdata.bind.DataObject;
+
+                @DataObject
+                public class Player {
+                    @DataField @Nullable String name;
+                    @DataField byte @Nullable [] skin;
+                }
+                """);
+
+        assertTrue(result.errors().isEmpty(), result.errors().toString());
+        String binder = result.binder("Player");
+        assertTrue(binder.contains("backend.get(keys.get(\"name\"), PersistentDataType.STRING)"), binder);
+        assertTrue(binder.contains("backend.get(keys.get(\"skin\"), PersistentDataType.BYTE_ARRAY)"), binder);
+    }
+
+    @Test
+    void rejectsUnsupportedTypes() throws IOException {
+        Result result = compile("""
+                package test;
+
+                import java.util.List;
+                import ru.vladislav117.mcdata.bind.DataField;
+                import ru.vladislav117.mcdata.bind.DataObject;
+
+                @DataObject
+                public class Player {
+                    @DataField List<String> names;
+                    @DataField short[] values;
+                }
+                """);
+
+        assertEquals(2, result.errors().size(), result.errors().toString());
+        assertTrue(result.errors().get(0).getMessage(null).startsWith("Unsupported @DataField type"));
+    }
+
+    @Test
+    void reportsCollidingKeyConstants() throws IOException {
+        Result result = compile("""
+                package test;
+
+                import ru.vladislav117.mcdata.bind.DataField;
+                import ru.vladislav117.mcdata.bind.DataObject;
+
+                @DataObject(namespace = "plugin")
+                public class Player {
+                    @DataField("a.b") int first;
+                    @DataField("a_b") int second;
+                }
+                """);
+
+        assertEquals(1, result.errors().size(), result.errors().toString());
+        assertEquals("Data key \"a_b\" collides with key \"a.b\" of field first", result.errors().get(0).getMessage(null));
+    }
+}
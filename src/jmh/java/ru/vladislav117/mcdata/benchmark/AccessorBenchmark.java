@@ -0,0 +1,126 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.MappedDataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Общее состояние бенчмарков методов менеджера данных.
+ * Хранилище заполняется значениями всех поддерживаемых типов, ключи создаются заранее.
+ * Параметр backend выбирает хранилище: container - PersistentDataContainer, memory - MemoryDataBackend,
+ * mapped - MappedDataBackend во временном файле.
+ */
+@State(Scope.Thread)
+public abstract class AccessorBenchmark {
+    public static final String NAMESPACE = "benchmark";
+
+    @Param({"container", "memory", "mapped"})
+    public String backend;
+
+    protected DataManager manager;
+    protected NamespacedKey byteKey;
+    protected String byteKeyString = "byte";
+    protected byte byteValue;
+    protected NamespacedKey shortKey;
+    protected String shortKeyString = "short";
+    protected short shortValue;
+    protected NamespacedKey integerKey;
+    protected String integerKeyString = "integer";
+    protected int integerValue;
+    protected NamespacedKey longKey;
+    protected String longKeyString = "long";
+    protected long longValue;
+    protected NamespacedKey floatKey;
+    protected String floatKeyString = "float";
+    protected float floatValue;
+    protected NamespacedKey doubleKey;
+    protected String doubleKeyString = "double";
+    protected double doubleValue;
+    protected NamespacedKey booleanKey;
+    protected String booleanKeyString = "boolean";
+    protected boolean booleanValue;
+    protected NamespacedKey stringKey;
+    protected String stringKeyString = "string";
+    protected String stringValue;
+    protected NamespacedKey byteArrayKey;
+    protected String byteArrayKeyString = "byte_array";
+    protected byte[] byteArrayValue;
+    protected NamespacedKey integerArrayKey;
+    protected String integerArrayKeyString = "integer_array";
+    protected int[] integerArrayValue;
+    protected NamespacedKey longArrayKey;
+    protected String longArrayKeyString = "long_array";
+    protected long[] longArrayValue;
+    protected NamespacedKey containerKey;
+    protected String containerKeyString = "container";
+    protected DataManager containerValue;
+
+    @Setup
+    public void setup() {
+        manager = new DataManager(createBackend(), NAMESPACE);
+        byteKey = manager.getKeyCache().get(byteKeyString);
+        shortKey = manager.getKeyCache().get(shortKeyString);
+        integerKey = manager.getKeyCache().get(integerKeyString);
+        longKey = manager.getKeyCache().get(longKeyString);
+        floatKey = manager.getKeyCache().get(floatKeyString);
+        doubleKey = manager.getKeyCache().get(doubleKeyString);
+        booleanKey = manager.getKeyCache().get(booleanKeyString);
+        stringKey = manager.getKeyCache().get(stringKeyString);
+        byteArrayKey = manager.getKeyCache().get(byteArrayKeyString);
+        integerArrayKey = manager.getKeyCache().get(integerArrayKeyString);
+        longArrayKey = manager.getKeyCache().get(longArrayKeyString);
+        containerKey = manager.getKeyCache().get(containerKeyString);
+        byteValue = (byte) 7;
+        shortValue = (short) 7;
+        integerValue = 7;
+        longValue = 7L;
+        floatValue = 7.0F;
+        doubleValue = 7.0;
+        booleanValue = true;
+        stringValue = "value";
+        byteArrayValue = new byte[16];
+        integerArrayValue = new int[16];
+        longArrayValue = new long[16];
+        containerValue = new DataManager(createBackend(), NAMESPACE).setInteger("nested", 7);
+        manager.setByte(byteKey, byteValue);
+        manager.setShort(shortKey, shortValue);
+        manager.setInteger(integerKey, integerValue);
+        manager.setLong(longKey, longValue);
+        manager.setFloat(floatKey, floatValue);
+        manager.setDouble(doubleKey, doubleValue);
+        manager.setBoolean(booleanKey, booleanValue);
+        manager.setString(stringKey, stringValue);
+        manager.setByteArray(byteArrayKey, byteArrayValue);
+        manager.setIntegerArray(integerArrayKey, integerArrayValue);
+        manager.setLongArray(longArrayKey, longArrayValue);
+        manager.setContainer(containerKey, containerValue);
+    }
+
+    protected DataBackend createBackend() {
+        if (backend.equals("memory")) return new MemoryDataBackend();
+        if (backend.equals("mapped")) {
+            try {
+                Path path = Files.createTempFile("mcdata-benchmark", ".dat");
+                Files.delete(path);
+                path.toFile().deleteOnExit();
+                path.resolveSibling(path.getFileName() + ".index").toFile().deleteOnExit();
+                return new MappedDataBackend(path);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return new PersistentDataContainerBackend(new MemoryPersistentDataContainer());
+    }
+}
@@ -0,0 +1,75 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Запись и чтение UUID, перечислений и Instant через типы данных DataAdapters и через строковое представление.
+ */
+public class AdapterBenchmark extends AccessorBenchmark {
+    public enum Mode {
+        SURVIVAL, CREATIVE, ADVENTURE, SPECTATOR
+    }
+
+    protected NamespacedKey uuidKey;
+    protected NamespacedKey uuidStringKey;
+    protected NamespacedKey enumKey;
+    protected NamespacedKey enumStringKey;
+    protected NamespacedKey instantKey;
+    protected UUID uuid = new UUID(0x123456789ABCDEFL, 0xFEDCBA987654321L);
+    protected Mode mode = Mode.ADVENTURE;
+    protected Instant instant = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    @Setup
+    public void setupAdapters() {
+        uuidKey = manager.getKeyCache().get("uuid");
+        uuidStringKey = manager.getKeyCache().get("uuid_string");
+        enumKey = manager.getKeyCache().get("enum");
+        enumStringKey = manager.getKeyCache().get("enum_string");
+        instantKey = manager.getKeyCache().get("instant");
+        manager.setUUID(uuidKey, uuid);
+        manager.setString(uuidStringKey, uuid.toString());
+        manager.setEnum(enumKey, mode);
+        manager.setString(enumStringKey, mode.name());
+        manager.setInstant(instantKey, instant);
+    }
+
+    @Benchmark
+    public UUID getUUID() {
+        return manager.getUUID(uuidKey);
+    }
+
+    @Benchmark
+    public UUID getUUIDFromString() {
+        return UUID.fromString(manager.getString(uuidStringKey));
+    }
+
+    @Benchmark
+    public Object setUUID() {
+        return manager.setUUID(uuidKey, uuid);
+    }
+
+    @Benchmark
+    public Object setUUIDAsString() {
+        return manager.setString(uuidStringKey, uuid.toString());
+    }
+
+    @Benchmark
+    public Mode getEnum() {
+        return manager.getEnum(enumKey, Mode.class);
+    }
+
+    @Benchmark
+    public Mode getEnumFromString() {
+        return Mode.valueOf(manager.getString(enumStringKey));
+    }
+
+    @Benchmark
+    public Instant getInstant() {
+        return manager.getInstant(instantKey);
+    }
+}
@@ -0,0 +1,103 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Запись и чтение больших массивов байтов и строк со сжатием и без него.
+ * Параметр data выбирает данные: json - повторяющийся JSON, random - несжимаемые случайные байты.
+ * Бенчмарки сжатого массива байтов выводят счётчики rawBytes и storedBytes, степень сжатия - rawBytes / storedBytes.
+ */
+@State(Scope.Thread)
+public class CompressionBenchmark {
+    @Param({"json", "random"})
+    public String data;
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    protected NamespacedKey rawKey = new NamespacedKey("benchmark", "raw");
+    protected NamespacedKey compressedKey = new NamespacedKey("benchmark", "compressed");
+    protected NamespacedKey rawStringKey = new NamespacedKey("benchmark", "raw_string");
+    protected NamespacedKey compressedStringKey = new NamespacedKey("benchmark", "compressed_string");
+    protected DataManager manager;
+    protected byte[] bytes;
+    protected String string;
+    protected int storedSize;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[size];
+        if (data.equals("random")) {
+            new Random(42).nextBytes(bytes);
+        } else {
+            StringBuilder builder = new StringBuilder();
+            for (int index = 0; builder.length() < size; index++) {
+                builder.append("{\"id\":").append(index).append(",\"name\":\"entity\",\"x\":").append(index % 64).append("},");
+            }
+            bytes = builder.substring(0, size).getBytes(StandardCharsets.UTF_8);
+        }
+        string = new String(bytes, StandardCharsets.ISO_8859_1);
+        manager = new DataManager(new MemoryDataBackend(), "benchmark");
+        manager.setByteArray(rawKey, bytes);
+        manager.setCompressedByteArray(compressedKey, bytes);
+        manager.setString(rawStringKey, string);
+        manager.setCompressedString(compressedStringKey, string);
+        storedSize = manager.getByteArray(compressedKey).length;
+    }
+
+    @Benchmark
+    public DataManager setByteArray() {
+        return manager.setByteArray(rawKey, bytes);
+    }
+
+    @Benchmark
+    public DataManager setCompressedByteArray(CompressionCounters counters) {
+        counters.rawBytes += size;
+        counters.storedBytes += storedSize;
+        return manager.setCompressedByteArray(compressedKey, bytes);
+    }
+
+    @Benchmark
+    public byte[] getByteArray() {
+        return manager.getByteArray(rawKey);
+    }
+
+    @Benchmark
+    public byte[] getCompressedByteArray(CompressionCounters counters) {
+        counters.rawBytes += size;
+        counters.storedBytes += storedSize;
+        return manager.getCompressedByteArray(compressedKey);
+    }
+
+    @Benchmark
+    public DataManager setCompressedString() {
+        return manager.setCompressedString(compressedStringKey, string);
+    }
+
+    @Benchmark
+    public String getCompressedString() {
+        return manager.getCompressedString(compressedStringKey);
+    }
+
+    /**
+     * Счётчики исходных и хранимых байтов обработанных значений.
+     * JMH суммирует счётчики событий по итерациям, поэтому степень сжатия выводится их парой, а не готовым отношением.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CompressionCounters {
+        public long rawBytes;
+        public long storedBytes;
+    }
+}
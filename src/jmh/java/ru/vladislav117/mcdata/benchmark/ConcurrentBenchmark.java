@@ -0,0 +1,50 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vladislav117.mcdata.ConcurrentDataManager;
+
+/**
+ * Чтение менеджера данных над потокобезопасным зеркалом из нескольких потоков.
+ * Группа readWrite показывает, как оптимистичное чтение ведёт себя при одновременной записи в ту же полосу.
+ */
+@State(Scope.Group)
+public class ConcurrentBenchmark {
+    protected NamespacedKey readKey = new NamespacedKey("benchmark", "read");
+    protected NamespacedKey writeKey = new NamespacedKey("benchmark", "write");
+    protected ConcurrentDataManager manager;
+    protected int counter;
+
+    @Setup
+    public void setup() {
+        MemoryPersistentDataAdapterContext context = new MemoryPersistentDataAdapterContext();
+        manager = new ConcurrentDataManager(context.newPersistentDataContainer(), "benchmark");
+        manager.setInteger(readKey, 1);
+        manager.setInteger(writeKey, 1);
+    }
+
+    @Benchmark
+    @Group("read")
+    @GroupThreads(4)
+    public int read() {
+        return manager.getIntegerOrDefault(readKey, 0);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public int readWhileWriting() {
+        return manager.getIntegerOrDefault(writeKey, 0);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    public void write() {
+        manager.setInteger(writeKey, counter++);
+    }
+}
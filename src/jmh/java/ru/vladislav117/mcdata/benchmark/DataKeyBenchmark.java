@@ -0,0 +1,45 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.key.DataKey;
+
+/**
+ * Чтение и запись через типизированные ключи в сравнении с методами getX и setX.
+ */
+public class DataKeyBenchmark extends AccessorBenchmark {
+    protected static final DataKey<Integer, Integer> INTEGER = DataKey.of(NAMESPACE, "integer", PersistentDataType.INTEGER).withDefault(0);
+    protected static final DataKey<String, String> STRING = DataKey.of(NAMESPACE, "string", PersistentDataType.STRING);
+
+    @Setup
+    public void setupKeys() {
+        manager.set(INTEGER, integerValue).set(STRING, stringValue);
+    }
+
+    @Benchmark
+    public Integer integerGet() {
+        return manager.get(INTEGER);
+    }
+
+    @Benchmark
+    public Integer integerGetOrDefault() {
+        return manager.getOrDefault(INTEGER);
+    }
+
+    @Benchmark
+    public DataManager integerSet() {
+        return manager.set(INTEGER, integerValue);
+    }
+
+    @Benchmark
+    public String stringGet() {
+        return manager.get(STRING);
+    }
+
+    @Benchmark
+    public DataManager stringSet() {
+        return manager.set(STRING, stringValue);
+    }
+}
@@ -0,0 +1,57 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.error.DataManagerError;
+import ru.vladislav117.mcdata.error.DataManagerKeyError;
+import ru.vladislav117.mcdata.error.DataManagerTypeError;
+
+/**
+ * Чтение отсутствующего значения и значения неверного типа с перехватом ошибки в обычном и облегчённом режимах.
+ */
+@State(Scope.Thread)
+public class ErrorBenchmark {
+    @Param({"false", "true"})
+    public boolean stackless;
+
+    protected NamespacedKey missingKey = new NamespacedKey("benchmark", "missing");
+    protected NamespacedKey stringKey = new NamespacedKey("benchmark", "string");
+    protected DataManager manager;
+
+    @Setup
+    public void setup() {
+        DataManagerError.setStackless(stackless);
+        manager = new DataManager(new MemoryDataBackend(), "benchmark");
+        manager.setString(stringKey, "value");
+    }
+
+    @TearDown
+    public void tearDown() {
+        DataManagerError.setStackless(false);
+    }
+
+    @Benchmark
+    public int catchKeyError() {
+        try {
+            return manager.getInteger(missingKey);
+        } catch (DataManagerKeyError error) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int catchTypeError() {
+        try {
+            return manager.getInteger(stringKey);
+        } catch (DataManagerTypeError error) {
+            return -1;
+        }
+    }
+}
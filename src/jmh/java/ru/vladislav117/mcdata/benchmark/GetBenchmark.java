@@ -0,0 +1,129 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import ru.vladislav117.mcdata.DataManager;
+
+/**
+ * Чтение значений по ключу методами getX.
+ */
+public class GetBenchmark extends AccessorBenchmark {
+    @Benchmark
+    public byte byteNamespacedKey() {
+        return manager.getByte(byteKey);
+    }
+
+    @Benchmark
+    public byte byteStringKey() {
+        return manager.getByte(byteKeyString);
+    }
+
+    @Benchmark
+    public short shortNamespacedKey() {
+        return manager.getShort(shortKey);
+    }
+
+    @Benchmark
+    public short shortStringKey() {
+        return manager.getShort(shortKeyString);
+    }
+
+    @Benchmark
+    public int integerNamespacedKey() {
+        return manager.getInteger(integerKey);
+    }
+
+    @Benchmark
+    public int integerStringKey() {
+        return manager.getInteger(integerKeyString);
+    }
+
+    @Benchmark
+    public long longNamespacedKey() {
+        return manager.getLong(longKey);
+    }
+
+    @Benchmark
+    public long longStringKey() {
+        return manager.getLong(longKeyString);
+    }
+
+    @Benchmark
+    public float floatNamespacedKey() {
+        return manager.getFloat(floatKey);
+    }
+
+    @Benchmark
+    public float floatStringKey() {
+        return manager.getFloat(floatKeyString);
+    }
+
+    @Benchmark
+    public double doubleNamespacedKey() {
+        return manager.getDouble(doubleKey);
+    }
+
+    @Benchmark
+    public double doubleStringKey() {
+        return manager.getDouble(doubleKeyString);
+    }
+
+    @Benchmark
+    public boolean booleanNamespacedKey() {
+        return manager.getBoolean(booleanKey);
+    }
+
+    @Benchmark
+    public boolean booleanStringKey() {
+        return manager.getBoolean(booleanKeyString);
+    }
+
+    @Benchmark
+    public String stringNamespacedKey() {
+        return manager.getString(stringKey);
+    }
+
+    @Benchmark
+    public String stringStringKey() {
+        return manager.getString(stringKeyString);
+    }
+
+    @Benchmark
+    public byte[] byteArrayNamespacedKey() {
+        return manager.getByteArray(byteArrayKey);
+    }
+
+    @Benchmark
+    public byte[] byteArrayStringKey() {
+        return manager.getByteArray(byteArrayKeyString);
+    }
+
+    @Benchmark
+    public int[] integerArrayNamespacedKey() {
+        return manager.getIntegerArray(integerArrayKey);
+    }
+
+    @Benchmark
+    public int[] integerArrayStringKey() {
+        return manager.getIntegerArray(integerArrayKeyString);
+    }
+
+    @Benchmark
+    public long[] longArrayNamespacedKey() {
+        return manager.getLongArray(longArrayKey);
+    }
+
+    @Benchmark
+    public long[] longArrayStringKey() {
+        return manager.getLongArray(longArrayKeyString);
+    }
+
+    @Benchmark
+    public DataManager containerNamespacedKey() {
+        return manager.getContainer(containerKey);
+    }
+
+    @Benchmark
+    public DataManager containerStringKey() {
+        return manager.getContainer(containerKeyString);
+    }
+}
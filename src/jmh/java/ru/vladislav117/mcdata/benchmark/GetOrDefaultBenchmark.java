@@ -0,0 +1,138 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import ru.vladislav117.mcdata.DataManager;
+
+/**
+ * Чтение значений по ключу методами getXOrDefault.
+ * Для чисел и boolean измеряются перегрузки с упакованным значением по умолчанию.
+ */
+public class GetOrDefaultBenchmark extends AccessorBenchmark {
+    protected Byte boxedByteValue = (byte) 7;
+    protected Short boxedShortValue = (short) 7;
+    protected Integer boxedIntegerValue = 7;
+    protected Long boxedLongValue = 7L;
+    protected Float boxedFloatValue = 7.0F;
+    protected Double boxedDoubleValue = 7.0;
+    protected Boolean boxedBooleanValue = true;
+
+    @Benchmark
+    public Byte byteNamespacedKey() {
+        return manager.getByteOrDefault(byteKey, boxedByteValue);
+    }
+
+    @Benchmark
+    public Byte byteStringKey() {
+        return manager.getByteOrDefault(byteKeyString, boxedByteValue);
+    }
+
+    @Benchmark
+    public Short shortNamespacedKey() {
+        return manager.getShortOrDefault(shortKey, boxedShortValue);
+    }
+
+    @Benchmark
+    public Short shortStringKey() {
+        return manager.getShortOrDefault(shortKeyString, boxedShortValue);
+    }
+
+    @Benchmark
+    public Integer integerNamespacedKey() {
+        return manager.getIntegerOrDefault(integerKey, boxedIntegerValue);
+    }
+
+    @Benchmark
+    public Integer integerStringKey() {
+        return manager.getIntegerOrDefault(integerKeyString, boxedIntegerValue);
+    }
+
+    @Benchmark
+    public Long longNamespacedKey() {
+        return manager.getLongOrDefault(longKey, boxedLongValue);
+    }
+
+    @Benchmark
+    public Long longStringKey() {
+        return manager.getLongOrDefault(longKeyString, boxedLongValue);
+    }
+
+    @Benchmark
+    public Float floatNamespacedKey() {
+        return manager.getFloatOrDefault(floatKey, boxedFloatValue);
+    }
+
+    @Benchmark
+    public Float floatStringKey() {
+        return manager.getFloatOrDefault(floatKeyString, boxedFloatValue);
+    }
+
+    @Benchmark
+    public Double doubleNamespacedKey() {
+        return manager.getDoubleOrDefault(doubleKey, boxedDoubleValue);
+    }
+
+    @Benchmark
+    public Double doubleStringKey() {
+        return manager.getDoubleOrDefault(doubleKeyString, boxedDoubleValue);
+    }
+
+    @Benchmark
+    public Boolean booleanNamespacedKey() {
+        return manager.getBooleanOrDefault(booleanKey, boxedBooleanValue);
+    }
+
+    @Benchmark
+    public Boolean booleanStringKey() {
+        return manager.getBooleanOrDefault(booleanKeyString, boxedBooleanValue);
+    }
+
+    @Benchmark
+    public String stringNamespacedKey() {
+        return manager.getStringOrDefault(stringKey, stringValue);
+    }
+
+    @Benchmark
+    public String stringStringKey() {
+        return manager.getStringOrDefault(stringKeyString, stringValue);
+    }
+
+    @Benchmark
+    public byte[] byteArrayNamespacedKey() {
+        return manager.getByteArrayOrDefault(byteArrayKey, byteArrayValue);
+    }
+
+    @Benchmark
+    public byte[] byteArrayStringKey() {
+        return manager.getByteArrayOrDefault(byteArrayKeyString, byteArrayValue);
+    }
+
+    @Benchmark
+    public int[] integerArrayNamespacedKey() {
+        return manager.getIntegerArrayOrDefault(integerArrayKey, integerArrayValue);
+    }
+
+    @Benchmark
+    public int[] integerArrayStringKey() {
+        return manager.getIntegerArrayOrDefault(integerArrayKeyString, integerArrayValue);
+    }
+
+    @Benchmark
+    public long[] longArrayNamespacedKey() {
+        return manager.getLongArrayOrDefault(longArrayKey, longArrayValue);
+    }
+
+    @Benchmark
+    public long[] longArrayStringKey() {
+        return manager.getLongArrayOrDefault(longArrayKeyString, longArrayValue);
+    }
+
+    @Benchmark
+    public DataManager containerNamespacedKey() {
+        return manager.getContainerOrDefault(containerKey, containerValue);
+    }
+
+    @Benchmark
+    public DataManager containerStringKey() {
+        return manager.getContainerOrDefault(containerKeyString, containerValue);
+    }
+}
@@ -0,0 +1,129 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import ru.vladislav117.mcdata.DataManager;
+
+/**
+ * Чтение значений по ключу методами getXOrNull.
+ */
+public class GetOrNullBenchmark extends AccessorBenchmark {
+    @Benchmark
+    public Byte byteNamespacedKey() {
+        return manager.getByteOrNull(byteKey);
+    }
+
+    @Benchmark
+    public Byte byteStringKey() {
+        return manager.getByteOrNull(byteKeyString);
+    }
+
+    @Benchmark
+    public Short shortNamespacedKey() {
+        return manager.getShortOrNull(shortKey);
+    }
+
+    @Benchmark
+    public Short shortStringKey() {
+        return manager.getShortOrNull(shortKeyString);
+    }
+
+    @Benchmark
+    public Integer integerNamespacedKey() {
+        return manager.getIntegerOrNull(integerKey);
+    }
+
+    @Benchmark
+    public Integer integerStringKey() {
+        return manager.getIntegerOrNull(integerKeyString);
+    }
+
+    @Benchmark
+    public Long longNamespacedKey() {
+        return manager.getLongOrNull(longKey);
+    }
+
+    @Benchmark
+    public Long longStringKey() {
+        return manager.getLongOrNull(longKeyString);
+    }
+
+    @Benchmark
+    public Float floatNamespacedKey() {
+        return manager.getFloatOrNull(floatKey);
+    }
+
+    @Benchmark
+    public Float floatStringKey() {
+        return manager.getFloatOrNull(floatKeyString);
+    }
+
+    @Benchmark
+    public Double doubleNamespacedKey() {
+        return manager.getDoubleOrNull(doubleKey);
+    }
+
+    @Benchmark
+    public Double doubleStringKey() {
+        return manager.getDoubleOrNull(doubleKeyString);
+    }
+
+    @Benchmark
+    public Boolean booleanNamespacedKey() {
+        return manager.getBooleanOrNull(booleanKey);
+    }
+
+    @Benchmark
+    public Boolean booleanStringKey() {
+        return manager.getBooleanOrNull(booleanKeyString);
+    }
+
+    @Benchmark
+    public String stringNamespacedKey() {
+        return manager.getStringOrNull(stringKey);
+    }
+
+    @Benchmark
+    public String stringStringKey() {
+        return manager.getStringOrNull(stringKeyString);
+    }
+
+    @Benchmark
+    public byte[] byteArrayNamespacedKey() {
+        return manager.getByteArrayOrNull(byteArrayKey);
+    }
+
+    @Benchmark
+    public byte[] byteArrayStringKey() {
+        return manager.getByteArrayOrNull(byteArrayKeyString);
+    }
+
+    @Benchmark
+    public int[] integerArrayNamespacedKey() {
+        return manager.getIntegerArrayOrNull(integerArrayKey);
+    }
+
+    @Benchmark
+    public int[] integerArrayStringKey() {
+        return manager.getIntegerArrayOrNull(integerArrayKeyString);
+    }
+
+    @Benchmark
+    public long[] longArrayNamespacedKey() {
+        return manager.getLongArrayOrNull(longArrayKey);
+    }
+
+    @Benchmark
+    public long[] longArrayStringKey() {
+        return manager.getLongArrayOrNull(longArrayKeyString);
+    }
+
+    @Benchmark
+    public DataManager containerNamespacedKey() {
+        return manager.getContainerOrNull(containerKey);
+    }
+
+    @Benchmark
+    public DataManager containerStringKey() {
+        return manager.getContainerOrNull(containerKeyString);
+    }
+}
@@ -0,0 +1,128 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Проверка типа значения по ключу методами isX.
+ */
+public class IsBenchmark extends AccessorBenchmark {
+    @Benchmark
+    public boolean byteNamespacedKey() {
+        return manager.isByte(byteKey);
+    }
+
+    @Benchmark
+    public boolean byteStringKey() {
+        return manager.isByte(byteKeyString);
+    }
+
+    @Benchmark
+    public boolean shortNamespacedKey() {
+        return manager.isShort(shortKey);
+    }
+
+    @Benchmark
+    public boolean shortStringKey() {
+        return manager.isShort(shortKeyString);
+    }
+
+    @Benchmark
+    public boolean integerNamespacedKey() {
+        return manager.isInteger(integerKey);
+    }
+
+    @Benchmark
+    public boolean integerStringKey() {
+        return manager.isInteger(integerKeyString);
+    }
+
+    @Benchmark
+    public boolean longNamespacedKey() {
+        return manager.isLong(longKey);
+    }
+
+    @Benchmark
+    public boolean longStringKey() {
+        return manager.isLong(longKeyString);
+    }
+
+    @Benchmark
+    public boolean floatNamespacedKey() {
+        return manager.isFloat(floatKey);
+    }
+
+    @Benchmark
+    public boolean floatStringKey() {
+        return manager.isFloat(floatKeyString);
+    }
+
+    @Benchmark
+    public boolean doubleNamespacedKey() {
+        return manager.isDouble(doubleKey);
+    }
+
+    @Benchmark
+    public boolean doubleStringKey() {
+        return manager.isDouble(doubleKeyString);
+    }
+
+    @Benchmark
+    public boolean booleanNamespacedKey() {
+        return manager.isBoolean(booleanKey);
+    }
+
+    @Benchmark
+    public boolean booleanStringKey() {
+        return manager.isBoolean(booleanKeyString);
+    }
+
+    @Benchmark
+    public boolean stringNamespacedKey() {
+        return manager.isString(stringKey);
+    }
+
+    @Benchmark
+    public boolean stringStringKey() {
+        return manager.isString(stringKeyString);
+    }
+
+    @Benchmark
+    public boolean byteArrayNamespacedKey() {
+        return manager.isByteArray(byteArrayKey);
+    }
+
+    @Benchmark
+    public boolean byteArrayStringKey() {
+        return manager.isByteArray(byteArrayKeyString);
+    }
+
+    @Benchmark
+    public boolean integerArrayNamespacedKey() {
+        return manager.isIntegerArray(integerArrayKey);
+    }
+
+    @Benchmark
+    public boolean integerArrayStringKey() {
+        return manager.isIntegerArray(integerArrayKeyString);
+    }
+
+    @Benchmark
+    public boolean longArrayNamespacedKey() {
+        return manager.isLongArray(longArrayKey);
+    }
+
+    @Benchmark
+    public boolean longArrayStringKey() {
+        return manager.isLongArray(longArrayKeyString);
+    }
+
+    @Benchmark
+    public boolean containerNamespacedKey() {
+        return manager.isContainer(containerKey);
+    }
+
+    @Benchmark
+    public boolean containerStringKey() {
+        return manager.isContainer(containerKeyString);
+    }
+}
@@ -0,0 +1,66 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.KeyVisitor;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+
+/**
+ * Перечисление ключей пространства имён: фильтрация getKeys(), forEachKey() и forEachKey() с индексом ключей.
+ * Половина ключей принадлежит другому пространству имён.
+ */
+@State(Scope.Thread)
+public class KeyBenchmark {
+    @Param({"container", "memory"})
+    public String backend;
+
+    protected DataManager manager;
+    protected DataManager indexedManager;
+    protected int count;
+    protected KeyVisitor visitor = (key, kind) -> count += kind.ordinal();
+
+    @Setup
+    public void setup() {
+        manager = new DataManager(createBackend(), "benchmark");
+        indexedManager = new DataManager(createBackend(), "benchmark").indexKeys();
+        for (int index = 0; index < 32; index++) {
+            for (DataManager target : new DataManager[]{manager, indexedManager}) {
+                target.setInteger("key" + index, index);
+                target.getBackend().setInteger(new NamespacedKey("other", "key" + index), index);
+            }
+        }
+    }
+
+    protected DataBackend createBackend() {
+        MemoryPersistentDataAdapterContext context = new MemoryPersistentDataAdapterContext();
+        return backend.equals("container") ? new PersistentDataContainerBackend(context.newPersistentDataContainer()) : new MemoryDataBackend(64, context);
+    }
+
+    @Benchmark
+    public int getKeysFiltered() {
+        int result = 0;
+        for (NamespacedKey key : manager.getBackend().getKeys()) {
+            if (key.getNamespace().equals("benchmark")) result++;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int forEachKey() {
+        manager.forEachKey(visitor);
+        return count;
+    }
+
+    @Benchmark
+    public int forEachKeyIndexed() {
+        indexedManager.forEachKey(visitor);
+        return count;
+    }
+}
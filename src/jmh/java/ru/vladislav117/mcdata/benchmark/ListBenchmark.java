@@ -0,0 +1,71 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Запись и чтение списков чисел через массивы примитивов и через упакованные списки.
+ */
+@State(Scope.Thread)
+public class ListBenchmark {
+    @Param({"container", "memory"})
+    public String backend;
+
+    @Param({"16", "1024"})
+    public int size;
+
+    protected NamespacedKey key = new NamespacedKey("benchmark", "list");
+    protected DataManager manager;
+    protected int[] values;
+    protected List<Integer> boxedValues;
+
+    @Setup
+    public void setup() {
+        MemoryPersistentDataAdapterContext context = new MemoryPersistentDataAdapterContext();
+        manager = new DataManager(backend.equals("container") ? new PersistentDataContainerBackend(context.newPersistentDataContainer()) : new MemoryDataBackend(16, context), "benchmark");
+        values = new int[size];
+        boxedValues = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            values[index] = index * 1000;
+            boxedValues.add(values[index]);
+        }
+        manager.setIntegerList(key, values);
+    }
+
+    @Benchmark
+    public int[] getIntegerList() {
+        return manager.getIntegerList(key);
+    }
+
+    @Benchmark
+    public int[] getBoxedListAsArray() {
+        List<Integer> list = manager.getBackend().get(key, PersistentDataType.LIST.integers());
+        int[] result = new int[list.size()];
+        for (int index = 0; index < result.length; index++) {
+            result[index] = list.get(index);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public DataManager setIntegerList() {
+        return manager.setIntegerList(key, values);
+    }
+
+    @Benchmark
+    public DataManager setBoxedList() {
+        manager.getBackend().set(key, PersistentDataType.LIST.integers(), boxedValues);
+        return manager;
+    }
+}
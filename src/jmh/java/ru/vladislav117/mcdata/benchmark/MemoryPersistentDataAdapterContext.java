@@ -0,0 +1,14 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+
+/**
+ * Контекст адаптеров, создающий контейнеры данных в памяти.
+ */
+public class MemoryPersistentDataAdapterContext implements PersistentDataAdapterContext {
+    @Override
+    public PersistentDataContainer newPersistentDataContainer() {
+        return new MemoryPersistentDataContainer(this);
+    }
+}
@@ -0,0 +1,144 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.ListPersistentDataType;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Контейнер данных в памяти для запуска бенчмарков без сервера.
+ * Повторяет поведение CraftPersistentDataContainer: значения хранятся в примитивном виде,
+ * проверка типа выполняется при чтении, вложенные контейнеры копируются.
+ */
+public class MemoryPersistentDataContainer implements PersistentDataContainer {
+    protected final Map<NamespacedKey, Object> values = new HashMap<>();
+    protected final PersistentDataAdapterContext context;
+
+    /**
+     * Создание контейнера данных в памяти.
+     *
+     * @param context Контекст адаптеров
+     */
+    public MemoryPersistentDataContainer(PersistentDataAdapterContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Создание контейнера данных в памяти с собственным контекстом адаптеров.
+     */
+    public MemoryPersistentDataContainer() {
+        this.context = new MemoryPersistentDataAdapterContext();
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        Object value = values.get(key);
+        return value != null && matches(value, type);
+    }
+
+    /**
+     * Проверка соответствия значения типу.
+     * Для списков, как и в CraftPersistentDataContainer, проверяется тип элементов; пустой список подходит любому списочному типу.
+     *
+     * @param value Значение в примитивном виде
+     * @param type Тип данных
+     * @return Подходит ли значение типу.
+     */
+    protected boolean matches(Object value, PersistentDataType<?, ?> type) {
+        if (!type.getPrimitiveType().isInstance(value)) return false;
+        if (!(type instanceof ListPersistentDataType<?, ?> listType)) return true;
+        List<?> list = (List<?>) value;
+        return list.isEmpty() || listType.elementType().getPrimitiveType().isInstance(list.get(0));
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        Object value = values.get(key);
+        if (value == null) return null;
+        if (!matches(value, type)) {
+            throw new IllegalArgumentException("The found value " + value.getClass().getSimpleName() + " cannot store " + type.getPrimitiveType().getSimpleName());
+        }
+        return type.fromPrimitive(type.getPrimitiveType().cast(copy(value)), context);
+    }
+
+    @Override
+    public <P, C> C getOrDefault(NamespacedKey key, PersistentDataType<P, C> type, C defaultValue) {
+        C value = get(key, type);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        values.put(key, copy(type.toPrimitive(value, context)));
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        values.remove(key);
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        return new HashSet<>(values.keySet());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @Override
+    public void copyTo(PersistentDataContainer other, boolean replace) {
+        if (!(other instanceof MemoryPersistentDataContainer target)) throw new IllegalArgumentException("Unsupported container " + other);
+        for (Map.Entry<NamespacedKey, Object> entry : values.entrySet()) {
+            if (replace) {
+                target.values.put(entry.getKey(), copy(entry.getValue()));
+            } else {
+                target.values.putIfAbsent(entry.getKey(), copy(entry.getValue()));
+            }
+        }
+    }
+
+    @Override
+    public PersistentDataAdapterContext getAdapterContext() {
+        return context;
+    }
+
+    @Override
+    public byte[] serializeToBytes() {
+        throw new UnsupportedOperationException("Serialization is not supported by the benchmark container");
+    }
+
+    @Override
+    public void readFromBytes(byte[] bytes, boolean clear) {
+        throw new UnsupportedOperationException("Serialization is not supported by the benchmark container");
+    }
+
+    /**
+     * Копирование вложенных контейнеров, как это делает сервер при чтении и записи тегов.
+     *
+     * @param value Значение в примитивном виде
+     * @return Значение, не разделяемое с вызывающим кодом.
+     */
+    protected Object copy(Object value) {
+        if (value instanceof MemoryPersistentDataContainer container) {
+            MemoryPersistentDataContainer copy = new MemoryPersistentDataContainer(context);
+            container.copyTo(copy, true);
+            return copy;
+        }
+        return value;
+    }
+}
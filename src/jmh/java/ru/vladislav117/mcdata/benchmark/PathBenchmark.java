@@ -0,0 +1,38 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.key.DataPath;
+
+/**
+ * Доступ к значению во вложенных контейнерах по пути и через цепочку getContainer.
+ */
+public class PathBenchmark extends AccessorBenchmark {
+    protected DataPath path = DataPath.of("stats.combat.kills");
+    protected NamespacedKey combatKey = new NamespacedKey(NAMESPACE, "combat");
+    protected NamespacedKey killsKey = new NamespacedKey(NAMESPACE, "kills");
+
+    @Setup
+    public void setupPath() {
+        manager.setInteger(path, 7);
+    }
+
+    @Benchmark
+    public int getIntegerByPath() {
+        return manager.getInteger(path);
+    }
+
+    @Benchmark
+    public int getIntegerByContainers() {
+        DataManager stats = manager.getContainer("stats");
+        DataManager combat = stats.getContainer(combatKey);
+        return combat.getInteger(killsKey);
+    }
+
+    @Benchmark
+    public DataManager setIntegerByPath() {
+        return manager.setInteger(path, 7);
+    }
+}
@@ -0,0 +1,79 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Чтение значений по ключу перегрузками getXOrDefault без упаковки.
+ * Профиль gc должен показывать нулевое выделение памяти (gc.alloc.rate.norm) для backend = memory.
+ */
+public class PrimitiveGetOrDefaultBenchmark extends AccessorBenchmark {
+    @Benchmark
+    public byte byteNamespacedKey() {
+        return manager.getByteOrDefault(byteKey, byteValue);
+    }
+
+    @Benchmark
+    public byte byteStringKey() {
+        return manager.getByteOrDefault(byteKeyString, byteValue);
+    }
+
+    @Benchmark
+    public short shortNamespacedKey() {
+        return manager.getShortOrDefault(shortKey, shortValue);
+    }
+
+    @Benchmark
+    public short shortStringKey() {
+        return manager.getShortOrDefault(shortKeyString, shortValue);
+    }
+
+    @Benchmark
+    public int integerNamespacedKey() {
+        return manager.getIntegerOrDefault(integerKey, integerValue);
+    }
+
+    @Benchmark
+    public int integerStringKey() {
+        return manager.getIntegerOrDefault(integerKeyString, integerValue);
+    }
+
+    @Benchmark
+    public long longNamespacedKey() {
+        return manager.getLongOrDefault(longKey, longValue);
+    }
+
+    @Benchmark
+    public long longStringKey() {
+        return manager.getLongOrDefault(longKeyString, longValue);
+    }
+
+    @Benchmark
+    public float floatNamespacedKey() {
+        return manager.getFloatOrDefault(floatKey, floatValue);
+    }
+
+    @Benchmark
+    public float floatStringKey() {
+        return manager.getFloatOrDefault(floatKeyString, floatValue);
+    }
+
+    @Benchmark
+    public double doubleNamespacedKey() {
+        return manager.getDoubleOrDefault(doubleKey, doubleValue);
+    }
+
+    @Benchmark
+    public double doubleStringKey() {
+        return manager.getDoubleOrDefault(doubleKeyString, doubleValue);
+    }
+
+    @Benchmark
+    public boolean booleanNamespacedKey() {
+        return manager.getBooleanOrDefault(booleanKey, booleanValue);
+    }
+
+    @Benchmark
+    public boolean booleanStringKey() {
+        return manager.getBooleanOrDefault(booleanKeyString, booleanValue);
+    }
+}
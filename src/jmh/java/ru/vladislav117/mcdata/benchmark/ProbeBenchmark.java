@@ -0,0 +1,58 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.error.DataManagerKeyError;
+import ru.vladislav117.mcdata.error.DataManagerTypeError;
+
+/**
+ * Сравнение чтения тройной проверкой (has, has с типом, get) и чтения за одно обращение.
+ */
+@State(Scope.Thread)
+public class ProbeBenchmark {
+    protected NamespacedKey key;
+    protected NamespacedKey missingKey;
+    protected PersistentDataContainer container;
+    protected DataManager manager;
+    protected Integer defaultValue;
+
+    @Setup
+    public void setup() {
+        key = new NamespacedKey("benchmark", "value");
+        missingKey = new NamespacedKey("benchmark", "missing");
+        container = new MemoryPersistentDataContainer();
+        container.set(key, PersistentDataType.INTEGER, 42);
+        manager = new DataManager(container, "benchmark");
+        defaultValue = 0;
+    }
+
+    @Benchmark
+    public int tripleProbeGet() {
+        if (!container.has(key)) throw new DataManagerKeyError(key);
+        if (!container.has(key, PersistentDataType.INTEGER)) throw new DataManagerTypeError(PersistentDataType.INTEGER);
+        return container.get(key, PersistentDataType.INTEGER);
+    }
+
+    @Benchmark
+    public int singleProbeGet() {
+        return manager.getInteger(key);
+    }
+
+    @Benchmark
+    public Integer tripleProbeGetOrDefaultMissing() {
+        if (!container.has(missingKey)) return defaultValue;
+        if (!container.has(missingKey, PersistentDataType.INTEGER)) return defaultValue;
+        return container.get(missingKey, PersistentDataType.INTEGER);
+    }
+
+    @Benchmark
+    public Integer singleProbeGetOrDefaultMissing() {
+        return manager.getIntegerOrDefault(missingKey, defaultValue);
+    }
+}
@@ -0,0 +1,113 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.bukkit.NamespacedKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import ru.vladislav117.mcdata.result.BooleanResult;
+import ru.vladislav117.mcdata.result.ByteResult;
+import ru.vladislav117.mcdata.result.DoubleResult;
+import ru.vladislav117.mcdata.result.FloatResult;
+import ru.vladislav117.mcdata.result.IntegerResult;
+import ru.vladislav117.mcdata.result.LongResult;
+import ru.vladislav117.mcdata.result.ReadStatus;
+import ru.vladislav117.mcdata.result.ShortResult;
+
+/**
+ * Чтение значений по ключу в держатели результата.
+ * Профиль gc должен показывать нулевое выделение памяти (gc.alloc.rate.norm) для backend = memory, в том числе при отсутствии ключа.
+ */
+public class ReadResultBenchmark extends AccessorBenchmark {
+    protected NamespacedKey missingKey;
+    protected ByteResult byteResult = new ByteResult();
+    protected ShortResult shortResult = new ShortResult();
+    protected IntegerResult integerResult = new IntegerResult();
+    protected LongResult longResult = new LongResult();
+    protected FloatResult floatResult = new FloatResult();
+    protected DoubleResult doubleResult = new DoubleResult();
+    protected BooleanResult booleanResult = new BooleanResult();
+
+    @Setup
+    public void setupMissingKey() {
+        missingKey = manager.getKeyCache().get("missing");
+    }
+
+    @Benchmark
+    public ReadStatus byteNamespacedKey() {
+        return manager.read(byteKey, byteResult);
+    }
+
+    @Benchmark
+    public ReadStatus byteStringKey() {
+        return manager.read(byteKeyString, byteResult);
+    }
+
+    @Benchmark
+    public ReadStatus shortNamespacedKey() {
+        return manager.read(shortKey, shortResult);
+    }
+
+    @Benchmark
+    public ReadStatus shortStringKey() {
+        return manager.read(shortKeyString, shortResult);
+    }
+
+    @Benchmark
+    public ReadStatus integerNamespacedKey() {
+        return manager.read(integerKey, integerResult);
+    }
+
+    @Benchmark
+    public ReadStatus integerStringKey() {
+        return manager.read(integerKeyString, integerResult);
+    }
+
+    @Benchmark
+    public ReadStatus longNamespacedKey() {
+        return manager.read(longKey, longResult);
+    }
+
+    @Benchmark
+    public ReadStatus longStringKey() {
+        return manager.read(longKeyString, longResult);
+    }
+
+    @Benchmark
+    public ReadStatus floatNamespacedKey() {
+        return manager.read(floatKey, floatResult);
+    }
+
+    @Benchmark
+    public ReadStatus floatStringKey() {
+        return manager.read(floatKeyString, floatResult);
+    }
+
+    @Benchmark
+    public ReadStatus doubleNamespacedKey() {
+        return manager.read(doubleKey, doubleResult);
+    }
+
+    @Benchmark
+    public ReadStatus doubleStringKey() {
+        return manager.read(doubleKeyString, doubleResult);
+    }
+
+    @Benchmark
+    public ReadStatus booleanNamespacedKey() {
+        return manager.read(booleanKey, booleanResult);
+    }
+
+    @Benchmark
+    public ReadStatus booleanStringKey() {
+        return manager.read(booleanKeyString, booleanResult);
+    }
+
+    @Benchmark
+    public ReadStatus integerMissing() {
+        return manager.read(missingKey, integerResult);
+    }
+
+    @Benchmark
+    public ReadStatus integerWrongType() {
+        return manager.read(stringKey, integerResult);
+    }
+}
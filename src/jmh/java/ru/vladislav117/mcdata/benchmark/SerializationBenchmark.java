@@ -0,0 +1,48 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.io.ByteBufferPool;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Сериализация менеджера данных со значениями всех поддерживаемых типов.
+ */
+public class SerializationBenchmark extends AccessorBenchmark {
+    protected ByteBuffer buffer;
+    protected ByteBuffer serialized;
+
+    @Setup
+    public void setupBuffers() {
+        buffer = ByteBuffer.allocateDirect(manager.serializedSize());
+        serialized = ByteBuffer.allocateDirect(manager.serializedSize());
+        manager.writeTo(serialized);
+        serialized.flip();
+    }
+
+    @Benchmark
+    public int serializedSize() {
+        return manager.serializedSize();
+    }
+
+    @Benchmark
+    public ByteBuffer writeTo() {
+        manager.writeTo(buffer.clear());
+        return buffer;
+    }
+
+    @Benchmark
+    public int writeToPooled() {
+        ByteBuffer pooled = manager.writeToPooled();
+        int size = pooled.remaining();
+        ByteBufferPool.getDefault().release(pooled);
+        return size;
+    }
+
+    @Benchmark
+    public DataManager readFrom() {
+        return new DataManager(createBackend(), NAMESPACE).readFrom(serialized.duplicate());
+    }
+}
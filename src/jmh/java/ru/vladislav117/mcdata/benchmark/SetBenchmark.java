@@ -0,0 +1,129 @@
+package ru.vladislav117.mcdata.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import ru.vladislav117.mcdata.DataManager;
+
+/**
+ * Запись значений по ключу методами setX.
+ */
+public class SetBenchmark extends AccessorBenchmark {
+    @Benchmark
+    public DataManager byteNamespacedKey() {
+        return manager.setByte(byteKey, byteValue);
+    }
+
+    @Benchmark
+    public DataManager byteStringKey() {
+        return manager.setByte(byteKeyString, byteValue);
+    }
+
+    @Benchmark
+    public DataManager shortNamespacedKey() {
+        return manager.setShort(shortKey, shortValue);
+    }
+
+    @Benchmark
+    public DataManager shortStringKey() {
+        return manager.setShort(shortKeyString, shortValue);
+    }
+
+    @Benchmark
+    public DataManager integerNamespacedKey() {
+        return manager.setInteger(integerKey, integerValue);
+    }
+
+    @Benchmark
+    public DataManager integerStringKey() {
+        return manager.setInteger(integerKeyString, integerValue);
+    }
+
+    @Benchmark
+    public DataManager longNamespacedKey() {
+        return manager.setLong(longKey, longValue);
+    }
+
+    @Benchmark
+    public DataManager longStringKey() {
+        return manager.setLong(longKeyString, longValue);
+    }
+
+    @Benchmark
+    public DataManager floatNamespacedKey() {
+        return manager.setFloat(floatKey, floatValue);
+    }
+
+    @Benchmark
+    public DataManager floatStringKey() {
+        return manager.setFloat(floatKeyString, floatValue);
+    }
+
+    @Benchmark
+    public DataManager doubleNamespacedKey() {
+        return manager.setDouble(doubleKey, doubleValue);
+    }
+
+    @Benchmark
+    public DataManager doubleStringKey() {
+        return manager.setDouble(doubleKeyString, doubleValue);
+    }
+
+    @Benchmark
+    public DataManager booleanNamespacedKey() {
+        return manager.setBoolean(booleanKey, booleanValue);
+    }
+
+    @Benchmark
+    public DataManager booleanStringKey() {
+        return manager.setBoolean(booleanKeyString, booleanValue);
+    }
+
+    @Benchmark
+    public DataManager stringNamespacedKey() {
+        return manager.setString(stringKey, stringValue);
+    }
+
+    @Benchmark
+    public DataManager stringStringKey() {
+        return manager.setString(stringKeyString, stringValue);
+    }
+
+    @Benchmark
+    public DataManager byteArrayNamespacedKey() {
+        return manager.setByteArray(byteArrayKey, byteArrayValue);
+    }
+
+    @Benchmark
+    public DataManager byteArrayStringKey() {
+        return manager.setByteArray(byteArrayKeyString, byteArrayValue);
+    }
+
+    @Benchmark
+    public DataManager integerArrayNamespacedKey() {
+        return manager.setIntegerArray(integerArrayKey, integerArrayValue);
+    }
+
+    @Benchmark
+    public DataManager integerArrayStringKey() {
+        return manager.setIntegerArray(integerArrayKeyString, integerArrayValue);
+    }
+
+    @Benchmark
+    public DataManager longArrayNamespacedKey() {
+        return manager.setLongArray(longArrayKey, longArrayValue);
+    }
+
+    @Benchmark
+    public DataManager longArrayStringKey() {
+        return manager.setLongArray(longArrayKeyString, longArrayValue);
+    }
+
+    @Benchmark
+    public DataManager containerNamespacedKey() {
+        return manager.setContainer(containerKey, containerValue);
+    }
+
+    @Benchmark
+    public DataManager containerStringKey() {
+        return manager.setContainer(containerKeyString, containerValue);
+    }
+}
@@ -0,0 +1,154 @@
+package ru.vladislav117.mcdata;
+
+import org.bukkit.persistence.PersistentDataContainer;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+import ru.vladislav117.mcdata.concurrent.ConcurrentDataBackend;
+import ru.vladislav117.mcdata.key.KeyCache;
+import ru.vladislav117.mcdata.tracking.DataDelta;
+
+/**
+ * Менеджер данных, который можно читать и изменять из любых потоков.
+ * Работает над потокобезопасным зеркалом исходного хранилища (см. ConcurrentDataBackend):
+ * чтение не блокирует поток-владелец, а записи попадают в исходное хранилище при вызове flush() в потоке-владельце.
+ * Записи по пути (DataPath) выполняются под блокировкой полосы первой части пути и не теряют друг друга.
+ * Представления withNamespace() и withPrefix() тоже являются ConcurrentDataManager и работают с тем же зеркалом.
+ * Менеджер должен создаваться в потоке, владеющем исходным хранилищем.
+ */
+public class ConcurrentDataManager extends DataManager {
+    protected final ConcurrentDataBackend concurrentBackend;
+
+    /**
+     * Создание менеджера данных над зеркалом.
+     *
+     * @param backend Хранилище-зеркало
+     * @param namespace Пространство имён
+     */
+    public ConcurrentDataManager(ConcurrentDataBackend backend, String namespace) {
+        super(backend, namespace);
+        this.concurrentBackend = backend;
+    }
+
+    /**
+     * Создание менеджера данных над зеркалом хранилища.
+     *
+     * @param source Исходное хранилище
+     * @param namespace Пространство имён
+     */
+    public ConcurrentDataManager(DataBackend source, String namespace) {
+        this(new ConcurrentDataBackend(source), namespace);
+    }
+
+    /**
+     * Создание менеджера данных над зеркалом контейнера.
+     *
+     * @param container Контейнер
+     * @param namespace Пространство имён
+     */
+    public ConcurrentDataManager(PersistentDataContainer container, String namespace) {
+        this(new ConcurrentDataBackend(new PersistentDataContainerBackend(container)), namespace);
+    }
+
+    /**
+     * Создание менеджера данных над зеркалом контейнера.
+     *
+     * @param container Контейнер
+     */
+    public ConcurrentDataManager(PersistentDataContainer container) {
+        this(container, getDefaultNamespace());
+    }
+
+    /**
+     * Создание представления другого менеджера данных над тем же зеркалом с кэшем ключей.
+     *
+     * @param source Исходный менеджер данных
+     * @param keyCache Кэш ключей
+     */
+    protected ConcurrentDataManager(ConcurrentDataManager source, KeyCache keyCache) {
+        super(source, keyCache);
+        this.concurrentBackend = source.concurrentBackend;
+    }
+
+    /**
+     * Получение хранилища-зеркала.
+     *
+     * @return Хранилище-зеркало.
+     */
+    public ConcurrentDataBackend getConcurrentBackend() {
+        return concurrentBackend;
+    }
+
+    /**
+     * Перенос записей в исходное хранилище.
+     *
+     * @throws IllegalStateException Если метод вызван не в потоке-владельце, будет вызвано исключение.
+     */
+    public void flush() {
+        concurrentBackend.flush();
+    }
+
+    /**
+     * Повторное копирование значений исходного хранилища в зеркало.
+     *
+     * @throws IllegalStateException Если метод вызван не в потоке-владельце, будет вызвано исключение.
+     */
+    public void reload() {
+        concurrentBackend.reload();
+    }
+
+    @Override
+    public ConcurrentDataManager withNamespace(String namespace) {
+        return (ConcurrentDataManager) super.withNamespace(namespace);
+    }
+
+    @Override
+    public ConcurrentDataManager withPrefix(String prefix) {
+        return (ConcurrentDataManager) super.withPrefix(prefix);
+    }
+
+    @Override
+    protected ConcurrentDataManager createView(KeyCache keyCache) {
+        return new ConcurrentDataManager(this, keyCache);
+    }
+
+    /**
+     * Включение отслеживания изменённых ключей.
+     * Ключи запоминаются, когда записи переносятся в исходное хранилище (см. ConcurrentDataBackend.trackDirty()).
+     *
+     * @return Этот же менеджер.
+     * @throws IllegalStateException Если метод вызван не в потоке-владельце, будет вызвано исключение.
+     */
+    @Override
+    public ConcurrentDataManager trackDirty() {
+        if (chain.dirtyTracking == null) chain.dirtyTracking = concurrentBackend.trackDirty();
+        return this;
+    }
+
+    /**
+     * Выборка изменений с момента предыдущей выборки.
+     * Перед выборкой записи переносятся в исходное хранилище.
+     *
+     * @return Изменения хранилища.
+     * @throws IllegalStateException Если отслеживание не включено или метод вызван не в потоке-владельце, будет вызвано исключение.
+     */
+    @Override
+    public DataDelta drainDirty() {
+        if (chain.dirtyTracking != null) flush();
+        return super.drainDirty();
+    }
+
+    /**
+     * Включение индекса ключей.
+     * Индекс потокобезопасен над зеркалом. Включение выполняется под блокировкой цепочки хранилищ, общей с представлениями,
+     * поэтому одновременные вызовы из разных потоков создают один индекс.
+     *
+     * @return Этот же менеджер.
+     */
+    @Override
+    public ConcurrentDataManager indexKeys() {
+        synchronized (chain) {
+            super.indexKeys();
+        }
+        return this;
+    }
+}
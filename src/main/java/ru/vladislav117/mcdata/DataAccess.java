@@ -0,0 +1,42 @@
+package ru.vladislav117.mcdata;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.error.DataManagerError;
+import ru.vladislav117.mcdata.error.DataManagerKeyError;
+import ru.vladislav117.mcdata.error.DataManagerTypeError;
+import ru.vladislav117.mcdata.result.ReadStatus;
+
+/**
+ * Низкоуровневый доступ к хранилищу, используемый сгенерированными методами менеджера данных.
+ */
+public final class DataAccess {
+    private DataAccess() {
+    }
+
+    /**
+     * Создание ошибки для случая, когда значение по ключу не было получено.
+     * Отсутствие ключа и неправильный тип различаются только здесь, уже после неудачного чтения.
+     *
+     * @param backend Хранилище данных
+     * @param key Ключ
+     * @param type Ожидаемый тип значения
+     * @return Ошибка отсутствия ключа или несовпадения типов.
+     */
+    public static DataManagerError missingOrWrongType(DataBackend backend, NamespacedKey key, PersistentDataType<?, ?> type) {
+        if (!backend.has(key)) return new DataManagerKeyError(key, type);
+        return new DataManagerTypeError(key, type);
+    }
+
+    /**
+     * Получение результата чтения для случая, когда значение по ключу не было получено.
+     *
+     * @param backend Хранилище данных
+     * @param key Ключ
+     * @return MISSING или WRONG_TYPE.
+     */
+    public static ReadStatus getFailedReadStatus(DataBackend backend, NamespacedKey key) {
+        return backend.has(key) ? ReadStatus.WRONG_TYPE : ReadStatus.MISSING;
+    }
+}
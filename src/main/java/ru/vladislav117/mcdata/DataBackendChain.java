@@ -0,0 +1,36 @@
+package ru.vladislav117.mcdata;
+
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.tracking.DirtyTrackingBackend;
+import ru.vladislav117.mcdata.tracking.KeyIndexBackend;
+
+/**
+ * Цепочка хранилищ менеджера данных.
+ * Общая для менеджера и всех его представлений (см. DataManager.withNamespace(), DataManager.withPrefix()),
+ * поэтому обёртки, добавленные через любой из них, действуют для всех.
+ * Поля изменяемы и видимы всем потокам, так как представления потокобезопасного менеджера используются из разных потоков.
+ */
+public class DataBackendChain {
+    protected volatile DataBackend backend;
+    protected volatile @Nullable DirtyTrackingBackend dirtyTracking;
+    protected volatile @Nullable KeyIndexBackend keyIndex;
+
+    /**
+     * Создание цепочки хранилищ.
+     *
+     * @param backend Хранилище данных
+     */
+    public DataBackendChain(DataBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Получение внешнего хранилища цепочки.
+     *
+     * @return Хранилище данных.
+     */
+    public DataBackend getBackend() {
+        return backend;
+    }
+}
@@ -1,93 +1,5702 @@
 package ru.vladislav117.mcdata;
 
+import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.adapter.DataAdapters;
+import ru.vladislav117.mcdata.adapter.EnumDataType;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.KeyVisitor;
+import ru.vladislav117.mcdata.backend.MergePolicy;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+import ru.vladislav117.mcdata.backend.SnapshotDataBackend;
+import ru.vladislav117.mcdata.collection.DataLists;
+import ru.vladislav117.mcdata.collection.StringMapDataType;
 import ru.vladislav117.mcdata.error.DataManagerKeyError;
 import ru.vladislav117.mcdata.error.DataManagerTypeError;
+import ru.vladislav117.mcdata.io.ByteBufferPool;
+import ru.vladislav117.mcdata.io.DataCompression;
+import ru.vladislav117.mcdata.io.DataSerializer;
+import ru.vladislav117.mcdata.jfr.DataEvents;
+import ru.vladislav117.mcdata.key.DataKey;
+import ru.vladislav117.mcdata.key.DataPath;
+import ru.vladislav117.mcdata.key.KeyCache;
+import ru.vladislav117.mcdata.key.KeyFilters;
+import ru.vladislav117.mcdata.result.BooleanResult;
+import ru.vladislav117.mcdata.result.ByteResult;
+import ru.vladislav117.mcdata.result.DoubleResult;
+import ru.vladislav117.mcdata.result.FloatResult;
+import ru.vladislav117.mcdata.result.IntegerResult;
+import ru.vladislav117.mcdata.result.LongResult;
+import ru.vladislav117.mcdata.result.ReadStatus;
+import ru.vladislav117.mcdata.result.ShortResult;
+import ru.vladislav117.mcdata.tracking.DataDelta;
+import ru.vladislav117.mcdata.tracking.DirtyTrackingBackend;
+import ru.vladislav117.mcdata.tracking.KeyIndexBackend;
+import ru.vladislav117.mcdata.transaction.DataTransaction;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
- * Менеджер данных для PersistentDataContainer.
+ * Менеджер данных для PersistentDataContainer и других хранилищ данных.
  */
 public class DataManager {
-    static String defaultNamespace = "minecraft";
+    static volatile String defaultNamespace = "minecraft";
     protected String namespace;
-    protected PersistentDataContainer container;
+    protected DataBackendChain chain;
+    protected KeyCache keyCache;
+
+    /**
+     * Создание менеджера данных.
+     * Если включены события Java Flight Recorder (см. DataEvents), хранилище оборачивается в хранилище, записывающее события.
+     *
+     * @param backend Хранилище данных
+     * @param namespace Пространство имён
+     */
+    public DataManager(DataBackend backend, String namespace) {
+        this.chain = new DataBackendChain(DataEvents.wrap(backend));
+        this.namespace = namespace;
+        this.keyCache = KeyCache.of(namespace);
+    }
+
+    /**
+     * Создание менеджера данных.
+     *
+     * @param backend Хранилище данных
+     */
+    public DataManager(DataBackend backend) {
+        this(backend, defaultNamespace);
+    }
+
+    /**
+     * Создание менеджера данных.
+     *
+     * @param container Контейнер
+     * @param namespace Пространство имён
+     */
+    public DataManager(PersistentDataContainer container, String namespace) {
+        this(new PersistentDataContainerBackend(container), namespace);
+    }
 
     /**
      * Создание менеджера данных.
      *
      * @param container Контейнер
+     */
+    public DataManager(PersistentDataContainer container) {
+        this(new PersistentDataContainerBackend(container), defaultNamespace);
+    }
+
+    /**
+     * Создание менеджера данных с кэшем ключей.
+     * Пространство имён и префикс строковых ключей берутся из кэша.
+     *
+     * @param backend Хранилище данных
+     * @param keyCache Кэш ключей
+     */
+    public DataManager(DataBackend backend, KeyCache keyCache) {
+        this.chain = new DataBackendChain(DataEvents.wrap(backend));
+        this.namespace = keyCache.getNamespace();
+        this.keyCache = keyCache;
+    }
+
+    /**
+     * Создание представления другого менеджера данных с кэшем ключей.
+     * Представление использует общую с исходным менеджером цепочку хранилищ (см. DataBackendChain),
+     * поэтому отслеживание изменённых ключей и индекс ключей, включённые позже через любой из них, действуют для обоих.
+     *
+     * @param source Исходный менеджер данных
+     * @param keyCache Кэш ключей
+     */
+    public DataManager(DataManager source, KeyCache keyCache) {
+        this.chain = source.chain;
+        this.namespace = keyCache.getNamespace();
+        this.keyCache = keyCache;
+    }
+
+    /**
+     * Получение пространства имён по умолчанию.
+     *
+     * @return Пространство имён по умолчанию.
+     */
+    public static String getDefaultNamespace() {
+        return defaultNamespace;
+    }
+
+    /**
+     * Установка пространства имён по умолчанию.
+     *
+     * @param defaultNamespace Пространство имён по умолчанию
+     */
+    public static void setDefaultNamespace(String defaultNamespace) {
+        DataManager.defaultNamespace = defaultNamespace;
+    }
+
+    /**
+     * Получение хранилища данных менеджера.
+     *
+     * @return Хранилище данных.
+     */
+    public DataBackend getBackend() {
+        return chain.backend;
+    }
+
+    /**
+     * Получение пространства имён менеджера.
+     *
+     * @return Пространство имён.
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Получение кэша ключей пространства имён менеджера.
+     * Кэш используется методами со строковыми ключами.
+     *
+     * @return Кэш ключей.
+     */
+    public KeyCache getKeyCache() {
+        return keyCache;
+    }
+
+    /**
+     * Проверка наличия ключа.
+     *
+     * @param key Ключ
+     * @return Наличие ключа.
+     */
+    public boolean contains(NamespacedKey key) {
+        return chain.backend.has(key);
+    }
+
+    /**
+     * Проверка наличия ключа.
+     *
+     * @param keyString Ключ
+     * @return Наличие ключа.
+     */
+    public boolean contains(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key);
+    }
+
+    /**
+     * Проверка наличия значения по пути во вложенных контейнерах.
+     *
+     * @param path Путь
+     * @return Наличие значения.
+     */
+    public boolean contains(DataPath path) {
+        return path.getParent(chain.backend, keyCache).has(path.getKey(keyCache));
+    }
+
+    /**
+     * Удаление значения по ключу.
+     *
+     * @param key Ключ
+     * @return Этот же менеджер.
+     */
+    public DataManager remove(NamespacedKey key) {
+        chain.backend.remove(key);
+        return this;
+    }
+
+    /**
+     * Удаление значения по ключу.
+     *
+     * @param keyString Ключ
+     * @return Этот же менеджер.
+     */
+    public DataManager remove(String keyString) {
+        chain.backend.remove(keyCache.get(keyString));
+        return this;
+    }
+
+    /**
+     * Удаление значения по пути во вложенных контейнерах.
+     * Промежуточные контейнеры не удаляются.
+     *
+     * @param path Путь
+     * @return Этот же менеджер.
+     */
+    public DataManager remove(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.remove(key));
+        return this;
+    }
+
+    /**
+     * Проверка значения по типизированному ключу на тип ключа.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Типизированный ключ
+     * @return Является ли значение по ключу значением типа ключа.
+     */
+    public boolean has(DataKey<?, ?> key) {
+        return chain.backend.has(key.getKey(), key.getType());
+    }
+
+    /**
+     * Получение значения по типизированному ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Типизированный ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public <P, C> C get(DataKey<P, C> key) {
+        C value = chain.backend.get(key.getKey(), key.getType());
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key.getKey(), key.getType());
+        return value;
+    }
+
+    /**
+     * Получение значения по типизированному ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Типизированный ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable <P, C> C getOrNull(DataKey<P, C> key) {
+        return chain.backend.get(key.getKey(), key.getType());
+    }
+
+    /**
+     * Получение значения по типизированному ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию ключа.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию ключа.
+     *
+     * @param key Типизированный ключ
+     * @return Значение по ключу или значение по умолчанию ключа.
+     */
+    public @Nullable <P, C> C getOrDefault(DataKey<P, C> key) {
+        C value = chain.backend.get(key.getKey(), key.getType());
+        if (value == null) return key.getDefaultValue();
+        return value;
+    }
+
+    /**
+     * Получение значения по типизированному ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Типизированный ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public <P, C> C getOrDefault(DataKey<P, C> key, C defaultValue) {
+        C value = chain.backend.get(key.getKey(), key.getType());
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка значения по типизированному ключу.
+     *
+     * @param key Типизированный ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public <P, C> DataManager set(DataKey<P, C> key, C value) {
+        chain.backend.set(key.getKey(), key.getType(), value);
+        return this;
+    }
+
+    /**
+     * Удаление значения по типизированному ключу.
+     *
+     * @param key Типизированный ключ
+     * @return Этот же менеджер.
+     */
+    public <P, C> DataManager remove(DataKey<P, C> key) {
+        chain.backend.remove(key.getKey());
+        return this;
+    }
+
+    /**
+     * Получение префикса строковых ключей менеджера.
+     *
+     * @return Префикс ключей или пустая строка.
+     */
+    public String getPrefix() {
+        return keyCache.getPrefix();
+    }
+
+    /**
+     * Получение представления менеджера в другом пространстве имён.
+     * Представление работает с тем же хранилищем без копирования данных и использует общий кэш ключей пространства имён
+     * (или собственный небольшой кэш, если у менеджера есть префикс).
+     * Префикс строковых ключей сохраняется.
+     *
      * @param namespace Пространство имён
+     * @return Представление менеджера или этот же менеджер, если пространство имён совпадает.
+     */
+    public DataManager withNamespace(String namespace) {
+        if (namespace.equals(this.namespace)) return this;
+        return createView(KeyCache.of(namespace, keyCache.getPrefix()));
+    }
+
+    /**
+     * Получение представления менеджера, добавляющего префикс к строковым ключам.
+     * Префикс дописывается к префиксу этого менеджера и применяется к строковым ключам и сегментам путей;
+     * NamespacedKey и типизированные ключи не изменяются.
+     * Представление работает с тем же хранилищем без копирования данных и использует собственный небольшой кэш ключей,
+     * который освобождается вместе с представлением.
+     *
+     * @param prefix Префикс ключей, например "quest."
+     * @return Представление менеджера или этот же менеджер для пустого префикса.
+     */
+    public DataManager withPrefix(String prefix) {
+        if (prefix.isEmpty()) return this;
+        return createView(KeyCache.of(namespace, keyCache.getPrefix() + prefix));
+    }
+
+    /**
+     * Создание представления этого менеджера с другим кэшем ключей.
+     * Наследники переопределяют метод, чтобы представления имели их тип.
+     *
+     * @param keyCache Кэш ключей
+     * @return Представление менеджера.
+     */
+    protected DataManager createView(KeyCache keyCache) {
+        return new DataManager(this, keyCache);
+    }
+
+    /**
+     * Начало транзакции.
+     * Записи через менеджер транзакции накапливаются и применяются к хранилищу одним проходом при фиксации.
+     *
+     * @return Транзакция.
+     */
+    public DataTransaction transaction() {
+        return new DataTransaction(this);
+    }
+
+    /**
+     * Выполнение действия в транзакции.
+     * Если действие завершилось исключением, изменения будут отменены.
+     *
+     * @param action Действие над менеджером данных транзакции
+     * @return Этот же менеджер.
+     */
+    public DataManager batch(Consumer<DataManager> action) {
+        new DataTransaction(this).run(action);
+        return this;
+    }
+
+    /**
+     * Создание неизменяемого снимка данных.
+     * Все значения копируются один раз, после чего снимок можно читать из любых потоков.
+     * Запись в менеджер снимка вызывает UnsupportedOperationException.
+     *
+     * @return Менеджер данных снимка.
+     */
+    public DataManager snapshot() {
+        return new DataManager(new SnapshotDataBackend(chain.backend), keyCache);
+    }
+
+    /**
+     * Копирование всех значений в другой менеджер с заменой существующих.
+     * Если оба менеджера работают над PersistentDataContainer, используется встроенное копирование контейнера.
+     *
+     * @param target Менеджер, в который копируются значения
+     * @return Этот же менеджер.
+     */
+    public DataManager copyTo(DataManager target) {
+        if (target.chain.backend != chain.backend) chain.backend.copyTo(target.chain.backend);
+        return this;
+    }
+
+    /**
+     * Копирование значений с подходящими ключами в другой менеджер с заменой существующих.
+     * Значения копируются без преобразования в объекты менеджера данных.
+     *
+     * @param target Менеджер, в который копируются значения
+     * @param filter Фильтр ключей (см. KeyFilters)
+     * @return Этот же менеджер.
+     */
+    public DataManager copyTo(DataManager target, Predicate<NamespacedKey> filter) {
+        if (target.chain.backend != chain.backend) chain.backend.copyTo(target.chain.backend, filter);
+        return this;
+    }
+
+    /**
+     * Слияние всех значений другого менеджера с этим менеджером.
+     *
+     * @param source Менеджер, из которого берутся значения
+     * @param policy Политика разрешения конфликтов
+     * @return Этот же менеджер.
+     */
+    public DataManager mergeFrom(DataManager source, MergePolicy policy) {
+        if (source.chain.backend != chain.backend) source.chain.backend.mergeTo(chain.backend, KeyFilters.all(), policy);
+        return this;
+    }
+
+    /**
+     * Слияние значений другого менеджера с подходящими ключами с этим менеджером.
+     *
+     * @param source Менеджер, из которого берутся значения
+     * @param filter Фильтр ключей (см. KeyFilters)
+     * @param policy Политика разрешения конфликтов
+     * @return Этот же менеджер.
+     */
+    public DataManager mergeFrom(DataManager source, Predicate<NamespacedKey> filter, MergePolicy policy) {
+        if (source.chain.backend != chain.backend) source.chain.backend.mergeTo(chain.backend, filter, policy);
+        return this;
+    }
+
+    /**
+     * Получение размера сериализованных данных без их записи.
+     *
+     * @return Размер в байтах.
+     */
+    public int serializedSize() {
+        return DataSerializer.getSerializedSize(chain.backend);
+    }
+
+    /**
+     * Запись всех значений в буфер с текущей позиции.
+     * Значения пишутся прямо из хранилища, без промежуточных массивов.
+     *
+     * @param buffer Буфер, в котором не меньше serializedSize() свободных байтов
+     * @return Этот же менеджер.
+     */
+    public DataManager writeTo(ByteBuffer buffer) {
+        DataSerializer.write(chain.backend, buffer);
+        return this;
+    }
+
+    /**
+     * Запись всех значений в прямой буфер из общего пула.
+     * Буфер возвращается готовым к чтению; после использования его следует вернуть в ByteBufferPool.getDefault().
+     *
+     * @return Буфер с данными.
+     */
+    public ByteBuffer writeToPooled() {
+        return DataSerializer.writeToPooled(chain.backend, ByteBufferPool.getDefault());
+    }
+
+    /**
+     * Чтение значений из буфера с текущей позиции.
+     * Прочитанные значения заменяют существующие.
+     *
+     * @param buffer Буфер
+     * @return Этот же менеджер.
+     */
+    public DataManager readFrom(ByteBuffer buffer) {
+        DataSerializer.read(buffer, chain.backend);
+        return this;
+    }
+
+    /**
+     * Включение отслеживания изменённых ключей.
+     * После включения записи и удаления через этот менеджер и его представления запоминаются до следующей выборки drainDirty().
+     * Повторный вызов ничего не делает.
+     *
+     * @return Этот же менеджер.
+     */
+    public DataManager trackDirty() {
+        if (chain.dirtyTracking == null) chain.backend = chain.dirtyTracking = new DirtyTrackingBackend(chain.backend);
+        return this;
+    }
+
+    /**
+     * Проверка включённости отслеживания изменённых ключей.
+     *
+     * @return Включено ли отслеживание.
+     */
+    public boolean isTrackingDirty() {
+        return chain.dirtyTracking != null;
+    }
+
+    /**
+     * Выборка изменений с момента предыдущей выборки.
+     * Возвращаются только изменённые ключи с их текущими значениями и удалённые ключи.
+     * Значения типов, не входящих в основной набор, в PersistentDataContainer не выбираются.
+     *
+     * @return Изменения.
+     * @throws IllegalStateException Если отслеживание изменённых ключей не включено, будет вызвано исключение.
+     */
+    public DataDelta drainDirty() {
+        if (chain.dirtyTracking == null) throw new IllegalStateException("Dirty tracking is not enabled");
+        return chain.dirtyTracking.drain();
+    }
+
+    /**
+     * Включение кэшированного индекса ключей по пространствам имён.
+     * После включения forEachKey() для пространства имён обходит готовый индекс, который перестраивается после записей через этот менеджер.
+     * Повторный вызов ничего не делает.
+     *
+     * @return Этот же менеджер.
+     */
+    public DataManager indexKeys() {
+        if (chain.keyIndex == null) chain.backend = chain.keyIndex = new KeyIndexBackend(chain.backend);
+        return this;
+    }
+
+    /**
+     * Проверка включённости индекса ключей.
+     *
+     * @return Включён ли индекс.
+     */
+    public boolean isIndexingKeys() {
+        return chain.keyIndex != null;
+    }
+
+    /**
+     * Обход ключей пространства имён вместе с видами значений за один проход.
+     * Хранилища в памяти и индекс ключей (см. indexKeys()) обходят ключи без выделения памяти.
+     *
+     * @param namespace Пространство имён
+     * @param visitor Обходчик ключей
+     */
+    public void forEachKey(String namespace, KeyVisitor visitor) {
+        chain.backend.forEachKey(namespace, visitor);
+    }
+
+    /**
+     * Обход ключей пространства имён менеджера вместе с видами значений за один проход.
+     *
+     * @param visitor Обходчик ключей
+     */
+    public void forEachKey(KeyVisitor visitor) {
+        chain.backend.forEachKey(namespace, visitor);
+    }
+
+    /**
+     * Проверка значения по ключу на тип Byte.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Byte.
+     */
+    public boolean isByte(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte getByte(NamespacedKey key) {
+        byte value = chain.backend.getByte(key, (byte) 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.BYTE)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BYTE);
+        return value;
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Byte getByteOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Byte getByteOrDefault(NamespacedKey key, Byte defaultValue) {
+        Byte value = chain.backend.get(key, PersistentDataType.BYTE);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Byte значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte getByteOrDefault(NamespacedKey key, byte defaultValue) {
+        return chain.backend.getByte(key, defaultValue);
+    }
+
+    /**
+     * Чтение Byte значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param key Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(NamespacedKey key, ByteResult result) {
+        byte value = chain.backend.getByte(key, (byte) 0);
+        if (value == (byte) 0 && !chain.backend.has(key, PersistentDataType.BYTE)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Byte значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByte(NamespacedKey key, byte value) {
+        chain.backend.setByte(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Byte.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Byte.
+     */
+    public boolean isByte(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte getByte(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        byte value = chain.backend.getByte(key, (byte) 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.BYTE)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BYTE);
+        return value;
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Byte getByteOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Byte getByteOrDefault(String keyString, Byte defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Byte value = chain.backend.get(key, PersistentDataType.BYTE);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Byte значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte getByteOrDefault(String keyString, byte defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.getByte(key, defaultValue);
+    }
+
+    /**
+     * Чтение Byte значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param keyString Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(String keyString, ByteResult result) {
+        NamespacedKey key = keyCache.get(keyString);
+        byte value = chain.backend.getByte(key, (byte) 0);
+        if (value == (byte) 0 && !chain.backend.has(key, PersistentDataType.BYTE)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Byte значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByte(String keyString, byte value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setByte(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Byte.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Byte.
+     */
+    public boolean isByte(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte getByte(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        byte value = container.getByte(key, (byte) 0);
+        if (value == 0 && !container.has(key, PersistentDataType.BYTE)) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.BYTE);
+        return value;
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Byte getByteOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Byte getByteOrDefault(DataPath path, Byte defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Byte value = container.get(key, PersistentDataType.BYTE);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Byte значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte getByteOrDefault(DataPath path, byte defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.getByte(key, defaultValue);
+    }
+
+    /**
+     * Чтение Byte значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(DataPath path, ByteResult result) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        byte value = container.getByte(key, (byte) 0);
+        if (value == (byte) 0 && !container.has(key, PersistentDataType.BYTE)) return result.fail(DataAccess.getFailedReadStatus(container, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Byte значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByte(DataPath path, byte value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setByte(key, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Short.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Short.
+     */
+    public boolean isShort(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.SHORT);
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public short getShort(NamespacedKey key) {
+        short value = chain.backend.getShort(key, (short) 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.SHORT)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.SHORT);
+        return value;
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Short getShortOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.SHORT);
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Short getShortOrDefault(NamespacedKey key, Short defaultValue) {
+        Short value = chain.backend.get(key, PersistentDataType.SHORT);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Short значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public short getShortOrDefault(NamespacedKey key, short defaultValue) {
+        return chain.backend.getShort(key, defaultValue);
+    }
+
+    /**
+     * Чтение Short значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param key Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(NamespacedKey key, ShortResult result) {
+        short value = chain.backend.getShort(key, (short) 0);
+        if (value == (short) 0 && !chain.backend.has(key, PersistentDataType.SHORT)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Short значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setShort(NamespacedKey key, short value) {
+        chain.backend.setShort(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Short.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Short.
+     */
+    public boolean isShort(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.SHORT);
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public short getShort(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        short value = chain.backend.getShort(key, (short) 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.SHORT)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.SHORT);
+        return value;
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Short getShortOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.SHORT);
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Short getShortOrDefault(String keyString, Short defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Short value = chain.backend.get(key, PersistentDataType.SHORT);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Short значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public short getShortOrDefault(String keyString, short defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.getShort(key, defaultValue);
+    }
+
+    /**
+     * Чтение Short значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param keyString Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(String keyString, ShortResult result) {
+        NamespacedKey key = keyCache.get(keyString);
+        short value = chain.backend.getShort(key, (short) 0);
+        if (value == (short) 0 && !chain.backend.has(key, PersistentDataType.SHORT)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Short значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setShort(String keyString, short value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setShort(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Short.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Short.
+     */
+    public boolean isShort(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.SHORT);
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public short getShort(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        short value = container.getShort(key, (short) 0);
+        if (value == 0 && !container.has(key, PersistentDataType.SHORT)) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.SHORT);
+        return value;
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Short getShortOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.SHORT);
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Short getShortOrDefault(DataPath path, Short defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Short value = container.get(key, PersistentDataType.SHORT);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Short значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public short getShortOrDefault(DataPath path, short defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.getShort(key, defaultValue);
+    }
+
+    /**
+     * Чтение Short значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(DataPath path, ShortResult result) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        short value = container.getShort(key, (short) 0);
+        if (value == (short) 0 && !container.has(key, PersistentDataType.SHORT)) return result.fail(DataAccess.getFailedReadStatus(container, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Short значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setShort(DataPath path, short value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setShort(key, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Integer.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Integer.
+     */
+    public boolean isInteger(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int getInteger(NamespacedKey key) {
+        int value = chain.backend.getInteger(key, 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.INTEGER)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.INTEGER);
+        return value;
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Integer getIntegerOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Integer getIntegerOrDefault(NamespacedKey key, Integer defaultValue) {
+        Integer value = chain.backend.get(key, PersistentDataType.INTEGER);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Integer значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int getIntegerOrDefault(NamespacedKey key, int defaultValue) {
+        return chain.backend.getInteger(key, defaultValue);
+    }
+
+    /**
+     * Чтение Integer значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param key Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(NamespacedKey key, IntegerResult result) {
+        int value = chain.backend.getInteger(key, 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.INTEGER)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Integer значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setInteger(NamespacedKey key, int value) {
+        chain.backend.setInteger(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Integer.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Integer.
+     */
+    public boolean isInteger(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int getInteger(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        int value = chain.backend.getInteger(key, 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.INTEGER)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.INTEGER);
+        return value;
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Integer getIntegerOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Integer getIntegerOrDefault(String keyString, Integer defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Integer value = chain.backend.get(key, PersistentDataType.INTEGER);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Integer значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int getIntegerOrDefault(String keyString, int defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.getInteger(key, defaultValue);
+    }
+
+    /**
+     * Чтение Integer значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param keyString Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(String keyString, IntegerResult result) {
+        NamespacedKey key = keyCache.get(keyString);
+        int value = chain.backend.getInteger(key, 0);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.INTEGER)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Integer значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setInteger(String keyString, int value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setInteger(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Integer.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Integer.
+     */
+    public boolean isInteger(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int getInteger(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        int value = container.getInteger(key, 0);
+        if (value == 0 && !container.has(key, PersistentDataType.INTEGER)) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.INTEGER);
+        return value;
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Integer getIntegerOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Integer getIntegerOrDefault(DataPath path, Integer defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Integer value = container.get(key, PersistentDataType.INTEGER);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Integer значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int getIntegerOrDefault(DataPath path, int defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.getInteger(key, defaultValue);
+    }
+
+    /**
+     * Чтение Integer значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(DataPath path, IntegerResult result) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        int value = container.getInteger(key, 0);
+        if (value == 0 && !container.has(key, PersistentDataType.INTEGER)) return result.fail(DataAccess.getFailedReadStatus(container, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Integer значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setInteger(DataPath path, int value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setInteger(key, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Long.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Long.
+     */
+    public boolean isLong(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.LONG);
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long getLong(NamespacedKey key) {
+        long value = chain.backend.getLong(key, 0L);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.LONG)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.LONG);
+        return value;
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Long getLongOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.LONG);
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Long getLongOrDefault(NamespacedKey key, Long defaultValue) {
+        Long value = chain.backend.get(key, PersistentDataType.LONG);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Long значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long getLongOrDefault(NamespacedKey key, long defaultValue) {
+        return chain.backend.getLong(key, defaultValue);
+    }
+
+    /**
+     * Чтение Long значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param key Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(NamespacedKey key, LongResult result) {
+        long value = chain.backend.getLong(key, 0L);
+        if (value == 0L && !chain.backend.has(key, PersistentDataType.LONG)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Long значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLong(NamespacedKey key, long value) {
+        chain.backend.setLong(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Long.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Long.
+     */
+    public boolean isLong(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.LONG);
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long getLong(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        long value = chain.backend.getLong(key, 0L);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.LONG)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.LONG);
+        return value;
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Long getLongOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.LONG);
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Long getLongOrDefault(String keyString, Long defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Long value = chain.backend.get(key, PersistentDataType.LONG);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Long значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long getLongOrDefault(String keyString, long defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.getLong(key, defaultValue);
+    }
+
+    /**
+     * Чтение Long значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param keyString Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(String keyString, LongResult result) {
+        NamespacedKey key = keyCache.get(keyString);
+        long value = chain.backend.getLong(key, 0L);
+        if (value == 0L && !chain.backend.has(key, PersistentDataType.LONG)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Long значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLong(String keyString, long value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setLong(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Long.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Long.
+     */
+    public boolean isLong(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.LONG);
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long getLong(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        long value = container.getLong(key, 0L);
+        if (value == 0 && !container.has(key, PersistentDataType.LONG)) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.LONG);
+        return value;
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Long getLongOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.LONG);
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Long getLongOrDefault(DataPath path, Long defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Long value = container.get(key, PersistentDataType.LONG);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Long значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long getLongOrDefault(DataPath path, long defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.getLong(key, defaultValue);
+    }
+
+    /**
+     * Чтение Long значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(DataPath path, LongResult result) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        long value = container.getLong(key, 0L);
+        if (value == 0L && !container.has(key, PersistentDataType.LONG)) return result.fail(DataAccess.getFailedReadStatus(container, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Long значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLong(DataPath path, long value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setLong(key, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Float.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Float.
+     */
+    public boolean isFloat(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.FLOAT);
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public float getFloat(NamespacedKey key) {
+        float value = chain.backend.getFloat(key, 0F);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.FLOAT)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.FLOAT);
+        return value;
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Float getFloatOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.FLOAT);
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Float getFloatOrDefault(NamespacedKey key, Float defaultValue) {
+        Float value = chain.backend.get(key, PersistentDataType.FLOAT);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Float значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public float getFloatOrDefault(NamespacedKey key, float defaultValue) {
+        return chain.backend.getFloat(key, defaultValue);
+    }
+
+    /**
+     * Чтение Float значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param key Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(NamespacedKey key, FloatResult result) {
+        float value = chain.backend.getFloat(key, 0F);
+        if (value == 0F && !chain.backend.has(key, PersistentDataType.FLOAT)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Float значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setFloat(NamespacedKey key, float value) {
+        chain.backend.setFloat(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Float.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Float.
+     */
+    public boolean isFloat(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.FLOAT);
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public float getFloat(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        float value = chain.backend.getFloat(key, 0F);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.FLOAT)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.FLOAT);
+        return value;
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Float getFloatOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.FLOAT);
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Float getFloatOrDefault(String keyString, Float defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Float value = chain.backend.get(key, PersistentDataType.FLOAT);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Float значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public float getFloatOrDefault(String keyString, float defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.getFloat(key, defaultValue);
+    }
+
+    /**
+     * Чтение Float значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param keyString Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(String keyString, FloatResult result) {
+        NamespacedKey key = keyCache.get(keyString);
+        float value = chain.backend.getFloat(key, 0F);
+        if (value == 0F && !chain.backend.has(key, PersistentDataType.FLOAT)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Float значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setFloat(String keyString, float value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setFloat(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Float.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Float.
+     */
+    public boolean isFloat(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.FLOAT);
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public float getFloat(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        float value = container.getFloat(key, 0F);
+        if (value == 0 && !container.has(key, PersistentDataType.FLOAT)) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.FLOAT);
+        return value;
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Float getFloatOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.FLOAT);
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Float getFloatOrDefault(DataPath path, Float defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Float value = container.get(key, PersistentDataType.FLOAT);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Float значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public float getFloatOrDefault(DataPath path, float defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.getFloat(key, defaultValue);
+    }
+
+    /**
+     * Чтение Float значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(DataPath path, FloatResult result) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        float value = container.getFloat(key, 0F);
+        if (value == 0F && !container.has(key, PersistentDataType.FLOAT)) return result.fail(DataAccess.getFailedReadStatus(container, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Float значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setFloat(DataPath path, float value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setFloat(key, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Double.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Double.
+     */
+    public boolean isDouble(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.DOUBLE);
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public double getDouble(NamespacedKey key) {
+        double value = chain.backend.getDouble(key, 0D);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.DOUBLE)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.DOUBLE);
+        return value;
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Double getDoubleOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.DOUBLE);
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Double getDoubleOrDefault(NamespacedKey key, Double defaultValue) {
+        Double value = chain.backend.get(key, PersistentDataType.DOUBLE);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Double значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public double getDoubleOrDefault(NamespacedKey key, double defaultValue) {
+        return chain.backend.getDouble(key, defaultValue);
+    }
+
+    /**
+     * Чтение Double значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param key Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(NamespacedKey key, DoubleResult result) {
+        double value = chain.backend.getDouble(key, 0D);
+        if (value == 0D && !chain.backend.has(key, PersistentDataType.DOUBLE)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Double значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setDouble(NamespacedKey key, double value) {
+        chain.backend.setDouble(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Double.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Double.
+     */
+    public boolean isDouble(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.DOUBLE);
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public double getDouble(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        double value = chain.backend.getDouble(key, 0D);
+        if (value == 0 && !chain.backend.has(key, PersistentDataType.DOUBLE)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.DOUBLE);
+        return value;
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Double getDoubleOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.DOUBLE);
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Double getDoubleOrDefault(String keyString, Double defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Double value = chain.backend.get(key, PersistentDataType.DOUBLE);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Double значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public double getDoubleOrDefault(String keyString, double defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.getDouble(key, defaultValue);
+    }
+
+    /**
+     * Чтение Double значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param keyString Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(String keyString, DoubleResult result) {
+        NamespacedKey key = keyCache.get(keyString);
+        double value = chain.backend.getDouble(key, 0D);
+        if (value == 0D && !chain.backend.has(key, PersistentDataType.DOUBLE)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Double значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setDouble(String keyString, double value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setDouble(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Double.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Double.
+     */
+    public boolean isDouble(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.DOUBLE);
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public double getDouble(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        double value = container.getDouble(key, 0D);
+        if (value == 0 && !container.has(key, PersistentDataType.DOUBLE)) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.DOUBLE);
+        return value;
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Double getDoubleOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.DOUBLE);
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Double getDoubleOrDefault(DataPath path, Double defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Double value = container.get(key, PersistentDataType.DOUBLE);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Double значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public double getDoubleOrDefault(DataPath path, double defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.getDouble(key, defaultValue);
+    }
+
+    /**
+     * Чтение Double значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(DataPath path, DoubleResult result) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        double value = container.getDouble(key, 0D);
+        if (value == 0D && !container.has(key, PersistentDataType.DOUBLE)) return result.fail(DataAccess.getFailedReadStatus(container, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Double значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setDouble(DataPath path, double value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setDouble(key, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Boolean.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Boolean.
+     */
+    public boolean isBoolean(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.BOOLEAN);
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public boolean getBoolean(NamespacedKey key) {
+        boolean value = chain.backend.getBoolean(key, false);
+        if (!value && !chain.backend.has(key, PersistentDataType.BOOLEAN)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BOOLEAN);
+        return value;
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Boolean getBooleanOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.BOOLEAN);
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Boolean getBooleanOrDefault(NamespacedKey key, Boolean defaultValue) {
+        Boolean value = chain.backend.get(key, PersistentDataType.BOOLEAN);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Boolean значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public boolean getBooleanOrDefault(NamespacedKey key, boolean defaultValue) {
+        return chain.backend.getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Чтение Boolean значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param key Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(NamespacedKey key, BooleanResult result) {
+        boolean value = chain.backend.getBoolean(key, false);
+        if (value == false && !chain.backend.has(key, PersistentDataType.BOOLEAN)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Boolean значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setBoolean(NamespacedKey key, boolean value) {
+        chain.backend.setBoolean(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Boolean.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Boolean.
+     */
+    public boolean isBoolean(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.BOOLEAN);
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public boolean getBoolean(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        boolean value = chain.backend.getBoolean(key, false);
+        if (!value && !chain.backend.has(key, PersistentDataType.BOOLEAN)) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BOOLEAN);
+        return value;
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Boolean getBooleanOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.BOOLEAN);
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Boolean getBooleanOrDefault(String keyString, Boolean defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Boolean value = chain.backend.get(key, PersistentDataType.BOOLEAN);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Boolean значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public boolean getBooleanOrDefault(String keyString, boolean defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Чтение Boolean значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param keyString Ключ
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(String keyString, BooleanResult result) {
+        NamespacedKey key = keyCache.get(keyString);
+        boolean value = chain.backend.getBoolean(key, false);
+        if (value == false && !chain.backend.has(key, PersistentDataType.BOOLEAN)) return result.fail(DataAccess.getFailedReadStatus(chain.backend, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Boolean значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setBoolean(String keyString, boolean value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setBoolean(key, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Boolean.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Boolean.
+     */
+    public boolean isBoolean(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.BOOLEAN);
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public boolean getBoolean(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        boolean value = container.getBoolean(key, false);
+        if (!value && !container.has(key, PersistentDataType.BOOLEAN)) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.BOOLEAN);
+        return value;
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable Boolean getBooleanOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.BOOLEAN);
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public Boolean getBooleanOrDefault(DataPath path, Boolean defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Boolean value = container.get(key, PersistentDataType.BOOLEAN);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Получение Boolean значения по ключу без упаковки.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public boolean getBooleanOrDefault(DataPath path, boolean defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Чтение Boolean значения по ключу в держатель результата без упаковки и исключений.
+     * Держатель можно переиспользовать между чтениями.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param result Держатель результата
+     * @return Результат чтения: PRESENT, MISSING или WRONG_TYPE.
+     */
+    public ReadStatus read(DataPath path, BooleanResult result) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        boolean value = container.getBoolean(key, false);
+        if (value == false && !container.has(key, PersistentDataType.BOOLEAN)) return result.fail(DataAccess.getFailedReadStatus(container, key));
+        return result.set(value);
+    }
+
+    /**
+     * Установка Boolean значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setBoolean(DataPath path, boolean value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setBoolean(key, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип String.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу String.
+     */
+    public boolean isString(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public String getString(NamespacedKey key) {
+        String value = chain.backend.get(key, PersistentDataType.STRING);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.STRING);
+        return value;
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable String getStringOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public String getStringOrDefault(NamespacedKey key, String defaultValue) {
+        String value = chain.backend.get(key, PersistentDataType.STRING);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка String значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setString(NamespacedKey key, String value) {
+        chain.backend.set(key, PersistentDataType.STRING, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип String.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу String.
+     */
+    public boolean isString(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public String getString(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        String value = chain.backend.get(key, PersistentDataType.STRING);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.STRING);
+        return value;
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable String getStringOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public String getStringOrDefault(String keyString, String defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        String value = chain.backend.get(key, PersistentDataType.STRING);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка String значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setString(String keyString, String value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, PersistentDataType.STRING, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип String.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу String.
+     */
+    public boolean isString(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public String getString(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        String value = container.get(key, PersistentDataType.STRING);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.STRING);
+        return value;
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable String getStringOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * Получение String значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public String getStringOrDefault(DataPath path, String defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        String value = container.get(key, PersistentDataType.STRING);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка String значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setString(DataPath path, String value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, PersistentDataType.STRING, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу ByteArray.
+     */
+    public boolean isByteArray(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte[] getByteArray(NamespacedKey key) {
+        byte[] value = chain.backend.get(key, PersistentDataType.BYTE_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BYTE_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable byte[] getByteArrayOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte[] getByteArrayOrDefault(NamespacedKey key, byte[] defaultValue) {
+        byte[] value = chain.backend.get(key, PersistentDataType.BYTE_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка ByteArray значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteArray(NamespacedKey key, byte[] value) {
+        chain.backend.set(key, PersistentDataType.BYTE_ARRAY, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу ByteArray.
+     */
+    public boolean isByteArray(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte[] getByteArray(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        byte[] value = chain.backend.get(key, PersistentDataType.BYTE_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BYTE_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable byte[] getByteArrayOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte[] getByteArrayOrDefault(String keyString, byte[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        byte[] value = chain.backend.get(key, PersistentDataType.BYTE_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка ByteArray значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteArray(String keyString, byte[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, PersistentDataType.BYTE_ARRAY, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу ByteArray.
+     */
+    public boolean isByteArray(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte[] getByteArray(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        byte[] value = container.get(key, PersistentDataType.BYTE_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.BYTE_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable byte[] getByteArrayOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * Получение ByteArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte[] getByteArrayOrDefault(DataPath path, byte[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        byte[] value = container.get(key, PersistentDataType.BYTE_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка ByteArray значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteArray(DataPath path, byte[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, PersistentDataType.BYTE_ARRAY, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип IntegerArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу IntegerArray.
+     */
+    public boolean isIntegerArray(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.INTEGER_ARRAY);
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int[] getIntegerArray(NamespacedKey key) {
+        int[] value = chain.backend.get(key, PersistentDataType.INTEGER_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.INTEGER_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable int[] getIntegerArrayOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.INTEGER_ARRAY);
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int[] getIntegerArrayOrDefault(NamespacedKey key, int[] defaultValue) {
+        int[] value = chain.backend.get(key, PersistentDataType.INTEGER_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка IntegerArray значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setIntegerArray(NamespacedKey key, int[] value) {
+        chain.backend.set(key, PersistentDataType.INTEGER_ARRAY, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип IntegerArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу IntegerArray.
+     */
+    public boolean isIntegerArray(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.INTEGER_ARRAY);
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int[] getIntegerArray(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        int[] value = chain.backend.get(key, PersistentDataType.INTEGER_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.INTEGER_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable int[] getIntegerArrayOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.INTEGER_ARRAY);
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int[] getIntegerArrayOrDefault(String keyString, int[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        int[] value = chain.backend.get(key, PersistentDataType.INTEGER_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка IntegerArray значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setIntegerArray(String keyString, int[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, PersistentDataType.INTEGER_ARRAY, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип IntegerArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу IntegerArray.
+     */
+    public boolean isIntegerArray(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.INTEGER_ARRAY);
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int[] getIntegerArray(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        int[] value = container.get(key, PersistentDataType.INTEGER_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.INTEGER_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable int[] getIntegerArrayOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.INTEGER_ARRAY);
+    }
+
+    /**
+     * Получение IntegerArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int[] getIntegerArrayOrDefault(DataPath path, int[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        int[] value = container.get(key, PersistentDataType.INTEGER_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка IntegerArray значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setIntegerArray(DataPath path, int[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, PersistentDataType.INTEGER_ARRAY, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип LongArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу LongArray.
+     */
+    public boolean isLongArray(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.LONG_ARRAY);
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long[] getLongArray(NamespacedKey key) {
+        long[] value = chain.backend.get(key, PersistentDataType.LONG_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.LONG_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable long[] getLongArrayOrNull(NamespacedKey key) {
+        return chain.backend.get(key, PersistentDataType.LONG_ARRAY);
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long[] getLongArrayOrDefault(NamespacedKey key, long[] defaultValue) {
+        long[] value = chain.backend.get(key, PersistentDataType.LONG_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка LongArray значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLongArray(NamespacedKey key, long[] value) {
+        chain.backend.set(key, PersistentDataType.LONG_ARRAY, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип LongArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу LongArray.
+     */
+    public boolean isLongArray(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.LONG_ARRAY);
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long[] getLongArray(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        long[] value = chain.backend.get(key, PersistentDataType.LONG_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.LONG_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable long[] getLongArrayOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, PersistentDataType.LONG_ARRAY);
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long[] getLongArrayOrDefault(String keyString, long[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        long[] value = chain.backend.get(key, PersistentDataType.LONG_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка LongArray значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLongArray(String keyString, long[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, PersistentDataType.LONG_ARRAY, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип LongArray.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу LongArray.
+     */
+    public boolean isLongArray(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.LONG_ARRAY);
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long[] getLongArray(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        long[] value = container.get(key, PersistentDataType.LONG_ARRAY);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.LONG_ARRAY);
+        return value;
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable long[] getLongArrayOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, PersistentDataType.LONG_ARRAY);
+    }
+
+    /**
+     * Получение LongArray значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long[] getLongArrayOrDefault(DataPath path, long[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        long[] value = container.get(key, PersistentDataType.LONG_ARRAY);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка LongArray значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLongArray(DataPath path, long[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, PersistentDataType.LONG_ARRAY, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Container.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу Container.
+     */
+    public boolean isContainer(NamespacedKey key) {
+        return chain.backend.has(key, PersistentDataType.TAG_CONTAINER);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public DataManager getContainer(NamespacedKey key) {
+        DataBackend value = chain.backend.getContainer(key);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.TAG_CONTAINER);
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable DataManager getContainerOrNull(NamespacedKey key) {
+        DataBackend value = chain.backend.getContainer(key);
+        if (value == null) return null;
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public DataManager getContainerOrDefault(NamespacedKey key, DataManager defaultValue) {
+        DataBackend value = chain.backend.getContainer(key);
+        if (value == null) return defaultValue;
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Установка Container значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setContainer(NamespacedKey key, DataManager value) {
+        chain.backend.setContainer(key, value.chain.backend);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Container.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Container.
+     */
+    public boolean isContainer(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, PersistentDataType.TAG_CONTAINER);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public DataManager getContainer(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        DataBackend value = chain.backend.getContainer(key);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.TAG_CONTAINER);
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable DataManager getContainerOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        DataBackend value = chain.backend.getContainer(key);
+        if (value == null) return null;
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public DataManager getContainerOrDefault(String keyString, DataManager defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        DataBackend value = chain.backend.getContainer(key);
+        if (value == null) return defaultValue;
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Установка Container значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setContainer(String keyString, DataManager value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.setContainer(key, value.chain.backend);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип Container.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Container.
+     */
+    public boolean isContainer(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, PersistentDataType.TAG_CONTAINER);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public DataManager getContainer(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        DataBackend value = container.getContainer(key);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.TAG_CONTAINER);
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable DataManager getContainerOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        DataBackend value = container.getContainer(key);
+        if (value == null) return null;
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Получение Container значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public DataManager getContainerOrDefault(DataPath path, DataManager defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        DataBackend value = container.getContainer(key);
+        if (value == null) return defaultValue;
+        return new DataManager(value, keyCache);
+    }
+
+    /**
+     * Установка Container значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setContainer(DataPath path, DataManager value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.setContainer(key, value.chain.backend));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу ByteList.
+     */
+    public boolean isByteList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.BYTES);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte[] getByteList(NamespacedKey key) {
+        List<Byte> value = chain.backend.get(key, DataLists.BYTES);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.BYTES);
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable byte[] getByteListOrNull(NamespacedKey key) {
+        List<Byte> value = chain.backend.get(key, DataLists.BYTES);
+        if (value == null) return null;
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte[] getByteListOrDefault(NamespacedKey key, byte[] defaultValue) {
+        List<Byte> value = chain.backend.get(key, DataLists.BYTES);
+        if (value == null) return defaultValue;
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Установка ByteList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteList(NamespacedKey key, byte[] value) {
+        chain.backend.set(key, DataLists.BYTES, DataLists.ofBytes(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу ByteList.
+     */
+    public boolean isByteList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.BYTES);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte[] getByteList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Byte> value = chain.backend.get(key, DataLists.BYTES);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.BYTES);
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable byte[] getByteListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Byte> value = chain.backend.get(key, DataLists.BYTES);
+        if (value == null) return null;
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte[] getByteListOrDefault(String keyString, byte[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Byte> value = chain.backend.get(key, DataLists.BYTES);
+        if (value == null) return defaultValue;
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Установка ByteList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteList(String keyString, byte[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.BYTES, DataLists.ofBytes(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу ByteList.
+     */
+    public boolean isByteList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.BYTES);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public byte[] getByteList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Byte> value = container.get(key, DataLists.BYTES);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.BYTES);
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable byte[] getByteListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Byte> value = container.get(key, DataLists.BYTES);
+        if (value == null) return null;
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Получение ByteList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public byte[] getByteListOrDefault(DataPath path, byte[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Byte> value = container.get(key, DataLists.BYTES);
+        if (value == null) return defaultValue;
+        return DataLists.toByteArray(value);
+    }
+
+    /**
+     * Установка ByteList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteList(DataPath path, byte[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.BYTES, DataLists.ofBytes(value)));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ShortList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу ShortList.
+     */
+    public boolean isShortList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.SHORTS);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public short[] getShortList(NamespacedKey key) {
+        List<Short> value = chain.backend.get(key, DataLists.SHORTS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.SHORTS);
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable short[] getShortListOrNull(NamespacedKey key) {
+        List<Short> value = chain.backend.get(key, DataLists.SHORTS);
+        if (value == null) return null;
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public short[] getShortListOrDefault(NamespacedKey key, short[] defaultValue) {
+        List<Short> value = chain.backend.get(key, DataLists.SHORTS);
+        if (value == null) return defaultValue;
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Установка ShortList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setShortList(NamespacedKey key, short[] value) {
+        chain.backend.set(key, DataLists.SHORTS, DataLists.ofShorts(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ShortList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу ShortList.
+     */
+    public boolean isShortList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.SHORTS);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public short[] getShortList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Short> value = chain.backend.get(key, DataLists.SHORTS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.SHORTS);
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable short[] getShortListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Short> value = chain.backend.get(key, DataLists.SHORTS);
+        if (value == null) return null;
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public short[] getShortListOrDefault(String keyString, short[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Short> value = chain.backend.get(key, DataLists.SHORTS);
+        if (value == null) return defaultValue;
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Установка ShortList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setShortList(String keyString, short[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.SHORTS, DataLists.ofShorts(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ShortList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу ShortList.
+     */
+    public boolean isShortList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.SHORTS);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public short[] getShortList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Short> value = container.get(key, DataLists.SHORTS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.SHORTS);
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable short[] getShortListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Short> value = container.get(key, DataLists.SHORTS);
+        if (value == null) return null;
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Получение ShortList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public short[] getShortListOrDefault(DataPath path, short[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Short> value = container.get(key, DataLists.SHORTS);
+        if (value == null) return defaultValue;
+        return DataLists.toShortArray(value);
+    }
+
+    /**
+     * Установка ShortList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setShortList(DataPath path, short[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.SHORTS, DataLists.ofShorts(value)));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип IntegerList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу IntegerList.
+     */
+    public boolean isIntegerList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.INTEGERS);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int[] getIntegerList(NamespacedKey key) {
+        List<Integer> value = chain.backend.get(key, DataLists.INTEGERS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.INTEGERS);
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable int[] getIntegerListOrNull(NamespacedKey key) {
+        List<Integer> value = chain.backend.get(key, DataLists.INTEGERS);
+        if (value == null) return null;
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int[] getIntegerListOrDefault(NamespacedKey key, int[] defaultValue) {
+        List<Integer> value = chain.backend.get(key, DataLists.INTEGERS);
+        if (value == null) return defaultValue;
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Установка IntegerList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setIntegerList(NamespacedKey key, int[] value) {
+        chain.backend.set(key, DataLists.INTEGERS, DataLists.ofIntegers(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип IntegerList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу IntegerList.
+     */
+    public boolean isIntegerList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.INTEGERS);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int[] getIntegerList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Integer> value = chain.backend.get(key, DataLists.INTEGERS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.INTEGERS);
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable int[] getIntegerListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Integer> value = chain.backend.get(key, DataLists.INTEGERS);
+        if (value == null) return null;
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int[] getIntegerListOrDefault(String keyString, int[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Integer> value = chain.backend.get(key, DataLists.INTEGERS);
+        if (value == null) return defaultValue;
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Установка IntegerList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setIntegerList(String keyString, int[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.INTEGERS, DataLists.ofIntegers(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип IntegerList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу IntegerList.
+     */
+    public boolean isIntegerList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.INTEGERS);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public int[] getIntegerList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Integer> value = container.get(key, DataLists.INTEGERS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.INTEGERS);
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable int[] getIntegerListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Integer> value = container.get(key, DataLists.INTEGERS);
+        if (value == null) return null;
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Получение IntegerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public int[] getIntegerListOrDefault(DataPath path, int[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Integer> value = container.get(key, DataLists.INTEGERS);
+        if (value == null) return defaultValue;
+        return DataLists.toIntegerArray(value);
+    }
+
+    /**
+     * Установка IntegerList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setIntegerList(DataPath path, int[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.INTEGERS, DataLists.ofIntegers(value)));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип LongList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу LongList.
+     */
+    public boolean isLongList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.LONGS);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long[] getLongList(NamespacedKey key) {
+        List<Long> value = chain.backend.get(key, DataLists.LONGS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.LONGS);
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable long[] getLongListOrNull(NamespacedKey key) {
+        List<Long> value = chain.backend.get(key, DataLists.LONGS);
+        if (value == null) return null;
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long[] getLongListOrDefault(NamespacedKey key, long[] defaultValue) {
+        List<Long> value = chain.backend.get(key, DataLists.LONGS);
+        if (value == null) return defaultValue;
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Установка LongList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLongList(NamespacedKey key, long[] value) {
+        chain.backend.set(key, DataLists.LONGS, DataLists.ofLongs(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип LongList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу LongList.
+     */
+    public boolean isLongList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.LONGS);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long[] getLongList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Long> value = chain.backend.get(key, DataLists.LONGS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.LONGS);
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable long[] getLongListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Long> value = chain.backend.get(key, DataLists.LONGS);
+        if (value == null) return null;
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long[] getLongListOrDefault(String keyString, long[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Long> value = chain.backend.get(key, DataLists.LONGS);
+        if (value == null) return defaultValue;
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Установка LongList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLongList(String keyString, long[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.LONGS, DataLists.ofLongs(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип LongList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу LongList.
+     */
+    public boolean isLongList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.LONGS);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public long[] getLongList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Long> value = container.get(key, DataLists.LONGS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.LONGS);
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable long[] getLongListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Long> value = container.get(key, DataLists.LONGS);
+        if (value == null) return null;
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Получение LongList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public long[] getLongListOrDefault(DataPath path, long[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Long> value = container.get(key, DataLists.LONGS);
+        if (value == null) return defaultValue;
+        return DataLists.toLongArray(value);
+    }
+
+    /**
+     * Установка LongList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLongList(DataPath path, long[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.LONGS, DataLists.ofLongs(value)));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип FloatList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу FloatList.
+     */
+    public boolean isFloatList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.FLOATS);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public float[] getFloatList(NamespacedKey key) {
+        List<Float> value = chain.backend.get(key, DataLists.FLOATS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.FLOATS);
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable float[] getFloatListOrNull(NamespacedKey key) {
+        List<Float> value = chain.backend.get(key, DataLists.FLOATS);
+        if (value == null) return null;
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public float[] getFloatListOrDefault(NamespacedKey key, float[] defaultValue) {
+        List<Float> value = chain.backend.get(key, DataLists.FLOATS);
+        if (value == null) return defaultValue;
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Установка FloatList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setFloatList(NamespacedKey key, float[] value) {
+        chain.backend.set(key, DataLists.FLOATS, DataLists.ofFloats(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип FloatList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу FloatList.
+     */
+    public boolean isFloatList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.FLOATS);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public float[] getFloatList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Float> value = chain.backend.get(key, DataLists.FLOATS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.FLOATS);
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable float[] getFloatListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Float> value = chain.backend.get(key, DataLists.FLOATS);
+        if (value == null) return null;
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public float[] getFloatListOrDefault(String keyString, float[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Float> value = chain.backend.get(key, DataLists.FLOATS);
+        if (value == null) return defaultValue;
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Установка FloatList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setFloatList(String keyString, float[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.FLOATS, DataLists.ofFloats(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип FloatList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу FloatList.
+     */
+    public boolean isFloatList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.FLOATS);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public float[] getFloatList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Float> value = container.get(key, DataLists.FLOATS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.FLOATS);
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable float[] getFloatListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Float> value = container.get(key, DataLists.FLOATS);
+        if (value == null) return null;
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Получение FloatList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public float[] getFloatListOrDefault(DataPath path, float[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Float> value = container.get(key, DataLists.FLOATS);
+        if (value == null) return defaultValue;
+        return DataLists.toFloatArray(value);
+    }
+
+    /**
+     * Установка FloatList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setFloatList(DataPath path, float[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.FLOATS, DataLists.ofFloats(value)));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип DoubleList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу DoubleList.
+     */
+    public boolean isDoubleList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.DOUBLES);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public double[] getDoubleList(NamespacedKey key) {
+        List<Double> value = chain.backend.get(key, DataLists.DOUBLES);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.DOUBLES);
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable double[] getDoubleListOrNull(NamespacedKey key) {
+        List<Double> value = chain.backend.get(key, DataLists.DOUBLES);
+        if (value == null) return null;
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public double[] getDoubleListOrDefault(NamespacedKey key, double[] defaultValue) {
+        List<Double> value = chain.backend.get(key, DataLists.DOUBLES);
+        if (value == null) return defaultValue;
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Установка DoubleList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setDoubleList(NamespacedKey key, double[] value) {
+        chain.backend.set(key, DataLists.DOUBLES, DataLists.ofDoubles(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип DoubleList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу DoubleList.
+     */
+    public boolean isDoubleList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.DOUBLES);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public double[] getDoubleList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Double> value = chain.backend.get(key, DataLists.DOUBLES);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.DOUBLES);
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable double[] getDoubleListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Double> value = chain.backend.get(key, DataLists.DOUBLES);
+        if (value == null) return null;
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public double[] getDoubleListOrDefault(String keyString, double[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Double> value = chain.backend.get(key, DataLists.DOUBLES);
+        if (value == null) return defaultValue;
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Установка DoubleList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setDoubleList(String keyString, double[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.DOUBLES, DataLists.ofDoubles(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип DoubleList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу DoubleList.
+     */
+    public boolean isDoubleList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.DOUBLES);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public double[] getDoubleList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Double> value = container.get(key, DataLists.DOUBLES);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.DOUBLES);
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable double[] getDoubleListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Double> value = container.get(key, DataLists.DOUBLES);
+        if (value == null) return null;
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Получение DoubleList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public double[] getDoubleListOrDefault(DataPath path, double[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Double> value = container.get(key, DataLists.DOUBLES);
+        if (value == null) return defaultValue;
+        return DataLists.toDoubleArray(value);
+    }
+
+    /**
+     * Установка DoubleList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setDoubleList(DataPath path, double[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.DOUBLES, DataLists.ofDoubles(value)));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип BooleanList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу BooleanList.
+     */
+    public boolean isBooleanList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.BOOLEANS);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public boolean[] getBooleanList(NamespacedKey key) {
+        List<Boolean> value = chain.backend.get(key, DataLists.BOOLEANS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.BOOLEANS);
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable boolean[] getBooleanListOrNull(NamespacedKey key) {
+        List<Boolean> value = chain.backend.get(key, DataLists.BOOLEANS);
+        if (value == null) return null;
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public boolean[] getBooleanListOrDefault(NamespacedKey key, boolean[] defaultValue) {
+        List<Boolean> value = chain.backend.get(key, DataLists.BOOLEANS);
+        if (value == null) return defaultValue;
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Установка BooleanList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setBooleanList(NamespacedKey key, boolean[] value) {
+        chain.backend.set(key, DataLists.BOOLEANS, DataLists.ofBooleans(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип BooleanList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу BooleanList.
+     */
+    public boolean isBooleanList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.BOOLEANS);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public boolean[] getBooleanList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Boolean> value = chain.backend.get(key, DataLists.BOOLEANS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.BOOLEANS);
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable boolean[] getBooleanListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Boolean> value = chain.backend.get(key, DataLists.BOOLEANS);
+        if (value == null) return null;
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public boolean[] getBooleanListOrDefault(String keyString, boolean[] defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<Boolean> value = chain.backend.get(key, DataLists.BOOLEANS);
+        if (value == null) return defaultValue;
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Установка BooleanList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setBooleanList(String keyString, boolean[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.BOOLEANS, DataLists.ofBooleans(value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип BooleanList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу BooleanList.
+     */
+    public boolean isBooleanList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.BOOLEANS);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public boolean[] getBooleanList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Boolean> value = container.get(key, DataLists.BOOLEANS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.BOOLEANS);
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable boolean[] getBooleanListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Boolean> value = container.get(key, DataLists.BOOLEANS);
+        if (value == null) return null;
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Получение BooleanList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public boolean[] getBooleanListOrDefault(DataPath path, boolean[] defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<Boolean> value = container.get(key, DataLists.BOOLEANS);
+        if (value == null) return defaultValue;
+        return DataLists.toBooleanArray(value);
+    }
+
+    /**
+     * Установка BooleanList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setBooleanList(DataPath path, boolean[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.BOOLEANS, DataLists.ofBooleans(value)));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип StringList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу StringList.
+     */
+    public boolean isStringList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.STRINGS);
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<String> getStringList(NamespacedKey key) {
+        List<String> value = chain.backend.get(key, DataLists.STRINGS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.STRINGS);
+        return value;
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable List<String> getStringListOrNull(NamespacedKey key) {
+        return chain.backend.get(key, DataLists.STRINGS);
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<String> getStringListOrDefault(NamespacedKey key, List<String> defaultValue) {
+        List<String> value = chain.backend.get(key, DataLists.STRINGS);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка StringList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setStringList(NamespacedKey key, List<String> value) {
+        chain.backend.set(key, DataLists.STRINGS, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип StringList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу StringList.
+     */
+    public boolean isStringList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.STRINGS);
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<String> getStringList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<String> value = chain.backend.get(key, DataLists.STRINGS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.STRINGS);
+        return value;
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable List<String> getStringListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataLists.STRINGS);
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<String> getStringListOrDefault(String keyString, List<String> defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<String> value = chain.backend.get(key, DataLists.STRINGS);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка StringList значения по ключу.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setStringList(String keyString, List<String> value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.STRINGS, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип StringList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу StringList.
+     */
+    public boolean isStringList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.STRINGS);
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<String> getStringList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<String> value = container.get(key, DataLists.STRINGS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.STRINGS);
+        return value;
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable List<String> getStringListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataLists.STRINGS);
+    }
+
+    /**
+     * Получение StringList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<String> getStringListOrDefault(DataPath path, List<String> defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<String> value = container.get(key, DataLists.STRINGS);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка StringList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setStringList(DataPath path, List<String> value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.STRINGS, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteArrayList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @return Является ли значение по ключу ByteArrayList.
+     */
+    public boolean isByteArrayList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.BYTE_ARRAYS);
+    }
+
+    /**
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<byte[]> getByteArrayList(NamespacedKey key) {
+        List<byte[]> value = chain.backend.get(key, DataLists.BYTE_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.BYTE_ARRAYS);
+        return value;
+    }
+
+    /**
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable List<byte[]> getByteArrayListOrNull(NamespacedKey key) {
+        return chain.backend.get(key, DataLists.BYTE_ARRAYS);
+    }
+
+    /**
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<byte[]> getByteArrayListOrDefault(NamespacedKey key, List<byte[]> defaultValue) {
+        List<byte[]> value = chain.backend.get(key, DataLists.BYTE_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка ByteArrayList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteArrayList(NamespacedKey key, List<byte[]> value) {
+        chain.backend.set(key, DataLists.BYTE_ARRAYS, value);
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ByteArrayList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу ByteArrayList.
+     */
+    public boolean isByteArrayList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.BYTE_ARRAYS);
+    }
+
+    /**
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<byte[]> getByteArrayList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<byte[]> value = chain.backend.get(key, DataLists.BYTE_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.BYTE_ARRAYS);
+        return value;
+    }
+
+    /**
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
      */
-    public DataManager(PersistentDataContainer container, String namespace) {
-        this.container = container;
-        this.namespace = namespace;
+    public @Nullable List<byte[]> getByteArrayListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataLists.BYTE_ARRAYS);
     }
 
     /**
-     * Создание менеджера данных.
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param container Контейнер
+     * @param keyString Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
      */
-    public DataManager(PersistentDataContainer container) {
-        this.container = container;
-        this.namespace = defaultNamespace;
+    public List<byte[]> getByteArrayListOrDefault(String keyString, List<byte[]> defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<byte[]> value = chain.backend.get(key, DataLists.BYTE_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Получение пространства имён по умолчанию.
+     * Установка ByteArrayList значения по ключу.
      *
-     * @return Пространство имён по умолчанию.
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
      */
-    public static String getDefaultNamespace() {
-        return defaultNamespace;
+    public DataManager setByteArrayList(String keyString, List<byte[]> value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.BYTE_ARRAYS, value);
+        return this;
     }
 
     /**
-     * Установка пространства имён по умолчанию.
+     * Проверка значения по ключу на тип ByteArrayList.
+     * Если значения по ключу нет, будет возвращено false.
      *
-     * @param defaultNamespace Пространство имён по умолчанию
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу ByteArrayList.
      */
-    public static void setDefaultNamespace(String defaultNamespace) {
-        DataManager.defaultNamespace = defaultNamespace;
+    public boolean isByteArrayList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.BYTE_ARRAYS);
     }
 
     /**
-     * Проверка наличия ключа.
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
-     * @param key Ключ
-     * @return Наличие ключа.
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public boolean contains(NamespacedKey key) {
-        return container.has(key);
+    public List<byte[]> getByteArrayList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<byte[]> value = container.get(key, DataLists.BYTE_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.BYTE_ARRAYS);
+        return value;
     }
 
     /**
-     * Проверка наличия ключа.
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
-     * @return Наличие ключа.
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
      */
-    public boolean contains(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key);
+    public @Nullable List<byte[]> getByteArrayListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataLists.BYTE_ARRAYS);
     }
 
     /**
-     * Проверка значения по ключу на тип Byte.
+     * Получение ByteArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<byte[]> getByteArrayListOrDefault(DataPath path, List<byte[]> defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<byte[]> value = container.get(key, DataLists.BYTE_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка ByteArrayList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setByteArrayList(DataPath path, List<byte[]> value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.BYTE_ARRAYS, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип IntegerArrayList.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param key Ключ
-     * @return Является ли значение по ключу Byte.
+     * @return Является ли значение по ключу IntegerArrayList.
      */
-    public boolean isByte(NamespacedKey key) {
-        return container.has(key, PersistentDataType.BYTE);
+    public boolean isIntegerArrayList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.INTEGER_ARRAYS);
     }
 
     /**
-     * Получение Byte значения по ключу.
+     * Получение IntegerArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -96,28 +5705,26 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public byte getByte(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.BYTE)) throw new DataManagerTypeError(PersistentDataType.BYTE);
-        return container.get(key, PersistentDataType.BYTE);
+    public List<int[]> getIntegerArrayList(NamespacedKey key) {
+        List<int[]> value = chain.backend.get(key, DataLists.INTEGER_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.INTEGER_ARRAYS);
+        return value;
     }
 
     /**
-     * Получение Byte значения по ключу.
+     * Получение IntegerArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param key Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Byte getByteOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.BYTE)) return null;
-        return container.get(key, PersistentDataType.BYTE);
+    public @Nullable List<int[]> getIntegerArrayListOrNull(NamespacedKey key) {
+        return chain.backend.get(key, DataLists.INTEGER_ARRAYS);
     }
 
     /**
-     * Получение Byte значения по ключу.
+     * Получение IntegerArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -125,38 +5732,38 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Byte getByteOrDefault(NamespacedKey key, Byte defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.BYTE)) return defaultValue;
-        return container.get(key, PersistentDataType.BYTE);
+    public List<int[]> getIntegerArrayListOrDefault(NamespacedKey key, List<int[]> defaultValue) {
+        List<int[]> value = chain.backend.get(key, DataLists.INTEGER_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Byte значения по ключу.
+     * Установка IntegerArrayList значения по ключу.
      *
      * @param key Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setByte(NamespacedKey key, byte value) {
-        container.set(key, PersistentDataType.BYTE, value);
+    public DataManager setIntegerArrayList(NamespacedKey key, List<int[]> value) {
+        chain.backend.set(key, DataLists.INTEGER_ARRAYS, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Byte.
+     * Проверка значения по ключу на тип IntegerArrayList.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param keyString Ключ
-     * @return Является ли значение по ключу Byte.
+     * @return Является ли значение по ключу IntegerArrayList.
      */
-    public boolean isByte(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.BYTE);
+    public boolean isIntegerArrayList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.INTEGER_ARRAYS);
     }
 
     /**
-     * Получение Byte значения по ключу.
+     * Получение IntegerArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -165,30 +5772,28 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public byte getByte(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.BYTE)) throw new DataManagerTypeError(PersistentDataType.BYTE);
-        return container.get(key, PersistentDataType.BYTE);
+    public List<int[]> getIntegerArrayList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<int[]> value = chain.backend.get(key, DataLists.INTEGER_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.INTEGER_ARRAYS);
+        return value;
     }
 
     /**
-     * Получение Byte значения по ключу.
+     * Получение IntegerArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param keyString Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Byte getByteOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.BYTE)) return null;
-        return container.get(key, PersistentDataType.BYTE);
+    public @Nullable List<int[]> getIntegerArrayListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataLists.INTEGER_ARRAYS);
     }
 
     /**
-     * Получение Byte значения по ключу.
+     * Получение IntegerArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -196,39 +5801,114 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Byte getByteOrDefault(String keyString, Byte defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.BYTE)) return defaultValue;
-        return container.get(key, PersistentDataType.BYTE);
+    public List<int[]> getIntegerArrayListOrDefault(String keyString, List<int[]> defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<int[]> value = chain.backend.get(key, DataLists.INTEGER_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Byte значения по ключу.
+     * Установка IntegerArrayList значения по ключу.
      *
      * @param keyString Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setByte(String keyString, byte value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.BYTE, value);
+    public DataManager setIntegerArrayList(String keyString, List<int[]> value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.INTEGER_ARRAYS, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Short.
+     * Проверка значения по ключу на тип IntegerArrayList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу IntegerArrayList.
+     */
+    public boolean isIntegerArrayList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.INTEGER_ARRAYS);
+    }
+
+    /**
+     * Получение IntegerArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<int[]> getIntegerArrayList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<int[]> value = container.get(key, DataLists.INTEGER_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.INTEGER_ARRAYS);
+        return value;
+    }
+
+    /**
+     * Получение IntegerArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable List<int[]> getIntegerArrayListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataLists.INTEGER_ARRAYS);
+    }
+
+    /**
+     * Получение IntegerArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<int[]> getIntegerArrayListOrDefault(DataPath path, List<int[]> defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<int[]> value = container.get(key, DataLists.INTEGER_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка IntegerArrayList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setIntegerArrayList(DataPath path, List<int[]> value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.INTEGER_ARRAYS, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип LongArrayList.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param key Ключ
-     * @return Является ли значение по ключу Short.
+     * @return Является ли значение по ключу LongArrayList.
      */
-    public boolean isShort(NamespacedKey key) {
-        return container.has(key, PersistentDataType.SHORT);
+    public boolean isLongArrayList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.LONG_ARRAYS);
     }
 
     /**
-     * Получение Short значения по ключу.
+     * Получение LongArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -237,28 +5917,26 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public short getShort(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.SHORT)) throw new DataManagerTypeError(PersistentDataType.SHORT);
-        return container.get(key, PersistentDataType.SHORT);
+    public List<long[]> getLongArrayList(NamespacedKey key) {
+        List<long[]> value = chain.backend.get(key, DataLists.LONG_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.LONG_ARRAYS);
+        return value;
     }
 
     /**
-     * Получение Short значения по ключу.
+     * Получение LongArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param key Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Short getShortOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.SHORT)) return null;
-        return container.get(key, PersistentDataType.SHORT);
+    public @Nullable List<long[]> getLongArrayListOrNull(NamespacedKey key) {
+        return chain.backend.get(key, DataLists.LONG_ARRAYS);
     }
 
     /**
-     * Получение Short значения по ключу.
+     * Получение LongArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -266,38 +5944,38 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Short getShortOrDefault(NamespacedKey key, Short defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.SHORT)) return defaultValue;
-        return container.get(key, PersistentDataType.SHORT);
+    public List<long[]> getLongArrayListOrDefault(NamespacedKey key, List<long[]> defaultValue) {
+        List<long[]> value = chain.backend.get(key, DataLists.LONG_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Short значения по ключу.
+     * Установка LongArrayList значения по ключу.
      *
      * @param key Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setShort(NamespacedKey key, short value) {
-        container.set(key, PersistentDataType.SHORT, value);
+    public DataManager setLongArrayList(NamespacedKey key, List<long[]> value) {
+        chain.backend.set(key, DataLists.LONG_ARRAYS, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Short.
+     * Проверка значения по ключу на тип LongArrayList.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param keyString Ключ
-     * @return Является ли значение по ключу Short.
+     * @return Является ли значение по ключу LongArrayList.
      */
-    public boolean isShort(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.SHORT);
+    public boolean isLongArrayList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.LONG_ARRAYS);
     }
 
     /**
-     * Получение Short значения по ключу.
+     * Получение LongArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -306,30 +5984,28 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public short getShort(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.SHORT)) throw new DataManagerTypeError(PersistentDataType.SHORT);
-        return container.get(key, PersistentDataType.SHORT);
+    public List<long[]> getLongArrayList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<long[]> value = chain.backend.get(key, DataLists.LONG_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.LONG_ARRAYS);
+        return value;
     }
 
     /**
-     * Получение Short значения по ключу.
+     * Получение LongArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param keyString Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Short getShortOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.SHORT)) return null;
-        return container.get(key, PersistentDataType.SHORT);
+    public @Nullable List<long[]> getLongArrayListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataLists.LONG_ARRAYS);
     }
 
     /**
-     * Получение Short значения по ключу.
+     * Получение LongArrayList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -337,39 +6013,114 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Short getShortOrDefault(String keyString, Short defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.SHORT)) return defaultValue;
-        return container.get(key, PersistentDataType.SHORT);
+    public List<long[]> getLongArrayListOrDefault(String keyString, List<long[]> defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<long[]> value = chain.backend.get(key, DataLists.LONG_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Short значения по ключу.
+     * Установка LongArrayList значения по ключу.
      *
      * @param keyString Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setShort(String keyString, short value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.SHORT, value);
+    public DataManager setLongArrayList(String keyString, List<long[]> value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.LONG_ARRAYS, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Integer.
+     * Проверка значения по ключу на тип LongArrayList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу LongArrayList.
+     */
+    public boolean isLongArrayList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.LONG_ARRAYS);
+    }
+
+    /**
+     * Получение LongArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<long[]> getLongArrayList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<long[]> value = container.get(key, DataLists.LONG_ARRAYS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.LONG_ARRAYS);
+        return value;
+    }
+
+    /**
+     * Получение LongArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @return Значение по ключу или null.
+     */
+    public @Nullable List<long[]> getLongArrayListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataLists.LONG_ARRAYS);
+    }
+
+    /**
+     * Получение LongArrayList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<long[]> getLongArrayListOrDefault(DataPath path, List<long[]> defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<long[]> value = container.get(key, DataLists.LONG_ARRAYS);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * Установка LongArrayList значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLongArrayList(DataPath path, List<long[]> value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.LONG_ARRAYS, value));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ContainerList.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param key Ключ
-     * @return Является ли значение по ключу Integer.
+     * @return Является ли значение по ключу ContainerList.
      */
-    public boolean isInteger(NamespacedKey key) {
-        return container.has(key, PersistentDataType.INTEGER);
+    public boolean isContainerList(NamespacedKey key) {
+        return chain.backend.has(key, DataLists.CONTAINERS);
     }
 
     /**
-     * Получение Integer значения по ключу.
+     * Получение ContainerList значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -378,139 +6129,216 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public int getInteger(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.INTEGER)) throw new DataManagerTypeError(PersistentDataType.INTEGER);
-        return container.get(key, PersistentDataType.INTEGER);
+    public List<DataManager> getContainerList(NamespacedKey key) {
+        List<PersistentDataContainer> value = chain.backend.get(key, DataLists.CONTAINERS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.CONTAINERS);
+        return DataLists.toManagers(value, keyCache);
     }
 
     /**
-     * Получение Integer значения по ключу.
+     * Получение ContainerList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param key Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Integer getIntegerOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.INTEGER)) return null;
-        return container.get(key, PersistentDataType.INTEGER);
+    public @Nullable List<DataManager> getContainerListOrNull(NamespacedKey key) {
+        List<PersistentDataContainer> value = chain.backend.get(key, DataLists.CONTAINERS);
+        if (value == null) return null;
+        return DataLists.toManagers(value, keyCache);
+    }
+
+    /**
+     * Получение ContainerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение по умолчанию
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    public List<DataManager> getContainerListOrDefault(NamespacedKey key, List<DataManager> defaultValue) {
+        List<PersistentDataContainer> value = chain.backend.get(key, DataLists.CONTAINERS);
+        if (value == null) return defaultValue;
+        return DataLists.toManagers(value, keyCache);
+    }
+
+    /**
+     * Установка ContainerList значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setContainerList(NamespacedKey key, List<DataManager> value) {
+        chain.backend.set(key, DataLists.CONTAINERS, DataLists.toContainers(value, chain.backend.getAdapterContext()));
+        return this;
+    }
+
+    /**
+     * Проверка значения по ключу на тип ContainerList.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param keyString Ключ
+     * @return Является ли значение по ключу ContainerList.
+     */
+    public boolean isContainerList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.has(key, DataLists.CONTAINERS);
+    }
+
+    /**
+     * Получение ContainerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public List<DataManager> getContainerList(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<PersistentDataContainer> value = chain.backend.get(key, DataLists.CONTAINERS);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataLists.CONTAINERS);
+        return DataLists.toManagers(value, keyCache);
+    }
+
+    /**
+     * Получение ContainerList значения по ключу.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable List<DataManager> getContainerListOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<PersistentDataContainer> value = chain.backend.get(key, DataLists.CONTAINERS);
+        if (value == null) return null;
+        return DataLists.toManagers(value, keyCache);
     }
 
     /**
-     * Получение Integer значения по ключу.
+     * Получение ContainerList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param key Ключ
+     * @param keyString Ключ
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Integer getIntegerOrDefault(NamespacedKey key, Integer defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.INTEGER)) return defaultValue;
-        return container.get(key, PersistentDataType.INTEGER);
+    public List<DataManager> getContainerListOrDefault(String keyString, List<DataManager> defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        List<PersistentDataContainer> value = chain.backend.get(key, DataLists.CONTAINERS);
+        if (value == null) return defaultValue;
+        return DataLists.toManagers(value, keyCache);
     }
 
     /**
-     * Установка Integer значения по ключу.
+     * Установка ContainerList значения по ключу.
      *
-     * @param key Ключ
+     * @param keyString Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setInteger(NamespacedKey key, int value) {
-        container.set(key, PersistentDataType.INTEGER, value);
+    public DataManager setContainerList(String keyString, List<DataManager> value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.CONTAINERS, DataLists.toContainers(value, chain.backend.getAdapterContext()));
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Integer.
+     * Проверка значения по ключу на тип ContainerList.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param keyString Ключ
-     * @return Является ли значение по ключу Integer.
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу ContainerList.
      */
-    public boolean isInteger(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.INTEGER);
+    public boolean isContainerList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.has(key, DataLists.CONTAINERS);
     }
 
     /**
-     * Получение Integer значения по ключу.
+     * Получение ContainerList значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public int getInteger(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.INTEGER)) throw new DataManagerTypeError(PersistentDataType.INTEGER);
-        return container.get(key, PersistentDataType.INTEGER);
+    public List<DataManager> getContainerList(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<PersistentDataContainer> value = container.get(key, DataLists.CONTAINERS);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataLists.CONTAINERS);
+        return DataLists.toManagers(value, keyCache);
     }
 
     /**
-     * Получение Integer значения по ключу.
+     * Получение ContainerList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу или null.
      */
-    public @Nullable Integer getIntegerOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.INTEGER)) return null;
-        return container.get(key, PersistentDataType.INTEGER);
+    public @Nullable List<DataManager> getContainerListOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<PersistentDataContainer> value = container.get(key, DataLists.CONTAINERS);
+        if (value == null) return null;
+        return DataLists.toManagers(value, keyCache);
     }
 
     /**
-     * Получение Integer значения по ключу.
+     * Получение ContainerList значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Integer getIntegerOrDefault(String keyString, Integer defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.INTEGER)) return defaultValue;
-        return container.get(key, PersistentDataType.INTEGER);
+    public List<DataManager> getContainerListOrDefault(DataPath path, List<DataManager> defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        List<PersistentDataContainer> value = container.get(key, DataLists.CONTAINERS);
+        if (value == null) return defaultValue;
+        return DataLists.toManagers(value, keyCache);
     }
 
     /**
-     * Установка Integer значения по ключу.
+     * Установка ContainerList значения по ключу.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setInteger(String keyString, int value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.INTEGER, value);
+    public DataManager setContainerList(DataPath path, List<DataManager> value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.CONTAINERS, DataLists.toContainers(value, container.getAdapterContext())));
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Long.
+     * Проверка значения по ключу на тип UUID.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param key Ключ
-     * @return Является ли значение по ключу Long.
+     * @return Является ли значение по ключу UUID.
      */
-    public boolean isLong(NamespacedKey key) {
-        return container.has(key, PersistentDataType.LONG);
+    public boolean isUUID(NamespacedKey key) {
+        return chain.backend.get(key, DataAdapters.UUID) != null;
     }
 
     /**
-     * Получение Long значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -519,28 +6347,26 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public long getLong(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.LONG)) throw new DataManagerTypeError(PersistentDataType.LONG);
-        return container.get(key, PersistentDataType.LONG);
+    public UUID getUUID(NamespacedKey key) {
+        UUID value = chain.backend.get(key, DataAdapters.UUID);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataAdapters.UUID);
+        return value;
     }
 
     /**
-     * Получение Long значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param key Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Long getLongOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.LONG)) return null;
-        return container.get(key, PersistentDataType.LONG);
+    public @Nullable UUID getUUIDOrNull(NamespacedKey key) {
+        return chain.backend.get(key, DataAdapters.UUID);
     }
 
     /**
-     * Получение Long значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -548,38 +6374,38 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Long getLongOrDefault(NamespacedKey key, Long defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.LONG)) return defaultValue;
-        return container.get(key, PersistentDataType.LONG);
+    public UUID getUUIDOrDefault(NamespacedKey key, UUID defaultValue) {
+        UUID value = chain.backend.get(key, DataAdapters.UUID);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Long значения по ключу.
+     * Установка UUID значения по ключу.
      *
      * @param key Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setLong(NamespacedKey key, long value) {
-        container.set(key, PersistentDataType.LONG, value);
+    public DataManager setUUID(NamespacedKey key, UUID value) {
+        chain.backend.set(key, DataAdapters.UUID, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Long.
+     * Проверка значения по ключу на тип UUID.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param keyString Ключ
-     * @return Является ли значение по ключу Long.
+     * @return Является ли значение по ключу UUID.
      */
-    public boolean isLong(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.LONG);
+    public boolean isUUID(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.UUID) != null;
     }
 
     /**
-     * Получение Long значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -588,30 +6414,28 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public long getLong(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.LONG)) throw new DataManagerTypeError(PersistentDataType.LONG);
-        return container.get(key, PersistentDataType.LONG);
+    public UUID getUUID(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        UUID value = chain.backend.get(key, DataAdapters.UUID);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataAdapters.UUID);
+        return value;
     }
 
     /**
-     * Получение Long значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param keyString Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Long getLongOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.LONG)) return null;
-        return container.get(key, PersistentDataType.LONG);
+    public @Nullable UUID getUUIDOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.UUID);
     }
 
     /**
-     * Получение Long значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -619,321 +6443,326 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Long getLongOrDefault(String keyString, Long defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.LONG)) return defaultValue;
-        return container.get(key, PersistentDataType.LONG);
+    public UUID getUUIDOrDefault(String keyString, UUID defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        UUID value = chain.backend.get(key, DataAdapters.UUID);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Long значения по ключу.
+     * Установка UUID значения по ключу.
      *
      * @param keyString Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setLong(String keyString, long value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.LONG, value);
+    public DataManager setUUID(String keyString, UUID value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataAdapters.UUID, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Float.
+     * Проверка значения по ключу на тип UUID.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param key Ключ
-     * @return Является ли значение по ключу Float.
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу UUID.
      */
-    public boolean isFloat(NamespacedKey key) {
-        return container.has(key, PersistentDataType.FLOAT);
+    public boolean isUUID(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.UUID) != null;
     }
 
     /**
-     * Получение Float значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public float getFloat(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.FLOAT)) throw new DataManagerTypeError(PersistentDataType.FLOAT);
-        return container.get(key, PersistentDataType.FLOAT);
+    public UUID getUUID(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        UUID value = container.get(key, DataAdapters.UUID);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataAdapters.UUID);
+        return value;
     }
 
     /**
-     * Получение Float значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу или null.
      */
-    public @Nullable Float getFloatOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.FLOAT)) return null;
-        return container.get(key, PersistentDataType.FLOAT);
+    public @Nullable UUID getUUIDOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.UUID);
     }
 
     /**
-     * Получение Float значения по ключу.
+     * Получение UUID значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Float getFloatOrDefault(NamespacedKey key, Float defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.FLOAT)) return defaultValue;
-        return container.get(key, PersistentDataType.FLOAT);
+    public UUID getUUIDOrDefault(DataPath path, UUID defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        UUID value = container.get(key, DataAdapters.UUID);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Float значения по ключу.
+     * Установка UUID значения по ключу.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setFloat(NamespacedKey key, float value) {
-        container.set(key, PersistentDataType.FLOAT, value);
+    public DataManager setUUID(DataPath path, UUID value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataAdapters.UUID, value));
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Float.
+     * Проверка значения по ключу на тип Instant.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param keyString Ключ
-     * @return Является ли значение по ключу Float.
+     * @param key Ключ
+     * @return Является ли значение по ключу Instant.
      */
-    public boolean isFloat(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.FLOAT);
+    public boolean isInstant(NamespacedKey key) {
+        return chain.backend.get(key, DataAdapters.INSTANT) != null;
     }
 
     /**
-     * Получение Float значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
-     * @param keyString Ключ
+     * @param key Ключ
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public float getFloat(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.FLOAT)) throw new DataManagerTypeError(PersistentDataType.FLOAT);
-        return container.get(key, PersistentDataType.FLOAT);
+    public Instant getInstant(NamespacedKey key) {
+        Instant value = chain.backend.get(key, DataAdapters.INSTANT);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataAdapters.INSTANT);
+        return value;
     }
 
     /**
-     * Получение Float значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
+     * @param key Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Float getFloatOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.FLOAT)) return null;
-        return container.get(key, PersistentDataType.FLOAT);
+    public @Nullable Instant getInstantOrNull(NamespacedKey key) {
+        return chain.backend.get(key, DataAdapters.INSTANT);
     }
 
     /**
-     * Получение Float значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param keyString Ключ
+     * @param key Ключ
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Float getFloatOrDefault(String keyString, Float defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.FLOAT)) return defaultValue;
-        return container.get(key, PersistentDataType.FLOAT);
+    public Instant getInstantOrDefault(NamespacedKey key, Instant defaultValue) {
+        Instant value = chain.backend.get(key, DataAdapters.INSTANT);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Float значения по ключу.
+     * Установка Instant значения по ключу.
      *
-     * @param keyString Ключ
+     * @param key Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setFloat(String keyString, float value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.FLOAT, value);
+    public DataManager setInstant(NamespacedKey key, Instant value) {
+        chain.backend.set(key, DataAdapters.INSTANT, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Double.
+     * Проверка значения по ключу на тип Instant.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param key Ключ
-     * @return Является ли значение по ключу Double.
+     * @param keyString Ключ
+     * @return Является ли значение по ключу Instant.
      */
-    public boolean isDouble(NamespacedKey key) {
-        return container.has(key, PersistentDataType.DOUBLE);
+    public boolean isInstant(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.INSTANT) != null;
     }
 
     /**
-     * Получение Double значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
-     * @param key Ключ
+     * @param keyString Ключ
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public double getDouble(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.DOUBLE)) throw new DataManagerTypeError(PersistentDataType.DOUBLE);
-        return container.get(key, PersistentDataType.DOUBLE);
+    public Instant getInstant(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        Instant value = chain.backend.get(key, DataAdapters.INSTANT);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataAdapters.INSTANT);
+        return value;
     }
 
     /**
-     * Получение Double значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param key Ключ
+     * @param keyString Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Double getDoubleOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.DOUBLE)) return null;
-        return container.get(key, PersistentDataType.DOUBLE);
+    public @Nullable Instant getInstantOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.INSTANT);
     }
 
     /**
-     * Получение Double значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param key Ключ
+     * @param keyString Ключ
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Double getDoubleOrDefault(NamespacedKey key, Double defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.DOUBLE)) return defaultValue;
-        return container.get(key, PersistentDataType.DOUBLE);
+    public Instant getInstantOrDefault(String keyString, Instant defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Instant value = chain.backend.get(key, DataAdapters.INSTANT);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Double значения по ключу.
+     * Установка Instant значения по ключу.
      *
-     * @param key Ключ
+     * @param keyString Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setDouble(NamespacedKey key, double value) {
-        container.set(key, PersistentDataType.DOUBLE, value);
+    public DataManager setInstant(String keyString, Instant value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataAdapters.INSTANT, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Double.
+     * Проверка значения по ключу на тип Instant.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param keyString Ключ
-     * @return Является ли значение по ключу Double.
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Instant.
      */
-    public boolean isDouble(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.DOUBLE);
+    public boolean isInstant(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.INSTANT) != null;
     }
 
     /**
-     * Получение Double значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public double getDouble(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.DOUBLE)) throw new DataManagerTypeError(PersistentDataType.DOUBLE);
-        return container.get(key, PersistentDataType.DOUBLE);
+    public Instant getInstant(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Instant value = container.get(key, DataAdapters.INSTANT);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataAdapters.INSTANT);
+        return value;
     }
 
     /**
-     * Получение Double значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу или null.
      */
-    public @Nullable Double getDoubleOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.DOUBLE)) return null;
-        return container.get(key, PersistentDataType.DOUBLE);
+    public @Nullable Instant getInstantOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.INSTANT);
     }
 
     /**
-     * Получение Double значения по ключу.
+     * Получение Instant значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Double getDoubleOrDefault(String keyString, Double defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.DOUBLE)) return defaultValue;
-        return container.get(key, PersistentDataType.DOUBLE);
+    public Instant getInstantOrDefault(DataPath path, Instant defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Instant value = container.get(key, DataAdapters.INSTANT);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Double значения по ключу.
+     * Установка Instant значения по ключу.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setDouble(String keyString, double value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.DOUBLE, value);
+    public DataManager setInstant(DataPath path, Instant value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataAdapters.INSTANT, value));
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Boolean.
+     * Проверка значения по ключу на тип Location.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param key Ключ
-     * @return Является ли значение по ключу Boolean.
+     * @return Является ли значение по ключу Location.
      */
-    public boolean isBoolean(NamespacedKey key) {
-        return container.has(key, PersistentDataType.BOOLEAN);
+    public boolean isLocation(NamespacedKey key) {
+        return chain.backend.get(key, DataAdapters.LOCATION) != null;
     }
 
     /**
-     * Получение Boolean значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -942,28 +6771,26 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public boolean getBoolean(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.BOOLEAN)) throw new DataManagerTypeError(PersistentDataType.BOOLEAN);
-        return container.get(key, PersistentDataType.BOOLEAN);
+    public Location getLocation(NamespacedKey key) {
+        Location value = chain.backend.get(key, DataAdapters.LOCATION);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataAdapters.LOCATION);
+        return value;
     }
 
     /**
-     * Получение Boolean значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param key Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Boolean getBooleanOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.BOOLEAN)) return null;
-        return container.get(key, PersistentDataType.BOOLEAN);
+    public @Nullable Location getLocationOrNull(NamespacedKey key) {
+        return chain.backend.get(key, DataAdapters.LOCATION);
     }
 
     /**
-     * Получение Boolean значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -971,38 +6798,38 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Boolean getBooleanOrDefault(NamespacedKey key, Boolean defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.BOOLEAN)) return defaultValue;
-        return container.get(key, PersistentDataType.BOOLEAN);
+    public Location getLocationOrDefault(NamespacedKey key, Location defaultValue) {
+        Location value = chain.backend.get(key, DataAdapters.LOCATION);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Boolean значения по ключу.
+     * Установка Location значения по ключу.
      *
      * @param key Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setBoolean(NamespacedKey key, boolean value) {
-        container.set(key, PersistentDataType.BOOLEAN, value);
+    public DataManager setLocation(NamespacedKey key, Location value) {
+        chain.backend.set(key, DataAdapters.LOCATION, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Boolean.
+     * Проверка значения по ключу на тип Location.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param keyString Ключ
-     * @return Является ли значение по ключу Boolean.
+     * @return Является ли значение по ключу Location.
      */
-    public boolean isBoolean(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.BOOLEAN);
+    public boolean isLocation(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.LOCATION) != null;
     }
 
     /**
-     * Получение Boolean значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
@@ -1011,30 +6838,28 @@ public class DataManager {
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public boolean getBoolean(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.BOOLEAN)) throw new DataManagerTypeError(PersistentDataType.BOOLEAN);
-        return container.get(key, PersistentDataType.BOOLEAN);
+    public Location getLocation(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        Location value = chain.backend.get(key, DataAdapters.LOCATION);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, DataAdapters.LOCATION);
+        return value;
     }
 
     /**
-     * Получение Boolean значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param keyString Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable Boolean getBooleanOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.BOOLEAN)) return null;
-        return container.get(key, PersistentDataType.BOOLEAN);
+    public @Nullable Location getLocationOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.LOCATION);
     }
 
     /**
-     * Получение Boolean значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
@@ -1042,728 +6867,754 @@ public class DataManager {
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public Boolean getBooleanOrDefault(String keyString, Boolean defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.BOOLEAN)) return defaultValue;
-        return container.get(key, PersistentDataType.BOOLEAN);
+    public Location getLocationOrDefault(String keyString, Location defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        Location value = chain.backend.get(key, DataAdapters.LOCATION);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Boolean значения по ключу.
+     * Установка Location значения по ключу.
      *
      * @param keyString Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setBoolean(String keyString, boolean value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.BOOLEAN, value);
+    public DataManager setLocation(String keyString, Location value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataAdapters.LOCATION, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип String.
+     * Проверка значения по ключу на тип Location.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param key Ключ
-     * @return Является ли значение по ключу String.
+     * @param path Путь во вложенных контейнерах
+     * @return Является ли значение по ключу Location.
      */
-    public boolean isString(NamespacedKey key) {
-        return container.has(key, PersistentDataType.STRING);
+    public boolean isLocation(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.LOCATION) != null;
     }
 
     /**
-     * Получение String значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет вызвано исключение.
      * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public String getString(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.STRING)) throw new DataManagerTypeError(PersistentDataType.STRING);
-        return container.get(key, PersistentDataType.STRING);
+    public Location getLocation(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Location value = container.get(key, DataAdapters.LOCATION);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, DataAdapters.LOCATION);
+        return value;
     }
 
     /**
-     * Получение String значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу или null.
      */
-    public @Nullable String getStringOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.STRING)) return null;
-        return container.get(key, PersistentDataType.STRING);
+    public @Nullable Location getLocationOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.LOCATION);
     }
 
     /**
-     * Получение String значения по ключу.
+     * Получение Location значения по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public String getStringOrDefault(NamespacedKey key, String defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.STRING)) return defaultValue;
-        return container.get(key, PersistentDataType.STRING);
+    public Location getLocationOrDefault(DataPath path, Location defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        Location value = container.get(key, DataAdapters.LOCATION);
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка String значения по ключу.
+     * Установка Location значения по ключу.
+     *
+     * @param path Путь во вложенных контейнерах
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setLocation(DataPath path, Location value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataAdapters.LOCATION, value));
+        return this;
+    }
+
+    /**
+     * Получение String значения, записанного со сжатием или без него.
+     *
+     * @param key Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     */
+    public String getCompressedString(NamespacedKey key) {
+        String value = DataCompression.getString(chain.backend, key);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.STRING);
+        return value;
+    }
+
+    /**
+     * Получение String значения, записанного со сжатием или без него.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable String getCompressedStringOrNull(NamespacedKey key) {
+        return DataCompression.getString(chain.backend, key);
+    }
+
+    /**
+     * Установка String значения по ключу со сжатием.
+     * Значения меньше порога сжатия (см. DataCompression) записываются без сжатия.
      *
      * @param key Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setString(NamespacedKey key, String value) {
-        container.set(key, PersistentDataType.STRING, value);
+    public DataManager setCompressedString(NamespacedKey key, String value) {
+        DataCompression.setString(chain.backend, key, value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип String.
-     * Если значения по ключу нет, будет возвращено false.
+     * Получение String значения, записанного со сжатием или без него.
      *
      * @param keyString Ключ
-     * @return Является ли значение по ключу String.
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public boolean isString(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.STRING);
+    public String getCompressedString(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        String value = DataCompression.getString(chain.backend, key);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.STRING);
+        return value;
     }
 
     /**
-     * Получение String значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение String значения, записанного со сжатием или без него.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param keyString Ключ
+     * @return Значение по ключу или null.
+     */
+    public @Nullable String getCompressedStringOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return DataCompression.getString(chain.backend, key);
+    }
+
+    /**
+     * Установка String значения по ключу со сжатием.
+     * Значения меньше порога сжатия (см. DataCompression) записываются без сжатия.
+     *
+     * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setCompressedString(String keyString, String value) {
+        NamespacedKey key = keyCache.get(keyString);
+        DataCompression.setString(chain.backend, key, value);
+        return this;
+    }
+
+    /**
+     * Получение String значения, записанного со сжатием или без него.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public String getString(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.STRING)) throw new DataManagerTypeError(PersistentDataType.STRING);
-        return container.get(key, PersistentDataType.STRING);
+    public String getCompressedString(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        String value = DataCompression.getString(container, key);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.STRING);
+        return value;
     }
 
     /**
-     * Получение String значения по ключу.
+     * Получение String значения, записанного со сжатием или без него.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу или null.
      */
-    public @Nullable String getStringOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.STRING)) return null;
-        return container.get(key, PersistentDataType.STRING);
-    }
-
-    /**
-     * Получение String значения по ключу.
-     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
-     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
-     *
-     * @param keyString Ключ
-     * @param defaultValue Значение по умолчанию
-     * @return Значение по ключу или значение по умолчанию.
-     */
-    public String getStringOrDefault(String keyString, String defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.STRING)) return defaultValue;
-        return container.get(key, PersistentDataType.STRING);
+    public @Nullable String getCompressedStringOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return DataCompression.getString(container, key);
     }
 
     /**
-     * Установка String значения по ключу.
+     * Установка String значения по ключу со сжатием.
+     * Значения меньше порога сжатия (см. DataCompression) записываются без сжатия.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setString(String keyString, String value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.STRING, value);
+    public DataManager setCompressedString(DataPath path, String value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> DataCompression.setString(container, key, value));
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип ByteArray.
-     * Если значения по ключу нет, будет возвращено false.
-     *
-     * @param key Ключ
-     * @return Является ли значение по ключу ByteArray.
-     */
-    public boolean isByteArray(NamespacedKey key) {
-        return container.has(key, PersistentDataType.BYTE_ARRAY);
-    }
-
-    /**
-     * Получение ByteArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение ByteArray значения, записанного со сжатием или без него.
      *
      * @param key Ключ
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public byte[] getByteArray(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.BYTE_ARRAY)) throw new DataManagerTypeError(PersistentDataType.BYTE_ARRAY);
-        return container.get(key, PersistentDataType.BYTE_ARRAY);
+    public byte[] getCompressedByteArray(NamespacedKey key) {
+        byte[] value = DataCompression.getByteArray(chain.backend, key);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BYTE_ARRAY);
+        return value;
     }
 
     /**
-     * Получение ByteArray значения по ключу.
+     * Получение ByteArray значения, записанного со сжатием или без него.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param key Ключ
      * @return Значение по ключу или null.
      */
-    public @Nullable byte[] getByteArrayOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.BYTE_ARRAY)) return null;
-        return container.get(key, PersistentDataType.BYTE_ARRAY);
+    public @Nullable byte[] getCompressedByteArrayOrNull(NamespacedKey key) {
+        return DataCompression.getByteArray(chain.backend, key);
     }
 
     /**
-     * Получение ByteArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
-     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
+     * Установка ByteArray значения по ключу со сжатием.
+     * Значения меньше порога сжатия (см. DataCompression) записываются без сжатия.
      *
      * @param key Ключ
-     * @param defaultValue Значение по умолчанию
-     * @return Значение по ключу или значение по умолчанию.
+     * @param value Значение
+     * @return Этот же менеджер.
      */
-    public byte[] getByteArrayOrDefault(NamespacedKey key, byte[] defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.BYTE_ARRAY)) return defaultValue;
-        return container.get(key, PersistentDataType.BYTE_ARRAY);
+    public DataManager setCompressedByteArray(NamespacedKey key, byte[] value) {
+        DataCompression.setByteArray(chain.backend, key, value);
+        return this;
     }
 
     /**
-     * Установка ByteArray значения по ключу.
+     * Получение ByteArray значения, записанного со сжатием или без него.
      *
-     * @param key Ключ
-     * @param value Значение
-     * @return Этот же менеджер.
+     * @param keyString Ключ
+     * @return Значение по ключу.
+     * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
+     * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public DataManager setByteArray(NamespacedKey key, byte[] value) {
-        container.set(key, PersistentDataType.BYTE_ARRAY, value);
-        return this;
+    public byte[] getCompressedByteArray(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        byte[] value = DataCompression.getByteArray(chain.backend, key);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, PersistentDataType.BYTE_ARRAY);
+        return value;
     }
 
     /**
-     * Проверка значения по ключу на тип ByteArray.
-     * Если значения по ключу нет, будет возвращено false.
+     * Получение ByteArray значения, записанного со сжатием или без него.
+     * Если в контейнере нет указанного ключа, будет возвращено null.
+     * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param keyString Ключ
-     * @return Является ли значение по ключу ByteArray.
+     * @return Значение по ключу или null.
      */
-    public boolean isByteArray(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.BYTE_ARRAY);
+    public @Nullable byte[] getCompressedByteArrayOrNull(String keyString) {
+        NamespacedKey key = keyCache.get(keyString);
+        return DataCompression.getByteArray(chain.backend, key);
     }
 
     /**
-     * Получение ByteArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Установка ByteArray значения по ключу со сжатием.
+     * Значения меньше порога сжатия (см. DataCompression) записываются без сжатия.
      *
      * @param keyString Ключ
+     * @param value Значение
+     * @return Этот же менеджер.
+     */
+    public DataManager setCompressedByteArray(String keyString, byte[] value) {
+        NamespacedKey key = keyCache.get(keyString);
+        DataCompression.setByteArray(chain.backend, key, value);
+        return this;
+    }
+
+    /**
+     * Получение ByteArray значения, записанного со сжатием или без него.
+     *
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public byte[] getByteArray(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.BYTE_ARRAY)) throw new DataManagerTypeError(PersistentDataType.BYTE_ARRAY);
-        return container.get(key, PersistentDataType.BYTE_ARRAY);
+    public byte[] getCompressedByteArray(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        byte[] value = DataCompression.getByteArray(container, key);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, PersistentDataType.BYTE_ARRAY);
+        return value;
     }
 
     /**
-     * Получение ByteArray значения по ключу.
+     * Получение ByteArray значения, записанного со сжатием или без него.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @return Значение по ключу или null.
      */
-    public @Nullable byte[] getByteArrayOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.BYTE_ARRAY)) return null;
-        return container.get(key, PersistentDataType.BYTE_ARRAY);
-    }
-
-    /**
-     * Получение ByteArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
-     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
-     *
-     * @param keyString Ключ
-     * @param defaultValue Значение по умолчанию
-     * @return Значение по ключу или значение по умолчанию.
-     */
-    public byte[] getByteArrayOrDefault(String keyString, byte[] defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.BYTE_ARRAY)) return defaultValue;
-        return container.get(key, PersistentDataType.BYTE_ARRAY);
+    public @Nullable byte[] getCompressedByteArrayOrNull(DataPath path) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return DataCompression.getByteArray(container, key);
     }
 
     /**
-     * Установка ByteArray значения по ключу.
+     * Установка ByteArray значения по ключу со сжатием.
+     * Значения меньше порога сжатия (см. DataCompression) записываются без сжатия.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setByteArray(String keyString, byte[] value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.BYTE_ARRAY, value);
+    public DataManager setCompressedByteArray(DataPath path, byte[] value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> DataCompression.setByteArray(container, key, value));
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип IntegerArray.
+     * Проверка значения по ключу на тип перечисления.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param key Ключ
-     * @return Является ли значение по ключу IntegerArray.
+     * @param type Класс перечисления
+     * @return Соответствие значения типу.
      */
-    public boolean isIntegerArray(NamespacedKey key) {
-        return container.has(key, PersistentDataType.INTEGER_ARRAY);
+    public <E extends Enum<E>> boolean isEnum(NamespacedKey key, Class<E> type) {
+        return chain.backend.get(key, DataAdapters.getEnum(type)) != null;
     }
 
     /**
-     * Получение IntegerArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение значения перечисления по ключу.
+     * Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).
      *
      * @param key Ключ
+     * @param type Класс перечисления
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public int[] getIntegerArray(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.INTEGER_ARRAY)) throw new DataManagerTypeError(PersistentDataType.INTEGER_ARRAY);
-        return container.get(key, PersistentDataType.INTEGER_ARRAY);
+    public <E extends Enum<E>> E getEnum(NamespacedKey key, Class<E> type) {
+        EnumDataType<E> dataType = DataAdapters.getEnum(type);
+        E value = chain.backend.get(key, dataType);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, dataType);
+        return value;
     }
 
     /**
-     * Получение IntegerArray значения по ключу.
+     * Получение значения перечисления по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param key Ключ
+     * @param type Класс перечисления
      * @return Значение по ключу или null.
      */
-    public @Nullable int[] getIntegerArrayOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.INTEGER_ARRAY)) return null;
-        return container.get(key, PersistentDataType.INTEGER_ARRAY);
+    public @Nullable <E extends Enum<E>> E getEnumOrNull(NamespacedKey key, Class<E> type) {
+        return chain.backend.get(key, DataAdapters.getEnum(type));
     }
 
     /**
-     * Получение IntegerArray значения по ключу.
+     * Получение значения перечисления по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
      * @param key Ключ
+     * @param type Класс перечисления
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public int[] getIntegerArrayOrDefault(NamespacedKey key, int[] defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.INTEGER_ARRAY)) return defaultValue;
-        return container.get(key, PersistentDataType.INTEGER_ARRAY);
+    public @Nullable <E extends Enum<E>> E getEnumOrDefault(NamespacedKey key, Class<E> type, E defaultValue) {
+        E value = chain.backend.get(key, DataAdapters.getEnum(type));
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка IntegerArray значения по ключу.
+     * Установка значения перечисления по ключу.
+     * Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).
      *
      * @param key Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setIntegerArray(NamespacedKey key, int[] value) {
-        container.set(key, PersistentDataType.INTEGER_ARRAY, value);
+    public <E extends Enum<E>> DataManager setEnum(NamespacedKey key, E value) {
+        chain.backend.set(key, DataAdapters.getEnum(value.getDeclaringClass()), value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип IntegerArray.
+     * Проверка значения по ключу на тип словаря со строковыми ключами.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param keyString Ключ
-     * @return Является ли значение по ключу IntegerArray.
+     * @param key Ключ
+     * @param valueType Тип данных значений словаря
+     * @return Соответствие значения типу.
      */
-    public boolean isIntegerArray(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.INTEGER_ARRAY);
+    public <P, V> boolean isMap(NamespacedKey key, PersistentDataType<P, V> valueType) {
+        return chain.backend.get(key, DataLists.mapOf(valueType)) != null;
     }
 
     /**
-     * Получение IntegerArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение словаря со строковыми ключами по ключу.
+     * Словарь хранится как контейнер со списками ключей и значений (см. StringMapDataType).
      *
-     * @param keyString Ключ
+     * @param key Ключ
+     * @param valueType Тип данных значений словаря
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public int[] getIntegerArray(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.INTEGER_ARRAY)) throw new DataManagerTypeError(PersistentDataType.INTEGER_ARRAY);
-        return container.get(key, PersistentDataType.INTEGER_ARRAY);
+    public <P, V> Map<String, V> getMap(NamespacedKey key, PersistentDataType<P, V> valueType) {
+        StringMapDataType<P, V> dataType = DataLists.mapOf(valueType);
+        Map<String, V> value = chain.backend.get(key, dataType);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, dataType);
+        return value;
     }
 
     /**
-     * Получение IntegerArray значения по ключу.
+     * Получение словаря со строковыми ключами по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
+     * @param key Ключ
+     * @param valueType Тип данных значений словаря
      * @return Значение по ключу или null.
      */
-    public @Nullable int[] getIntegerArrayOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.INTEGER_ARRAY)) return null;
-        return container.get(key, PersistentDataType.INTEGER_ARRAY);
-    }
-
-    /**
-     * Получение IntegerArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
-     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
-     *
-     * @param keyString Ключ
-     * @param defaultValue Значение по умолчанию
-     * @return Значение по ключу или значение по умолчанию.
-     */
-    public int[] getIntegerArrayOrDefault(String keyString, int[] defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.INTEGER_ARRAY)) return defaultValue;
-        return container.get(key, PersistentDataType.INTEGER_ARRAY);
+    public @Nullable <P, V> Map<String, V> getMapOrNull(NamespacedKey key, PersistentDataType<P, V> valueType) {
+        return chain.backend.get(key, DataLists.mapOf(valueType));
     }
 
     /**
-     * Установка IntegerArray значения по ключу.
+     * Установка словаря со строковыми ключами по ключу.
+     * Хранилище должно иметь контекст адаптеров.
      *
-     * @param keyString Ключ
+     * @param key Ключ
+     * @param valueType Тип данных значений словаря
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setIntegerArray(String keyString, int[] value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.INTEGER_ARRAY, value);
+    public <P, V> DataManager setMap(NamespacedKey key, PersistentDataType<P, V> valueType, Map<String, V> value) {
+        chain.backend.set(key, DataLists.mapOf(valueType), value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип LongArray.
+     * Проверка значения по ключу на тип перечисления.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param key Ключ
-     * @return Является ли значение по ключу LongArray.
+     * @param keyString Ключ
+     * @param type Класс перечисления
+     * @return Соответствие значения типу.
      */
-    public boolean isLongArray(NamespacedKey key) {
-        return container.has(key, PersistentDataType.LONG_ARRAY);
+    public <E extends Enum<E>> boolean isEnum(String keyString, Class<E> type) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.getEnum(type)) != null;
     }
 
     /**
-     * Получение LongArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение значения перечисления по ключу.
+     * Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).
      *
-     * @param key Ключ
+     * @param keyString Ключ
+     * @param type Класс перечисления
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public long[] getLongArray(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.LONG_ARRAY)) throw new DataManagerTypeError(PersistentDataType.LONG_ARRAY);
-        return container.get(key, PersistentDataType.LONG_ARRAY);
+    public <E extends Enum<E>> E getEnum(String keyString, Class<E> type) {
+        NamespacedKey key = keyCache.get(keyString);
+        EnumDataType<E> dataType = DataAdapters.getEnum(type);
+        E value = chain.backend.get(key, dataType);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, dataType);
+        return value;
     }
 
     /**
-     * Получение LongArray значения по ключу.
+     * Получение значения перечисления по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param key Ключ
+     * @param keyString Ключ
+     * @param type Класс перечисления
      * @return Значение по ключу или null.
      */
-    public @Nullable long[] getLongArrayOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.LONG_ARRAY)) return null;
-        return container.get(key, PersistentDataType.LONG_ARRAY);
+    public @Nullable <E extends Enum<E>> E getEnumOrNull(String keyString, Class<E> type) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataAdapters.getEnum(type));
     }
 
     /**
-     * Получение LongArray значения по ключу.
+     * Получение значения перечисления по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param key Ключ
+     * @param keyString Ключ
+     * @param type Класс перечисления
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public long[] getLongArrayOrDefault(NamespacedKey key, long[] defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.LONG_ARRAY)) return defaultValue;
-        return container.get(key, PersistentDataType.LONG_ARRAY);
+    public @Nullable <E extends Enum<E>> E getEnumOrDefault(String keyString, Class<E> type, E defaultValue) {
+        NamespacedKey key = keyCache.get(keyString);
+        E value = chain.backend.get(key, DataAdapters.getEnum(type));
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка LongArray значения по ключу.
+     * Установка значения перечисления по ключу.
+     * Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).
      *
-     * @param key Ключ
+     * @param keyString Ключ
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setLongArray(NamespacedKey key, long[] value) {
-        container.set(key, PersistentDataType.LONG_ARRAY, value);
+    public <E extends Enum<E>> DataManager setEnum(String keyString, E value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataAdapters.getEnum(value.getDeclaringClass()), value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип LongArray.
+     * Проверка значения по ключу на тип словаря со строковыми ключами.
      * Если значения по ключу нет, будет возвращено false.
      *
      * @param keyString Ключ
-     * @return Является ли значение по ключу LongArray.
+     * @param valueType Тип данных значений словаря
+     * @return Соответствие значения типу.
      */
-    public boolean isLongArray(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.LONG_ARRAY);
+    public <P, V> boolean isMap(String keyString, PersistentDataType<P, V> valueType) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataLists.mapOf(valueType)) != null;
     }
 
     /**
-     * Получение LongArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение словаря со строковыми ключами по ключу.
+     * Словарь хранится как контейнер со списками ключей и значений (см. StringMapDataType).
      *
      * @param keyString Ключ
+     * @param valueType Тип данных значений словаря
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public long[] getLongArray(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.LONG_ARRAY)) throw new DataManagerTypeError(PersistentDataType.LONG_ARRAY);
-        return container.get(key, PersistentDataType.LONG_ARRAY);
+    public <P, V> Map<String, V> getMap(String keyString, PersistentDataType<P, V> valueType) {
+        NamespacedKey key = keyCache.get(keyString);
+        StringMapDataType<P, V> dataType = DataLists.mapOf(valueType);
+        Map<String, V> value = chain.backend.get(key, dataType);
+        if (value == null) throw DataAccess.missingOrWrongType(chain.backend, key, dataType);
+        return value;
     }
 
     /**
-     * Получение LongArray значения по ключу.
+     * Получение словаря со строковыми ключами по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
      * @param keyString Ключ
+     * @param valueType Тип данных значений словаря
      * @return Значение по ключу или null.
      */
-    public @Nullable long[] getLongArrayOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.LONG_ARRAY)) return null;
-        return container.get(key, PersistentDataType.LONG_ARRAY);
-    }
-
-    /**
-     * Получение LongArray значения по ключу.
-     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
-     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
-     *
-     * @param keyString Ключ
-     * @param defaultValue Значение по умолчанию
-     * @return Значение по ключу или значение по умолчанию.
-     */
-    public long[] getLongArrayOrDefault(String keyString, long[] defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.LONG_ARRAY)) return defaultValue;
-        return container.get(key, PersistentDataType.LONG_ARRAY);
+    public @Nullable <P, V> Map<String, V> getMapOrNull(String keyString, PersistentDataType<P, V> valueType) {
+        NamespacedKey key = keyCache.get(keyString);
+        return chain.backend.get(key, DataLists.mapOf(valueType));
     }
 
     /**
-     * Установка LongArray значения по ключу.
+     * Установка словаря со строковыми ключами по ключу.
+     * Хранилище должно иметь контекст адаптеров.
      *
      * @param keyString Ключ
+     * @param valueType Тип данных значений словаря
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setLongArray(String keyString, long[] value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.LONG_ARRAY, value);
+    public <P, V> DataManager setMap(String keyString, PersistentDataType<P, V> valueType, Map<String, V> value) {
+        NamespacedKey key = keyCache.get(keyString);
+        chain.backend.set(key, DataLists.mapOf(valueType), value);
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Container.
+     * Проверка значения по ключу на тип перечисления.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param key Ключ
-     * @return Является ли значение по ключу Container.
+     * @param path Путь во вложенных контейнерах
+     * @param type Класс перечисления
+     * @return Соответствие значения типу.
      */
-    public boolean isContainer(NamespacedKey key) {
-        return container.has(key, PersistentDataType.TAG_CONTAINER);
+    public <E extends Enum<E>> boolean isEnum(DataPath path, Class<E> type) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.getEnum(type)) != null;
     }
 
     /**
-     * Получение Container значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение значения перечисления по ключу.
+     * Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
+     * @param type Класс перечисления
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public DataManager getContainer(NamespacedKey key) {
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.TAG_CONTAINER)) throw new DataManagerTypeError(PersistentDataType.TAG_CONTAINER);
-        return new DataManager(container.get(key, PersistentDataType.TAG_CONTAINER));
+    public <E extends Enum<E>> E getEnum(DataPath path, Class<E> type) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        EnumDataType<E> dataType = DataAdapters.getEnum(type);
+        E value = container.get(key, dataType);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, dataType);
+        return value;
     }
 
     /**
-     * Получение Container значения по ключу.
+     * Получение значения перечисления по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
+     * @param type Класс перечисления
      * @return Значение по ключу или null.
      */
-    public @Nullable DataManager getContainerOrNull(NamespacedKey key) {
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.TAG_CONTAINER)) return null;
-        return new DataManager(container.get(key, PersistentDataType.TAG_CONTAINER));
+    public @Nullable <E extends Enum<E>> E getEnumOrNull(DataPath path, Class<E> type) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataAdapters.getEnum(type));
     }
 
     /**
-     * Получение Container значения по ключу.
+     * Получение значения перечисления по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
+     * @param type Класс перечисления
      * @param defaultValue Значение по умолчанию
      * @return Значение по ключу или значение по умолчанию.
      */
-    public DataManager getContainerOrDefault(NamespacedKey key, DataManager defaultValue) {
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.TAG_CONTAINER)) return defaultValue;
-        return new DataManager(container.get(key, PersistentDataType.TAG_CONTAINER));
+    public @Nullable <E extends Enum<E>> E getEnumOrDefault(DataPath path, Class<E> type, E defaultValue) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        E value = container.get(key, DataAdapters.getEnum(type));
+        if (value == null) return defaultValue;
+        return value;
     }
 
     /**
-     * Установка Container значения по ключу.
+     * Установка значения перечисления по ключу.
+     * Значение хранится как номер в таблице констант (см. DataAdapters.registerEnum).
      *
-     * @param key Ключ
+     * @param path Путь во вложенных контейнерах
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setContainer(NamespacedKey key, DataManager value) {
-        container.set(key, PersistentDataType.TAG_CONTAINER, value.container);
+    public <E extends Enum<E>> DataManager setEnum(DataPath path, E value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataAdapters.getEnum(value.getDeclaringClass()), value));
         return this;
     }
 
     /**
-     * Проверка значения по ключу на тип Container.
+     * Проверка значения по ключу на тип словаря со строковыми ключами.
      * Если значения по ключу нет, будет возвращено false.
      *
-     * @param keyString Ключ
-     * @return Является ли значение по ключу Container.
+     * @param path Путь во вложенных контейнерах
+     * @param valueType Тип данных значений словаря
+     * @return Соответствие значения типу.
      */
-    public boolean isContainer(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        return container.has(key, PersistentDataType.TAG_CONTAINER);
+    public <P, V> boolean isMap(DataPath path, PersistentDataType<P, V> valueType) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataLists.mapOf(valueType)) != null;
     }
 
     /**
-     * Получение Container значения по ключу.
-     * Если в контейнере нет указанного ключа, будет вызвано исключение.
-     * Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
+     * Получение словаря со строковыми ключами по ключу.
+     * Словарь хранится как контейнер со списками ключей и значений (см. StringMapDataType).
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
+     * @param valueType Тип данных значений словаря
      * @return Значение по ключу.
      * @throws DataManagerKeyError Если в контейнере нет указанного ключа, будет вызвано исключение.
      * @throws DataManagerTypeError Если в контейнере значение по ключу неправильного типа, будет вызвано исключение.
      */
-    public DataManager getContainer(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) throw new DataManagerKeyError(key);
-        if (!container.has(key, PersistentDataType.TAG_CONTAINER)) throw new DataManagerTypeError(PersistentDataType.TAG_CONTAINER);
-        return new DataManager(container.get(key, PersistentDataType.TAG_CONTAINER));
+    public <P, V> Map<String, V> getMap(DataPath path, PersistentDataType<P, V> valueType) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        StringMapDataType<P, V> dataType = DataLists.mapOf(valueType);
+        Map<String, V> value = container.get(key, dataType);
+        if (value == null) throw DataAccess.missingOrWrongType(container, key, dataType);
+        return value;
     }
 
     /**
-     * Получение Container значения по ключу.
+     * Получение словаря со строковыми ключами по ключу.
      * Если в контейнере нет указанного ключа, будет возвращено null.
      * Если в контейнере значение по ключу неправильного типа, будет возвращено null.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
+     * @param valueType Тип данных значений словаря
      * @return Значение по ключу или null.
      */
-    public @Nullable DataManager getContainerOrNull(String keyString) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return null;
-        if (!container.has(key, PersistentDataType.TAG_CONTAINER)) return null;
-        return new DataManager(container.get(key, PersistentDataType.TAG_CONTAINER));
-    }
-
-    /**
-     * Получение Container значения по ключу.
-     * Если в контейнере нет указанного ключа, будет возвращено значение по умолчанию.
-     * Если в контейнере значение по ключу неправильного типа, будет возвращено значение по умолчанию.
-     *
-     * @param keyString Ключ
-     * @param defaultValue Значение по умолчанию
-     * @return Значение по ключу или значение по умолчанию.
-     */
-    public DataManager getContainerOrDefault(String keyString, DataManager defaultValue) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        if (!container.has(key)) return defaultValue;
-        if (!container.has(key, PersistentDataType.TAG_CONTAINER)) return defaultValue;
-        return new DataManager(container.get(key, PersistentDataType.TAG_CONTAINER));
+    public @Nullable <P, V> Map<String, V> getMapOrNull(DataPath path, PersistentDataType<P, V> valueType) {
+        NamespacedKey key = path.getKey(keyCache);
+        DataBackend container = path.getParent(chain.backend, keyCache);
+        return container.get(key, DataLists.mapOf(valueType));
     }
 
     /**
-     * Установка Container значения по ключу.
+     * Установка словаря со строковыми ключами по ключу.
+     * Хранилище должно иметь контекст адаптеров.
      *
-     * @param keyString Ключ
+     * @param path Путь во вложенных контейнерах
+     * @param valueType Тип данных значений словаря
      * @param value Значение
      * @return Этот же менеджер.
      */
-    public DataManager setContainer(String keyString, DataManager value) {
-        NamespacedKey key = new NamespacedKey(namespace, keyString);
-        container.set(key, PersistentDataType.TAG_CONTAINER, value.container);
+    public <P, V> DataManager setMap(DataPath path, PersistentDataType<P, V> valueType, Map<String, V> value) {
+        NamespacedKey key = path.getKey(keyCache);
+        path.update(chain.backend, keyCache, container -> container.set(key, DataLists.mapOf(valueType), value));
         return this;
     }
 }
\ No newline at end of file
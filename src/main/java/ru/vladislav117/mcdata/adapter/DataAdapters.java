@@ -0,0 +1,95 @@
+package ru.vladislav117.mcdata.adapter;
+
+import org.bukkit.Location;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Реестр типов данных для значений, не входящих в основной набор PersistentDataType.
+ * Для UUID, Instant и Location генерируются отдельные методы менеджера данных, для перечислений - обобщённые методы.
+ * Остальные типы регистрируются во время работы и используются через DataKey.
+ * Реестр потокобезопасен.
+ */
+public final class DataAdapters {
+    public static final PersistentDataType<long[], UUID> UUID = new UUIDDataType();
+    public static final PersistentDataType<Long, Instant> INSTANT = new InstantDataType();
+    public static final PersistentDataType<long[], Location> LOCATION = new LocationDataType();
+
+    private static final ConcurrentHashMap<Class<?>, PersistentDataType<?, ?>> adapters = new ConcurrentHashMap<>();
+
+    static {
+        register(UUID);
+        register(INSTANT);
+        register(LOCATION);
+    }
+
+    private DataAdapters() {
+    }
+
+    /**
+     * Регистрация типа данных для класса значений, возвращаемого getComplexType().
+     * Ранее зарегистрированный тип данных для этого класса заменяется, кроме таблицы констант перечисления.
+     *
+     * @param type Тип данных
+     * @throws IllegalStateException Если для перечисления уже используется таблица констант, будет вызвано исключение.
+     */
+    public static void register(PersistentDataType<?, ?> type) {
+        adapters.compute(type.getComplexType(), (key, current) -> {
+            if (current instanceof EnumDataType<?> && current != type) throw tableInUse(key);
+            return type;
+        });
+    }
+
+    /**
+     * Регистрация таблицы констант перечисления.
+     * Таблица, которая уже используется, не заменяется: значения, записанные по ней, прочитались бы как другие константы.
+     * Повторная регистрация той же таблицы возвращает уже используемый тип данных.
+     *
+     * @param type Класс перечисления
+     * @param table Таблица констант в порядке хранения
+     * @return Тип данных перечисления.
+     * @throws IllegalStateException Если для перечисления уже используется другая таблица, будет вызвано исключение.
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumDataType<E> registerEnum(Class<E> type, E... table) {
+        EnumDataType<E> dataType = new EnumDataType<>(type, table);
+        return (EnumDataType<E>) adapters.compute(type, (key, current) -> {
+            if (current == null) return dataType;
+            if (current instanceof EnumDataType<?> enumType && enumType.hasTable(table)) return current;
+            throw tableInUse(key);
+        });
+    }
+
+    /**
+     * Получение типа данных для класса значений.
+     *
+     * @param type Класс значений
+     * @return Тип данных или null, если тип не зарегистрирован.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> @Nullable PersistentDataType<?, C> get(Class<C> type) {
+        return (PersistentDataType<?, C>) adapters.get(type);
+    }
+
+    /**
+     * Получение типа данных перечисления.
+     * Если таблица констант не была зарегистрирована, регистрируется таблица в порядке объявления констант,
+     * и последующая регистрация другой таблицы вызовет исключение.
+     *
+     * @param type Класс перечисления
+     * @return Тип данных перечисления.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumDataType<E> getEnum(Class<E> type) {
+        return (EnumDataType<E>) adapters.computeIfAbsent(type, key -> new EnumDataType<>(type));
+    }
+
+    private static IllegalStateException tableInUse(Class<?> type) {
+        return new IllegalStateException("Enum table for " + type.getName() + " is already in use and can not be replaced");
+    }
+}
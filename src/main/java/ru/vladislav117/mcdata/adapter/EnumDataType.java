@@ -0,0 +1,76 @@
+package ru.vladislav117.mcdata.adapter;
+
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Arrays;
+
+/**
+ * Тип данных перечисления, хранимого как номер константы в таблице.
+ * Таблица задаёт постоянный порядок констант, не зависящий от порядка объявления:
+ * новые константы следует добавлять в конец таблицы, а удалённые - не убирать из неё.
+ */
+public class EnumDataType<E extends Enum<E>> implements PersistentDataType<Integer, E> {
+    protected final Class<E> type;
+    protected final E[] table;
+    protected final int[] indices;
+
+    /**
+     * Создание типа данных перечисления.
+     *
+     * @param type Класс перечисления
+     * @param table Таблица констант в порядке хранения
+     */
+    public EnumDataType(Class<E> type, E[] table) {
+        this.type = type;
+        this.table = table.clone();
+        this.indices = new int[type.getEnumConstants().length];
+        Arrays.fill(indices, -1);
+        for (int index = 0; index < table.length; index++) {
+            if (indices[table[index].ordinal()] >= 0) throw new IllegalArgumentException("Duplicate enum constant " + table[index] + " in table");
+            indices[table[index].ordinal()] = index;
+        }
+    }
+
+    /**
+     * Создание типа данных перечисления с таблицей в порядке объявления констант.
+     *
+     * @param type Класс перечисления
+     */
+    public EnumDataType(Class<E> type) {
+        this(type, type.getEnumConstants());
+    }
+
+    /**
+     * Проверка совпадения таблицы констант.
+     *
+     * @param table Таблица констант в порядке хранения
+     * @return Совпадает ли таблица с таблицей этого типа данных.
+     */
+    public boolean hasTable(Enum<?>[] table) {
+        return Arrays.equals(this.table, table);
+    }
+
+    @Override
+    public Class<Integer> getPrimitiveType() {
+        return Integer.class;
+    }
+
+    @Override
+    public Class<E> getComplexType() {
+        return type;
+    }
+
+    @Override
+    public Integer toPrimitive(E complex, PersistentDataAdapterContext context) {
+        int index = indices[complex.ordinal()];
+        if (index < 0) throw new IllegalArgumentException("Enum constant " + complex + " is not in the table");
+        return index;
+    }
+
+    @Override
+    public E fromPrimitive(Integer primitive, PersistentDataAdapterContext context) {
+        if (primitive < 0 || primitive >= table.length) throw new IllegalArgumentException("Enum index " + primitive + " is out of table " + type.getSimpleName());
+        return table[primitive];
+    }
+}
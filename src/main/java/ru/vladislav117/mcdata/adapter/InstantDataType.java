@@ -0,0 +1,32 @@
+package ru.vladislav117.mcdata.adapter;
+
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.time.Instant;
+
+/**
+ * Тип данных Instant, хранимого как число миллисекунд от начала эпохи.
+ * Доли миллисекунды не сохраняются.
+ */
+public class InstantDataType implements PersistentDataType<Long, Instant> {
+    @Override
+    public Class<Long> getPrimitiveType() {
+        return Long.class;
+    }
+
+    @Override
+    public Class<Instant> getComplexType() {
+        return Instant.class;
+    }
+
+    @Override
+    public Long toPrimitive(Instant complex, PersistentDataAdapterContext context) {
+        return complex.toEpochMilli();
+    }
+
+    @Override
+    public Instant fromPrimitive(Long primitive, PersistentDataAdapterContext context) {
+        return Instant.ofEpochMilli(primitive);
+    }
+}
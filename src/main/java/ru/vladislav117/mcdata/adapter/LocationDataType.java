@@ -0,0 +1,54 @@
+package ru.vladislav117.mcdata.adapter;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.UUID;
+
+/**
+ * Тип данных Location, хранимого как массив из 6 чисел long:
+ * UUID мира (2 числа, нули без мира), биты координат x, y, z и биты поворота (yaw в старшей половине, pitch в младшей).
+ * Если мир не загружен при чтении, будет возвращена позиция без мира.
+ */
+public class LocationDataType implements PersistentDataType<long[], Location> {
+    @Override
+    public Class<long[]> getPrimitiveType() {
+        return long[].class;
+    }
+
+    @Override
+    public Class<Location> getComplexType() {
+        return Location.class;
+    }
+
+    @Override
+    public long[] toPrimitive(Location complex, PersistentDataAdapterContext context) {
+        World world = complex.getWorld();
+        UUID worldId = world == null ? null : world.getUID();
+        return new long[]{
+                worldId == null ? 0 : worldId.getMostSignificantBits(),
+                worldId == null ? 0 : worldId.getLeastSignificantBits(),
+                Double.doubleToRawLongBits(complex.getX()),
+                Double.doubleToRawLongBits(complex.getY()),
+                Double.doubleToRawLongBits(complex.getZ()),
+                (long) Float.floatToRawIntBits(complex.getYaw()) << 32 | Float.floatToRawIntBits(complex.getPitch()) & 0xFFFFFFFFL
+        };
+    }
+
+    @Override
+    public Location fromPrimitive(long[] primitive, PersistentDataAdapterContext context) {
+        if (primitive.length != 6) throw new IllegalArgumentException("Location must be stored as 6 longs, got " + primitive.length);
+        World world = primitive[0] == 0 && primitive[1] == 0 ? null : Bukkit.getWorld(new UUID(primitive[0], primitive[1]));
+        return new Location(
+                world,
+                Double.longBitsToDouble(primitive[2]),
+                Double.longBitsToDouble(primitive[3]),
+                Double.longBitsToDouble(primitive[4]),
+                Float.intBitsToFloat((int) (primitive[5] >>> 32)),
+                Float.intBitsToFloat((int) primitive[5])
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package ru.vladislav117.mcdata.adapter;
+
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.UUID;
+
+/**
+ * Тип данных UUID, хранимого как два числа long (старшие и младшие биты).
+ */
+public class UUIDDataType implements PersistentDataType<long[], UUID> {
+    @Override
+    public Class<long[]> getPrimitiveType() {
+        return long[].class;
+    }
+
+    @Override
+    public Class<UUID> getComplexType() {
+        return UUID.class;
+    }
+
+    @Override
+    public long[] toPrimitive(UUID complex, PersistentDataAdapterContext context) {
+        return new long[]{complex.getMostSignificantBits(), complex.getLeastSignificantBits()};
+    }
+
+    @Override
+    public UUID fromPrimitive(long[] primitive, PersistentDataAdapterContext context) {
+        if (primitive.length != 2) throw new IllegalArgumentException("UUID must be stored as 2 longs, got " + primitive.length);
+        return new UUID(primitive[0], primitive[1]);
+    }
+}
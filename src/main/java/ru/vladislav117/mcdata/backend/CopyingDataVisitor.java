@@ -0,0 +1,94 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.error.DataManagerError;
+
+/**
+ * Обходчик, копирующий посещённые значения в другое хранилище.
+ * Значения, тип которых не известен исходному хранилищу, не пропускаются: их копирование вызывает исключение.
+ */
+public class CopyingDataVisitor implements DataVisitor {
+    protected final DataBackend target;
+
+    /**
+     * Создание копирующего обходчика.
+     *
+     * @param target Хранилище, в которое копируются значения
+     */
+    public CopyingDataVisitor(DataBackend target) {
+        this.target = target;
+    }
+
+    @Override
+    public void visitByte(NamespacedKey key, byte value) {
+        target.setByte(key, value);
+    }
+
+    @Override
+    public void visitShort(NamespacedKey key, short value) {
+        target.setShort(key, value);
+    }
+
+    @Override
+    public void visitInteger(NamespacedKey key, int value) {
+        target.setInteger(key, value);
+    }
+
+    @Override
+    public void visitLong(NamespacedKey key, long value) {
+        target.setLong(key, value);
+    }
+
+    @Override
+    public void visitFloat(NamespacedKey key, float value) {
+        target.setFloat(key, value);
+    }
+
+    @Override
+    public void visitDouble(NamespacedKey key, double value) {
+        target.setDouble(key, value);
+    }
+
+    @Override
+    public void visitString(NamespacedKey key, String value) {
+        target.set(key, PersistentDataType.STRING, value);
+    }
+
+    @Override
+    public void visitByteArray(NamespacedKey key, byte[] value) {
+        target.set(key, PersistentDataType.BYTE_ARRAY, value);
+    }
+
+    @Override
+    public void visitIntegerArray(NamespacedKey key, int[] value) {
+        target.set(key, PersistentDataType.INTEGER_ARRAY, value);
+    }
+
+    @Override
+    public void visitLongArray(NamespacedKey key, long[] value) {
+        target.set(key, PersistentDataType.LONG_ARRAY, value);
+    }
+
+    @Override
+    public void visitContainer(NamespacedKey key, DataBackend value) {
+        target.setContainer(key, value);
+    }
+
+    /**
+     * Копирование значения типа, не входящего в основной набор.
+     *
+     * @param key Ключ
+     * @param type Тип данных, если он известен хранилищу, иначе null
+     * @param value Значение в примитивном виде, если оно известно хранилищу, иначе null
+     * @throws DataManagerError Если тип или значение не известны хранилищу, будет вызвано исключение.
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void visitOther(NamespacedKey key, @Nullable PersistentDataType<?, ?> type, @Nullable Object value) {
+        if (type == null || value == null) throw new DataManagerError("Value by key \"" + key + "\" has unknown type and can not be copied");
+        PersistentDataType rawType = type;
+        target.set(key, rawType, rawType.fromPrimitive(value, target.getAdapterContext()));
+    }
+}
@@ -0,0 +1,364 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.key.KeyFilters;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Хранилище данных, над которым работает менеджер данных.
+ * Методы для чисел и логических значений имеют реализации по умолчанию через упакованные значения;
+ * хранилища, умеющие хранить их без упаковки, переопределяют эти методы.
+ */
+public interface DataBackend {
+    /**
+     * Проверка наличия ключа.
+     *
+     * @param key Ключ
+     * @return Наличие ключа.
+     */
+    boolean has(NamespacedKey key);
+
+    /**
+     * Проверка значения по ключу на тип.
+     * Если значения по ключу нет, будет возвращено false.
+     *
+     * @param key Ключ
+     * @param type Тип данных
+     * @param <P> Примитивный тип значения
+     * @param <C> Сложный тип значения
+     * @return Является ли значение по ключу значением указанного типа.
+     */
+    <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type);
+
+    /**
+     * Получение значения по ключу за одно обращение.
+     * Если в хранилище нет указанного ключа или значение по ключу неправильного типа, будет возвращено null.
+     *
+     * @param key Ключ
+     * @param type Тип данных
+     * @param <P> Примитивный тип значения
+     * @param <C> Сложный тип значения
+     * @return Значение по ключу или null.
+     */
+    <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type);
+
+    /**
+     * Установка значения по ключу.
+     *
+     * @param key Ключ
+     * @param type Тип данных
+     * @param value Значение
+     * @param <P> Примитивный тип значения
+     * @param <C> Сложный тип значения
+     */
+    <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value);
+
+    /**
+     * Удаление значения по ключу.
+     *
+     * @param key Ключ
+     */
+    void remove(NamespacedKey key);
+
+    /**
+     * Получение копии вложенного контейнера по ключу.
+     * Если в хранилище нет указанного ключа или значение по ключу не контейнер, будет возвращено null.
+     *
+     * @param key Ключ
+     * @return Вложенное хранилище или null.
+     */
+    @Nullable DataBackend getContainer(NamespacedKey key);
+
+    /**
+     * Получение вложенного контейнера по ключу только для чтения.
+     * Хранилища, у которых вложенные контейнеры уже лежат отдельными объектами, возвращают их без копирования;
+     * изменять полученное хранилище нельзя.
+     *
+     * @param key Ключ
+     * @return Вложенное хранилище или null.
+     */
+    default @Nullable DataBackend getContainerView(NamespacedKey key) {
+        return getContainer(key);
+    }
+
+    /**
+     * Установка копии вложенного контейнера по ключу.
+     *
+     * @param key Ключ
+     * @param value Вложенное хранилище
+     */
+    void setContainer(NamespacedKey key, DataBackend value);
+
+    /**
+     * Изменение вложенного контейнера по ключу.
+     * Копия контейнера (или новый контейнер, если его нет) изменяется и записывается обратно.
+     * Потокобезопасные хранилища выполняют изменение атомарно, поэтому изменение не должно обращаться к этому хранилищу.
+     *
+     * @param key Ключ
+     * @param update Изменение контейнера
+     */
+    default void updateContainer(NamespacedKey key, Consumer<DataBackend> update) {
+        DataBackend container = getContainer(key);
+        if (container == null) container = createContainer();
+        update.accept(container);
+        setContainer(key, container);
+    }
+
+    /**
+     * Создание пустого хранилища того же вида, пригодного для вложения в это хранилище.
+     *
+     * @return Пустое хранилище.
+     */
+    DataBackend createContainer();
+
+    /**
+     * Получение контекста адаптеров для пользовательских типов данных.
+     *
+     * @return Контекст адаптеров или null, если хранилище работает без него.
+     */
+    @Nullable PersistentDataAdapterContext getAdapterContext();
+
+    /**
+     * Получение множества ключей.
+     *
+     * @return Новое множество ключей.
+     */
+    Set<NamespacedKey> getKeys();
+
+    /**
+     * Проверка хранилища на пустоту.
+     *
+     * @return Пусто ли хранилище.
+     */
+    boolean isEmpty();
+
+    /**
+     * Обход всех значений хранилища.
+     *
+     * @param visitor Обходчик
+     */
+    void forEach(DataVisitor visitor);
+
+    /**
+     * Посещение значения по ключу.
+     *
+     * @param key Ключ
+     * @param visitor Обходчик
+     * @return Было ли значение по ключу.
+     */
+    default boolean visit(NamespacedKey key, DataVisitor visitor) {
+        if (!has(key)) return false;
+        forEach(new FilteringDataVisitor(visitor, key::equals));
+        return true;
+    }
+
+    /**
+     * Обход ключей пространства имён вместе с видами значений.
+     * Реализация по умолчанию обходит значения; хранилища, знающие виды значений, перечисляют ключи без обхода значений.
+     *
+     * @param namespace Пространство имён или null для всех ключей
+     * @param visitor Обходчик ключей
+     */
+    default void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        forEach(new KindDataVisitor(namespace, visitor));
+    }
+
+    /**
+     * Копирование всех значений в другое хранилище с заменой существующих.
+     *
+     * @param target Хранилище, в которое копируются значения
+     */
+    default void copyTo(DataBackend target) {
+        forEach(new CopyingDataVisitor(target));
+    }
+
+    /**
+     * Копирование значений с подходящими ключами в другое хранилище с заменой существующих.
+     * Для фильтра KeyFilters.all() используется copyTo(target).
+     *
+     * @param target Хранилище, в которое копируются значения
+     * @param filter Фильтр ключей
+     */
+    default void copyTo(DataBackend target, Predicate<NamespacedKey> filter) {
+        if (KeyFilters.isAll(filter)) {
+            copyTo(target);
+            return;
+        }
+        forEach(new FilteringDataVisitor(new CopyingDataVisitor(target), filter));
+    }
+
+    /**
+     * Слияние значений с подходящими ключами с другим хранилищем.
+     *
+     * @param target Хранилище, в которое сливаются значения
+     * @param filter Фильтр ключей
+     * @param policy Политика разрешения конфликтов
+     */
+    default void mergeTo(DataBackend target, Predicate<NamespacedKey> filter, MergePolicy policy) {
+        switch (policy) {
+            case REPLACE -> copyTo(target, filter);
+            case KEEP_EXISTING -> forEach(new FilteringDataVisitor(new CopyingDataVisitor(target), key -> !target.has(key) && filter.test(key)));
+            case MERGE_CONTAINERS -> forEach(new FilteringDataVisitor(new MergingDataVisitor(target), filter));
+        }
+    }
+
+    /**
+     * Получение Byte значения по ключу.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение, если ключа нет или значение неправильного типа
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    default byte getByte(NamespacedKey key, byte defaultValue) {
+        Byte value = get(key, PersistentDataType.BYTE);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Получение Short значения по ключу.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение, если ключа нет или значение неправильного типа
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    default short getShort(NamespacedKey key, short defaultValue) {
+        Short value = get(key, PersistentDataType.SHORT);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Получение Integer значения по ключу.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение, если ключа нет или значение неправильного типа
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    default int getInteger(NamespacedKey key, int defaultValue) {
+        Integer value = get(key, PersistentDataType.INTEGER);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Получение Long значения по ключу.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение, если ключа нет или значение неправильного типа
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    default long getLong(NamespacedKey key, long defaultValue) {
+        Long value = get(key, PersistentDataType.LONG);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Получение Float значения по ключу.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение, если ключа нет или значение неправильного типа
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    default float getFloat(NamespacedKey key, float defaultValue) {
+        Float value = get(key, PersistentDataType.FLOAT);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Получение Double значения по ключу.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение, если ключа нет или значение неправильного типа
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    default double getDouble(NamespacedKey key, double defaultValue) {
+        Double value = get(key, PersistentDataType.DOUBLE);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Получение Boolean значения по ключу.
+     *
+     * @param key Ключ
+     * @param defaultValue Значение, если ключа нет или значение неправильного типа
+     * @return Значение по ключу или значение по умолчанию.
+     */
+    default boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        Boolean value = get(key, PersistentDataType.BOOLEAN);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Установка Byte значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    default void setByte(NamespacedKey key, byte value) {
+        set(key, PersistentDataType.BYTE, value);
+    }
+
+    /**
+     * Установка Short значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    default void setShort(NamespacedKey key, short value) {
+        set(key, PersistentDataType.SHORT, value);
+    }
+
+    /**
+     * Установка Integer значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    default void setInteger(NamespacedKey key, int value) {
+        set(key, PersistentDataType.INTEGER, value);
+    }
+
+    /**
+     * Установка Long значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    default void setLong(NamespacedKey key, long value) {
+        set(key, PersistentDataType.LONG, value);
+    }
+
+    /**
+     * Установка Float значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    default void setFloat(NamespacedKey key, float value) {
+        set(key, PersistentDataType.FLOAT, value);
+    }
+
+    /**
+     * Установка Double значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    default void setDouble(NamespacedKey key, double value) {
+        set(key, PersistentDataType.DOUBLE, value);
+    }
+
+    /**
+     * Установка Boolean значения по ключу.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    default void setBoolean(NamespacedKey key, boolean value) {
+        set(key, PersistentDataType.BOOLEAN, value);
+    }
+}
@@ -0,0 +1,66 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Вид значения, хранимого в хранилище данных.
+ * Логические значения хранятся как BYTE, так же как в PersistentDataContainer.
+ */
+public enum DataKind {
+    BYTE(PersistentDataType.BYTE),
+    SHORT(PersistentDataType.SHORT),
+    INTEGER(PersistentDataType.INTEGER),
+    LONG(PersistentDataType.LONG),
+    FLOAT(PersistentDataType.FLOAT),
+    DOUBLE(PersistentDataType.DOUBLE),
+    STRING(PersistentDataType.STRING),
+    BYTE_ARRAY(PersistentDataType.BYTE_ARRAY),
+    INTEGER_ARRAY(PersistentDataType.INTEGER_ARRAY),
+    LONG_ARRAY(PersistentDataType.LONG_ARRAY),
+    CONTAINER(PersistentDataType.TAG_CONTAINER),
+    OTHER(null);
+
+    static final DataKind[] kinds = values();
+
+    protected final @Nullable PersistentDataType<?, ?> type;
+
+    DataKind(@Nullable PersistentDataType<?, ?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Получение вида значения по порядковому номеру.
+     *
+     * @param ordinal Порядковый номер
+     * @return Вид значения.
+     */
+    public static DataKind byOrdinal(int ordinal) {
+        return kinds[ordinal];
+    }
+
+    /**
+     * Получение вида значения по примитивному типу.
+     * Для типов, не входящих в основной набор, будет возвращено OTHER.
+     *
+     * @param primitiveType Примитивный тип
+     * @return Вид значения.
+     */
+    public static DataKind byPrimitiveType(Class<?> primitiveType) {
+        for (DataKind kind : kinds) {
+            if (kind.type != null && kind.type.getPrimitiveType() == primitiveType) return kind;
+        }
+        if (PersistentDataContainer.class.isAssignableFrom(primitiveType)) return CONTAINER;
+        return OTHER;
+    }
+
+    /**
+     * Получение основного типа данных для вида значения.
+     *
+     * @return Тип данных или null для OTHER.
+     */
+    public @Nullable PersistentDataType<?, ?> getType() {
+        return type;
+    }
+}
@@ -0,0 +1,112 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Обходчик значений хранилища данных.
+ * Числовые значения передаются без упаковки.
+ * Массивы могут передаваться без копирования, поэтому обходчик не должен их изменять.
+ */
+public interface DataVisitor {
+    /**
+     * Посещение Byte значения.
+     * Логические значения также посещаются как Byte.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitByte(NamespacedKey key, byte value);
+
+    /**
+     * Посещение Short значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitShort(NamespacedKey key, short value);
+
+    /**
+     * Посещение Integer значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitInteger(NamespacedKey key, int value);
+
+    /**
+     * Посещение Long значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitLong(NamespacedKey key, long value);
+
+    /**
+     * Посещение Float значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitFloat(NamespacedKey key, float value);
+
+    /**
+     * Посещение Double значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitDouble(NamespacedKey key, double value);
+
+    /**
+     * Посещение String значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitString(NamespacedKey key, String value);
+
+    /**
+     * Посещение ByteArray значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitByteArray(NamespacedKey key, byte[] value);
+
+    /**
+     * Посещение IntegerArray значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitIntegerArray(NamespacedKey key, int[] value);
+
+    /**
+     * Посещение LongArray значения.
+     *
+     * @param key Ключ
+     * @param value Значение
+     */
+    void visitLongArray(NamespacedKey key, long[] value);
+
+    /**
+     * Посещение вложенного контейнера.
+     *
+     * @param key Ключ
+     * @param value Вложенное хранилище
+     */
+    void visitContainer(NamespacedKey key, DataBackend value);
+
+    /**
+     * Посещение значения типа, не входящего в основной набор.
+     * По умолчанию такие значения пропускаются.
+     *
+     * @param key Ключ
+     * @param type Тип данных, если он известен хранилищу, иначе null
+     * @param value Значение в примитивном виде, если оно известно хранилищу, иначе null
+     */
+    default void visitOther(NamespacedKey key, @Nullable PersistentDataType<?, ?> type, @Nullable Object value) {
+    }
+}
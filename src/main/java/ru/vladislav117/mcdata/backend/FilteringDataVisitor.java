@@ -0,0 +1,86 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Обходчик, передающий другому обходчику только значения с подходящими ключами.
+ */
+public class FilteringDataVisitor implements DataVisitor {
+    protected final DataVisitor visitor;
+    protected final Predicate<NamespacedKey> filter;
+
+    /**
+     * Создание фильтрующего обходчика.
+     *
+     * @param visitor Обходчик, получающий подходящие значения
+     * @param filter Фильтр ключей
+     */
+    public FilteringDataVisitor(DataVisitor visitor, Predicate<NamespacedKey> filter) {
+        this.visitor = visitor;
+        this.filter = filter;
+    }
+
+    @Override
+    public void visitByte(NamespacedKey key, byte value) {
+        if (filter.test(key)) visitor.visitByte(key, value);
+    }
+
+    @Override
+    public void visitShort(NamespacedKey key, short value) {
+        if (filter.test(key)) visitor.visitShort(key, value);
+    }
+
+    @Override
+    public void visitInteger(NamespacedKey key, int value) {
+        if (filter.test(key)) visitor.visitInteger(key, value);
+    }
+
+    @Override
+    public void visitLong(NamespacedKey key, long value) {
+        if (filter.test(key)) visitor.visitLong(key, value);
+    }
+
+    @Override
+    public void visitFloat(NamespacedKey key, float value) {
+        if (filter.test(key)) visitor.visitFloat(key, value);
+    }
+
+    @Override
+    public void visitDouble(NamespacedKey key, double value) {
+        if (filter.test(key)) visitor.visitDouble(key, value);
+    }
+
+    @Override
+    public void visitString(NamespacedKey key, String value) {
+        if (filter.test(key)) visitor.visitString(key, value);
+    }
+
+    @Override
+    public void visitByteArray(NamespacedKey key, byte[] value) {
+        if (filter.test(key)) visitor.visitByteArray(key, value);
+    }
+
+    @Override
+    public void visitIntegerArray(NamespacedKey key, int[] value) {
+        if (filter.test(key)) visitor.visitIntegerArray(key, value);
+    }
+
+    @Override
+    public void visitLongArray(NamespacedKey key, long[] value) {
+        if (filter.test(key)) visitor.visitLongArray(key, value);
+    }
+
+    @Override
+    public void visitContainer(NamespacedKey key, DataBackend value) {
+        if (filter.test(key)) visitor.visitContainer(key, value);
+    }
+
+    @Override
+    public void visitOther(NamespacedKey key, @Nullable PersistentDataType<?, ?> type, @Nullable Object value) {
+        if (filter.test(key)) visitor.visitOther(key, type, value);
+    }
+}
@@ -0,0 +1,17 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+
+/**
+ * Обходчик ключей хранилища данных.
+ */
+@FunctionalInterface
+public interface KeyVisitor {
+    /**
+     * Посещение ключа.
+     *
+     * @param key Ключ
+     * @param kind Вид значения по ключу
+     */
+    void visitKey(NamespacedKey key, DataKind kind);
+}
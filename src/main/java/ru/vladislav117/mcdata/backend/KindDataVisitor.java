@@ -0,0 +1,89 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Обходчик значений, передающий обходчику ключей только ключи и виды значений.
+ * Используется хранилищами, которые не умеют перечислять ключи без обхода значений.
+ */
+public class KindDataVisitor implements DataVisitor {
+    protected final @Nullable String namespace;
+    protected final KeyVisitor visitor;
+
+    /**
+     * Создание обходчика.
+     *
+     * @param namespace Пространство имён ключей или null для всех ключей
+     * @param visitor Обходчик ключей
+     */
+    public KindDataVisitor(@Nullable String namespace, KeyVisitor visitor) {
+        this.namespace = namespace;
+        this.visitor = visitor;
+    }
+
+    protected void visit(NamespacedKey key, DataKind kind) {
+        if (namespace == null || namespace.equals(key.getNamespace())) visitor.visitKey(key, kind);
+    }
+
+    @Override
+    public void visitByte(NamespacedKey key, byte value) {
+        visit(key, DataKind.BYTE);
+    }
+
+    @Override
+    public void visitShort(NamespacedKey key, short value) {
+        visit(key, DataKind.SHORT);
+    }
+
+    @Override
+    public void visitInteger(NamespacedKey key, int value) {
+        visit(key, DataKind.INTEGER);
+    }
+
+    @Override
+    public void visitLong(NamespacedKey key, long value) {
+        visit(key, DataKind.LONG);
+    }
+
+    @Override
+    public void visitFloat(NamespacedKey key, float value) {
+        visit(key, DataKind.FLOAT);
+    }
+
+    @Override
+    public void visitDouble(NamespacedKey key, double value) {
+        visit(key, DataKind.DOUBLE);
+    }
+
+    @Override
+    public void visitString(NamespacedKey key, String value) {
+        visit(key, DataKind.STRING);
+    }
+
+    @Override
+    public void visitByteArray(NamespacedKey key, byte[] value) {
+        visit(key, DataKind.BYTE_ARRAY);
+    }
+
+    @Override
+    public void visitIntegerArray(NamespacedKey key, int[] value) {
+        visit(key, DataKind.INTEGER_ARRAY);
+    }
+
+    @Override
+    public void visitLongArray(NamespacedKey key, long[] value) {
+        visit(key, DataKind.LONG_ARRAY);
+    }
+
+    @Override
+    public void visitContainer(NamespacedKey key, DataBackend value) {
+        visit(key, DataKind.CONTAINER);
+    }
+
+    @Override
+    public void visitOther(NamespacedKey key, @Nullable PersistentDataType<?, ?> type, @Nullable Object value) {
+        visit(key, DataKind.OTHER);
+    }
+}
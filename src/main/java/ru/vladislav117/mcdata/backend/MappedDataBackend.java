@@ -0,0 +1,759 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.error.DataManagerError;
+import ru.vladislav117.mcdata.io.DataSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Хранилище данных в отображённых в память файлах.
+ * Значения и хеш-таблица ключей лежат вне кучи, поэтому хранилище может занимать гигабайты без нагрузки на сборщик мусора,
+ * а при повторном открытии файлы только отображаются в память, без чтения значений.
+ * <p>
+ * Файл индекса (путь + ".index") содержит заголовок и таблицу с открытой адресацией: адрес записи, хеш ключа и вид значения.
+ * Файл данных содержит записи: вид, длины пространства имён, ключа и значения, сами ключ и значение.
+ * Файл данных отображается областями до regionSize байт, запись никогда не пересекает границу области.
+ * <p>
+ * Значения того же вида и размера перезаписываются на месте, остальные дописываются в конец;
+ * место устаревших записей освобождает compact().
+ * Вложенные контейнеры хранятся в формате DataSerializer.
+ * Значения, чей примитивный тип не входит в основной набор (например, списки ListPersistentDataType), не поддерживаются:
+ * их запись вызывает DataManagerError и не изменяет хранилище.
+ * Хранилище не потокобезопасно.
+ */
+public class MappedDataBackend implements DataBackend, AutoCloseable {
+    public static final int MAGIC = 0x4D43444D;
+    public static final int VERSION = 1;
+    public static final long DEFAULT_REGION_SIZE = 1L << 30;
+    static final int headerSize = 64;
+    static final int slotSize = 16;
+    static final int entryHeaderSize = 8;
+    static final int minCapacity = 1024;
+    static final int maxCapacity = 1 << 26;
+    static final long minMappingSize = 64 << 10;
+    static final int capacityOffset = 8;
+    static final int sizeOffset = 12;
+    static final int dataEndOffset = 16;
+    static final int garbageOffset = 24;
+    static final int regionSizeOffset = 32;
+
+    protected final Path path;
+    protected final Path indexPath;
+    protected final @Nullable PersistentDataAdapterContext context;
+    protected long regionSize;
+    protected FileChannel indexChannel;
+    protected FileChannel dataChannel;
+    protected MappedByteBuffer index;
+    protected MappedByteBuffer[] regions = new MappedByteBuffer[0];
+    protected int capacity;
+    protected int size;
+    protected long dataEnd;
+    protected long garbage;
+
+    /**
+     * Открытие или создание хранилища.
+     * Если файлы уже есть, размер области берётся из них.
+     *
+     * @param path Путь к файлу данных
+     * @param regionSize Размер области отображения, не больше 1 ГиБ
+     * @param context Контекст адаптеров для вложенных контейнеров или null
+     * @throws IOException Если файлы не удалось открыть.
+     */
+    public MappedDataBackend(Path path, long regionSize, @Nullable PersistentDataAdapterContext context) throws IOException {
+        if (regionSize < minMappingSize || regionSize > DEFAULT_REGION_SIZE) throw new IllegalArgumentException("Region size must be between " + minMappingSize + " and " + DEFAULT_REGION_SIZE);
+        this.path = path;
+        this.indexPath = path.resolveSibling(path.getFileName() + ".index");
+        this.regionSize = regionSize;
+        this.context = context;
+        open();
+    }
+
+    /**
+     * Открытие или создание хранилища с областями по 1 ГиБ.
+     *
+     * @param path Путь к файлу данных
+     * @param context Контекст адаптеров для вложенных контейнеров или null
+     * @throws IOException Если файлы не удалось открыть.
+     */
+    public MappedDataBackend(Path path, @Nullable PersistentDataAdapterContext context) throws IOException {
+        this(path, DEFAULT_REGION_SIZE, context);
+    }
+
+    /**
+     * Открытие или создание хранилища с областями по 1 ГиБ без контекста адаптеров.
+     *
+     * @param path Путь к файлу данных
+     * @throws IOException Если файлы не удалось открыть.
+     */
+    public MappedDataBackend(Path path) throws IOException {
+        this(path, DEFAULT_REGION_SIZE, null);
+    }
+
+    protected void open() throws IOException {
+        boolean exists = Files.exists(indexPath);
+        indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        dataChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (!exists || indexChannel.size() == 0) {
+            capacity = minCapacity;
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, headerSize + (long) capacity * slotSize);
+            index.putInt(0, MAGIC);
+            index.putInt(4, VERSION);
+            index.putInt(capacityOffset, capacity);
+            index.putLong(regionSizeOffset, regionSize);
+            size = 0;
+            dataEnd = 0;
+            garbage = 0;
+            writeHeader();
+        } else {
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+            if (index.getInt(0) != MAGIC || index.getInt(4) != VERSION) throw new IOException("File " + indexPath + " is not a mapped data backend index");
+            capacity = index.getInt(capacityOffset);
+            size = index.getInt(sizeOffset);
+            dataEnd = index.getLong(dataEndOffset);
+            garbage = index.getLong(garbageOffset);
+            regionSize = index.getLong(regionSizeOffset);
+        }
+        regions = new MappedByteBuffer[0];
+        for (long regionStart = 0; regionStart < dataEnd; regionStart += regionSize) {
+            map((int) (regionStart / regionSize), Math.min(dataEnd, regionStart + regionSize));
+        }
+    }
+
+    protected void writeHeader() {
+        index.putInt(sizeOffset, size);
+        index.putLong(dataEndOffset, dataEnd);
+        index.putLong(garbageOffset, garbage);
+    }
+
+    protected MappedByteBuffer map(int region, long end) throws IOException {
+        long regionStart = region * regionSize;
+        MappedByteBuffer buffer = region < regions.length ? regions[region] : null;
+        if (buffer != null && regionStart + buffer.capacity() >= end) return buffer;
+        long need = end - regionStart;
+        long length = Math.min(regionSize, Math.max(minMappingSize, Long.highestOneBit(need - 1) << 1));
+        if (region >= regions.length) {
+            MappedByteBuffer[] grown = new MappedByteBuffer[region + 1];
+            System.arraycopy(regions, 0, grown, 0, regions.length);
+            regions = grown;
+        }
+        buffer = dataChannel.map(FileChannel.MapMode.READ_WRITE, regionStart, length);
+        regions[region] = buffer;
+        return buffer;
+    }
+
+    protected ByteBuffer region(long offset) {
+        return regions[(int) (offset / regionSize)];
+    }
+
+    protected int position(long offset) {
+        return (int) (offset % regionSize);
+    }
+
+    protected static int hash(NamespacedKey key) {
+        int mixed = (31 * key.getNamespace().hashCode() + key.getKey().hashCode()) * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    protected static long slotOffset(int slot) {
+        return headerSize + (long) slot * slotSize;
+    }
+
+    protected long getAddress(int slot) {
+        return index.getLong((int) slotOffset(slot));
+    }
+
+    protected int getKind(int slot) {
+        return index.getInt((int) slotOffset(slot) + 12);
+    }
+
+    protected void setSlot(int slot, long address, int hash, int kind) {
+        int offset = (int) slotOffset(slot);
+        index.putLong(offset, address);
+        index.putInt(offset + 8, hash);
+        index.putInt(offset + 12, kind);
+    }
+
+    /**
+     * Поиск ячейки ключа.
+     *
+     * @param key Ключ
+     * @param hash Хеш ключа
+     * @return Индекс ячейки с ключом или отрицательное значение ~индекс свободной ячейки.
+     */
+    protected int find(NamespacedKey key, int hash) {
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        long address;
+        while ((address = getAddress(slot)) != 0) {
+            if (index.getInt((int) slotOffset(slot) + 8) == hash && keyEquals(address - 1, key)) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    protected int findKind(NamespacedKey key, DataKind kind) {
+        int slot = find(key, hash(key));
+        if (slot < 0 || getKind(slot) != kind.ordinal()) return -1;
+        return slot;
+    }
+
+    protected boolean keyEquals(long offset, NamespacedKey key) {
+        ByteBuffer buffer = region(offset);
+        int position = position(offset);
+        String namespace = key.getNamespace();
+        String name = key.getKey();
+        int namespaceLength = buffer.get(position + 1) & 0xFF;
+        int nameLength = buffer.getShort(position + 2) & 0xFFFF;
+        if (namespaceLength != namespace.length() || nameLength != name.length()) return false;
+        position += entryHeaderSize;
+        for (int index = 0; index < namespaceLength; index++) {
+            if (buffer.get(position++) != namespace.charAt(index)) return false;
+        }
+        for (int index = 0; index < nameLength; index++) {
+            if (buffer.get(position++) != name.charAt(index)) return false;
+        }
+        return true;
+    }
+
+    protected boolean namespaceEquals(long offset, String namespace) {
+        ByteBuffer buffer = region(offset);
+        int position = position(offset);
+        if ((buffer.get(position + 1) & 0xFF) != namespace.length()) return false;
+        position += entryHeaderSize;
+        for (int index = 0; index < namespace.length(); index++) {
+            if (buffer.get(position++) != namespace.charAt(index)) return false;
+        }
+        return true;
+    }
+
+    protected NamespacedKey readKey(long offset) {
+        ByteBuffer buffer = region(offset);
+        int position = position(offset);
+        int namespaceLength = buffer.get(position + 1) & 0xFF;
+        int nameLength = buffer.getShort(position + 2) & 0xFFFF;
+        byte[] bytes = new byte[namespaceLength + nameLength];
+        buffer.get(position + entryHeaderSize, bytes);
+        return new NamespacedKey(new String(bytes, 0, namespaceLength, StandardCharsets.US_ASCII), new String(bytes, namespaceLength, nameLength, StandardCharsets.US_ASCII));
+    }
+
+    protected int getValuePosition(long offset) {
+        ByteBuffer buffer = region(offset);
+        int position = position(offset);
+        return position + entryHeaderSize + (buffer.get(position + 1) & 0xFF) + (buffer.getShort(position + 2) & 0xFFFF);
+    }
+
+    protected int getValueLength(long offset) {
+        return region(offset).getInt(position(offset) + 4);
+    }
+
+    protected int getEntrySize(long offset) {
+        return getValuePosition(offset) - position(offset) + getValueLength(offset);
+    }
+
+    /**
+     * Получение места под значение по ключу.
+     * Если значение того же вида и размера уже есть, возвращается его место, иначе в конец файла данных дописывается новая запись.
+     *
+     * @param key Ключ
+     * @param kind Вид значения
+     * @param valueLength Длина значения
+     * @return Смещение значения в файле данных.
+     */
+    protected long allocate(NamespacedKey key, DataKind kind, int valueLength) {
+        int hash = hash(key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            long offset = getAddress(slot) - 1;
+            if (getKind(slot) == kind.ordinal() && getValueLength(offset) == valueLength) return offset;
+        }
+        String namespace = key.getNamespace();
+        String name = key.getKey();
+        if (namespace.length() > 0xFF || name.length() > 0xFFFF) throw new DataManagerError("Key \"" + key + "\" is too long for mapped data backend");
+        long entrySize = (long) entryHeaderSize + namespace.length() + name.length() + valueLength;
+        if (entrySize > regionSize) throw new DataManagerError("Value by key \"" + key + "\" is larger than mapping region");
+        long offset = dataEnd;
+        long padding = position(offset) + entrySize > regionSize ? regionSize - position(offset) : 0;
+        offset += padding;
+        ByteBuffer buffer;
+        try {
+            buffer = map((int) (offset / regionSize), offset + entrySize);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        if (slot >= 0) {
+            garbage += getEntrySize(getAddress(slot) - 1);
+        } else {
+            if ((size + 1) * 2 > capacity) {
+                resize(capacity * 2);
+                slot = find(key, hash);
+            }
+            slot = ~slot;
+            size++;
+        }
+        garbage += padding;
+        int position = position(offset);
+        buffer.put(position, (byte) kind.ordinal());
+        buffer.put(position + 1, (byte) namespace.length());
+        buffer.putShort(position + 2, (short) name.length());
+        buffer.putInt(position + 4, valueLength);
+        position += entryHeaderSize;
+        for (int index = 0; index < namespace.length(); index++) buffer.put(position++, (byte) namespace.charAt(index));
+        for (int index = 0; index < name.length(); index++) buffer.put(position++, (byte) name.charAt(index));
+        setSlot(slot, offset + 1, hash, kind.ordinal());
+        dataEnd = offset + entrySize;
+        writeHeader();
+        return offset;
+    }
+
+    protected void resize(int newCapacity) {
+        if (newCapacity > maxCapacity) throw new DataManagerError("Mapped data backend can not hold more than " + maxCapacity / 2 + " values");
+        try {
+            Path temporaryPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            MappedByteBuffer resized;
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                resized = channel.map(FileChannel.MapMode.READ_WRITE, 0, headerSize + (long) newCapacity * slotSize);
+            }
+            resized.put(0, index, 0, headerSize);
+            resized.putInt(capacityOffset, newCapacity);
+            int mask = newCapacity - 1;
+            for (int slot = 0; slot < capacity; slot++) {
+                long address = getAddress(slot);
+                if (address == 0) continue;
+                int hash = index.getInt((int) slotOffset(slot) + 8);
+                int target = hash & mask;
+                while (resized.getLong((int) slotOffset(target)) != 0) target = (target + 1) & mask;
+                resized.put((int) slotOffset(target), index, (int) slotOffset(slot), slotSize);
+            }
+            resized.force();
+            indexChannel.close();
+            Files.move(temporaryPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = resized;
+            capacity = newCapacity;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    protected void putPrimitive(NamespacedKey key, DataKind kind, long value, int width) {
+        long offset = allocate(key, kind, width);
+        ByteBuffer buffer = region(offset);
+        int position = getValuePosition(offset);
+        switch (width) {
+            case 1 -> buffer.put(position, (byte) value);
+            case 2 -> buffer.putShort(position, (short) value);
+            case 4 -> buffer.putInt(position, (int) value);
+            default -> buffer.putLong(position, value);
+        }
+    }
+
+    protected long getPrimitive(int slot, int width) {
+        long offset = getAddress(slot) - 1;
+        ByteBuffer buffer = region(offset);
+        int position = getValuePosition(offset);
+        return switch (width) {
+            case 1 -> buffer.get(position);
+            case 2 -> buffer.getShort(position);
+            case 4 -> buffer.getInt(position);
+            default -> buffer.getLong(position);
+        };
+    }
+
+    protected void putBytes(NamespacedKey key, DataKind kind, byte[] value) {
+        long offset = allocate(key, kind, value.length);
+        region(offset).put(getValuePosition(offset), value);
+    }
+
+    protected void putIntegers(NamespacedKey key, int[] value) {
+        long offset = allocate(key, DataKind.INTEGER_ARRAY, value.length * 4);
+        region(offset).slice(getValuePosition(offset), value.length * 4).asIntBuffer().put(value);
+    }
+
+    protected void putLongs(NamespacedKey key, long[] value) {
+        long offset = allocate(key, DataKind.LONG_ARRAY, value.length * 8);
+        region(offset).slice(getValuePosition(offset), value.length * 8).asLongBuffer().put(value);
+    }
+
+    protected ByteBuffer getValue(int slot) {
+        long offset = getAddress(slot) - 1;
+        return region(offset).slice(getValuePosition(offset), getValueLength(offset));
+    }
+
+    protected Object getObject(int slot) {
+        ByteBuffer value = getValue(slot);
+        return switch (DataKind.byOrdinal(getKind(slot))) {
+            case STRING -> {
+                byte[] bytes = new byte[value.remaining()];
+                value.get(bytes);
+                yield new String(bytes, StandardCharsets.UTF_8);
+            }
+            case BYTE_ARRAY -> {
+                byte[] bytes = new byte[value.remaining()];
+                value.get(bytes);
+                yield bytes;
+            }
+            case INTEGER_ARRAY -> {
+                int[] integers = new int[value.remaining() / 4];
+                value.asIntBuffer().get(integers);
+                yield integers;
+            }
+            case LONG_ARRAY -> {
+                long[] longs = new long[value.remaining() / 8];
+                value.asLongBuffer().get(longs);
+                yield longs;
+            }
+            default -> throw new IllegalStateException();
+        };
+    }
+
+    protected MemoryDataBackend readContainer(int slot) {
+        MemoryDataBackend container = new MemoryDataBackend(MemoryDataBackend.DEFAULT_EXPECTED_SIZE, context);
+        DataSerializer.read(getValue(slot), container);
+        return container;
+    }
+
+    protected @Nullable Object getPrimitiveValue(int slot) {
+        return switch (DataKind.byOrdinal(getKind(slot))) {
+            case BYTE -> (byte) getPrimitive(slot, 1);
+            case SHORT -> (short) getPrimitive(slot, 2);
+            case INTEGER -> (int) getPrimitive(slot, 4);
+            case LONG -> getPrimitive(slot, 8);
+            case FLOAT -> Float.intBitsToFloat((int) getPrimitive(slot, 4));
+            case DOUBLE -> Double.longBitsToDouble(getPrimitive(slot, 8));
+            case STRING, BYTE_ARRAY, INTEGER_ARRAY, LONG_ARRAY -> getObject(slot);
+            case CONTAINER -> {
+                if (context == null) yield null;
+                PersistentDataContainer container = context.newPersistentDataContainer();
+                readContainer(slot).copyTo(new PersistentDataContainerBackend(container));
+                yield container;
+            }
+            case OTHER -> null;
+        };
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return find(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        DataKind kind = DataKind.byPrimitiveType(type.getPrimitiveType());
+        return kind != DataKind.OTHER && findKind(key, kind) >= 0;
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        DataKind kind = DataKind.byPrimitiveType(type.getPrimitiveType());
+        if (kind == DataKind.OTHER) return null;
+        int slot = findKind(key, kind);
+        if (slot < 0) return null;
+        Object primitive = getPrimitiveValue(slot);
+        Class<P> primitiveType = type.getPrimitiveType();
+        if (!primitiveType.isInstance(primitive)) return null;
+        try {
+            return type.fromPrimitive(primitiveType.cast(primitive), context);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Запись значения по ключу.
+     *
+     * @param key Ключ
+     * @param type Тип данных
+     * @param value Значение
+     * @param <P> Примитивный тип значения
+     * @param <C> Сложный тип значения
+     * @throws DataManagerError Если примитивный тип не входит в основной набор, будет вызвано исключение.
+     */
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        P primitive = type.toPrimitive(value, context);
+        DataKind kind = DataKind.byPrimitiveType(type.getPrimitiveType());
+        switch (kind) {
+            case BYTE -> putPrimitive(key, kind, (Byte) primitive, 1);
+            case SHORT -> putPrimitive(key, kind, (Short) primitive, 2);
+            case INTEGER -> putPrimitive(key, kind, (Integer) primitive, 4);
+            case LONG -> putPrimitive(key, kind, (Long) primitive, 8);
+            case FLOAT -> putPrimitive(key, kind, Float.floatToRawIntBits((Float) primitive), 4);
+            case DOUBLE -> putPrimitive(key, kind, Double.doubleToRawLongBits((Double) primitive), 8);
+            case STRING -> putBytes(key, kind, ((String) primitive).getBytes(StandardCharsets.UTF_8));
+            case BYTE_ARRAY -> putBytes(key, kind, (byte[]) primitive);
+            case INTEGER_ARRAY -> putIntegers(key, (int[]) primitive);
+            case LONG_ARRAY -> putLongs(key, (long[]) primitive);
+            case CONTAINER -> setContainer(key, new PersistentDataContainerBackend((PersistentDataContainer) primitive));
+            case OTHER -> throw new DataManagerError("Type \"" + type.getComplexType().getName() + "\" is not supported by mapped data backend");
+        }
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        int slot = find(key, hash(key));
+        if (slot < 0) return;
+        garbage += getEntrySize(getAddress(slot) - 1);
+        int mask = capacity - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (getAddress(next) != 0) {
+            int ideal = index.getInt((int) slotOffset(next) + 8) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                index.put((int) slotOffset(hole), index, (int) slotOffset(next), slotSize);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        setSlot(hole, 0, 0, 0);
+        size--;
+        writeHeader();
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        int slot = findKind(key, DataKind.CONTAINER);
+        if (slot < 0) return null;
+        return readContainer(slot);
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        putBytes(key, DataKind.CONTAINER, DataSerializer.toByteArray(value));
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return new MemoryDataBackend(MemoryDataBackend.DEFAULT_EXPECTED_SIZE, context);
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return context;
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        Set<NamespacedKey> keys = new HashSet<>();
+        for (int slot = 0; slot < capacity; slot++) {
+            long address = getAddress(slot);
+            if (address != 0) keys.add(readKey(address - 1));
+        }
+        return keys;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Получение числа значений.
+     *
+     * @return Число значений.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Получение числа байтов файла данных, занятых устаревшими записями.
+     *
+     * @return Число байтов.
+     */
+    public long getGarbage() {
+        return garbage;
+    }
+
+    /**
+     * Получение числа использованных байтов файла данных.
+     *
+     * @return Число байтов.
+     */
+    public long getDataSize() {
+        return dataEnd;
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        for (int slot = 0; slot < capacity; slot++) {
+            long address = getAddress(slot);
+            if (address != 0) visitSlot(slot, readKey(address - 1), visitor);
+        }
+    }
+
+    /**
+     * Обход ключей пространства имён вместе с видами значений.
+     * Пространство имён сравнивается с файлом данных, ключи читаются только для подходящих записей.
+     *
+     * @param namespace Пространство имён или null для всех ключей
+     * @param visitor Обходчик ключей
+     */
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        for (int slot = 0; slot < capacity; slot++) {
+            long address = getAddress(slot);
+            if (address == 0 || namespace != null && !namespaceEquals(address - 1, namespace)) continue;
+            visitor.visitKey(readKey(address - 1), DataKind.byOrdinal(getKind(slot)));
+        }
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        int slot = find(key, hash(key));
+        if (slot < 0) return false;
+        visitSlot(slot, key, visitor);
+        return true;
+    }
+
+    protected void visitSlot(int slot, NamespacedKey key, DataVisitor visitor) {
+        switch (DataKind.byOrdinal(getKind(slot))) {
+            case BYTE -> visitor.visitByte(key, (byte) getPrimitive(slot, 1));
+            case SHORT -> visitor.visitShort(key, (short) getPrimitive(slot, 2));
+            case INTEGER -> visitor.visitInteger(key, (int) getPrimitive(slot, 4));
+            case LONG -> visitor.visitLong(key, getPrimitive(slot, 8));
+            case FLOAT -> visitor.visitFloat(key, Float.intBitsToFloat((int) getPrimitive(slot, 4)));
+            case DOUBLE -> visitor.visitDouble(key, Double.longBitsToDouble(getPrimitive(slot, 8)));
+            case STRING -> visitor.visitString(key, (String) getObject(slot));
+            case BYTE_ARRAY -> visitor.visitByteArray(key, (byte[]) getObject(slot));
+            case INTEGER_ARRAY -> visitor.visitIntegerArray(key, (int[]) getObject(slot));
+            case LONG_ARRAY -> visitor.visitLongArray(key, (long[]) getObject(slot));
+            case CONTAINER -> visitor.visitContainer(key, readContainer(slot));
+            case OTHER -> visitor.visitOther(key, null, null);
+        }
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        int slot = findKind(key, DataKind.BYTE);
+        return slot < 0 ? defaultValue : (byte) getPrimitive(slot, 1);
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        int slot = findKind(key, DataKind.SHORT);
+        return slot < 0 ? defaultValue : (short) getPrimitive(slot, 2);
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        int slot = findKind(key, DataKind.INTEGER);
+        return slot < 0 ? defaultValue : (int) getPrimitive(slot, 4);
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        int slot = findKind(key, DataKind.LONG);
+        return slot < 0 ? defaultValue : getPrimitive(slot, 8);
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        int slot = findKind(key, DataKind.FLOAT);
+        return slot < 0 ? defaultValue : Float.intBitsToFloat((int) getPrimitive(slot, 4));
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        int slot = findKind(key, DataKind.DOUBLE);
+        return slot < 0 ? defaultValue : Double.longBitsToDouble(getPrimitive(slot, 8));
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        int slot = findKind(key, DataKind.BYTE);
+        return slot < 0 ? defaultValue : getPrimitive(slot, 1) != 0;
+    }
+
+    @Override
+    public void setByte(NamespacedKey key, byte value) {
+        putPrimitive(key, DataKind.BYTE, value, 1);
+    }
+
+    @Override
+    public void setShort(NamespacedKey key, short value) {
+        putPrimitive(key, DataKind.SHORT, value, 2);
+    }
+
+    @Override
+    public void setInteger(NamespacedKey key, int value) {
+        putPrimitive(key, DataKind.INTEGER, value, 4);
+    }
+
+    @Override
+    public void setLong(NamespacedKey key, long value) {
+        putPrimitive(key, DataKind.LONG, value, 8);
+    }
+
+    @Override
+    public void setFloat(NamespacedKey key, float value) {
+        putPrimitive(key, DataKind.FLOAT, Float.floatToRawIntBits(value), 4);
+    }
+
+    @Override
+    public void setDouble(NamespacedKey key, double value) {
+        putPrimitive(key, DataKind.DOUBLE, Double.doubleToRawLongBits(value), 8);
+    }
+
+    @Override
+    public void setBoolean(NamespacedKey key, boolean value) {
+        putPrimitive(key, DataKind.BYTE, value ? 1 : 0, 1);
+    }
+
+    /**
+     * Сброс изменений отображённых файлов на диск.
+     */
+    public void force() {
+        index.force();
+        for (MappedByteBuffer region : regions) {
+            if (region != null) region.force();
+        }
+    }
+
+    /**
+     * Уплотнение файла данных: живые записи переписываются в новый файл без устаревших.
+     *
+     * @throws IOException Если файлы не удалось переписать.
+     */
+    public void compact() throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".compact");
+        Path temporaryIndexPath = temporaryPath.resolveSibling(temporaryPath.getFileName() + ".index");
+        Files.deleteIfExists(temporaryPath);
+        Files.deleteIfExists(temporaryIndexPath);
+        try (MappedDataBackend compacted = new MappedDataBackend(temporaryPath, regionSize, context)) {
+            copyTo(compacted);
+        }
+        close();
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(temporaryIndexPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open();
+    }
+
+    /**
+     * Закрытие хранилища со сбросом изменений на диск.
+     * Отображения освобождаются сборщиком мусора.
+     *
+     * @throws IOException Если файлы не удалось закрыть.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        indexChannel.close();
+        dataChannel.close();
+    }
+}
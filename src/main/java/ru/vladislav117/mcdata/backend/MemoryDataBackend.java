@@ -0,0 +1,532 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.ListPersistentDataType;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Хранилище данных в памяти без тегов NBT.
+ * Значения хранятся в хэш-таблице с открытой адресацией: числа и логические значения лежат в массиве long без упаковки,
+ * строки, массивы и вложенные контейнеры - в массиве объектов.
+ * Массивы, списки и вложенные контейнеры копируются при записи и чтении, как в PersistentDataContainer.
+ * Хранилище не потокобезопасно.
+ */
+public class MemoryDataBackend implements DataBackend {
+    protected static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    protected NamespacedKey[] keys;
+    protected byte[] kinds;
+    protected long[] primitives;
+    protected Object[] objects;
+    protected int size;
+    protected final @Nullable PersistentDataAdapterContext context;
+
+    /**
+     * Создание хранилища данных в памяти.
+     *
+     * @param expectedSize Ожидаемое количество значений
+     * @param context Контекст адаптеров для пользовательских типов данных или null
+     */
+    public MemoryDataBackend(int expectedSize, @Nullable PersistentDataAdapterContext context) {
+        int capacity = tableSizeFor(expectedSize);
+        this.keys = new NamespacedKey[capacity];
+        this.kinds = new byte[capacity];
+        this.primitives = new long[capacity];
+        this.objects = new Object[capacity];
+        this.context = context;
+    }
+
+    /**
+     * Создание хранилища данных в памяти.
+     *
+     * @param expectedSize Ожидаемое количество значений
+     */
+    public MemoryDataBackend(int expectedSize) {
+        this(expectedSize, null);
+    }
+
+    /**
+     * Создание хранилища данных в памяти.
+     */
+    public MemoryDataBackend() {
+        this(DEFAULT_EXPECTED_SIZE, null);
+    }
+
+    /**
+     * Создание хранилища данных в памяти с копией значений другого хранилища.
+     *
+     * @param source Исходное хранилище
+     * @return Хранилище с копией значений.
+     */
+    public static MemoryDataBackend copyOf(DataBackend source) {
+        if (source instanceof MemoryDataBackend memory) return memory.copy();
+        MemoryDataBackend copy = new MemoryDataBackend(DEFAULT_EXPECTED_SIZE, source.getAdapterContext());
+        source.copyTo(copy);
+        return copy;
+    }
+
+    protected static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        return Math.max(8, capacity);
+    }
+
+    protected static int mix(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * Поиск ячейки ключа.
+     *
+     * @param key Ключ
+     * @return Индекс ячейки с ключом или отрицательное значение ~индекс свободной ячейки.
+     */
+    protected int find(NamespacedKey key) {
+        NamespacedKey[] keys = this.keys;
+        int mask = keys.length - 1;
+        int index = mix(key.hashCode()) & mask;
+        NamespacedKey current;
+        while ((current = keys[index]) != null) {
+            if (current == key || current.equals(key)) return index;
+            index = (index + 1) & mask;
+        }
+        return ~index;
+    }
+
+    /**
+     * Получение ячейки для записи значения по ключу.
+     * При необходимости таблица расширяется.
+     *
+     * @param key Ключ
+     * @return Индекс ячейки.
+     */
+    protected int insert(NamespacedKey key) {
+        int index = find(key);
+        if (index >= 0) return index;
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+            index = find(key);
+        }
+        index = ~index;
+        keys[index] = key;
+        size++;
+        return index;
+    }
+
+    protected void resize(int capacity) {
+        NamespacedKey[] oldKeys = keys;
+        byte[] oldKinds = kinds;
+        long[] oldPrimitives = primitives;
+        Object[] oldObjects = objects;
+        keys = new NamespacedKey[capacity];
+        kinds = new byte[capacity];
+        primitives = new long[capacity];
+        objects = new Object[capacity];
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++) {
+            NamespacedKey key = oldKeys[oldIndex];
+            if (key == null) continue;
+            int index = ~find(key);
+            keys[index] = key;
+            kinds[index] = oldKinds[oldIndex];
+            primitives[index] = oldPrimitives[oldIndex];
+            objects[index] = oldObjects[oldIndex];
+        }
+    }
+
+    protected void putPrimitive(NamespacedKey key, DataKind kind, long value) {
+        int index = insert(key);
+        kinds[index] = (byte) kind.ordinal();
+        primitives[index] = value;
+        objects[index] = null;
+    }
+
+    protected void putObject(NamespacedKey key, DataKind kind, Object value) {
+        int index = insert(key);
+        kinds[index] = (byte) kind.ordinal();
+        primitives[index] = 0;
+        objects[index] = value;
+    }
+
+    /**
+     * Получение индекса ячейки с значением указанного вида.
+     *
+     * @param key Ключ
+     * @param kind Вид значения
+     * @return Индекс ячейки или -1, если ключа нет или значение другого вида.
+     */
+    protected int findKind(NamespacedKey key, DataKind kind) {
+        int index = find(key);
+        if (index < 0 || kinds[index] != kind.ordinal()) return -1;
+        return index;
+    }
+
+    /**
+     * Получение значения ячейки в том виде, в котором его хранил бы PersistentDataContainer.
+     *
+     * @param index Индекс ячейки
+     * @return Значение в примитивном виде или null, если его нельзя получить без контекста адаптеров.
+     */
+    protected @Nullable Object getPrimitiveValue(int index) {
+        long primitive = primitives[index];
+        return switch (DataKind.byOrdinal(kinds[index])) {
+            case BYTE -> (byte) primitive;
+            case SHORT -> (short) primitive;
+            case INTEGER -> (int) primitive;
+            case LONG -> primitive;
+            case FLOAT -> Float.intBitsToFloat((int) primitive);
+            case DOUBLE -> Double.longBitsToDouble(primitive);
+            case STRING -> objects[index];
+            case BYTE_ARRAY -> ((byte[]) objects[index]).clone();
+            case INTEGER_ARRAY -> ((int[]) objects[index]).clone();
+            case LONG_ARRAY -> ((long[]) objects[index]).clone();
+            case CONTAINER -> {
+                if (context == null) yield null;
+                PersistentDataContainer container = context.newPersistentDataContainer();
+                ((MemoryDataBackend) objects[index]).copyTo(new PersistentDataContainerBackend(container));
+                yield container;
+            }
+            case OTHER -> copyPrimitive(((OtherValue) objects[index]).primitive());
+        };
+    }
+
+    /**
+     * Проверка, хранится ли значение ячейки в том же виде, что и значения указанного типа.
+     *
+     * @param index Индекс ячейки
+     * @param type Тип данных
+     * @return Подходит ли значение ячейки к типу.
+     */
+    protected boolean matches(int index, PersistentDataType<?, ?> type) {
+        DataKind kind = DataKind.byOrdinal(kinds[index]);
+        if (kind != DataKind.OTHER) return kind.type.getPrimitiveType() == type.getPrimitiveType();
+        PersistentDataType<?, ?> storedType = ((OtherValue) objects[index]).type();
+        if (storedType == type) return true;
+        if (storedType.getPrimitiveType() != type.getPrimitiveType()) return false;
+        if (storedType instanceof ListPersistentDataType<?, ?> storedList) {
+            return type instanceof ListPersistentDataType<?, ?> list && storedList.elementType().getPrimitiveType() == list.elementType().getPrimitiveType();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        int index = find(key);
+        return index >= 0 && matches(index, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        int index = find(key);
+        if (index < 0 || !matches(index, type)) return null;
+        Object primitive = getPrimitiveValue(index);
+        Class<P> primitiveType = type.getPrimitiveType();
+        if (!primitiveType.isInstance(primitive)) return null;
+        try {
+            return type.fromPrimitive(primitiveType.cast(primitive), context);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        P primitive = type.toPrimitive(value, context);
+        DataKind kind = DataKind.byPrimitiveType(type.getPrimitiveType());
+        switch (kind) {
+            case BYTE -> putPrimitive(key, kind, (Byte) primitive);
+            case SHORT -> putPrimitive(key, kind, (Short) primitive);
+            case INTEGER -> putPrimitive(key, kind, (Integer) primitive);
+            case LONG -> putPrimitive(key, kind, (Long) primitive);
+            case FLOAT -> putPrimitive(key, kind, Float.floatToRawIntBits((Float) primitive));
+            case DOUBLE -> putPrimitive(key, kind, Double.doubleToRawLongBits((Double) primitive));
+            case STRING -> putObject(key, kind, primitive);
+            case BYTE_ARRAY -> putObject(key, kind, ((byte[]) primitive).clone());
+            case INTEGER_ARRAY -> putObject(key, kind, ((int[]) primitive).clone());
+            case LONG_ARRAY -> putObject(key, kind, ((long[]) primitive).clone());
+            case CONTAINER -> setContainer(key, new PersistentDataContainerBackend((PersistentDataContainer) primitive));
+            case OTHER -> putObject(key, kind, new OtherValue(type, copyPrimitive(primitive)));
+        }
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        int index = find(key);
+        if (index < 0) return;
+        int mask = keys.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        NamespacedKey current;
+        while ((current = keys[next]) != null) {
+            int ideal = mix(current.hashCode()) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = current;
+                kinds[hole] = kinds[next];
+                primitives[hole] = primitives[next];
+                objects[hole] = objects[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        kinds[hole] = 0;
+        primitives[hole] = 0;
+        objects[hole] = null;
+        size--;
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        int index = findKind(key, DataKind.CONTAINER);
+        if (index < 0) return null;
+        return ((MemoryDataBackend) objects[index]).copy();
+    }
+
+    @Override
+    public @Nullable DataBackend getContainerView(NamespacedKey key) {
+        int index = findKind(key, DataKind.CONTAINER);
+        if (index < 0) return null;
+        return (MemoryDataBackend) objects[index];
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        putObject(key, DataKind.CONTAINER, copyOf(value));
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return new MemoryDataBackend(DEFAULT_EXPECTED_SIZE, context);
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return context;
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        Set<NamespacedKey> result = new HashSet<>(size * 2);
+        for (NamespacedKey key : keys) {
+            if (key != null) result.add(key);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Получение количества значений.
+     *
+     * @return Количество значений.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Удаление всех значений.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(kinds, (byte) 0);
+        Arrays.fill(primitives, 0);
+        Arrays.fill(objects, null);
+        size = 0;
+    }
+
+    /**
+     * Создание копии хранилища.
+     * Массивы и вложенные контейнеры не изменяются после записи и не выдаются наружу без копирования,
+     * поэтому разделяются между копиями.
+     *
+     * @return Копия хранилища.
+     */
+    public MemoryDataBackend copy() {
+        MemoryDataBackend copy = new MemoryDataBackend(DEFAULT_EXPECTED_SIZE, context);
+        copy.keys = keys.clone();
+        copy.kinds = kinds.clone();
+        copy.primitives = primitives.clone();
+        copy.objects = objects.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        NamespacedKey[] keys = this.keys;
+        for (int index = 0; index < keys.length; index++) {
+            NamespacedKey key = keys[index];
+            if (key == null) continue;
+            visit(index, key, visitor);
+        }
+    }
+
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        NamespacedKey[] keys = this.keys;
+        for (int index = 0; index < keys.length; index++) {
+            NamespacedKey key = keys[index];
+            if (key == null || namespace != null && !namespace.equals(key.getNamespace())) continue;
+            visitor.visitKey(key, DataKind.byOrdinal(kinds[index]));
+        }
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        int index = find(key);
+        if (index < 0) return false;
+        visit(index, keys[index], visitor);
+        return true;
+    }
+
+    protected void visit(int index, NamespacedKey key, DataVisitor visitor) {
+        long primitive = primitives[index];
+        switch (DataKind.byOrdinal(kinds[index])) {
+            case BYTE -> visitor.visitByte(key, (byte) primitive);
+            case SHORT -> visitor.visitShort(key, (short) primitive);
+            case INTEGER -> visitor.visitInteger(key, (int) primitive);
+            case LONG -> visitor.visitLong(key, primitive);
+            case FLOAT -> visitor.visitFloat(key, Float.intBitsToFloat((int) primitive));
+            case DOUBLE -> visitor.visitDouble(key, Double.longBitsToDouble(primitive));
+            case STRING -> visitor.visitString(key, (String) objects[index]);
+            case BYTE_ARRAY -> visitor.visitByteArray(key, (byte[]) objects[index]);
+            case INTEGER_ARRAY -> visitor.visitIntegerArray(key, (int[]) objects[index]);
+            case LONG_ARRAY -> visitor.visitLongArray(key, (long[]) objects[index]);
+            case CONTAINER -> visitor.visitContainer(key, ((MemoryDataBackend) objects[index]).copy());
+            case OTHER -> {
+                OtherValue other = (OtherValue) objects[index];
+                visitor.visitOther(key, other.type(), other.primitive());
+            }
+        }
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        int index = findKind(key, DataKind.BYTE);
+        return index < 0 ? defaultValue : (byte) primitives[index];
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        int index = findKind(key, DataKind.SHORT);
+        return index < 0 ? defaultValue : (short) primitives[index];
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        int index = findKind(key, DataKind.INTEGER);
+        return index < 0 ? defaultValue : (int) primitives[index];
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        int index = findKind(key, DataKind.LONG);
+        return index < 0 ? defaultValue : primitives[index];
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        int index = findKind(key, DataKind.FLOAT);
+        return index < 0 ? defaultValue : Float.intBitsToFloat((int) primitives[index]);
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        int index = findKind(key, DataKind.DOUBLE);
+        return index < 0 ? defaultValue : Double.longBitsToDouble(primitives[index]);
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        int index = findKind(key, DataKind.BYTE);
+        return index < 0 ? defaultValue : primitives[index] != 0;
+    }
+
+    @Override
+    public void setByte(NamespacedKey key, byte value) {
+        putPrimitive(key, DataKind.BYTE, value);
+    }
+
+    @Override
+    public void setShort(NamespacedKey key, short value) {
+        putPrimitive(key, DataKind.SHORT, value);
+    }
+
+    @Override
+    public void setInteger(NamespacedKey key, int value) {
+        putPrimitive(key, DataKind.INTEGER, value);
+    }
+
+    @Override
+    public void setLong(NamespacedKey key, long value) {
+        putPrimitive(key, DataKind.LONG, value);
+    }
+
+    @Override
+    public void setFloat(NamespacedKey key, float value) {
+        putPrimitive(key, DataKind.FLOAT, Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public void setDouble(NamespacedKey key, double value) {
+        putPrimitive(key, DataKind.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void setBoolean(NamespacedKey key, boolean value) {
+        putPrimitive(key, DataKind.BYTE, value ? 1 : 0);
+    }
+
+    /**
+     * Копирование значения типа, не входящего в основной набор.
+     * Списки копируются вместе с элементами: списочные типы данных могут возвращать представления
+     * над значением вызывающего кода, а массивы и контейнеры в элементах изменяемы.
+     *
+     * @param primitive Значение в примитивном виде
+     * @return Копия значения.
+     */
+    protected static Object copyPrimitive(Object primitive) {
+        if (primitive instanceof byte[] bytes) return bytes.clone();
+        if (primitive instanceof int[] integers) return integers.clone();
+        if (primitive instanceof long[] longs) return longs.clone();
+        if (primitive instanceof PersistentDataContainer container) {
+            PersistentDataContainer copy = container.getAdapterContext().newPersistentDataContainer();
+            container.copyTo(copy, true);
+            return copy;
+        }
+        if (primitive instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyPrimitive(element));
+            }
+            return copy;
+        }
+        return primitive;
+    }
+
+    /**
+     * Значение типа, не входящего в основной набор, вместе с его типом данных.
+     *
+     * @param type Тип данных
+     * @param primitive Значение в примитивном виде
+     */
+    protected record OtherValue(PersistentDataType<?, ?> type, Object primitive) {
+    }
+}
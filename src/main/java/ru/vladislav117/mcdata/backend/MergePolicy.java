@@ -0,0 +1,20 @@
+package ru.vladislav117.mcdata.backend;
+
+/**
+ * Политика разрешения конфликтов при слиянии данных.
+ * Конфликтом считается ключ, который уже есть в хранилище, в которое сливаются данные.
+ */
+public enum MergePolicy {
+    /**
+     * Значение из источника заменяет существующее.
+     */
+    REPLACE,
+    /**
+     * Существующее значение сохраняется.
+     */
+    KEEP_EXISTING,
+    /**
+     * Вложенные контейнеры сливаются рекурсивно, остальные значения из источника заменяют существующие.
+     */
+    MERGE_CONTAINERS
+}
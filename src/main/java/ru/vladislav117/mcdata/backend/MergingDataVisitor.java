@@ -0,0 +1,29 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import ru.vladislav117.mcdata.key.KeyFilters;
+
+/**
+ * Копирующий обходчик, рекурсивно сливающий вложенные контейнеры.
+ */
+public class MergingDataVisitor extends CopyingDataVisitor {
+    /**
+     * Создание сливающего обходчика.
+     *
+     * @param target Хранилище, в которое сливаются значения
+     */
+    public MergingDataVisitor(DataBackend target) {
+        super(target);
+    }
+
+    @Override
+    public void visitContainer(NamespacedKey key, DataBackend value) {
+        DataBackend existing = target.getContainer(key);
+        if (existing == null) {
+            target.setContainer(key, value);
+            return;
+        }
+        value.mergeTo(existing, KeyFilters.all(), MergePolicy.MERGE_CONTAINERS);
+        target.setContainer(key, existing);
+    }
+}
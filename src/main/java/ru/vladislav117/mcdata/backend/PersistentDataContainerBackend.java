@@ -0,0 +1,255 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.ListPersistentDataType;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.key.KeyFilters;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Хранилище данных поверх PersistentDataContainer.
+ */
+public class PersistentDataContainerBackend implements DataBackend {
+    static final ListPersistentDataType<?, ?>[] listTypes = {
+            PersistentDataType.LIST.integers(),
+            PersistentDataType.LIST.strings(),
+            PersistentDataType.LIST.bytes(),
+            PersistentDataType.LIST.longs(),
+            PersistentDataType.LIST.doubles(),
+            PersistentDataType.LIST.floats(),
+            PersistentDataType.LIST.shorts(),
+            PersistentDataType.LIST.dataContainers(),
+            PersistentDataType.LIST.byteArrays(),
+            PersistentDataType.LIST.integerArrays(),
+            PersistentDataType.LIST.longArrays()
+    };
+
+    static final DataKind[] kinds = {
+            DataKind.INTEGER,
+            DataKind.STRING,
+            DataKind.BYTE,
+            DataKind.LONG,
+            DataKind.DOUBLE,
+            DataKind.FLOAT,
+            DataKind.SHORT,
+            DataKind.CONTAINER,
+            DataKind.BYTE_ARRAY,
+            DataKind.INTEGER_ARRAY,
+            DataKind.LONG_ARRAY
+    };
+
+    protected final PersistentDataContainer container;
+
+    /**
+     * Создание хранилища данных поверх контейнера.
+     *
+     * @param container Контейнер
+     */
+    public PersistentDataContainerBackend(PersistentDataContainer container) {
+        this.container = container;
+    }
+
+    /**
+     * Получение контейнера.
+     *
+     * @return Контейнер.
+     */
+    public PersistentDataContainer getPersistentDataContainer() {
+        return container;
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return container.has(key);
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return container.has(key, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        try {
+            return container.get(key, type);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        container.set(key, type, value);
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        container.remove(key);
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        PersistentDataContainer value = get(key, PersistentDataType.TAG_CONTAINER);
+        if (value == null) return null;
+        return new PersistentDataContainerBackend(value);
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        container.set(key, PersistentDataType.TAG_CONTAINER, toPersistentDataContainer(value));
+    }
+
+    /**
+     * Получение контейнера, содержащего значения хранилища.
+     * Если хранилище не основано на контейнере, значения будут скопированы в новый контейнер.
+     *
+     * @param value Хранилище
+     * @return Контейнер со значениями хранилища.
+     */
+    protected PersistentDataContainer toPersistentDataContainer(DataBackend value) {
+        if (value instanceof PersistentDataContainerBackend backend) return backend.container;
+        PersistentDataContainer copy = container.getAdapterContext().newPersistentDataContainer();
+        value.copyTo(new PersistentDataContainerBackend(copy));
+        return copy;
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return new PersistentDataContainerBackend(container.getAdapterContext().newPersistentDataContainer());
+    }
+
+    @Override
+    public PersistentDataAdapterContext getAdapterContext() {
+        return container.getAdapterContext();
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        return container.getKeys();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return container.isEmpty();
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        for (NamespacedKey key : container.getKeys()) {
+            visitValue(key, visitor);
+        }
+    }
+
+    /**
+     * Обход ключей пространства имён вместе с видами значений.
+     * Вид значения определяется проверками типов без чтения значений.
+     *
+     * @param namespace Пространство имён или null для всех ключей
+     * @param visitor Обходчик ключей
+     */
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        for (NamespacedKey key : container.getKeys()) {
+            if (namespace == null || namespace.equals(key.getNamespace())) visitor.visitKey(key, getKind(key));
+        }
+    }
+
+    /**
+     * Определение вида значения по ключу.
+     * Списки и значения, которые не удалось определить, относятся к OTHER.
+     *
+     * @param key Ключ
+     * @return Вид значения.
+     */
+    protected DataKind getKind(NamespacedKey key) {
+        for (DataKind kind : kinds) {
+            if (container.has(key, kind.getType())) return kind;
+        }
+        return DataKind.OTHER;
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        if (!container.has(key)) return false;
+        visitValue(key, visitor);
+        return true;
+    }
+
+    /**
+     * Посещение значения по ключу.
+     * Вид значения определяется проверками типов, так как контейнер не сообщает тип тега.
+     *
+     * @param key Ключ
+     * @param visitor Обходчик
+     */
+    protected void visitValue(NamespacedKey key, DataVisitor visitor) {
+        if (container.has(key, PersistentDataType.INTEGER)) {
+            visitor.visitInteger(key, container.get(key, PersistentDataType.INTEGER));
+        } else if (container.has(key, PersistentDataType.STRING)) {
+            visitor.visitString(key, container.get(key, PersistentDataType.STRING));
+        } else if (container.has(key, PersistentDataType.BYTE)) {
+            visitor.visitByte(key, container.get(key, PersistentDataType.BYTE));
+        } else if (container.has(key, PersistentDataType.LONG)) {
+            visitor.visitLong(key, container.get(key, PersistentDataType.LONG));
+        } else if (container.has(key, PersistentDataType.DOUBLE)) {
+            visitor.visitDouble(key, container.get(key, PersistentDataType.DOUBLE));
+        } else if (container.has(key, PersistentDataType.FLOAT)) {
+            visitor.visitFloat(key, container.get(key, PersistentDataType.FLOAT));
+        } else if (container.has(key, PersistentDataType.SHORT)) {
+            visitor.visitShort(key, container.get(key, PersistentDataType.SHORT));
+        } else if (container.has(key, PersistentDataType.TAG_CONTAINER)) {
+            visitor.visitContainer(key, new PersistentDataContainerBackend(container.get(key, PersistentDataType.TAG_CONTAINER)));
+        } else if (container.has(key, PersistentDataType.BYTE_ARRAY)) {
+            visitor.visitByteArray(key, container.get(key, PersistentDataType.BYTE_ARRAY));
+        } else if (container.has(key, PersistentDataType.INTEGER_ARRAY)) {
+            visitor.visitIntegerArray(key, container.get(key, PersistentDataType.INTEGER_ARRAY));
+        } else if (container.has(key, PersistentDataType.LONG_ARRAY)) {
+            visitor.visitLongArray(key, container.get(key, PersistentDataType.LONG_ARRAY));
+        } else {
+            visitList(key, visitor);
+        }
+    }
+
+    /**
+     * Посещение списка по ключу.
+     * Список передаётся обходчику как значение другого типа вместе со списочным типом данных.
+     * Если значение по ключу не является списком основного типа, обходчику передаются null.
+     *
+     * @param key Ключ
+     * @param visitor Обходчик
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void visitList(NamespacedKey key, DataVisitor visitor) {
+        for (ListPersistentDataType<?, ?> type : listTypes) {
+            if (!container.has(key, type)) continue;
+            ListPersistentDataType rawType = type;
+            Object value = container.get(key, rawType);
+            visitor.visitOther(key, type, value == null ? null : rawType.toPrimitive(value, container.getAdapterContext()));
+            return;
+        }
+        visitor.visitOther(key, null, null);
+    }
+
+    @Override
+    public void copyTo(DataBackend target) {
+        if (target instanceof PersistentDataContainerBackend backend) {
+            container.copyTo(backend.container, true);
+            return;
+        }
+        DataBackend.super.copyTo(target);
+    }
+
+    @Override
+    public void mergeTo(DataBackend target, Predicate<NamespacedKey> filter, MergePolicy policy) {
+        if (policy == MergePolicy.KEEP_EXISTING && KeyFilters.isAll(filter) && target instanceof PersistentDataContainerBackend backend) {
+            container.copyTo(backend.container, false);
+            return;
+        }
+        DataBackend.super.mergeTo(target, filter, policy);
+    }
+}
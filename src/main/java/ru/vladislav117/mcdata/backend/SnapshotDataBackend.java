@@ -0,0 +1,189 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * Неизменяемый снимок хранилища данных.
+ * Все значения копируются один раз при создании в хэш-таблицу с открытой адресацией, числа хранятся без упаковки.
+ * После создания снимок можно читать из любых потоков без синхронизации; запись вызывает UnsupportedOperationException.
+ */
+public final class SnapshotDataBackend implements DataBackend {
+    private final MemoryDataBackend table;
+
+    /**
+     * Создание снимка хранилища данных.
+     * Должно выполняться в потоке, владеющем исходным хранилищем.
+     *
+     * @param source Исходное хранилище
+     */
+    public SnapshotDataBackend(DataBackend source) {
+        if (source instanceof SnapshotDataBackend snapshot) {
+            this.table = snapshot.table;
+        } else {
+            this.table = MemoryDataBackend.copyOf(source);
+        }
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Snapshot is read-only");
+    }
+
+    /**
+     * Получение количества значений.
+     *
+     * @return Количество значений.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return table.has(key);
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return table.has(key, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        return table.get(key, type);
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        throw readOnly();
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        return table.getContainer(key);
+    }
+
+    @Override
+    public @Nullable DataBackend getContainerView(NamespacedKey key) {
+        return table.getContainerView(key);
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        throw readOnly();
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return table.createContainer();
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return table.getAdapterContext();
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        return table.getKeys();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.isEmpty();
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        return table.visit(key, visitor);
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        table.forEach(visitor);
+    }
+
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        table.forEachKey(namespace, visitor);
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        return table.getByte(key, defaultValue);
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        return table.getShort(key, defaultValue);
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        return table.getInteger(key, defaultValue);
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        return table.getLong(key, defaultValue);
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        return table.getFloat(key, defaultValue);
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        return table.getDouble(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        return table.getBoolean(key, defaultValue);
+    }
+
+    @Override
+    public void setByte(NamespacedKey key, byte value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setShort(NamespacedKey key, short value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setInteger(NamespacedKey key, int value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setLong(NamespacedKey key, long value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setFloat(NamespacedKey key, float value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDouble(NamespacedKey key, double value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setBoolean(NamespacedKey key, boolean value) {
+        throw readOnly();
+    }
+}
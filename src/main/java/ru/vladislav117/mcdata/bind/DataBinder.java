@@ -0,0 +1,29 @@
+package ru.vladislav117.mcdata.bind;
+
+import ru.vladislav117.mcdata.DataManager;
+
+/**
+ * Связыватель данных объекта с менеджером данных.
+ * Реализации создаются процессором аннотаций для классов с аннотацией DataObject.
+ *
+ * @param <T> Тип объекта
+ */
+public interface DataBinder<T> {
+    /**
+     * Загрузка полей объекта из менеджера данных.
+     * Поля, для которых нет значения подходящего типа, не изменяются.
+     *
+     * @param manager Менеджер данных
+     * @param object Объект
+     */
+    void load(DataManager manager, T object);
+
+    /**
+     * Сохранение полей объекта в менеджер данных.
+     * Поля ссылочных типов со значением null не сохраняются.
+     *
+     * @param object Объект
+     * @param manager Менеджер данных
+     */
+    void store(T object, DataManager manager);
+}
@@ -0,0 +1,37 @@
+package ru.vladislav117.mcdata.bind;
+
+import ru.vladislav117.mcdata.error.DataManagerError;
+
+/**
+ * Поиск связывателей данных, созданных процессором аннотаций.
+ */
+public final class DataBinders {
+    private static final ClassValue<DataBinder<?>> binders = new ClassValue<>() {
+        @Override
+        protected DataBinder<?> computeValue(Class<?> type) {
+            String binderName = type.getName() + "DataBinder";
+            try {
+                Class<?> binderClass = Class.forName(binderName, true, type.getClassLoader());
+                return (DataBinder<?>) binderClass.getField("INSTANCE").get(null);
+            } catch (ReflectiveOperationException exception) {
+                throw new DataManagerError("Data binder \"" + binderName + "\" is not generated");
+            }
+        }
+    };
+
+    private DataBinders() {
+    }
+
+    /**
+     * Получение связывателя данных для класса.
+     * Связыватель ищется один раз, дальнейшие вызовы возвращают его без рефлексии.
+     *
+     * @param type Класс с аннотацией DataObject
+     * @param <T> Тип объекта
+     * @return Связыватель данных.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> DataBinder<T> get(Class<T> type) {
+        return (DataBinder<T>) binders.get(type);
+    }
+}
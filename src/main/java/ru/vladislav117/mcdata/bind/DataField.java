@@ -0,0 +1,23 @@
+package ru.vladislav117.mcdata.bind;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Поле, загружаемое и сохраняемое связывателем данных.
+ * Поле не должно быть private, final или static.
+ * Поддерживаются типы byte, short, int, long, float, double, boolean, String, byte[], int[] и long[].
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface DataField {
+    /**
+     * Ключ значения.
+     * Если он не указан, используется имя поля в snake_case.
+     *
+     * @return Ключ.
+     */
+    String value() default "";
+}
@@ -0,0 +1,22 @@
+package ru.vladislav117.mcdata.bind;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Класс, для которого процессор аннотаций создаёт связыватель данных.
+ * Связыватель создаётся в том же пакете с именем класса и суффиксом DataBinder.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface DataObject {
+    /**
+     * Пространство имён ключей.
+     * Если оно не указано, используется пространство имён менеджера данных.
+     *
+     * @return Пространство имён.
+     */
+    String namespace() default "";
+}
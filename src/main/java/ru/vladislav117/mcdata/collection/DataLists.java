@@ -0,0 +1,407 @@
+package ru.vladislav117.mcdata.collection;
+
+import org.bukkit.persistence.ListPersistentDataType;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+import ru.vladislav117.mcdata.key.KeyCache;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Списочные типы данных и преобразования списков в массивы примитивов.
+ * Чтение разворачивает список в массив примитивов одним проходом без промежуточных коллекций.
+ * Запись оборачивает массив в список-представление без копирования, поэтому упаковка элементов
+ * происходит только при преобразовании списка самим хранилищем.
+ * Хранилища копируют список при записи, поэтому массив можно изменять после записи.
+ */
+public final class DataLists {
+    public static final ListPersistentDataType<Byte, Byte> BYTES = PersistentDataType.LIST.bytes();
+    public static final ListPersistentDataType<Short, Short> SHORTS = PersistentDataType.LIST.shorts();
+    public static final ListPersistentDataType<Integer, Integer> INTEGERS = PersistentDataType.LIST.integers();
+    public static final ListPersistentDataType<Long, Long> LONGS = PersistentDataType.LIST.longs();
+    public static final ListPersistentDataType<Float, Float> FLOATS = PersistentDataType.LIST.floats();
+    public static final ListPersistentDataType<Double, Double> DOUBLES = PersistentDataType.LIST.doubles();
+    public static final ListPersistentDataType<Byte, Boolean> BOOLEANS = PersistentDataType.LIST.booleans();
+    public static final ListPersistentDataType<String, String> STRINGS = PersistentDataType.LIST.strings();
+    public static final ListPersistentDataType<byte[], byte[]> BYTE_ARRAYS = PersistentDataType.LIST.byteArrays();
+    public static final ListPersistentDataType<int[], int[]> INTEGER_ARRAYS = PersistentDataType.LIST.integerArrays();
+    public static final ListPersistentDataType<long[], long[]> LONG_ARRAYS = PersistentDataType.LIST.longArrays();
+    public static final ListPersistentDataType<PersistentDataContainer, PersistentDataContainer> CONTAINERS = PersistentDataType.LIST.dataContainers();
+
+    private static final ConcurrentHashMap<PersistentDataType<?, ?>, StringMapDataType<?, ?>> mapTypes = new ConcurrentHashMap<>();
+
+    private DataLists() {
+    }
+
+    /**
+     * Получение типа данных словаря со строковыми ключами.
+     * Типы данных кэшируются для каждого типа значений.
+     *
+     * @param valueType Тип данных значений
+     * @return Тип данных словаря.
+     */
+    @SuppressWarnings("unchecked")
+    public static <P, V> StringMapDataType<P, V> mapOf(PersistentDataType<P, V> valueType) {
+        return (StringMapDataType<P, V>) mapTypes.computeIfAbsent(valueType, key -> new StringMapDataType<>(valueType));
+    }
+
+    /**
+     * Преобразование списка в массив byte.
+     *
+     * @param list Список
+     * @return Массив.
+     */
+    public static byte[] toByteArray(List<Byte> list) {
+        if (list instanceof ByteView view) return view.values.clone();
+        byte[] values = new byte[list.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = list.get(index);
+        }
+        return values;
+    }
+
+    /**
+     * Получение списка-представления массива byte без копирования.
+     *
+     * @param values Массив
+     * @return Список-представление.
+     */
+    public static List<Byte> ofBytes(byte[] values) {
+        return new ByteView(values);
+    }
+
+    /**
+     * Преобразование списка в массив short.
+     *
+     * @param list Список
+     * @return Массив.
+     */
+    public static short[] toShortArray(List<Short> list) {
+        if (list instanceof ShortView view) return view.values.clone();
+        short[] values = new short[list.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = list.get(index);
+        }
+        return values;
+    }
+
+    /**
+     * Получение списка-представления массива short без копирования.
+     *
+     * @param values Массив
+     * @return Список-представление.
+     */
+    public static List<Short> ofShorts(short[] values) {
+        return new ShortView(values);
+    }
+
+    /**
+     * Преобразование списка в массив int.
+     *
+     * @param list Список
+     * @return Массив.
+     */
+    public static int[] toIntegerArray(List<Integer> list) {
+        if (list instanceof IntegerView view) return view.values.clone();
+        int[] values = new int[list.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = list.get(index);
+        }
+        return values;
+    }
+
+    /**
+     * Получение списка-представления массива int без копирования.
+     *
+     * @param values Массив
+     * @return Список-представление.
+     */
+    public static List<Integer> ofIntegers(int[] values) {
+        return new IntegerView(values);
+    }
+
+    /**
+     * Преобразование списка в массив long.
+     *
+     * @param list Список
+     * @return Массив.
+     */
+    public static long[] toLongArray(List<Long> list) {
+        if (list instanceof LongView view) return view.values.clone();
+        long[] values = new long[list.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = list.get(index);
+        }
+        return values;
+    }
+
+    /**
+     * Получение списка-представления массива long без копирования.
+     *
+     * @param values Массив
+     * @return Список-представление.
+     */
+    public static List<Long> ofLongs(long[] values) {
+        return new LongView(values);
+    }
+
+    /**
+     * Преобразование списка в массив float.
+     *
+     * @param list Список
+     * @return Массив.
+     */
+    public static float[] toFloatArray(List<Float> list) {
+        if (list instanceof FloatView view) return view.values.clone();
+        float[] values = new float[list.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = list.get(index);
+        }
+        return values;
+    }
+
+    /**
+     * Получение списка-представления массива float без копирования.
+     *
+     * @param values Массив
+     * @return Список-представление.
+     */
+    public static List<Float> ofFloats(float[] values) {
+        return new FloatView(values);
+    }
+
+    /**
+     * Преобразование списка в массив double.
+     *
+     * @param list Список
+     * @return Массив.
+     */
+    public static double[] toDoubleArray(List<Double> list) {
+        if (list instanceof DoubleView view) return view.values.clone();
+        double[] values = new double[list.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = list.get(index);
+        }
+        return values;
+    }
+
+    /**
+     * Получение списка-представления массива double без копирования.
+     *
+     * @param values Массив
+     * @return Список-представление.
+     */
+    public static List<Double> ofDoubles(double[] values) {
+        return new DoubleView(values);
+    }
+
+    /**
+     * Преобразование списка в массив boolean.
+     *
+     * @param list Список
+     * @return Массив.
+     */
+    public static boolean[] toBooleanArray(List<Boolean> list) {
+        if (list instanceof BooleanView view) return view.values.clone();
+        boolean[] values = new boolean[list.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = list.get(index);
+        }
+        return values;
+    }
+
+    /**
+     * Получение списка-представления массива boolean без копирования.
+     *
+     * @param values Массив
+     * @return Список-представление.
+     */
+    public static List<Boolean> ofBooleans(boolean[] values) {
+        return new BooleanView(values);
+    }
+
+    /**
+     * Преобразование списка контейнеров в список менеджеров данных.
+     *
+     * @param list Список контейнеров
+     * @param namespace Пространство имён менеджеров
+     * @return Список менеджеров данных.
+     */
+    public static List<DataManager> toManagers(List<PersistentDataContainer> list, String namespace) {
+        List<DataManager> managers = new ArrayList<>(list.size());
+        for (PersistentDataContainer container : list) {
+            managers.add(new DataManager(new PersistentDataContainerBackend(container), namespace));
+        }
+        return managers;
+    }
+
+    /**
+     * Преобразование списка контейнеров в список менеджеров данных с кэшем ключей.
+     * Менеджеры получают пространство имён и префикс строковых ключей из кэша.
+     *
+     * @param list Список контейнеров
+     * @param keyCache Кэш ключей менеджеров
+     * @return Список менеджеров данных.
+     */
+    public static List<DataManager> toManagers(List<PersistentDataContainer> list, KeyCache keyCache) {
+        List<DataManager> managers = new ArrayList<>(list.size());
+        for (PersistentDataContainer container : list) {
+            managers.add(new DataManager(new PersistentDataContainerBackend(container), keyCache));
+        }
+        return managers;
+    }
+
+    /**
+     * Преобразование списка менеджеров данных в список контейнеров.
+     * Данные менеджеров копируются в новые контейнеры.
+     *
+     * @param managers Список менеджеров данных
+     * @param context Контекст адаптеров хранилища, в которое записывается список
+     * @return Список контейнеров.
+     * @throws IllegalArgumentException Если хранилище не имеет контекста адаптеров.
+     */
+    public static List<PersistentDataContainer> toContainers(List<DataManager> managers, @Nullable PersistentDataAdapterContext context) {
+        if (context == null) throw new IllegalArgumentException("Container lists require a backend with an adapter context");
+        List<PersistentDataContainer> containers = new ArrayList<>(managers.size());
+        for (DataManager manager : managers) {
+            PersistentDataContainer container = context.newPersistentDataContainer();
+            manager.getBackend().copyTo(new PersistentDataContainerBackend(container));
+            containers.add(container);
+        }
+        return containers;
+    }
+
+    static final class ByteView extends AbstractList<Byte> implements RandomAccess {
+        final byte[] values;
+
+        ByteView(byte[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Byte get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    static final class ShortView extends AbstractList<Short> implements RandomAccess {
+        final short[] values;
+
+        ShortView(short[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Short get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    static final class IntegerView extends AbstractList<Integer> implements RandomAccess {
+        final int[] values;
+
+        IntegerView(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    static final class LongView extends AbstractList<Long> implements RandomAccess {
+        final long[] values;
+
+        LongView(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    static final class FloatView extends AbstractList<Float> implements RandomAccess {
+        final float[] values;
+
+        FloatView(float[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Float get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    static final class DoubleView extends AbstractList<Double> implements RandomAccess {
+        final double[] values;
+
+        DoubleView(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    static final class BooleanView extends AbstractList<Boolean> implements RandomAccess {
+        final boolean[] values;
+
+        BooleanView(boolean[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Boolean get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
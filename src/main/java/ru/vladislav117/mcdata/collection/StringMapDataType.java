@@ -0,0 +1,84 @@
+package ru.vladislav117.mcdata.collection;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.ListPersistentDataType;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Тип данных словаря со строковыми ключами.
+ * Словарь хранится как контейнер с двумя списками одинаковой длины: ключей (mcdata:keys) и значений (mcdata:values),
+ * поэтому ключи словаря не ограничены форматом NamespacedKey.
+ * Порядок элементов сохраняется.
+ * Для записи хранилище должно иметь контекст адаптеров.
+ */
+public class StringMapDataType<P, V> implements PersistentDataType<PersistentDataContainer, Map<String, V>> {
+    static final NamespacedKey keysKey = new NamespacedKey("mcdata", "keys");
+    static final NamespacedKey valuesKey = new NamespacedKey("mcdata", "values");
+
+    protected final PersistentDataType<P, V> valueType;
+    protected final ListPersistentDataType<P, V> valuesType;
+
+    /**
+     * Создание типа данных словаря со строковыми ключами.
+     *
+     * @param valueType Тип данных значений
+     */
+    public StringMapDataType(PersistentDataType<P, V> valueType) {
+        this.valueType = valueType;
+        this.valuesType = PersistentDataType.LIST.listTypeFrom(valueType);
+    }
+
+    /**
+     * Получение типа данных значений.
+     *
+     * @return Тип данных значений.
+     */
+    public PersistentDataType<P, V> getValueType() {
+        return valueType;
+    }
+
+    @Override
+    public Class<PersistentDataContainer> getPrimitiveType() {
+        return PersistentDataContainer.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<Map<String, V>> getComplexType() {
+        return (Class<Map<String, V>>) (Class<?>) Map.class;
+    }
+
+    @Override
+    public PersistentDataContainer toPrimitive(Map<String, V> complex, PersistentDataAdapterContext context) {
+        if (context == null) throw new IllegalArgumentException("String maps require a backend with an adapter context");
+        List<String> keys = new ArrayList<>(complex.size());
+        List<V> values = new ArrayList<>(complex.size());
+        for (Map.Entry<String, V> entry : complex.entrySet()) {
+            keys.add(entry.getKey());
+            values.add(entry.getValue());
+        }
+        PersistentDataContainer container = context.newPersistentDataContainer();
+        container.set(keysKey, DataLists.STRINGS, keys);
+        container.set(valuesKey, valuesType, values);
+        return container;
+    }
+
+    @Override
+    public Map<String, V> fromPrimitive(PersistentDataContainer primitive, PersistentDataAdapterContext context) {
+        List<String> keys = primitive.get(keysKey, DataLists.STRINGS);
+        List<V> values = primitive.get(valuesKey, valuesType);
+        if (keys == null || values == null || keys.size() != values.size()) throw new IllegalArgumentException("Malformed string map");
+        Map<String, V> map = new LinkedHashMap<>((int) (keys.size() / 0.75F) + 1);
+        for (int index = 0; index < keys.size(); index++) {
+            map.put(keys.get(index), values.get(index));
+        }
+        return map;
+    }
+}
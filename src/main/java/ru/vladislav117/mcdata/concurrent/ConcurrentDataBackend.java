@@ -0,0 +1,557 @@
+package ru.vladislav117.mcdata.concurrent;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.CopyingDataVisitor;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.DataKind;
+import ru.vladislav117.mcdata.backend.DataVisitor;
+import ru.vladislav117.mcdata.backend.FilteringDataVisitor;
+import ru.vladislav117.mcdata.backend.KeyVisitor;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.tracking.DataDelta;
+import ru.vladislav117.mcdata.tracking.DirtyTrackingBackend;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Потокобезопасное хранилище-зеркало другого хранилища.
+ * Значения исходного хранилища копируются в память, разбитую на полосы со своими StampedLock.
+ * Чтение сначала выполняется оптимистично без блокировки и берёт блокировку чтения, только если полосу в это время изменяли,
+ * поэтому читатели не мешают друг другу и не ждут поток-владелец.
+ * Запись блокирует только полосу ключа и запоминает ключ; в исходное хранилище изменения переносит flush() в потоке-владельце.
+ * Потоком-владельцем считается поток, создавший хранилище.
+ */
+public class ConcurrentDataBackend implements DataBackend {
+    public static final int DEFAULT_STRIPES = 8;
+
+    protected final DataBackend source;
+    protected final Thread owner;
+    protected final Stripe[] stripes;
+    protected final int mask;
+    protected final int shift;
+    protected @Nullable DirtyTrackingBackend dirtyTracking;
+
+    /**
+     * Создание хранилища-зеркала.
+     * Должно выполняться в потоке, владеющем исходным хранилищем.
+     *
+     * @param source Исходное хранилище
+     * @param stripes Количество полос, округляется вверх до степени двойки
+     */
+    public ConcurrentDataBackend(DataBackend source, int stripes) {
+        if (stripes < 1) throw new IllegalArgumentException("Stripe count must be positive");
+        int count = Integer.highestOneBit(stripes * 2 - 1);
+        this.source = source;
+        this.owner = Thread.currentThread();
+        this.stripes = new Stripe[count];
+        this.mask = count - 1;
+        this.shift = Integer.numberOfLeadingZeros(mask);
+        for (int index = 0; index < count; index++) {
+            this.stripes[index] = new Stripe(source.getAdapterContext());
+        }
+        load();
+    }
+
+    /**
+     * Создание хранилища-зеркала с количеством полос по умолчанию.
+     * Должно выполняться в потоке, владеющем исходным хранилищем.
+     *
+     * @param source Исходное хранилище
+     */
+    public ConcurrentDataBackend(DataBackend source) {
+        this(source, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Получение исходного хранилища.
+     *
+     * @return Исходное хранилище.
+     */
+    public DataBackend getSource() {
+        return source;
+    }
+
+    /**
+     * Получение потока-владельца.
+     *
+     * @return Поток, в котором можно обращаться к исходному хранилищу.
+     */
+    public Thread getOwner() {
+        return owner;
+    }
+
+    /**
+     * Проверка, выполняется ли код в потоке-владельце.
+     *
+     * @return Является ли текущий поток потоком-владельцем.
+     */
+    public boolean isOwnerThread() {
+        return Thread.currentThread() == owner;
+    }
+
+    /**
+     * Включение отслеживания ключей, изменённых в исходном хранилище.
+     * Ключи запоминаются при переносе записей в исходное хранилище (flush(), reload()).
+     *
+     * @return Хранилище, запоминающее изменённые ключи исходного хранилища.
+     * @throws IllegalStateException Если метод вызван не в потоке-владельце, будет вызвано исключение.
+     */
+    public DirtyTrackingBackend trackDirty() {
+        checkOwner();
+        if (dirtyTracking == null) dirtyTracking = new DirtyTrackingBackend(source);
+        return dirtyTracking;
+    }
+
+    /**
+     * Получение хранилища, в которое переносятся записи.
+     *
+     * @return Исходное хранилище или хранилище, запоминающее его изменённые ключи.
+     */
+    protected DataBackend getFlushTarget() {
+        return dirtyTracking != null ? dirtyTracking : source;
+    }
+
+    /**
+     * Проверка наличия записей, ещё не перенесённых в исходное хранилище.
+     *
+     * @return Есть ли неперенесённые записи.
+     */
+    public boolean hasPendingWrites() {
+        for (Stripe stripe : stripes) {
+            if (stripe.dirty) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Перенос записей в исходное хранилище.
+     * Полоса блокируется только на время выборки изменённых значений, исходное хранилище изменяется без блокировок.
+     *
+     * @throws IllegalStateException Если метод вызван не в потоке-владельце, будет вызвано исключение.
+     */
+    public void flush() {
+        checkOwner();
+        for (Stripe stripe : stripes) {
+            if (!stripe.dirty) continue;
+            DataDelta delta;
+            long stamp = stripe.lock.writeLock();
+            try {
+                delta = stripe.drain();
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+            delta.applyTo(getFlushTarget());
+        }
+    }
+
+    /**
+     * Повторное копирование значений исходного хранилища в зеркало.
+     * Нужно, если исходное хранилище изменялось в обход зеркала. Неперенесённые записи сначала переносятся.
+     * Все полосы блокируются на время переноса и копирования, поэтому записи других потоков не теряются.
+     *
+     * @throws IllegalStateException Если метод вызван не в потоке-владельце, будет вызвано исключение.
+     */
+    public void reload() {
+        checkOwner();
+        long[] stamps = new long[stripes.length];
+        int locked = 0;
+        try {
+            for (; locked < stripes.length; locked++) {
+                stamps[locked] = stripes[locked].lock.writeLock();
+            }
+            for (Stripe stripe : stripes) {
+                if (stripe.dirty) stripe.drain().applyTo(getFlushTarget());
+            }
+            load();
+        } finally {
+            for (int index = 0; index < locked; index++) {
+                stripes[index].lock.unlockWrite(stamps[index]);
+            }
+        }
+    }
+
+    protected void checkOwner() {
+        if (Thread.currentThread() != owner) throw new IllegalStateException("Source backend can only be accessed from " + owner.getName());
+    }
+
+    /**
+     * Копирование значений исходного хранилища в полосы.
+     * Полосы должны быть заблокированы для записи или ещё не доступны другим потокам.
+     */
+    protected void load() {
+        MemoryDataBackend copy = MemoryDataBackend.copyOf(source);
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+            stripe.pending.clear();
+            stripe.dirty = false;
+            copy.forEach(new FilteringDataVisitor(new CopyingDataVisitor(stripe), key -> stripe(key) == stripe));
+        }
+    }
+
+    /**
+     * Получение полосы ключа.
+     * Полоса выбирается по старшим битам хэша, так как младшие биты выбирают ячейку внутри таблицы полосы.
+     *
+     * @param key Ключ
+     * @return Полоса.
+     */
+    protected Stripe stripe(NamespacedKey key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return stripes[(hash >>> shift) & mask];
+    }
+
+    /**
+     * Чтение числа или логического значения в виде битов.
+     * Сначала выполняется оптимистичное чтение; если полосу в это время изменяли, чтение повторяется под блокировкой.
+     * Исключения оптимистичного чтения означают несогласованное состояние полосы и тоже приводят к повторному чтению.
+     *
+     * @param key Ключ
+     * @param kind Вид значения
+     * @param defaultBits Биты значения по умолчанию
+     * @return Биты значения или биты значения по умолчанию.
+     */
+    protected long readBits(NamespacedKey key, DataKind kind, long defaultBits) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                long bits = stripe.getBits(key, kind, defaultBits);
+                if (stripe.lock.validate(stamp)) return bits;
+            } catch (RuntimeException ignored) {
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return stripe.getBits(key, kind, defaultBits);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Чтение значения в примитивном виде.
+     * Преобразование в сложный тип выполняется после проверки, поэтому адаптеры не видят несогласованных значений.
+     *
+     * @param key Ключ
+     * @param type Тип данных
+     * @return Значение в примитивном виде или null, если ключа нет или значение неправильного типа.
+     */
+    protected @Nullable Object readPrimitive(NamespacedKey key, PersistentDataType<?, ?> type) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                Object value = stripe.getPrimitive(key, type);
+                if (stripe.lock.validate(stamp)) return value;
+            } catch (RuntimeException ignored) {
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return stripe.getPrimitive(key, type);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Проверка наличия ключа и типа значения.
+     *
+     * @param key Ключ
+     * @param type Тип данных или null для проверки только наличия ключа
+     * @return Есть ли ключ и подходит ли значение к типу.
+     */
+    protected boolean readHas(NamespacedKey key, @Nullable PersistentDataType<?, ?> type) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                boolean result = type == null ? stripe.has(key) : stripe.has(key, type);
+                if (stripe.lock.validate(stamp)) return result;
+            } catch (RuntimeException ignored) {
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return type == null ? stripe.has(key) : stripe.has(key, type);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return readHas(key, null);
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return readHas(key, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        Object primitive = readPrimitive(key, type);
+        Class<P> primitiveType = type.getPrimitiveType();
+        if (!primitiveType.isInstance(primitive)) return null;
+        try {
+            return type.fromPrimitive(primitiveType.cast(primitive), getAdapterContext());
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            stripe.set(key, type, value);
+            stripe.markPending(key);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            stripe.remove(key);
+            stripe.markPending(key);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.readLock();
+        try {
+            return stripe.getContainer(key);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public @Nullable DataBackend getContainerView(NamespacedKey key) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.readLock();
+        try {
+            return stripe.getContainerView(key);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        MemoryDataBackend copy = MemoryDataBackend.copyOf(value);
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            stripe.setContainer(key, copy);
+            stripe.markPending(key);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Изменение вложенного контейнера по ключу под блокировкой полосы ключа.
+     * Изменение получает копию контейнера и не должно обращаться к этому хранилищу.
+     *
+     * @param key Ключ
+     * @param update Изменение контейнера
+     */
+    @Override
+    public void updateContainer(NamespacedKey key, Consumer<DataBackend> update) {
+        Stripe stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            DataBackend container = stripe.getContainer(key);
+            if (container == null) container = stripe.createContainer();
+            update.accept(container);
+            stripe.setContainer(key, container);
+            stripe.markPending(key);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return stripes[0].createContainer();
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return stripes[0].getAdapterContext();
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        Set<NamespacedKey> result = new HashSet<>();
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                result.addAll(stripe.getKeys());
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                if (!stripe.isEmpty()) return false;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Обход всех значений.
+     * Каждая полоса копируется под блокировкой и обходится без неё, поэтому обходчик может писать в это же хранилище.
+     * Значения разных полос могут относиться к разным моментам времени.
+     *
+     * @param visitor Обходчик
+     */
+    @Override
+    public void forEach(DataVisitor visitor) {
+        for (Stripe stripe : stripes) {
+            MemoryDataBackend copy;
+            long stamp = stripe.lock.readLock();
+            try {
+                copy = stripe.copy();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+            copy.forEach(visitor);
+        }
+    }
+
+    /**
+     * Обход ключей пространства имён вместе с видами значений.
+     * Ключи полосы обходятся под её блокировкой чтения, поэтому обходчик не должен писать в это хранилище.
+     *
+     * @param namespace Пространство имён или null для всех ключей
+     * @param visitor Обходчик ключей
+     */
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                stripe.forEachKey(namespace, visitor);
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        Stripe stripe = stripe(key);
+        MemoryDataBackend value = new MemoryDataBackend(1, getAdapterContext());
+        long stamp = stripe.lock.readLock();
+        try {
+            if (!stripe.visit(key, new CopyingDataVisitor(value))) return false;
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+        return value.visit(key, visitor);
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        return (byte) readBits(key, DataKind.BYTE, defaultValue);
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        return (short) readBits(key, DataKind.SHORT, defaultValue);
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        return (int) readBits(key, DataKind.INTEGER, defaultValue);
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        return readBits(key, DataKind.LONG, defaultValue);
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        return Float.intBitsToFloat((int) readBits(key, DataKind.FLOAT, Float.floatToRawIntBits(defaultValue)));
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        return Double.longBitsToDouble(readBits(key, DataKind.DOUBLE, Double.doubleToRawLongBits(defaultValue)));
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        return readBits(key, DataKind.BYTE, defaultValue ? 1 : 0) != 0;
+    }
+
+    /**
+     * Полоса зеркала: таблица значений с блокировкой и набором ключей, изменённых после предыдущего переноса.
+     * Набор ключей изменяется только под блокировкой записи.
+     */
+    protected static class Stripe extends MemoryDataBackend {
+        protected final StampedLock lock = new StampedLock();
+        protected final Set<NamespacedKey> pending = new HashSet<>();
+        protected volatile boolean dirty;
+
+        protected Stripe(@Nullable PersistentDataAdapterContext context) {
+            super(DEFAULT_EXPECTED_SIZE, context);
+        }
+
+        protected long getBits(NamespacedKey key, DataKind kind, long defaultBits) {
+            int index = findKind(key, kind);
+            return index < 0 ? defaultBits : primitives[index];
+        }
+
+        protected @Nullable Object getPrimitive(NamespacedKey key, PersistentDataType<?, ?> type) {
+            int index = find(key);
+            if (index < 0 || !matches(index, type)) return null;
+            return getPrimitiveValue(index);
+        }
+
+        protected void markPending(NamespacedKey key) {
+            pending.add(key);
+            dirty = true;
+        }
+
+        protected DataDelta drain() {
+            MemoryDataBackend changes = new MemoryDataBackend(pending.size(), context);
+            Set<NamespacedKey> removals = new HashSet<>();
+            CopyingDataVisitor visitor = new CopyingDataVisitor(changes);
+            for (NamespacedKey key : pending) {
+                if (!visit(key, visitor)) removals.add(key);
+            }
+            pending.clear();
+            dirty = false;
+            return new DataDelta(changes, removals);
+        }
+    }
+}
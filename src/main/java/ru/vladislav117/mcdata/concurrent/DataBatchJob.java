@@ -0,0 +1,207 @@
+package ru.vladislav117.mcdata.concurrent;
+
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.key.KeyCache;
+import ru.vladislav117.mcdata.tracking.DataDelta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Задание обработки данных множества владельцев.
+ * Каждый вызов tick() в потоке, создавшем задание, применяет порцию готовых изменений к владельцам,
+ * затем копирует данные следующей порции владельцев и отправляет копии в исполнитель.
+ * Задача работает с менеджером над копией и отслеживанием изменённых ключей, поэтому к владельцу возвращаются
+ * только записанные и удалённые задачей ключи; значения, изменённые в основном потоке за время обработки, сохраняются.
+ * Менеджер владельца запрашивается повторно при применении изменений.
+ *
+ * @param <H> Тип владельца
+ */
+public class DataBatchJob<H> {
+    protected final List<H> holders;
+    protected final Function<? super H, DataManager> managers;
+    protected final Consumer<DataManager> task;
+    protected final Executor executor;
+    protected final int batchSize;
+    protected final int total;
+    protected final Thread owner;
+    protected final ConcurrentLinkedQueue<Result<H>> completed = new ConcurrentLinkedQueue<>();
+    protected final ConcurrentLinkedQueue<Failure<H>> failures = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger processed = new AtomicInteger();
+    protected final CompletableFuture<Void> completion = new CompletableFuture<>();
+    protected int submitted;
+    protected int applied;
+
+    /**
+     * Создание задания.
+     *
+     * @param holders Владельцы данных
+     * @param managers Функция получения менеджера данных владельца
+     * @param task Задача обработки данных одного владельца
+     * @param executor Исполнитель
+     * @param batchSize Максимальное количество владельцев, копируемых и изменяемых за один вызов tick()
+     */
+    public DataBatchJob(Collection<? extends H> holders, Function<? super H, DataManager> managers, Consumer<DataManager> task, Executor executor, int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive");
+        this.holders = new ArrayList<>(holders);
+        this.total = this.holders.size();
+        this.managers = managers;
+        this.task = task;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.owner = Thread.currentThread();
+        if (total == 0) completion.complete(null);
+    }
+
+    /**
+     * Выполнение шага задания: применение порции готовых изменений и отправка следующей порции владельцев в обработку.
+     * Вызывается раз в тик до завершения задания.
+     *
+     * @return Завершено ли задание.
+     * @throws IllegalStateException Если метод вызван не в потоке, создавшем задание, будет вызвано исключение.
+     */
+    public boolean tick() {
+        if (Thread.currentThread() != owner) throw new IllegalStateException("Batch job can only be ticked from " + owner.getName());
+        applyCompleted();
+        submitNext();
+        return isDone();
+    }
+
+    protected void applyCompleted() {
+        Result<H> result;
+        int count = 0;
+        while (count < batchSize && (result = completed.poll()) != null) {
+            result.delta().applyTo(managers.apply(result.holder()).getBackend());
+            applied++;
+            count++;
+        }
+    }
+
+    protected void submitNext() {
+        int end = Math.min(total, submitted + batchSize);
+        for (; submitted < end; submitted++) {
+            H holder = holders.get(submitted);
+            holders.set(submitted, null);
+            DataManager manager = managers.apply(holder);
+            MemoryDataBackend copy = MemoryDataBackend.copyOf(manager.getBackend());
+            KeyCache keyCache = manager.getKeyCache();
+            try {
+                executor.execute(() -> process(holder, copy, keyCache));
+            } catch (RejectedExecutionException exception) {
+                failures.add(new Failure<>(holder, exception));
+                finish();
+            }
+        }
+    }
+
+    protected void process(H holder, MemoryDataBackend copy, KeyCache keyCache) {
+        try {
+            DataManager manager = new DataManager(copy, keyCache).trackDirty();
+            task.accept(manager);
+            DataDelta delta = manager.drainDirty();
+            if (!delta.isEmpty()) completed.add(new Result<>(holder, delta));
+        } catch (Throwable throwable) {
+            failures.add(new Failure<>(holder, throwable));
+        } finally {
+            finish();
+        }
+    }
+
+    protected void finish() {
+        if (processed.incrementAndGet() == total) completion.complete(null);
+    }
+
+    /**
+     * Проверка завершения задания.
+     *
+     * @return Обработаны ли все владельцы и применены ли все изменения.
+     */
+    public boolean isDone() {
+        return processed.get() == total && completed.isEmpty();
+    }
+
+    /**
+     * Получение будущего, завершающегося после обработки всех владельцев.
+     * Изменения к этому моменту могут быть ещё не применены.
+     *
+     * @return Будущее завершения обработки.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Получение количества владельцев.
+     *
+     * @return Количество владельцев.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Получение количества владельцев, отправленных в обработку.
+     *
+     * @return Количество отправленных владельцев.
+     */
+    public int getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * Получение количества обработанных владельцев.
+     * Владельцы, которых исполнитель отказался принять, считаются обработанными с ошибкой.
+     *
+     * @return Количество обработанных владельцев.
+     */
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    /**
+     * Получение количества владельцев, к которым применены изменения.
+     *
+     * @return Количество владельцев с применёнными изменениями.
+     */
+    public int getApplied() {
+        return applied;
+    }
+
+    /**
+     * Получение ошибок обработки вместе с владельцами.
+     * Ошибкой считается исключение, выброшенное задачей, и отказ исполнителя принять задачу (RejectedExecutionException).
+     * Изменения владельцев с ошибкой не применяются.
+     *
+     * @return Новый список ошибок.
+     */
+    public List<Failure<H>> getFailures() {
+        return new ArrayList<>(failures);
+    }
+
+    /**
+     * Готовые изменения данных владельца.
+     *
+     * @param holder Владелец
+     * @param delta Изменения
+     */
+    protected record Result<H>(H holder, DataDelta delta) {
+    }
+
+    /**
+     * Ошибка обработки данных владельца.
+     *
+     * @param holder Владелец
+     * @param throwable Исключение
+     */
+    public record Failure<H>(H holder, Throwable throwable) {
+    }
+}
@@ -0,0 +1,77 @@
+package ru.vladislav117.mcdata.concurrent;
+
+import ru.vladislav117.mcdata.DataManager;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Обработчик данных множества владельцев в других потоках.
+ * Создаёт задания (см. DataBatchJob), которые копируют данные владельцев в основном потоке,
+ * обрабатывают копии в исполнителе и возвращают изменения в основной поток порциями.
+ * По умолчанию используется общий ForkJoinPool, подходящий для задач, занятых вычислениями.
+ * Для задач, которые блокируются (например, на вводе-выводе), можно передать исполнитель виртуальных потоков:
+ * new DataBatchProcessor(Executors.newVirtualThreadPerTaskExecutor(), DataBatchProcessor.DEFAULT_BATCH_SIZE).
+ */
+public class DataBatchProcessor {
+    public static final int DEFAULT_BATCH_SIZE = 512;
+
+    protected final Executor executor;
+    protected final int batchSize;
+
+    /**
+     * Создание обработчика.
+     *
+     * @param executor Исполнитель, в котором обрабатываются копии данных
+     * @param batchSize Максимальное количество владельцев, копируемых и изменяемых за один вызов DataBatchJob.tick()
+     */
+    public DataBatchProcessor(Executor executor, int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive");
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Создание обработчика над общим ForkJoinPool с размером порции по умолчанию.
+     */
+    public DataBatchProcessor() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Получение исполнителя.
+     *
+     * @return Исполнитель.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Получение размера порции.
+     *
+     * @return Максимальное количество владельцев, копируемых и изменяемых за один вызов DataBatchJob.tick().
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Создание задания обработки данных владельцев.
+     * Задание создаётся в текущем потоке и выполняется вызовами DataBatchJob.tick() в нём же.
+     * Функция получения менеджера вызывается только в этом потоке, задача - только в потоках исполнителя
+     * и получает менеджер над копией данных, поэтому не должна обращаться к самому владельцу.
+     *
+     * @param holders Владельцы данных
+     * @param managers Функция получения менеджера данных владельца
+     * @param task Задача обработки данных одного владельца
+     * @param <H> Тип владельца
+     * @return Задание.
+     */
+    public <H> DataBatchJob<H> submit(Collection<? extends H> holders, Function<? super H, DataManager> managers, Consumer<DataManager> task) {
+        return new DataBatchJob<>(holders, managers, task, executor, batchSize);
+    }
+}
@@ -4,6 +4,8 @@ package ru.vladislav117.mcdata.error;
  * Ошибка, связанная с менеджером данных.
  */
 public class DataManagerError extends Error {
+    static volatile boolean stackless = Boolean.getBoolean("mcdata.stacklessErrors");
+
     /**
      * Создание ошибки, связанной с менеджером данных.
      *
@@ -12,4 +14,37 @@ public class DataManagerError extends Error {
     public DataManagerError(String message) {
         super(message);
     }
+
+    /**
+     * Создание ошибки, связанной с менеджером данных, без сообщения.
+     * Сообщение строится наследником при обращении к getMessage().
+     * В облегчённом режиме стек вызовов не захватывается и подавленные исключения не сохраняются.
+     */
+    protected DataManagerError() {
+        this(stackless);
+    }
+
+    private DataManagerError(boolean stackless) {
+        super(null, null, !stackless, !stackless);
+    }
+
+    /**
+     * Проверка облегчённого режима ошибок отсутствия ключа и несовпадения типов.
+     *
+     * @return Включён ли облегчённый режим.
+     */
+    public static boolean isStackless() {
+        return stackless;
+    }
+
+    /**
+     * Включение или выключение облегчённого режима ошибок отсутствия ключа и несовпадения типов.
+     * В облегчённом режиме ошибки не захватывают стек вызовов, что ускоряет использование getX с перехватом ошибки.
+     * Начальное значение задаётся системным свойством mcdata.stacklessErrors.
+     *
+     * @param stackless Включён ли облегчённый режим
+     */
+    public static void setStackless(boolean stackless) {
+        DataManagerError.stackless = stackless;
+    }
 }
@@ -1,17 +1,57 @@
 package ru.vladislav117.mcdata.error;
 
 import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Ошибка, возникающая при отсутствии ключа в контейнере.
+ * Сообщение строится только при обращении к getMessage().
  */
 public class DataManagerKeyError extends DataManagerError {
+    protected final NamespacedKey key;
+    protected final @Nullable PersistentDataType<?, ?> type;
+
+    /**
+     * Создание ошибки, возникающей при отсутствии ключа в контейнере.
+     *
+     * @param key Ключ
+     * @param type Ожидаемый тип значения или null, если тип не известен
+     */
+    public DataManagerKeyError(NamespacedKey key, @Nullable PersistentDataType<?, ?> type) {
+        this.key = key;
+        this.type = type;
+    }
+
     /**
      * Создание ошибки, возникающей при отсутствии ключа в контейнере.
      *
      * @param key Ключ
      */
     public DataManagerKeyError(NamespacedKey key) {
-        super("Key \"" + key + "\" does not exists");
+        this(key, null);
+    }
+
+    /**
+     * Получение отсутствующего ключа.
+     *
+     * @return Ключ.
+     */
+    public NamespacedKey getKey() {
+        return key;
+    }
+
+    /**
+     * Получение ожидаемого типа значения.
+     *
+     * @return Ожидаемый тип значения или null, если тип не известен.
+     */
+    public @Nullable PersistentDataType<?, ?> getType() {
+        return type;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Key \"" + key + "\" does not exists";
     }
 }
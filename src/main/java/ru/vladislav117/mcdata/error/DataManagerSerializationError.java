@@ -0,0 +1,15 @@
+package ru.vladislav117.mcdata.error;
+
+/**
+ * Ошибка, возникающая при сериализации или десериализации данных.
+ */
+public class DataManagerSerializationError extends DataManagerError {
+    /**
+     * Создание ошибки, возникающей при сериализации или десериализации данных.
+     *
+     * @param message Сообщение об ошибке
+     */
+    public DataManagerSerializationError(String message) {
+        super(message);
+    }
+}
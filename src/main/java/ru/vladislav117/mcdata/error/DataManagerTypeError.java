@@ -1,17 +1,59 @@
 package ru.vladislav117.mcdata.error;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Ошибка, возникающая при несовпадении типов значений.
+ * Сообщение строится только при обращении к getMessage().
  */
 public class DataManagerTypeError extends DataManagerError {
+    protected final @Nullable NamespacedKey key;
+    protected final PersistentDataType<?, ?> type;
+
+    /**
+     * Создание ошибки, возникающей при несовпадении типов значений.
+     *
+     * @param key Ключ или null, если ключ не известен
+     * @param type Ожидаемый тип значения
+     */
+    public DataManagerTypeError(@Nullable NamespacedKey key, PersistentDataType<?, ?> type) {
+        this.key = key;
+        this.type = type;
+    }
+
     /**
      * Создание ошибки, возникающей при несовпадении типов значений.
      *
      * @param type Неверный тип значения
      */
     public DataManagerTypeError(PersistentDataType<?, ?> type) {
-        super("Type is not \"" + type + "\"");
+        this(null, type);
+    }
+
+    /**
+     * Получение ключа значения неверного типа.
+     *
+     * @return Ключ или null, если ключ не известен.
+     */
+    public @Nullable NamespacedKey getKey() {
+        return key;
+    }
+
+    /**
+     * Получение ожидаемого типа значения.
+     *
+     * @return Ожидаемый тип значения.
+     */
+    public PersistentDataType<?, ?> getType() {
+        return type;
+    }
+
+    @Override
+    public String getMessage() {
+        String typeName = type.getComplexType().getSimpleName();
+        if (key == null) return "Type is not \"" + typeName + "\"";
+        return "Type of \"" + key + "\" is not \"" + typeName + "\"";
     }
 }
@@ -0,0 +1,103 @@
+package ru.vladislav117.mcdata.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ограниченный пул прямых буферов.
+ * Пул хранит не больше заданного числа буферов не больше заданного размера,
+ * поэтому объём удерживаемой памяти ограничен maxPooled * maxBufferSize.
+ * Пул потокобезопасен.
+ */
+public class ByteBufferPool {
+    static final int minBufferSize = 4096;
+    static final ByteBufferPool defaultPool = new ByteBufferPool(16, 1 << 20);
+
+    protected final int maxPooled;
+    protected final int maxBufferSize;
+    protected final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger pooled = new AtomicInteger();
+
+    /**
+     * Создание пула буферов.
+     *
+     * @param maxPooled Максимальное число буферов в пуле
+     * @param maxBufferSize Максимальный размер буфера, возвращаемого в пул
+     */
+    public ByteBufferPool(int maxPooled, int maxBufferSize) {
+        this.maxPooled = maxPooled;
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * Получение общего пула буферов.
+     * Пул хранит до 16 буферов размером до 1 МиБ.
+     *
+     * @return Общий пул.
+     */
+    public static ByteBufferPool getDefault() {
+        return defaultPool;
+    }
+
+    /**
+     * Получение буфера из пула.
+     * Если первый буфер пула меньше запрошенного, он отбрасывается и создаётся новый прямой буфер,
+     * поэтому пул со временем заполняется буферами нужного размера.
+     * Буфер очищен, его ёмкость не меньше запрошенной.
+     *
+     * @param capacity Минимальная ёмкость
+     * @return Буфер.
+     */
+    public ByteBuffer acquire(int capacity) {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer != null) {
+            pooled.decrementAndGet();
+            if (buffer.capacity() >= capacity) return buffer.clear();
+        }
+        int size = capacity <= minBufferSize ? minBufferSize : capacity > 1 << 30 ? capacity : Integer.highestOneBit(capacity - 1) << 1;
+        return ByteBuffer.allocateDirect(size);
+    }
+
+    /**
+     * Возврат буфера в пул.
+     * Буферы больше максимального размера и буферы сверх лимита пула отбрасываются.
+     *
+     * @param buffer Буфер
+     */
+    public void release(ByteBuffer buffer) {
+        if (!buffer.isDirect() || buffer.capacity() > maxBufferSize) return;
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        buffers.offer(buffer.clear());
+    }
+
+    /**
+     * Получение числа буферов в пуле.
+     *
+     * @return Число буферов.
+     */
+    public int getPooled() {
+        return pooled.get();
+    }
+
+    /**
+     * Получение максимального числа буферов в пуле.
+     *
+     * @return Максимальное число буферов.
+     */
+    public int getMaxPooled() {
+        return maxPooled;
+    }
+
+    /**
+     * Получение максимального размера буфера, возвращаемого в пул.
+     *
+     * @return Максимальный размер буфера.
+     */
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+}
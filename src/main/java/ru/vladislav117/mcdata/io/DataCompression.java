@@ -0,0 +1,276 @@
+package ru.vladislav117.mcdata.io;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.error.DataManagerSerializationError;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Прозрачное сжатие больших массивов байтов и строк.
+ * Значения не меньше порога сжимаются алгоритмом Deflate (BEST_SPEED) и хранятся как массив байтов с заголовком:
+ * MAGIC (3 байта), способ хранения (1 байт) и, для сжатых данных, исходный размер (4 байта).
+ * Значения меньше порога и значения, которые не уменьшаются при сжатии, хранятся без изменений,
+ * поэтому чтение различает сжатые и несжатые значения по заголовку и понимает значения, записанные setByteArray и setString.
+ * Сжатие пишет в буферы из общего пула (значения больше наибольшего буфера пула - в массив в куче),
+ * распаковка пишет сразу в массив итогового размера.
+ */
+public final class DataCompression {
+    public static final byte MAGIC_0 = 'M';
+    public static final byte MAGIC_1 = 'C';
+    public static final byte MAGIC_2 = 'Z';
+    public static final byte STORED = 0;
+    public static final byte DEFLATED = 1;
+    static final int storedHeaderSize = 4;
+    static final int deflatedHeaderSize = 8;
+    static final int minThreshold = 16;
+    static final int maxPooledCoders = 8;
+    static final int maxDeflateRatio = 1032;
+
+    private static final ConcurrentLinkedQueue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private static final ConcurrentLinkedQueue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+    private static volatile int threshold = 256;
+
+    private DataCompression() {
+    }
+
+    /**
+     * Получение порога сжатия.
+     *
+     * @return Минимальный размер значения в байтах, начиная с которого значение сжимается.
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Установка порога сжатия.
+     *
+     * @param threshold Минимальный размер значения в байтах, начиная с которого значение сжимается
+     */
+    public static void setThreshold(int threshold) {
+        if (threshold < minThreshold) throw new IllegalArgumentException("Compression threshold must be at least " + minThreshold);
+        DataCompression.threshold = threshold;
+    }
+
+    /**
+     * Проверка наличия заголовка сжатия.
+     *
+     * @param value Массив байтов
+     * @return Начинается ли массив с заголовка сжатия.
+     */
+    public static boolean hasHeader(byte[] value) {
+        return value.length >= storedHeaderSize && value[0] == MAGIC_0 && value[1] == MAGIC_1 && value[2] == MAGIC_2 && (value[3] == STORED || value[3] == DEFLATED);
+    }
+
+    /**
+     * Сжатие массива байтов для хранения.
+     * Если значение меньше порога или не уменьшается при сжатии, возвращается исходный массив.
+     * Исходный массив, совпадающий началом с заголовком сжатия, возвращается с заголовком несжатых данных.
+     *
+     * @param value Массив байтов
+     * @return Массив байтов для хранения.
+     */
+    public static byte[] compress(byte[] value) {
+        byte[] deflated = deflate(value);
+        if (deflated != null) return deflated;
+        if (!hasHeader(value)) return value;
+        byte[] stored = new byte[storedHeaderSize + value.length];
+        putHeader(stored, STORED);
+        System.arraycopy(value, 0, stored, storedHeaderSize, value.length);
+        return stored;
+    }
+
+    /**
+     * Распаковка хранимого массива байтов.
+     * Массив без заголовка сжатия возвращается без изменений.
+     * Исходный размер из заголовка проверяется по наибольшей степени сжатия Deflate до выделения массива.
+     *
+     * @param value Хранимый массив байтов
+     * @return Исходный массив байтов.
+     * @throws DataManagerSerializationError Если сжатые данные повреждены.
+     */
+    public static byte[] decompress(byte[] value) {
+        if (!hasHeader(value)) return value;
+        if (value[3] == STORED) return Arrays.copyOfRange(value, storedHeaderSize, value.length);
+        if (value.length < deflatedHeaderSize) throw new DataManagerSerializationError("Malformed compressed data: truncated header");
+        int length = (value[4] & 0xFF) << 24 | (value[5] & 0xFF) << 16 | (value[6] & 0xFF) << 8 | value[7] & 0xFF;
+        if (length < 0) throw new DataManagerSerializationError("Malformed compressed data: negative length");
+        long maxLength = (long) (value.length - deflatedHeaderSize) * maxDeflateRatio;
+        if (length > maxLength) throw new DataManagerSerializationError("Malformed compressed data: length " + length + " can not be inflated from " + (value.length - deflatedHeaderSize) + " bytes");
+        byte[] result = new byte[length];
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) inflater = new Inflater(true);
+        try {
+            inflater.setInput(value, deflatedHeaderSize, value.length - deflatedHeaderSize);
+            int position = 0;
+            while (position < length) {
+                int inflated = inflater.inflate(result, position, length - position);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataManagerSerializationError("Malformed compressed data: unexpected end of data");
+                }
+                position += inflated;
+            }
+        } catch (DataFormatException exception) {
+            throw new DataManagerSerializationError("Malformed compressed data: " + exception.getMessage());
+        } finally {
+            release(inflater);
+        }
+        return result;
+    }
+
+    /**
+     * Запись массива байтов со сжатием.
+     *
+     * @param backend Хранилище данных
+     * @param key Ключ
+     * @param value Массив байтов
+     */
+    public static void setByteArray(DataBackend backend, NamespacedKey key, byte[] value) {
+        backend.set(key, PersistentDataType.BYTE_ARRAY, compress(value));
+    }
+
+    /**
+     * Чтение массива байтов, записанного со сжатием или без него.
+     *
+     * @param backend Хранилище данных
+     * @param key Ключ
+     * @return Массив байтов или null, если ключа нет или значение по ключу неправильного типа.
+     * @throws DataManagerSerializationError Если сжатые данные повреждены.
+     */
+    public static byte @Nullable [] getByteArray(DataBackend backend, NamespacedKey key) {
+        byte[] value = backend.get(key, PersistentDataType.BYTE_ARRAY);
+        if (value == null) return null;
+        return decompress(value);
+    }
+
+    /**
+     * Запись строки со сжатием.
+     * Несжатая строка хранится как String, сжатая - как массив байтов UTF-8 с заголовком.
+     *
+     * @param backend Хранилище данных
+     * @param key Ключ
+     * @param value Строка
+     */
+    public static void setString(DataBackend backend, NamespacedKey key, String value) {
+        byte[] deflated = value.length() * 3 < threshold ? null : deflate(value.getBytes(StandardCharsets.UTF_8));
+        if (deflated == null) {
+            backend.set(key, PersistentDataType.STRING, value);
+        } else {
+            backend.set(key, PersistentDataType.BYTE_ARRAY, deflated);
+        }
+    }
+
+    /**
+     * Чтение строки, записанной со сжатием или без него.
+     *
+     * @param backend Хранилище данных
+     * @param key Ключ
+     * @return Строка или null, если ключа нет или значение по ключу неправильного типа.
+     * @throws DataManagerSerializationError Если сжатые данные повреждены.
+     */
+    public static @Nullable String getString(DataBackend backend, NamespacedKey key) {
+        String value = backend.get(key, PersistentDataType.STRING);
+        if (value != null) return value;
+        byte[] bytes = backend.get(key, PersistentDataType.BYTE_ARRAY);
+        if (bytes == null || !hasHeader(bytes)) return null;
+        return new String(decompress(bytes), StandardCharsets.UTF_8);
+    }
+
+    static byte @Nullable [] deflate(byte[] value) {
+        if (value.length < threshold) return null;
+        ByteBufferPool pool = ByteBufferPool.getDefault();
+        int limit = value.length - deflatedHeaderSize - 1;
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            byte[] result = limit > pool.getMaxBufferSize() ? deflateToArray(deflater, limit) : deflateToPooled(deflater, limit, pool);
+            if (result == null) return null;
+            putHeader(result, DEFLATED);
+            result[4] = (byte) (value.length >>> 24);
+            result[5] = (byte) (value.length >>> 16);
+            result[6] = (byte) (value.length >>> 8);
+            result[7] = (byte) value.length;
+            return result;
+        } finally {
+            release(deflater);
+        }
+    }
+
+    /**
+     * Сжатие в буфер из пула с копированием в массив итогового размера.
+     *
+     * @param deflater Подготовленный Deflater
+     * @param limit Наибольший размер сжатых данных
+     * @param pool Пул буферов
+     * @return Массив с местом под заголовок и сжатыми данными или null, если данные не уместились.
+     */
+    static byte @Nullable [] deflateToPooled(Deflater deflater, int limit, ByteBufferPool pool) {
+        ByteBuffer buffer = pool.acquire(limit);
+        try {
+            buffer.limit(limit);
+            while (!deflater.finished() && buffer.hasRemaining()) {
+                deflater.deflate(buffer);
+            }
+            if (!deflater.finished()) return null;
+            byte[] result = new byte[deflatedHeaderSize + buffer.position()];
+            buffer.flip().get(result, deflatedHeaderSize, buffer.remaining());
+            return result;
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    /**
+     * Сжатие в массив в куче для значений больше наибольшего буфера пула.
+     * Прямой буфер такого размера не вернулся бы в пул, поэтому выделялся бы заново при каждом сжатии.
+     *
+     * @param deflater Подготовленный Deflater
+     * @param limit Наибольший размер сжатых данных
+     * @return Массив с местом под заголовок и сжатыми данными или null, если данные не уместились.
+     */
+    static byte @Nullable [] deflateToArray(Deflater deflater, int limit) {
+        byte[] result = new byte[deflatedHeaderSize + limit];
+        int position = deflatedHeaderSize;
+        while (!deflater.finished() && position < result.length) {
+            position += deflater.deflate(result, position, result.length - position);
+        }
+        if (!deflater.finished()) return null;
+        return Arrays.copyOf(result, position);
+    }
+
+    static void putHeader(byte[] bytes, byte method) {
+        bytes[0] = MAGIC_0;
+        bytes[1] = MAGIC_1;
+        bytes[2] = MAGIC_2;
+        bytes[3] = method;
+    }
+
+    static void release(Deflater deflater) {
+        deflater.reset();
+        if (deflaters.size() < maxPooledCoders) {
+            deflaters.offer(deflater);
+        } else {
+            deflater.end();
+        }
+    }
+
+    static void release(Inflater inflater) {
+        inflater.reset();
+        if (inflaters.size() < maxPooledCoders) {
+            inflaters.offer(inflater);
+        } else {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,624 @@
+package ru.vladislav117.mcdata.io;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.ListPersistentDataType;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.DataKind;
+import ru.vladislav117.mcdata.backend.DataVisitor;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+import ru.vladislav117.mcdata.error.DataManagerSerializationError;
+import ru.vladislav117.mcdata.key.KeyCache;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Двоичная сериализация хранилищ данных.
+ * Формат: заголовок (MAGIC, VERSION) и корневой контейнер.
+ * Контейнер записывается как число значений и значения; значение - вид (DataKind), ключ и данные.
+ * Числа записываются в порядке big-endian, строки - в UTF-8 с длиной.
+ * Списки записываются под видом OTHER: тип элементов (вложенность и вид), затем число элементов и элементы без ключей.
+ * Значения пишутся прямо из обхода хранилища, без промежуточных массивов.
+ */
+public final class DataSerializer {
+    public static final int MAGIC = 0x4D434454;
+    public static final byte VERSION = 2;
+    static final int headerSize = 5;
+    static final int listKind = DataKind.OTHER.ordinal();
+    static final int maxListDepth = 512;
+
+    private DataSerializer() {
+    }
+
+    /**
+     * Получение размера сериализованных данных без их записи.
+     *
+     * @param backend Хранилище
+     * @return Размер в байтах.
+     * @throws DataManagerSerializationError Если данные не поддерживаются форматом или слишком велики.
+     */
+    public static int getSerializedSize(DataBackend backend) {
+        SizingDataVisitor visitor = new SizingDataVisitor();
+        backend.forEach(visitor);
+        long size = headerSize + 4 + visitor.size;
+        if (size > Integer.MAX_VALUE) throw new DataManagerSerializationError("Serialized data is too large: " + size + " bytes");
+        return (int) size;
+    }
+
+    /**
+     * Запись данных в буфер с текущей позиции.
+     * Порядок байтов буфера после записи не меняется.
+     *
+     * @param backend Хранилище
+     * @param buffer Буфер, в котором не меньше getSerializedSize(backend) свободных байтов
+     * @throws java.nio.BufferOverflowException Если в буфере недостаточно места.
+     * @throws DataManagerSerializationError Если данные не поддерживаются форматом.
+     */
+    public static void write(DataBackend backend, ByteBuffer buffer) {
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        try {
+            buffer.putInt(MAGIC);
+            buffer.put(VERSION);
+            writeContainer(backend, buffer);
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Чтение данных из буфера с текущей позиции.
+     * Прочитанные значения добавляются в хранилище с заменой существующих.
+     * Списки контейнеров можно прочитать только в хранилище с контекстом адаптеров.
+     *
+     * @param buffer Буфер
+     * @param target Хранилище
+     * @throws DataManagerSerializationError Если данные повреждены или записаны в неизвестной версии формата.
+     */
+    public static void read(ByteBuffer buffer, DataBackend target) {
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (buffer.getInt() != MAGIC) throw new DataManagerSerializationError("Data is not serialized by DataSerializer");
+            byte version = buffer.get();
+            if (version < 1 || version > VERSION) throw new DataManagerSerializationError("Unsupported serialization version " + version);
+            readContainer(buffer, target);
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new DataManagerSerializationError("Malformed serialized data: " + exception);
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Запись данных в буфер из пула.
+     * Буфер возвращается готовым к чтению (flip); после использования его следует вернуть в пул.
+     *
+     * @param backend Хранилище
+     * @param pool Пул буферов
+     * @return Буфер с данными.
+     */
+    public static ByteBuffer writeToPooled(DataBackend backend, ByteBufferPool pool) {
+        ByteBuffer buffer = pool.acquire(getSerializedSize(backend));
+        boolean written = false;
+        try {
+            write(backend, buffer);
+            written = true;
+            return buffer.flip();
+        } finally {
+            if (!written) pool.release(buffer);
+        }
+    }
+
+    /**
+     * Запись данных в массив байтов точного размера.
+     *
+     * @param backend Хранилище
+     * @return Массив байтов.
+     */
+    public static byte[] toByteArray(DataBackend backend) {
+        byte[] bytes = new byte[getSerializedSize(backend)];
+        write(backend, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    static void writeContainer(DataBackend backend, ByteBuffer buffer) {
+        int countPosition = buffer.position();
+        buffer.putInt(0);
+        WritingDataVisitor visitor = new WritingDataVisitor(buffer);
+        backend.forEach(visitor);
+        buffer.putInt(countPosition, visitor.count);
+    }
+
+    static void readContainer(ByteBuffer buffer, DataBackend target) {
+        int count = buffer.getInt();
+        if (count < 0) throw new DataManagerSerializationError("Malformed serialized data: negative value count");
+        for (int index = 0; index < count; index++) {
+            int ordinal = buffer.get();
+            if (ordinal < 0 || ordinal > listKind) throw new DataManagerSerializationError("Malformed serialized data: unknown value kind " + ordinal);
+            NamespacedKey key = readKey(buffer);
+            if (ordinal == listKind) {
+                readList(buffer, key, target);
+                continue;
+            }
+            switch (DataKind.byOrdinal(ordinal)) {
+                case BYTE -> target.setByte(key, buffer.get());
+                case SHORT -> target.setShort(key, buffer.getShort());
+                case INTEGER -> target.setInteger(key, buffer.getInt());
+                case LONG -> target.setLong(key, buffer.getLong());
+                case FLOAT -> target.setFloat(key, buffer.getFloat());
+                case DOUBLE -> target.setDouble(key, buffer.getDouble());
+                case STRING -> target.set(key, PersistentDataType.STRING, readString(buffer, readLength(buffer, 1)));
+                case BYTE_ARRAY -> {
+                    byte[] value = new byte[readLength(buffer, 1)];
+                    buffer.get(value);
+                    target.set(key, PersistentDataType.BYTE_ARRAY, value);
+                }
+                case INTEGER_ARRAY -> {
+                    int[] value = new int[readLength(buffer, 4)];
+                    buffer.asIntBuffer().get(value);
+                    buffer.position(buffer.position() + value.length * 4);
+                    target.set(key, PersistentDataType.INTEGER_ARRAY, value);
+                }
+                case LONG_ARRAY -> {
+                    long[] value = new long[readLength(buffer, 8)];
+                    buffer.asLongBuffer().get(value);
+                    buffer.position(buffer.position() + value.length * 8);
+                    target.set(key, PersistentDataType.LONG_ARRAY, value);
+                }
+                case CONTAINER -> {
+                    DataBackend container = target.createContainer();
+                    readContainer(buffer, container);
+                    target.setContainer(key, container);
+                }
+                default -> throw new DataManagerSerializationError("Malformed serialized data: unknown value kind " + ordinal);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static void readList(ByteBuffer buffer, NamespacedKey key, DataBackend target) {
+        int depth = 0;
+        int ordinal;
+        while ((ordinal = buffer.get()) == listKind) {
+            if (++depth > maxListDepth) throw new DataManagerSerializationError("Malformed serialized data: list by key \"" + key + "\" is nested too deeply");
+        }
+        if (ordinal < 0 || ordinal >= listKind) throw new DataManagerSerializationError("Malformed serialized data: unknown list element kind " + ordinal);
+        DataKind kind = DataKind.byOrdinal(ordinal);
+        PersistentDataAdapterContext context = target.getAdapterContext();
+        if (kind == DataKind.CONTAINER && context == null) throw new DataManagerSerializationError("List of containers by key \"" + key + "\" can not be read into a backend without an adapter context");
+        ListPersistentDataType type = PersistentDataType.LIST.listTypeFrom(kind.getType());
+        for (int level = 0; level < depth; level++) {
+            type = PersistentDataType.LIST.listTypeFrom(type);
+        }
+        target.set(key, type, readElements(buffer, depth, kind, context));
+    }
+
+    static List<Object> readElements(ByteBuffer buffer, int depth, DataKind kind, @Nullable PersistentDataAdapterContext context) {
+        int size = readLength(buffer, 1);
+        List<Object> values = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            values.add(depth > 0 ? readElements(buffer, depth - 1, kind, context) : readElement(buffer, kind, context));
+        }
+        return values;
+    }
+
+    static Object readElement(ByteBuffer buffer, DataKind kind, @Nullable PersistentDataAdapterContext context) {
+        return switch (kind) {
+            case BYTE -> buffer.get();
+            case SHORT -> buffer.getShort();
+            case INTEGER -> buffer.getInt();
+            case LONG -> buffer.getLong();
+            case FLOAT -> buffer.getFloat();
+            case DOUBLE -> buffer.getDouble();
+            case STRING -> readString(buffer, readLength(buffer, 1));
+            case BYTE_ARRAY -> {
+                byte[] value = new byte[readLength(buffer, 1)];
+                buffer.get(value);
+                yield value;
+            }
+            case INTEGER_ARRAY -> {
+                int[] value = new int[readLength(buffer, 4)];
+                buffer.asIntBuffer().get(value);
+                buffer.position(buffer.position() + value.length * 4);
+                yield value;
+            }
+            case LONG_ARRAY -> {
+                long[] value = new long[readLength(buffer, 8)];
+                buffer.asLongBuffer().get(value);
+                buffer.position(buffer.position() + value.length * 8);
+                yield value;
+            }
+            case CONTAINER -> {
+                PersistentDataContainer container = context.newPersistentDataContainer();
+                readContainer(buffer, new PersistentDataContainerBackend(container));
+                yield container;
+            }
+            case OTHER -> throw new DataManagerSerializationError("Malformed serialized data: unknown list element kind " + kind.ordinal());
+        };
+    }
+
+    /**
+     * Чтение ключа.
+     * Общий кэш ключей используется только для уже известных пространств имён,
+     * чтобы пространства имён из входных данных не создавали новые кэши.
+     *
+     * @param buffer Буфер
+     * @return Ключ.
+     */
+    static NamespacedKey readKey(ByteBuffer buffer) {
+        String namespace = readString(buffer, Short.toUnsignedInt(buffer.getShort()));
+        String keyString = readString(buffer, Short.toUnsignedInt(buffer.getShort()));
+        KeyCache cache = KeyCache.getIfPresent(namespace);
+        return cache != null ? cache.get(keyString) : new NamespacedKey(namespace, keyString);
+    }
+
+    static int readLength(ByteBuffer buffer, int elementSize) {
+        int length = buffer.getInt();
+        if (length < 0 || (long) length * elementSize > buffer.remaining()) throw new BufferUnderflowException();
+        return length;
+    }
+
+    static String readString(ByteBuffer buffer, int length) {
+        if (length > buffer.remaining()) throw new BufferUnderflowException();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    static int getUtf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int index = 0; index < length; index++) {
+            char character = value.charAt(index);
+            if (character < 0x80) continue;
+            if (character < 0x800) {
+                bytes += 1;
+            } else if (Character.isSurrogate(character)) {
+                if (Character.isHighSurrogate(character) && index + 1 < length && Character.isLowSurrogate(value.charAt(index + 1))) {
+                    bytes += 2;
+                    index++;
+                }
+            } else {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    static void writeUtf8(ByteBuffer buffer, String value) {
+        int length = value.length();
+        for (int index = 0; index < length; index++) {
+            char character = value.charAt(index);
+            if (character < 0x80) {
+                buffer.put((byte) character);
+            } else if (character < 0x800) {
+                buffer.put((byte) (0xC0 | character >> 6));
+                buffer.put((byte) (0x80 | character & 0x3F));
+            } else if (Character.isSurrogate(character)) {
+                if (Character.isHighSurrogate(character) && index + 1 < length && Character.isLowSurrogate(value.charAt(index + 1))) {
+                    int codePoint = Character.toCodePoint(character, value.charAt(++index));
+                    buffer.put((byte) (0xF0 | codePoint >> 18));
+                    buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    buffer.put((byte) '?');
+                }
+            } else {
+                buffer.put((byte) (0xE0 | character >> 12));
+                buffer.put((byte) (0x80 | character >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | character & 0x3F));
+            }
+        }
+    }
+
+    static void writeShortString(ByteBuffer buffer, String value) {
+        int length = getUtf8Length(value);
+        if (length > 0xFFFF) throw new DataManagerSerializationError("Key part is too long: " + value);
+        buffer.putShort((short) length);
+        writeUtf8(buffer, value);
+    }
+
+    static int getKeySize(NamespacedKey key) {
+        return 1 + 2 + getUtf8Length(key.getNamespace()) + 2 + getUtf8Length(key.getKey());
+    }
+
+    /**
+     * Получение вложенности списка: числа списочных типов до типа элементов.
+     *
+     * @param key Ключ
+     * @param type Тип данных значения
+     * @param value Значение в примитивном виде
+     * @return Вложенность списка.
+     * @throws DataManagerSerializationError Если значение не является списком или элементы не входят в основной набор.
+     */
+    static int getListDepth(NamespacedKey key, @Nullable PersistentDataType<?, ?> type, @Nullable Object value) {
+        if (!(type instanceof ListPersistentDataType<?, ?>) || !(value instanceof List<?>)) throw unsupported(key, type);
+        int depth = 0;
+        PersistentDataType<?, ?> elementType = ((ListPersistentDataType<?, ?>) type).elementType();
+        while (elementType instanceof ListPersistentDataType<?, ?> list) {
+            if (++depth > maxListDepth) throw unsupported(key, type);
+            elementType = list.elementType();
+        }
+        if (getElementKind(elementType) == DataKind.OTHER) throw unsupported(key, type);
+        return depth;
+    }
+
+    /**
+     * Получение вида элементов списка.
+     *
+     * @param type Списочный тип данных
+     * @return Вид элементов, не являющихся списками.
+     */
+    static DataKind getElementKind(PersistentDataType<?, ?> type) {
+        while (type instanceof ListPersistentDataType<?, ?> list) {
+            type = list.elementType();
+        }
+        return DataKind.byPrimitiveType(type.getPrimitiveType());
+    }
+
+    static long getElementsSize(List<?> values, int depth, DataKind kind) {
+        long size = 4;
+        for (Object value : values) {
+            size += depth > 0 ? getElementsSize((List<?>) value, depth - 1, kind) : getElementSize(value, kind);
+        }
+        return size;
+    }
+
+    static long getElementSize(Object value, DataKind kind) {
+        return switch (kind) {
+            case BYTE -> 1;
+            case SHORT -> 2;
+            case INTEGER, FLOAT -> 4;
+            case LONG, DOUBLE -> 8;
+            case STRING -> 4 + getUtf8Length((String) value);
+            case BYTE_ARRAY -> 4 + ((byte[]) value).length;
+            case INTEGER_ARRAY -> 4 + ((int[]) value).length * 4L;
+            case LONG_ARRAY -> 4 + ((long[]) value).length * 8L;
+            case CONTAINER -> {
+                SizingDataVisitor visitor = new SizingDataVisitor();
+                new PersistentDataContainerBackend((PersistentDataContainer) value).forEach(visitor);
+                yield 4 + visitor.size;
+            }
+            case OTHER -> throw new IllegalStateException("List elements of kind OTHER are rejected before sizing");
+        };
+    }
+
+    static void writeElements(ByteBuffer buffer, List<?> values, int depth, DataKind kind) {
+        buffer.putInt(values.size());
+        for (Object value : values) {
+            if (depth > 0) {
+                writeElements(buffer, (List<?>) value, depth - 1, kind);
+            } else {
+                writeElement(buffer, value, kind);
+            }
+        }
+    }
+
+    static void writeElement(ByteBuffer buffer, Object value, DataKind kind) {
+        switch (kind) {
+            case BYTE -> buffer.put((Byte) value);
+            case SHORT -> buffer.putShort((Short) value);
+            case INTEGER -> buffer.putInt((Integer) value);
+            case LONG -> buffer.putLong((Long) value);
+            case FLOAT -> buffer.putFloat((Float) value);
+            case DOUBLE -> buffer.putDouble((Double) value);
+            case STRING -> {
+                String string = (String) value;
+                buffer.putInt(getUtf8Length(string));
+                writeUtf8(buffer, string);
+            }
+            case BYTE_ARRAY -> {
+                byte[] array = (byte[]) value;
+                buffer.putInt(array.length);
+                buffer.put(array);
+            }
+            case INTEGER_ARRAY -> {
+                int[] array = (int[]) value;
+                buffer.putInt(array.length);
+                buffer.asIntBuffer().put(array);
+                buffer.position(buffer.position() + array.length * 4);
+            }
+            case LONG_ARRAY -> {
+                long[] array = (long[]) value;
+                buffer.putInt(array.length);
+                buffer.asLongBuffer().put(array);
+                buffer.position(buffer.position() + array.length * 8);
+            }
+            case CONTAINER -> writeContainer(new PersistentDataContainerBackend((PersistentDataContainer) value), buffer);
+            case OTHER -> throw new IllegalStateException("List elements of kind OTHER are rejected before writing");
+        }
+    }
+
+    static DataManagerSerializationError unsupported(NamespacedKey key, @Nullable PersistentDataType<?, ?> type) {
+        return new DataManagerSerializationError("Value by key \"" + key + "\" has unsupported type" + (type == null ? "" : " \"" + type.getComplexType().getName() + "\""));
+    }
+
+    /**
+     * Обходчик, считающий размер сериализованных данных.
+     */
+    static class SizingDataVisitor implements DataVisitor {
+        protected long size;
+
+        @Override
+        public void visitByte(NamespacedKey key, byte value) {
+            size += getKeySize(key) + 1;
+        }
+
+        @Override
+        public void visitShort(NamespacedKey key, short value) {
+            size += getKeySize(key) + 2;
+        }
+
+        @Override
+        public void visitInteger(NamespacedKey key, int value) {
+            size += getKeySize(key) + 4;
+        }
+
+        @Override
+        public void visitLong(NamespacedKey key, long value) {
+            size += getKeySize(key) + 8;
+        }
+
+        @Override
+        public void visitFloat(NamespacedKey key, float value) {
+            size += getKeySize(key) + 4;
+        }
+
+        @Override
+        public void visitDouble(NamespacedKey key, double value) {
+            size += getKeySize(key) + 8;
+        }
+
+        @Override
+        public void visitString(NamespacedKey key, String value) {
+            size += getKeySize(key) + 4 + getUtf8Length(value);
+        }
+
+        @Override
+        public void visitByteArray(NamespacedKey key, byte[] value) {
+            size += getKeySize(key) + 4 + value.length;
+        }
+
+        @Override
+        public void visitIntegerArray(NamespacedKey key, int[] value) {
+            size += getKeySize(key) + 4 + value.length * 4L;
+        }
+
+        @Override
+        public void visitLongArray(NamespacedKey key, long[] value) {
+            size += getKeySize(key) + 4 + value.length * 8L;
+        }
+
+        @Override
+        public void visitContainer(NamespacedKey key, DataBackend value) {
+            size += getKeySize(key) + 4;
+            value.forEach(this);
+        }
+
+        @Override
+        public void visitOther(NamespacedKey key, @Nullable PersistentDataType<?, ?> type, @Nullable Object value) {
+            int depth = getListDepth(key, type, value);
+            size += getKeySize(key) + depth + 1 + getElementsSize((List<?>) value, depth, getElementKind(type));
+        }
+    }
+
+    /**
+     * Обходчик, записывающий значения в буфер.
+     */
+    static class WritingDataVisitor implements DataVisitor {
+        protected final ByteBuffer buffer;
+        protected int count;
+
+        WritingDataVisitor(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        protected void writeKey(NamespacedKey key, DataKind kind) {
+            buffer.put((byte) kind.ordinal());
+            writeShortString(buffer, key.getNamespace());
+            writeShortString(buffer, key.getKey());
+            count++;
+        }
+
+        @Override
+        public void visitByte(NamespacedKey key, byte value) {
+            writeKey(key, DataKind.BYTE);
+            buffer.put(value);
+        }
+
+        @Override
+        public void visitShort(NamespacedKey key, short value) {
+            writeKey(key, DataKind.SHORT);
+            buffer.putShort(value);
+        }
+
+        @Override
+        public void visitInteger(NamespacedKey key, int value) {
+            writeKey(key, DataKind.INTEGER);
+            buffer.putInt(value);
+        }
+
+        @Override
+        public void visitLong(NamespacedKey key, long value) {
+            writeKey(key, DataKind.LONG);
+            buffer.putLong(value);
+        }
+
+        @Override
+        public void visitFloat(NamespacedKey key, float value) {
+            writeKey(key, DataKind.FLOAT);
+            buffer.putFloat(value);
+        }
+
+        @Override
+        public void visitDouble(NamespacedKey key, double value) {
+            writeKey(key, DataKind.DOUBLE);
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public void visitString(NamespacedKey key, String value) {
+            writeKey(key, DataKind.STRING);
+            buffer.putInt(getUtf8Length(value));
+            writeUtf8(buffer, value);
+        }
+
+        @Override
+        public void visitByteArray(NamespacedKey key, byte[] value) {
+            writeKey(key, DataKind.BYTE_ARRAY);
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+
+        @Override
+        public void visitIntegerArray(NamespacedKey key, int[] value) {
+            writeKey(key, DataKind.INTEGER_ARRAY);
+            buffer.putInt(value.length);
+            buffer.asIntBuffer().put(value);
+            buffer.position(buffer.position() + value.length * 4);
+        }
+
+        @Override
+        public void visitLongArray(NamespacedKey key, long[] value) {
+            writeKey(key, DataKind.LONG_ARRAY);
+            buffer.putInt(value.length);
+            buffer.asLongBuffer().put(value);
+            buffer.position(buffer.position() + value.length * 8);
+        }
+
+        @Override
+        public void visitContainer(NamespacedKey key, DataBackend value) {
+            writeKey(key, DataKind.CONTAINER);
+            writeContainer(value, buffer);
+        }
+
+        @Override
+        public void visitOther(NamespacedKey key, @Nullable PersistentDataType<?, ?> type, @Nullable Object value) {
+            int depth = getListDepth(key, type, value);
+            DataKind kind = getElementKind(type);
+            writeKey(key, DataKind.OTHER);
+            for (int level = 0; level < depth; level++) {
+                buffer.put((byte) listKind);
+            }
+            buffer.put((byte) kind.ordinal());
+            writeElements(buffer, (List<?>) value, depth, kind);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package ru.vladislav117.mcdata.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Получение вложенного контейнера из хранилища данных.
+ */
+@Name("ru.vladislav117.mcdata.Container")
+@Label("Data Container")
+public class DataContainerEvent extends DataEvent {
+}
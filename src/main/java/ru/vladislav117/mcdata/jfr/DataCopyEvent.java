@@ -0,0 +1,34 @@
+package ru.vladislav117.mcdata.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import ru.vladislav117.mcdata.backend.MergePolicy;
+
+/**
+ * Копирование или слияние всех значений хранилища данных с другим хранилищем одной операцией.
+ * Записи отдельных значений при этом не записываются.
+ */
+@Name("ru.vladislav117.mcdata.Copy")
+@Label("Data Copy")
+@Category({"MCData"})
+@StackTrace(false)
+public class DataCopyEvent extends Event {
+    @Label("Policy")
+    protected String policy;
+    @Label("Filtered")
+    protected boolean filtered;
+
+    /**
+     * Заполнение полей события.
+     *
+     * @param policy Политика разрешения конфликтов (REPLACE для копирования)
+     * @param filtered Были ли ключи отфильтрованы
+     */
+    public void set(MergePolicy policy, boolean filtered) {
+        this.policy = policy.name();
+        this.filtered = filtered;
+    }
+}
@@ -0,0 +1,32 @@
+package ru.vladislav117.mcdata.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.bukkit.NamespacedKey;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Событие Java Flight Recorder обращения к хранилищу данных.
+ * Стек вызовов не записывается, чтобы событие оставалось дешёвым.
+ */
+@Category({"MCData"})
+@StackTrace(false)
+public abstract class DataEvent extends Event {
+    @Label("Key")
+    protected String key;
+    @Label("Type")
+    protected String type;
+
+    /**
+     * Заполнение полей события.
+     *
+     * @param key Ключ
+     * @param type Имя типа значения или null, если тип не известен
+     */
+    public void set(NamespacedKey key, @Nullable String type) {
+        this.key = key.toString();
+        this.type = type;
+    }
+}
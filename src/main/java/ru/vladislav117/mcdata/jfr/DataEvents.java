@@ -0,0 +1,45 @@
+package ru.vladislav117.mcdata.jfr;
+
+import ru.vladislav117.mcdata.backend.DataBackend;
+
+/**
+ * Управление событиями Java Flight Recorder для менеджеров данных.
+ * Пока события выключены, хранилища не оборачиваются и обращения к данным ничего не стоят.
+ * Включённое состояние влияет только на менеджеры, созданные после включения.
+ * Начальное состояние задаётся системным свойством mcdata.jfr.
+ */
+public final class DataEvents {
+    private static volatile boolean enabled = Boolean.getBoolean("mcdata.jfr");
+
+    private DataEvents() {
+    }
+
+    /**
+     * Проверка включённости событий.
+     *
+     * @return Включены ли события.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Включение или выключение событий.
+     *
+     * @param enabled Включены ли события
+     */
+    public static void setEnabled(boolean enabled) {
+        DataEvents.enabled = enabled;
+    }
+
+    /**
+     * Оборачивание хранилища в хранилище, записывающее события, если события включены.
+     *
+     * @param backend Хранилище данных
+     * @return Хранилище, записывающее события, или исходное хранилище.
+     */
+    public static DataBackend wrap(DataBackend backend) {
+        if (!enabled || backend instanceof EventDataBackend) return backend;
+        return new EventDataBackend(backend);
+    }
+}
@@ -0,0 +1,13 @@
+package ru.vladislav117.mcdata.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Чтение значения по отсутствующему ключу.
+ * Записывается вместе с событием чтения, которое содержит продолжительность неудачного чтения.
+ */
+@Name("ru.vladislav117.mcdata.Miss")
+@Label("Data Miss")
+public class DataMissEvent extends DataEvent {
+}
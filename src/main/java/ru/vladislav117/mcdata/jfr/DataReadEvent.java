@@ -0,0 +1,12 @@
+package ru.vladislav117.mcdata.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Чтение значения из хранилища данных.
+ */
+@Name("ru.vladislav117.mcdata.Read")
+@Label("Data Read")
+public class DataReadEvent extends DataEvent {
+}
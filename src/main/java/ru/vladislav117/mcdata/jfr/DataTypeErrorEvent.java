@@ -0,0 +1,13 @@
+package ru.vladislav117.mcdata.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Чтение значения по ключу, хранящему значение другого типа.
+ * Записывается вместе с событием чтения, которое содержит продолжительность неудачного чтения.
+ */
+@Name("ru.vladislav117.mcdata.TypeError")
+@Label("Data Type Error")
+public class DataTypeErrorEvent extends DataEvent {
+}
@@ -0,0 +1,12 @@
+package ru.vladislav117.mcdata.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Запись или удаление значения в хранилище данных.
+ */
+@Name("ru.vladislav117.mcdata.Write")
+@Label("Data Write")
+public class DataWriteEvent extends DataEvent {
+}
@@ -0,0 +1,377 @@
+package ru.vladislav117.mcdata.jfr;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.DataVisitor;
+import ru.vladislav117.mcdata.backend.KeyVisitor;
+import ru.vladislav117.mcdata.backend.MergePolicy;
+import ru.vladislav117.mcdata.key.KeyFilters;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Хранилище, записывающее события Java Flight Recorder для обращений к другому хранилищу.
+ * Для каждого чтения записывается событие чтения, а для неудачного чтения дополнительно событие отсутствия ключа или несовпадения типов.
+ * Копирование и слияние передаются исходному хранилищу целиком (с событием на всю операцию),
+ * чтобы сохранялись быстрые пути исходного хранилища, например копирование контейнера PersistentDataContainer.
+ * Поля событий заполняются только если событие будет записано.
+ */
+public class EventDataBackend implements DataBackend {
+    protected final DataBackend target;
+
+    /**
+     * Создание хранилища, записывающего события.
+     *
+     * @param target Исходное хранилище
+     */
+    public EventDataBackend(DataBackend target) {
+        this.target = target;
+    }
+
+    /**
+     * Получение исходного хранилища.
+     *
+     * @return Исходное хранилище.
+     */
+    public DataBackend getTarget() {
+        return target;
+    }
+
+    /**
+     * Запись события чтения и, если значение не было получено, события неудачного чтения.
+     * Повторные обращения к хранилищу для определения причины выполняются, только если такие события включены.
+     *
+     * @param event Событие чтения
+     * @param key Ключ
+     * @param type Тип значения
+     * @param found Было ли получено значение
+     */
+    protected void commitRead(DataEvent event, NamespacedKey key, PersistentDataType<?, ?> type, boolean found) {
+        if (event.shouldCommit()) {
+            event.set(key, type.getComplexType().getSimpleName());
+            event.commit();
+        }
+        if (found) return;
+        DataMissEvent miss = new DataMissEvent();
+        DataTypeErrorEvent typeError = new DataTypeErrorEvent();
+        if (!miss.isEnabled() && !typeError.isEnabled()) return;
+        if (target.has(key, type)) return;
+        DataEvent failure = target.has(key) ? typeError : miss;
+        if (!failure.shouldCommit()) return;
+        failure.set(key, type.getComplexType().getSimpleName());
+        failure.commit();
+    }
+
+    /**
+     * Получение хранилища, в которое исходное хранилище копирует значения.
+     * Хранилище, записывающее события, заменяется своим исходным хранилищем: операция записывается одним событием.
+     *
+     * @param target Хранилище, в которое копируются значения
+     * @return Хранилище без обёртки событий.
+     */
+    protected static DataBackend unwrap(DataBackend target) {
+        return target instanceof EventDataBackend backend ? backend.target : target;
+    }
+
+    /**
+     * Запись события копирования.
+     *
+     * @param event Событие копирования
+     * @param policy Политика разрешения конфликтов
+     * @param filter Фильтр ключей
+     */
+    protected void commitCopy(DataCopyEvent event, MergePolicy policy, Predicate<NamespacedKey> filter) {
+        if (!event.shouldCommit()) return;
+        event.set(policy, !KeyFilters.isAll(filter));
+        event.commit();
+    }
+
+    /**
+     * Запись события записи.
+     *
+     * @param event Событие записи
+     * @param key Ключ
+     * @param type Имя типа значения или null для удаления
+     */
+    protected void commitWrite(DataEvent event, NamespacedKey key, @Nullable String type) {
+        if (!event.shouldCommit()) return;
+        event.set(key, type);
+        event.commit();
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return target.has(key);
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return target.has(key, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        C value = target.get(key, type);
+        event.end();
+        commitRead(event, key, type, value != null);
+        return value;
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.set(key, type, value);
+        event.end();
+        commitWrite(event, key, type.getComplexType().getSimpleName());
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.remove(key);
+        event.end();
+        commitWrite(event, key, null);
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        DataContainerEvent event = new DataContainerEvent();
+        event.begin();
+        DataBackend value = target.getContainer(key);
+        event.end();
+        commitRead(event, key, PersistentDataType.TAG_CONTAINER, value != null);
+        return value;
+    }
+
+    @Override
+    public @Nullable DataBackend getContainerView(NamespacedKey key) {
+        DataContainerEvent event = new DataContainerEvent();
+        event.begin();
+        DataBackend value = target.getContainerView(key);
+        event.end();
+        commitRead(event, key, PersistentDataType.TAG_CONTAINER, value != null);
+        return value == null ? null : new EventDataBackend(value);
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setContainer(key, value);
+        event.end();
+        commitWrite(event, key, "PersistentDataContainer");
+    }
+
+    @Override
+    public void updateContainer(NamespacedKey key, Consumer<DataBackend> update) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.updateContainer(key, update);
+        event.end();
+        commitWrite(event, key, "PersistentDataContainer");
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return target.createContainer();
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return target.getAdapterContext();
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        return target.getKeys();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return target.isEmpty();
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        target.forEach(visitor);
+    }
+
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        target.forEachKey(namespace, visitor);
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        return target.visit(key, visitor);
+    }
+
+    @Override
+    public void copyTo(DataBackend target) {
+        DataCopyEvent event = new DataCopyEvent();
+        event.begin();
+        this.target.copyTo(unwrap(target));
+        event.end();
+        commitCopy(event, MergePolicy.REPLACE, KeyFilters.all());
+    }
+
+    @Override
+    public void copyTo(DataBackend target, Predicate<NamespacedKey> filter) {
+        DataCopyEvent event = new DataCopyEvent();
+        event.begin();
+        this.target.copyTo(unwrap(target), filter);
+        event.end();
+        commitCopy(event, MergePolicy.REPLACE, filter);
+    }
+
+    @Override
+    public void mergeTo(DataBackend target, Predicate<NamespacedKey> filter, MergePolicy policy) {
+        DataCopyEvent event = new DataCopyEvent();
+        event.begin();
+        this.target.mergeTo(unwrap(target), filter, policy);
+        event.end();
+        commitCopy(event, policy, filter);
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        byte value = target.getByte(key, defaultValue);
+        event.end();
+        commitRead(event, key, PersistentDataType.BYTE, value != defaultValue);
+        return value;
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        short value = target.getShort(key, defaultValue);
+        event.end();
+        commitRead(event, key, PersistentDataType.SHORT, value != defaultValue);
+        return value;
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        int value = target.getInteger(key, defaultValue);
+        event.end();
+        commitRead(event, key, PersistentDataType.INTEGER, value != defaultValue);
+        return value;
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        long value = target.getLong(key, defaultValue);
+        event.end();
+        commitRead(event, key, PersistentDataType.LONG, value != defaultValue);
+        return value;
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        float value = target.getFloat(key, defaultValue);
+        event.end();
+        commitRead(event, key, PersistentDataType.FLOAT, Float.compare(value, defaultValue) != 0);
+        return value;
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        double value = target.getDouble(key, defaultValue);
+        event.end();
+        commitRead(event, key, PersistentDataType.DOUBLE, Double.compare(value, defaultValue) != 0);
+        return value;
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        DataReadEvent event = new DataReadEvent();
+        event.begin();
+        boolean value = target.getBoolean(key, defaultValue);
+        event.end();
+        commitRead(event, key, PersistentDataType.BOOLEAN, value != defaultValue);
+        return value;
+    }
+
+    @Override
+    public void setByte(NamespacedKey key, byte value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setByte(key, value);
+        event.end();
+        commitWrite(event, key, "Byte");
+    }
+
+    @Override
+    public void setShort(NamespacedKey key, short value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setShort(key, value);
+        event.end();
+        commitWrite(event, key, "Short");
+    }
+
+    @Override
+    public void setInteger(NamespacedKey key, int value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setInteger(key, value);
+        event.end();
+        commitWrite(event, key, "Integer");
+    }
+
+    @Override
+    public void setLong(NamespacedKey key, long value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setLong(key, value);
+        event.end();
+        commitWrite(event, key, "Long");
+    }
+
+    @Override
+    public void setFloat(NamespacedKey key, float value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setFloat(key, value);
+        event.end();
+        commitWrite(event, key, "Float");
+    }
+
+    @Override
+    public void setDouble(NamespacedKey key, double value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setDouble(key, value);
+        event.end();
+        commitWrite(event, key, "Double");
+    }
+
+    @Override
+    public void setBoolean(NamespacedKey key, boolean value) {
+        DataWriteEvent event = new DataWriteEvent();
+        event.begin();
+        target.setBoolean(key, value);
+        event.end();
+        commitWrite(event, key, "Boolean");
+    }
+}
@@ -0,0 +1,114 @@
+package ru.vladislav117.mcdata.key;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Типизированный ключ: готовый NamespacedKey, тип данных и необязательное значение по умолчанию.
+ * Ключи рассчитаны на объявление один раз в статических константах.
+ *
+ * @param <P> Примитивный тип значения
+ * @param <C> Сложный тип значения
+ */
+public final class DataKey<P, C> {
+    private final NamespacedKey key;
+    private final PersistentDataType<P, C> type;
+    private final @Nullable C defaultValue;
+
+    /**
+     * Создание типизированного ключа.
+     *
+     * @param key Ключ
+     * @param type Тип данных
+     * @param defaultValue Значение по умолчанию или null
+     */
+    public DataKey(NamespacedKey key, PersistentDataType<P, C> type, @Nullable C defaultValue) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.type = Objects.requireNonNull(type, "type");
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Создание типизированного ключа без значения по умолчанию.
+     *
+     * @param key Ключ
+     * @param type Тип данных
+     * @param <P> Примитивный тип значения
+     * @param <C> Сложный тип значения
+     * @return Типизированный ключ.
+     */
+    public static <P, C> DataKey<P, C> of(NamespacedKey key, PersistentDataType<P, C> type) {
+        return new DataKey<>(key, type, null);
+    }
+
+    /**
+     * Создание типизированного ключа без значения по умолчанию.
+     *
+     * @param namespace Пространство имён
+     * @param key Ключ
+     * @param type Тип данных
+     * @param <P> Примитивный тип значения
+     * @param <C> Сложный тип значения
+     * @return Типизированный ключ.
+     */
+    public static <P, C> DataKey<P, C> of(String namespace, String key, PersistentDataType<P, C> type) {
+        return new DataKey<>(KeyCache.of(namespace).get(key), type, null);
+    }
+
+    /**
+     * Создание копии ключа с другим значением по умолчанию.
+     *
+     * @param defaultValue Значение по умолчанию
+     * @return Типизированный ключ.
+     */
+    public DataKey<P, C> withDefault(@Nullable C defaultValue) {
+        return new DataKey<>(key, type, defaultValue);
+    }
+
+    /**
+     * Получение ключа.
+     *
+     * @return Ключ.
+     */
+    public NamespacedKey getKey() {
+        return key;
+    }
+
+    /**
+     * Получение типа данных.
+     *
+     * @return Тип данных.
+     */
+    public PersistentDataType<P, C> getType() {
+        return type;
+    }
+
+    /**
+     * Получение значения по умолчанию.
+     *
+     * @return Значение по умолчанию или null.
+     */
+    public @Nullable C getDefaultValue() {
+        return defaultValue;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof DataKey<?, ?> other)) return false;
+        return key.equals(other.key) && type.equals(other.type) && Objects.equals(defaultValue, other.defaultValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * key.hashCode() + type.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DataKey{" + key + ", " + type.getComplexType().getSimpleName() + "}";
+    }
+}
@@ -0,0 +1,169 @@
+package ru.vladislav117.mcdata.key;
+
+import org.bukkit.NamespacedKey;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.backend.SnapshotDataBackend;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Путь к значению во вложенных контейнерах, например "stats.combat.kills".
+ * Все части пути, кроме последней, - ключи контейнеров, последняя - ключ значения.
+ * <p>
+ * Разобранные пути кешируются, а ключи частей пути вычисляются один раз для пространства имён менеджера,
+ * поэтому повторное обращение по пути не разбирает строку и не создаёт ключей.
+ * Путь обходит хранилища вложенных контейнеров напрямую, без создания менеджеров данных,
+ * а при записи переписывает только контейнеры на этом пути.
+ */
+public final class DataPath {
+    static final int maxCached = 4096;
+    static final ConcurrentHashMap<String, DataPath> paths = new ConcurrentHashMap<>();
+    static final DataBackend empty = new SnapshotDataBackend(new MemoryDataBackend());
+
+    private final String path;
+    private final String[] segments;
+    private final NamespacedKey[] fixedKeys;
+    private volatile ResolvedKeys resolvedKeys;
+
+    private DataPath(String path, String[] segments, NamespacedKey[] fixedKeys) {
+        this.path = path;
+        this.segments = segments;
+        this.fixedKeys = fixedKeys;
+    }
+
+    /**
+     * Получение пути из строки с частями, разделёнными точкой.
+     * Ключи частей берутся из пространства имён менеджера данных.
+     *
+     * @param path Путь
+     * @return Путь.
+     * @throws IllegalArgumentException Если путь содержит пустые части.
+     */
+    public static DataPath of(String path) {
+        DataPath cached = paths.get(path);
+        if (cached != null) return cached;
+        String[] segments = path.split("\\.", -1);
+        for (String segment : segments) {
+            if (segment.isEmpty()) throw new IllegalArgumentException("Path \"" + path + "\" has empty segments");
+        }
+        DataPath created = new DataPath(path, segments, null);
+        if (paths.size() >= maxCached) return created;
+        DataPath previous = paths.putIfAbsent(path, created);
+        return previous != null ? previous : created;
+    }
+
+    /**
+     * Получение пути из готовых ключей.
+     * Такой путь не зависит от пространства имён менеджера данных.
+     *
+     * @param keys Ключи контейнеров и ключ значения
+     * @return Путь.
+     */
+    public static DataPath of(NamespacedKey... keys) {
+        if (keys.length == 0) throw new IllegalArgumentException("Path must have at least one key");
+        String[] segments = new String[keys.length];
+        for (int index = 0; index < keys.length; index++) segments[index] = keys[index].toString();
+        return new DataPath(String.join(".", segments), segments, keys.clone());
+    }
+
+    /**
+     * Получение ключей частей пути.
+     * Возвращаемый массив общий и не должен изменяться.
+     *
+     * @param keyCache Кеш ключей пространства имён менеджера
+     * @return Ключи частей пути.
+     */
+    public NamespacedKey[] getKeys(KeyCache keyCache) {
+        if (fixedKeys != null) return fixedKeys;
+        ResolvedKeys resolved = resolvedKeys;
+        if (resolved != null && resolved.keyCache() == keyCache) return resolved.keys();
+        NamespacedKey[] keys = new NamespacedKey[segments.length];
+        for (int index = 0; index < segments.length; index++) keys[index] = keyCache.get(segments[index]);
+        resolvedKeys = new ResolvedKeys(keyCache, keys);
+        return keys;
+    }
+
+    /**
+     * Получение ключа значения (последней части пути).
+     *
+     * @param keyCache Кеш ключей пространства имён менеджера
+     * @return Ключ значения.
+     */
+    public NamespacedKey getKey(KeyCache keyCache) {
+        NamespacedKey[] keys = getKeys(keyCache);
+        return keys[keys.length - 1];
+    }
+
+    /**
+     * Получение хранилища контейнера, в котором лежит значение.
+     * Если какого-то контейнера на пути нет, будет возвращено пустое хранилище.
+     * Полученное хранилище только для чтения (см. DataBackend.getContainerView).
+     *
+     * @param root Корневое хранилище
+     * @param keyCache Кеш ключей пространства имён менеджера
+     * @return Хранилище контейнера.
+     */
+    public DataBackend getParent(DataBackend root, KeyCache keyCache) {
+        NamespacedKey[] keys = getKeys(keyCache);
+        DataBackend container = root;
+        for (int index = 0; index < keys.length - 1; index++) {
+            container = container.getContainerView(keys[index]);
+            if (container == null) return empty;
+        }
+        return container;
+    }
+
+    /**
+     * Изменение контейнера, в котором лежит значение.
+     * Недостающие контейнеры создаются, изменённые контейнеры записываются в родителей.
+     * Контейнер первой части пути изменяется через DataBackend.updateContainer,
+     * поэтому в потокобезопасном хранилище записи по путям с общей первой частью не теряют друг друга.
+     *
+     * @param root Корневое хранилище
+     * @param keyCache Кеш ключей пространства имён менеджера
+     * @param update Изменение контейнера значения
+     */
+    public void update(DataBackend root, KeyCache keyCache, Consumer<DataBackend> update) {
+        update(root, getKeys(keyCache), 0, update);
+    }
+
+    static void update(DataBackend container, NamespacedKey[] keys, int index, Consumer<DataBackend> update) {
+        if (index == keys.length - 1) {
+            update.accept(container);
+            return;
+        }
+        container.updateContainer(keys[index], child -> update(child, keys, index + 1, update));
+    }
+
+    /**
+     * Получение числа частей пути.
+     *
+     * @return Число частей.
+     */
+    public int getDepth() {
+        return segments.length;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof DataPath other)) return false;
+        return path.equals(other.path) && Arrays.equals(fixedKeys, other.fixedKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private record ResolvedKeys(KeyCache keyCache, NamespacedKey[] keys) {
+    }
+}
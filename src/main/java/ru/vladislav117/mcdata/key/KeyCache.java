@@ -0,0 +1,225 @@
+package ru.vladislav117.mcdata.key;
+
+import org.bukkit.NamespacedKey;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ограниченный потокобезопасный кэш ключей одного пространства имён.
+ * Повторные обращения по одной и той же строке возвращают один и тот же NamespacedKey без повторной проверки.
+ * Если у кэша есть префикс, он добавляется к строке при создании ключа.
+ */
+public class KeyCache {
+    static final ConcurrentHashMap<String, KeyCache> caches = new ConcurrentHashMap<>();
+    static volatile int defaultCapacity = 1024;
+    static final int prefixCapacity = 64;
+
+    protected final String namespace;
+    protected final String prefix;
+    protected final int capacity;
+    protected final ConcurrentHashMap<String, NamespacedKey> keys;
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+
+    /**
+     * Создание кэша ключей с префиксом.
+     *
+     * @param namespace Пространство имён
+     * @param prefix Префикс ключей
+     * @param capacity Максимальное количество ключей
+     */
+    public KeyCache(String namespace, String prefix, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        this.namespace = namespace;
+        this.prefix = prefix;
+        this.capacity = capacity;
+        this.keys = new ConcurrentHashMap<>(Math.min(capacity, 64));
+    }
+
+    /**
+     * Создание кэша ключей.
+     *
+     * @param namespace Пространство имён
+     * @param capacity Максимальное количество ключей
+     */
+    public KeyCache(String namespace, int capacity) {
+        this(namespace, "", capacity);
+    }
+
+    /**
+     * Получение общего кэша ключей для пространства имён.
+     * Кэш создаётся при первом обращении с ёмкостью по умолчанию.
+     *
+     * @param namespace Пространство имён
+     * @return Кэш ключей.
+     */
+    public static KeyCache of(String namespace) {
+        KeyCache cache = caches.get(namespace);
+        if (cache != null) return cache;
+        return caches.computeIfAbsent(namespace, ignored -> new KeyCache(namespace, defaultCapacity));
+    }
+
+    /**
+     * Получение уже созданного общего кэша ключей для пространства имён.
+     * В отличие от of(namespace), новый кэш не создаётся, поэтому метод подходит для пространств имён из внешних данных.
+     *
+     * @param namespace Пространство имён
+     * @return Кэш ключей или null, если он ещё не создан.
+     */
+    public static @Nullable KeyCache getIfPresent(String namespace) {
+        return caches.get(namespace);
+    }
+
+    /**
+     * Получение кэша ключей для пространства имён и префикса.
+     * Для пустого префикса возвращается общий кэш пространства имён.
+     * Для непустого префикса создаётся небольшой собственный кэш, который не хранится глобально
+     * и освобождается вместе с владельцем, поэтому префиксы вида "quest." + id + "." не накапливаются.
+     *
+     * @param namespace Пространство имён
+     * @param prefix Префикс ключей
+     * @return Кэш ключей.
+     */
+    public static KeyCache of(String namespace, String prefix) {
+        if (prefix.isEmpty()) return of(namespace);
+        return new KeyCache(namespace, prefix, prefixCapacity);
+    }
+
+    /**
+     * Получение ёмкости по умолчанию для новых общих кэшей.
+     *
+     * @return Ёмкость по умолчанию.
+     */
+    public static int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    /**
+     * Установка ёмкости по умолчанию для новых общих кэшей.
+     * Уже созданные кэши не изменяются.
+     *
+     * @param defaultCapacity Ёмкость по умолчанию
+     */
+    public static void setDefaultCapacity(int defaultCapacity) {
+        if (defaultCapacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        KeyCache.defaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * Получение ключа по строке.
+     * Если ключа нет в кэше, он будет создан и добавлен в кэш.
+     *
+     * @param keyString Ключ
+     * @return Ключ в пространстве имён кэша с префиксом кэша.
+     */
+    public NamespacedKey get(String keyString) {
+        NamespacedKey key = keys.get(keyString);
+        if (key != null) {
+            hits.increment();
+            return key;
+        }
+        misses.increment();
+        key = new NamespacedKey(namespace, prefix.isEmpty() ? keyString : prefix + keyString);
+        if (keys.size() >= capacity) evict();
+        NamespacedKey previous = keys.putIfAbsent(keyString, key);
+        return previous != null ? previous : key;
+    }
+
+    /**
+     * Вытеснение части ключей при переполнении.
+     * Удаляется примерно восьмая часть кэша, чтобы стоимость обхода распределялась на последующие вставки.
+     */
+    protected void evict() {
+        int target = capacity - Math.max(1, capacity / 8);
+        Iterator<String> iterator = keys.keySet().iterator();
+        while (keys.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Очистка кэша.
+     * Счётчики не сбрасываются.
+     */
+    public void clear() {
+        keys.clear();
+    }
+
+    /**
+     * Сброс счётчиков попаданий, промахов и вытеснений.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Получение пространства имён.
+     *
+     * @return Пространство имён.
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Получение префикса ключей.
+     *
+     * @return Префикс ключей или пустая строка.
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Получение максимального количества ключей.
+     *
+     * @return Ёмкость кэша.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Получение текущего количества ключей.
+     *
+     * @return Количество ключей в кэше.
+     */
+    public int getSize() {
+        return keys.size();
+    }
+
+    /**
+     * Получение количества попаданий.
+     *
+     * @return Количество попаданий.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Получение количества промахов.
+     *
+     * @return Количество промахов.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Получение количества вытесненных ключей.
+     *
+     * @return Количество вытесненных ключей.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
@@ -0,0 +1,69 @@
+package ru.vladislav117.mcdata.key;
+
+import org.bukkit.NamespacedKey;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Фильтры ключей для копирования и слияния данных.
+ * Фильтры по пространству имён сравнивают только строку пространства имён и не создают объектов при проверке.
+ */
+public final class KeyFilters {
+    private static final Predicate<NamespacedKey> all = key -> true;
+
+    private KeyFilters() {
+    }
+
+    /**
+     * Получение фильтра, пропускающего все ключи.
+     * Хранилища узнают этот фильтр и используют для него встроенное копирование контейнера.
+     *
+     * @return Фильтр всех ключей.
+     */
+    public static Predicate<NamespacedKey> all() {
+        return all;
+    }
+
+    /**
+     * Проверка фильтра на пропуск всех ключей.
+     *
+     * @param filter Фильтр
+     * @return Является ли фильтр фильтром всех ключей.
+     */
+    public static boolean isAll(Predicate<NamespacedKey> filter) {
+        return filter == all;
+    }
+
+    /**
+     * Получение фильтра ключей из пространства имён.
+     *
+     * @param namespace Пространство имён
+     * @return Фильтр ключей.
+     */
+    public static Predicate<NamespacedKey> namespace(String namespace) {
+        return key -> key.getNamespace().equals(namespace);
+    }
+
+    /**
+     * Получение фильтра ключей из нескольких пространств имён.
+     *
+     * @param namespaces Пространства имён
+     * @return Фильтр ключей.
+     */
+    public static Predicate<NamespacedKey> namespaces(String... namespaces) {
+        if (namespaces.length == 1) return namespace(namespaces[0]);
+        Set<String> namespaceSet = Set.of(namespaces);
+        return key -> namespaceSet.contains(key.getNamespace());
+    }
+
+    /**
+     * Получение фильтра, исключающего ключи из пространства имён.
+     *
+     * @param namespace Пространство имён
+     * @return Фильтр ключей.
+     */
+    public static Predicate<NamespacedKey> exceptNamespace(String namespace) {
+        return key -> !key.getNamespace().equals(namespace);
+    }
+}
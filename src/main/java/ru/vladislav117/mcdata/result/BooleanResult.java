@@ -0,0 +1,36 @@
+package ru.vladislav117.mcdata.result;
+
+/**
+ * Держатель результата чтения Boolean значения.
+ */
+public class BooleanResult extends DataResult {
+    protected boolean value;
+
+    /**
+     * Получение значения, полученного при последнем чтении.
+     *
+     * @return Значение или false, если значение не было получено.
+     */
+    public boolean getValue() {
+        return value;
+    }
+
+    /**
+     * Запись полученного значения.
+     *
+     * @param value Значение
+     * @return Результат чтения PRESENT.
+     */
+    public ReadStatus set(boolean value) {
+        this.value = value;
+        this.status = ReadStatus.PRESENT;
+        return ReadStatus.PRESENT;
+    }
+
+    @Override
+    public ReadStatus fail(ReadStatus status) {
+        this.value = false;
+        this.status = status;
+        return status;
+    }
+}
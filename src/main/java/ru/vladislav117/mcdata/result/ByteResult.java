@@ -0,0 +1,36 @@
+package ru.vladislav117.mcdata.result;
+
+/**
+ * Держатель результата чтения Byte значения.
+ */
+public class ByteResult extends DataResult {
+    protected byte value;
+
+    /**
+     * Получение значения, полученного при последнем чтении.
+     *
+     * @return Значение или ноль, если значение не было получено.
+     */
+    public byte getValue() {
+        return value;
+    }
+
+    /**
+     * Запись полученного значения.
+     *
+     * @param value Значение
+     * @return Результат чтения PRESENT.
+     */
+    public ReadStatus set(byte value) {
+        this.value = value;
+        this.status = ReadStatus.PRESENT;
+        return ReadStatus.PRESENT;
+    }
+
+    @Override
+    public ReadStatus fail(ReadStatus status) {
+        this.value = (byte) 0;
+        this.status = status;
+        return status;
+    }
+}
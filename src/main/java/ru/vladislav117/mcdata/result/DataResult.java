@@ -0,0 +1,36 @@
+package ru.vladislav117.mcdata.result;
+
+/**
+ * Переиспользуемый держатель результата чтения значения без упаковки.
+ * Держатель не потокобезопасен и рассчитан на повторное использование в одном потоке.
+ */
+public abstract class DataResult {
+    protected ReadStatus status = ReadStatus.MISSING;
+
+    /**
+     * Получение результата последнего чтения.
+     *
+     * @return Результат чтения.
+     */
+    public ReadStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Проверка получения значения при последнем чтении.
+     *
+     * @return Было ли получено значение.
+     */
+    public boolean isPresent() {
+        return status == ReadStatus.PRESENT;
+    }
+
+    /**
+     * Запись неудачного результата чтения.
+     * Значение сбрасывается в ноль или false.
+     *
+     * @param status Результат чтения
+     * @return Результат чтения.
+     */
+    public abstract ReadStatus fail(ReadStatus status);
+}
@@ -0,0 +1,36 @@
+package ru.vladislav117.mcdata.result;
+
+/**
+ * Держатель результата чтения Float значения.
+ */
+public class FloatResult extends DataResult {
+    protected float value;
+
+    /**
+     * Получение значения, полученного при последнем чтении.
+     *
+     * @return Значение или ноль, если значение не было получено.
+     */
+    public float getValue() {
+        return value;
+    }
+
+    /**
+     * Запись полученного значения.
+     *
+     * @param value Значение
+     * @return Результат чтения PRESENT.
+     */
+    public ReadStatus set(float value) {
+        this.value = value;
+        this.status = ReadStatus.PRESENT;
+        return ReadStatus.PRESENT;
+    }
+
+    @Override
+    public ReadStatus fail(ReadStatus status) {
+        this.value = 0F;
+        this.status = status;
+        return status;
+    }
+}
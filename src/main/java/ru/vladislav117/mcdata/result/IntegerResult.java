@@ -0,0 +1,36 @@
+package ru.vladislav117.mcdata.result;
+
+/**
+ * Держатель результата чтения Integer значения.
+ */
+public class IntegerResult extends DataResult {
+    protected int value;
+
+    /**
+     * Получение значения, полученного при последнем чтении.
+     *
+     * @return Значение или ноль, если значение не было получено.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Запись полученного значения.
+     *
+     * @param value Значение
+     * @return Результат чтения PRESENT.
+     */
+    public ReadStatus set(int value) {
+        this.value = value;
+        this.status = ReadStatus.PRESENT;
+        return ReadStatus.PRESENT;
+    }
+
+    @Override
+    public ReadStatus fail(ReadStatus status) {
+        this.value = 0;
+        this.status = status;
+        return status;
+    }
+}
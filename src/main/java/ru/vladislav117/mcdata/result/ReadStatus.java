@@ -0,0 +1,28 @@
+package ru.vladislav117.mcdata.result;
+
+/**
+ * Результат чтения значения в держатель результата.
+ */
+public enum ReadStatus {
+    /**
+     * Значение получено.
+     */
+    PRESENT,
+    /**
+     * В контейнере нет указанного ключа.
+     */
+    MISSING,
+    /**
+     * В контейнере значение по ключу неправильного типа.
+     */
+    WRONG_TYPE;
+
+    /**
+     * Проверка получения значения.
+     *
+     * @return Было ли получено значение.
+     */
+    public boolean isPresent() {
+        return this == PRESENT;
+    }
+}
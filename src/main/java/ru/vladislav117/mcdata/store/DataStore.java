@@ -0,0 +1,548 @@
+package ru.vladislav117.mcdata.store;
+
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.io.ByteBufferPool;
+import ru.vladislav117.mcdata.io.DataSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Хранилище данных менеджеров на диске по UUID владельца.
+ * Данные дописываются в журнал из сегментов, индекс последних записей держится в памяти.
+ * <p>
+ * Сохранение только сериализует данные и ставит их в очередь; запись на диск выполняет фоновый поток,
+ * повторные сохранения одного UUID до записи объединяются в одну.
+ * Если запись не удалась, данные остаются в очереди и записываются повторно.
+ * Сегменты, в которых больше половины записей устарело, уплотняются фоновым потоком.
+ * При открытии журнал читается заново, повреждённый или недописанный хвост сегмента отбрасывается по контрольной сумме.
+ * <p>
+ * Формат записи: длина данных (-1 для удаления), UUID, CRC32C UUID и данных, данные DataSerializer.
+ */
+public class DataStore implements AutoCloseable {
+    public static final int MAGIC = 0x4D434453;
+    public static final int VERSION = 1;
+    static final int fileHeaderSize = 8;
+    static final int recordHeaderSize = 24;
+    static final long defaultSegmentSize = 64L << 20;
+    static final int maxBatchSize = 4096;
+    static final long retryDelay = 100;
+    static final long closeTimeout = 10_000;
+    static final byte[] tombstone = new byte[0];
+    static final UUID stop = new UUID(0, 0);
+
+    protected final Path directory;
+    protected final long segmentSize;
+    protected final boolean sync;
+    protected final ConcurrentHashMap<UUID, Location> index = new ConcurrentHashMap<>();
+    protected final ConcurrentHashMap<UUID, byte[]> pending = new ConcurrentHashMap<>();
+    protected final LinkedBlockingQueue<UUID> queue = new LinkedBlockingQueue<>();
+    protected final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    protected final ReentrantLock writeLock = new ReentrantLock();
+    protected final ReentrantReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    protected final Thread writer;
+    protected Segment active;
+    protected ByteBuffer writeBuffer = ByteBuffer.allocateDirect(256 << 10);
+    protected volatile boolean closed = false;
+    protected volatile @Nullable Exception writerError = null;
+
+    /**
+     * Открытие хранилища.
+     * Если директории нет, она будет создана; существующие сегменты будут прочитаны.
+     *
+     * @param directory Директория сегментов
+     * @param segmentSize Размер сегмента, после которого начинается новый сегмент
+     * @param sync Сбрасывать ли каждую пачку записей на диск (force)
+     * @throws IOException Если сегменты не удалось прочитать.
+     */
+    public DataStore(Path directory, long segmentSize, boolean sync) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        Files.createDirectories(directory);
+        recover();
+        writer = new Thread(this::runWriter, "MCData DataStore writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Открытие хранилища с сегментами по 64 МиБ и сбросом каждой пачки записей на диск.
+     *
+     * @param directory Директория сегментов
+     * @throws IOException Если сегменты не удалось прочитать.
+     */
+    public DataStore(Path directory) throws IOException {
+        this(directory, defaultSegmentSize, true);
+    }
+
+    /**
+     * Сохранение данных менеджера.
+     * Данные сериализуются в вызывающем потоке, запись на диск выполняется фоновым потоком.
+     *
+     * @param uuid UUID владельца
+     * @param manager Менеджер данных
+     */
+    public void save(UUID uuid, DataManager manager) {
+        enqueue(uuid, DataSerializer.toByteArray(manager.getBackend()));
+    }
+
+    /**
+     * Удаление данных владельца.
+     *
+     * @param uuid UUID владельца
+     */
+    public void delete(UUID uuid) {
+        enqueue(uuid, tombstone);
+    }
+
+    protected void enqueue(UUID uuid, byte[] bytes) {
+        if (closed) throw new IllegalStateException("Data store is closed");
+        if (pending.put(uuid, bytes) == null) queue.add(uuid);
+    }
+
+    /**
+     * Проверка наличия данных владельца.
+     *
+     * @param uuid UUID владельца
+     * @return Есть ли данные.
+     */
+    public boolean contains(UUID uuid) {
+        byte[] bytes = pending.get(uuid);
+        if (bytes != null) return bytes != tombstone;
+        Location location = index.get(uuid);
+        return location != null && location.length() >= 0;
+    }
+
+    /**
+     * Загрузка данных владельца в менеджер.
+     * Загруженные значения заменяют существующие.
+     *
+     * @param uuid UUID владельца
+     * @param target Менеджер, в который загружаются данные
+     * @return Были ли данные.
+     * @throws UncheckedIOException Если данные не удалось прочитать.
+     */
+    public boolean load(UUID uuid, DataManager target) {
+        byte[] bytes = pending.get(uuid);
+        if (bytes != null) {
+            if (bytes == tombstone) return false;
+            target.readFrom(ByteBuffer.wrap(bytes));
+            return true;
+        }
+        while (true) {
+            Location location = index.get(uuid);
+            if (location == null || location.length() < 0) return false;
+            segmentLock.readLock().lock();
+            try {
+                Segment segment = segments.get(location.segment());
+                if (segment == null) continue;
+                ByteBuffer buffer = ByteBufferPool.getDefault().acquire(location.length());
+                try {
+                    buffer.limit(location.length());
+                    readFully(segment.channel, buffer, location.offset() + recordHeaderSize);
+                    buffer.flip();
+                    if (checksum(uuid, buffer.duplicate()) != location.checksum()) throw new IOException("Checksum mismatch in segment " + segment.path);
+                    target.readFrom(buffer);
+                    return true;
+                } finally {
+                    ByteBufferPool.getDefault().release(buffer);
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            } finally {
+                segmentLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Загрузка данных владельца в новый менеджер над MemoryDataBackend.
+     *
+     * @param uuid UUID владельца
+     * @return Менеджер данных или null, если данных нет.
+     * @throws UncheckedIOException Если данные не удалось прочитать.
+     */
+    public @Nullable DataManager load(UUID uuid) {
+        DataManager manager = new DataManager(new MemoryDataBackend());
+        return load(uuid, manager) ? manager : null;
+    }
+
+    /**
+     * Запись всех ожидающих данных на диск в вызывающем потоке.
+     *
+     * @throws IOException Если данные не удалось записать.
+     */
+    public void flush() throws IOException {
+        writeBatch(new ArrayList<>(pending.keySet()));
+    }
+
+    /**
+     * Уплотнение всех сегментов, в которых больше половины записей устарело.
+     *
+     * @throws IOException Если сегмент не удалось уплотнить.
+     */
+    public void compact() throws IOException {
+        while (compactOnce()) ;
+    }
+
+    /**
+     * Закрытие хранилища.
+     * Фоновый поток останавливается (ожидание не дольше 10 секунд), оставшиеся ожидающие данные записываются на диск в вызывающем потоке.
+     *
+     * @throws IOException Если данные не удалось записать.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        queue.add(stop);
+        try {
+            writer.join(closeTimeout);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        writeLock.lock();
+        try {
+            for (Segment segment : segments.values()) segment.channel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    protected void runWriter() {
+        List<UUID> batch = new ArrayList<>();
+        while (true) {
+            boolean stopping = false;
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize);
+                stopping = batch.removeIf(uuid -> uuid == stop);
+                writeBatch(batch);
+                if (stopping) return;
+                compactOnce();
+            } catch (InterruptedException exception) {
+                return;
+            } catch (IOException | RuntimeException exception) {
+                writerError = exception;
+                if (stopping) queue.add(stop);
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException interruptedException) {
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void writeBatch(List<UUID> keys) throws IOException {
+        writeLock.lock();
+        Segment startSegment = active;
+        long startSize = startSegment.size;
+        try {
+            List<Write> writes = new ArrayList<>(keys.size());
+            for (UUID uuid : keys) {
+                byte[] bytes = pending.get(uuid);
+                if (bytes == null) continue;
+                writes.add(new Write(uuid, bytes, append(uuid, ByteBuffer.wrap(bytes), bytes == tombstone)));
+            }
+            if (writes.isEmpty()) return;
+            drainWriteBuffer();
+            if (sync) active.channel.force(false);
+            for (Write write : writes) {
+                apply(write.uuid(), write.location());
+                if (!pending.remove(write.uuid(), write.bytes())) queue.add(write.uuid());
+            }
+        } catch (IOException | RuntimeException exception) {
+            rollback(startSegment, startSize, exception);
+            for (UUID uuid : keys) {
+                if (pending.containsKey(uuid)) queue.add(uuid);
+            }
+            throw exception;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Отбрасывание записей, которые не удалось дописать.
+     * Активный сегмент обрезается до размера перед записью (или до заголовка, если сегмент был начат во время записи),
+     * чтобы оборванная запись не отрезала при следующем открытии записи, сделанные после неё.
+     *
+     * @param startSegment Активный сегмент перед записью
+     * @param startSize Размер активного сегмента перед записью
+     * @param exception Ошибка записи, к которой добавляется ошибка обрезки
+     */
+    protected void rollback(Segment startSegment, long startSize, Exception exception) {
+        writeBuffer.clear();
+        long size = active == startSegment ? startSize : fileHeaderSize;
+        active.size = size;
+        try {
+            active.channel.truncate(size);
+        } catch (IOException truncateException) {
+            exception.addSuppressed(truncateException);
+        }
+    }
+
+    protected Location append(UUID uuid, ByteBuffer payload, boolean deleted) throws IOException {
+        int length = deleted ? -1 : payload.remaining();
+        int size = recordHeaderSize + payload.remaining();
+        long end = active.size + writeBuffer.position();
+        if (end > fileHeaderSize && end + size > segmentSize) roll();
+        if (writeBuffer.remaining() < size) {
+            drainWriteBuffer();
+            if (writeBuffer.capacity() < size) writeBuffer = ByteBuffer.allocateDirect(size);
+        }
+        long offset = active.size + writeBuffer.position();
+        int checksum = checksum(uuid, payload.duplicate());
+        writeBuffer.putInt(length);
+        writeBuffer.putLong(uuid.getMostSignificantBits());
+        writeBuffer.putLong(uuid.getLeastSignificantBits());
+        writeBuffer.putInt(checksum);
+        writeBuffer.put(payload);
+        return new Location(active.id, offset, length, checksum);
+    }
+
+    protected void drainWriteBuffer() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) active.size += active.channel.write(writeBuffer, active.size);
+        writeBuffer.clear();
+    }
+
+    protected void roll() throws IOException {
+        drainWriteBuffer();
+        active.channel.force(false);
+        active = createSegment(active.id + 1);
+    }
+
+    protected void apply(UUID uuid, Location location) {
+        Location previous = index.put(uuid, location);
+        segments.get(location.segment()).live += location.getRecordSize();
+        if (previous == null) return;
+        Segment segment = segments.get(previous.segment());
+        if (segment != null) segment.live -= previous.getRecordSize();
+    }
+
+    protected boolean compactOnce() throws IOException {
+        writeLock.lock();
+        try {
+            Segment candidate = null;
+            for (Segment segment : segments.values()) {
+                if (segment == active) continue;
+                if (segment.live * 2 > segment.size - fileHeaderSize) continue;
+                if (candidate == null || segment.live < candidate.live) candidate = segment;
+            }
+            if (candidate == null) return false;
+            boolean oldest = candidate.id == segments.firstKey();
+            List<Write> copies = new ArrayList<>();
+            List<Map.Entry<UUID, Location>> drops = new ArrayList<>();
+            Segment startSegment = active;
+            long startSize = startSegment.size;
+            try {
+                for (Map.Entry<UUID, Location> entry : index.entrySet()) {
+                    Location location = entry.getValue();
+                    if (location.segment() != candidate.id) continue;
+                    if (location.length() < 0 && oldest) {
+                        drops.add(entry);
+                        continue;
+                    }
+                    ByteBuffer payload = ByteBuffer.allocate(Math.max(location.length(), 0));
+                    readFully(candidate.channel, payload, location.offset() + recordHeaderSize);
+                    copies.add(new Write(entry.getKey(), null, append(entry.getKey(), payload.flip(), location.length() < 0)));
+                }
+                drainWriteBuffer();
+                active.channel.force(false);
+            } catch (IOException | RuntimeException exception) {
+                rollback(startSegment, startSize, exception);
+                throw exception;
+            }
+            for (Write copy : copies) {
+                index.put(copy.uuid(), copy.location());
+                segments.get(copy.location().segment()).live += copy.location().getRecordSize();
+            }
+            for (Map.Entry<UUID, Location> drop : drops) index.remove(drop.getKey(), drop.getValue());
+            segmentLock.writeLock().lock();
+            try {
+                segments.remove(candidate.id);
+                candidate.channel.close();
+                Files.delete(candidate.path);
+            } finally {
+                segmentLock.writeLock().unlock();
+            }
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    protected void recover() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.getFileName().toString().matches("\\d{16}\\.log")).sorted().toList();
+        }
+        for (Path path : paths) {
+            long id = Long.parseLong(path.getFileName().toString().substring(0, 16));
+            Segment segment = new Segment(id, path, FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            segments.put(id, segment);
+            scan(segment);
+        }
+        if (segments.isEmpty()) {
+            active = createSegment(1);
+        } else {
+            active = segments.lastEntry().getValue();
+            if (active.size >= segmentSize) active = createSegment(active.id + 1);
+        }
+    }
+
+    protected void scan(Segment segment) throws IOException {
+        FileChannel channel = segment.channel;
+        long fileSize = channel.size();
+        if (fileSize < fileHeaderSize) {
+            writeHeader(segment);
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(recordHeaderSize);
+        readFully(channel, header.limit(fileHeaderSize), 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) throw new IOException("File " + segment.path + " is not a data store segment");
+        long position = fileHeaderSize;
+        segment.size = fileHeaderSize;
+        while (position + recordHeaderSize <= fileSize) {
+            readFully(channel, header.clear(), position);
+            int length = header.getInt(0);
+            UUID uuid = new UUID(header.getLong(4), header.getLong(12));
+            int checksum = header.getInt(20);
+            if (length < -1 || position + recordHeaderSize + Math.max(length, 0) > fileSize) break;
+            ByteBuffer payload = ByteBuffer.allocate(Math.max(length, 0));
+            readFully(channel, payload, position + recordHeaderSize);
+            if (checksum(uuid, payload.flip()) != checksum) break;
+            Location location = new Location(segment.id, position, length, checksum);
+            segment.size = position + location.getRecordSize();
+            apply(uuid, location);
+            position = segment.size;
+        }
+        if (segment.size < fileSize) channel.truncate(segment.size);
+    }
+
+    protected Segment createSegment(long id) throws IOException {
+        Path path = directory.resolve(String.format("%016d.log", id));
+        Segment segment = new Segment(id, path, FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+        writeHeader(segment);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    protected void writeHeader(Segment segment) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(fileHeaderSize).putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) segment.channel.write(header, header.position());
+        segment.channel.truncate(fileHeaderSize);
+        segment.channel.force(true);
+        segment.size = fileHeaderSize;
+    }
+
+    protected static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) throw new IOException("Unexpected end of segment");
+            position += read;
+        }
+    }
+
+    protected static int checksum(UUID uuid, ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).flip());
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Получение директории сегментов.
+     *
+     * @return Директория.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Получение числа сегментов.
+     *
+     * @return Число сегментов.
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Получение числа сохранений, ещё не записанных на диск.
+     *
+     * @return Число ожидающих сохранений.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Получение последней ошибки фонового потока записи.
+     * Данные, которые не удалось записать, остаются в очереди и записываются повторно фоновым потоком, flush() или close().
+     *
+     * @return Ошибка или null.
+     */
+    public @Nullable Exception getWriterError() {
+        return writerError;
+    }
+
+    /**
+     * Сегмент журнала.
+     */
+    protected static class Segment {
+        protected final long id;
+        protected final Path path;
+        protected final FileChannel channel;
+        protected long size;
+        protected long live;
+
+        protected Segment(long id, Path path, FileChannel channel) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * Положение записи в журнале.
+     *
+     * @param segment Номер сегмента
+     * @param offset Смещение записи в сегменте
+     * @param length Длина данных или -1 для удаления
+     * @param checksum Контрольная сумма записи
+     */
+    protected record Location(long segment, long offset, int length, int checksum) {
+        protected int getRecordSize() {
+            return recordHeaderSize + Math.max(length, 0);
+        }
+    }
+
+    protected record Write(UUID uuid, byte @Nullable [] bytes, Location location) {
+    }
+}
@@ -0,0 +1,66 @@
+package ru.vladislav117.mcdata.tracking;
+
+import org.bukkit.NamespacedKey;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.util.Set;
+
+/**
+ * Изменения хранилища с момента предыдущей выборки.
+ * Содержит последние значения изменённых ключей и набор удалённых ключей.
+ */
+public class DataDelta {
+    protected final MemoryDataBackend changes;
+    protected final Set<NamespacedKey> removals;
+
+    /**
+     * Создание изменений хранилища.
+     *
+     * @param changes Последние значения изменённых ключей
+     * @param removals Удалённые ключи
+     */
+    public DataDelta(MemoryDataBackend changes, Set<NamespacedKey> removals) {
+        this.changes = changes;
+        this.removals = removals;
+    }
+
+    /**
+     * Получение последних значений изменённых ключей.
+     *
+     * @return Хранилище с изменёнными значениями.
+     */
+    public MemoryDataBackend getChanges() {
+        return changes;
+    }
+
+    /**
+     * Получение удалённых ключей.
+     *
+     * @return Удалённые ключи.
+     */
+    public Set<NamespacedKey> getRemovals() {
+        return removals;
+    }
+
+    /**
+     * Проверка отсутствия изменений.
+     *
+     * @return Нет ли изменённых и удалённых ключей.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty() && removals.isEmpty();
+    }
+
+    /**
+     * Применение изменений к другому хранилищу.
+     *
+     * @param target Хранилище, к которому применяются изменения
+     */
+    public void applyTo(DataBackend target) {
+        for (NamespacedKey key : removals) {
+            target.remove(key);
+        }
+        changes.copyTo(target);
+    }
+}
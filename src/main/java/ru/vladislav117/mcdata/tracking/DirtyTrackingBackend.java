@@ -0,0 +1,240 @@
+package ru.vladislav117.mcdata.tracking;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.CopyingDataVisitor;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.DataVisitor;
+import ru.vladislav117.mcdata.backend.KeyVisitor;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Хранилище, запоминающее ключи, изменённые поверх другого хранилища.
+ * Чтение и запись выполняются напрямую в исходном хранилище; при записи и удалении ключ добавляется в набор изменённых.
+ * Ключи менеджера данных берутся из кэша ключей, поэтому набор не растёт от повторных записей одного ключа.
+ */
+public class DirtyTrackingBackend implements DataBackend {
+    protected final DataBackend target;
+    protected final Set<NamespacedKey> dirty = new HashSet<>();
+
+    /**
+     * Создание хранилища, запоминающего изменённые ключи.
+     *
+     * @param target Исходное хранилище
+     */
+    public DirtyTrackingBackend(DataBackend target) {
+        this.target = target;
+    }
+
+    /**
+     * Получение исходного хранилища.
+     *
+     * @return Исходное хранилище.
+     */
+    public DataBackend getTarget() {
+        return target;
+    }
+
+    /**
+     * Проверка наличия изменённых ключей.
+     *
+     * @return Есть ли ключи, изменённые с момента предыдущей выборки.
+     */
+    public boolean isDirty() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Получение количества изменённых ключей.
+     *
+     * @return Количество ключей, изменённых с момента предыдущей выборки.
+     */
+    public int getDirtyCount() {
+        return dirty.size();
+    }
+
+    /**
+     * Выборка изменений с момента предыдущей выборки.
+     * Для каждого изменённого ключа берётся текущее значение из исходного хранилища; отсутствующие ключи считаются удалёнными.
+     * После выборки набор изменённых ключей очищается.
+     *
+     * @return Изменения хранилища.
+     */
+    public DataDelta drain() {
+        MemoryDataBackend changes = new MemoryDataBackend(dirty.size(), target.getAdapterContext());
+        Set<NamespacedKey> removals = new HashSet<>();
+        CopyingDataVisitor visitor = new CopyingDataVisitor(changes);
+        for (NamespacedKey key : dirty) {
+            if (!target.visit(key, visitor)) removals.add(key);
+        }
+        dirty.clear();
+        return new DataDelta(changes, removals);
+    }
+
+    /**
+     * Сброс набора изменённых ключей без выборки значений.
+     */
+    public void clearDirty() {
+        dirty.clear();
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return target.has(key);
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return target.has(key, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        return target.get(key, type);
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        target.set(key, type, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        target.remove(key);
+        dirty.add(key);
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        return target.getContainer(key);
+    }
+
+    @Override
+    public @Nullable DataBackend getContainerView(NamespacedKey key) {
+        return target.getContainerView(key);
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        target.setContainer(key, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return target.createContainer();
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return target.getAdapterContext();
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        return target.getKeys();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return target.isEmpty();
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        target.forEach(visitor);
+    }
+
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        target.forEachKey(namespace, visitor);
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        return target.visit(key, visitor);
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        return target.getByte(key, defaultValue);
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        return target.getShort(key, defaultValue);
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        return target.getInteger(key, defaultValue);
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        return target.getLong(key, defaultValue);
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        return target.getFloat(key, defaultValue);
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        return target.getDouble(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        return target.getBoolean(key, defaultValue);
+    }
+
+    @Override
+    public void setByte(NamespacedKey key, byte value) {
+        target.setByte(key, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public void setShort(NamespacedKey key, short value) {
+        target.setShort(key, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public void setInteger(NamespacedKey key, int value) {
+        target.setInteger(key, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public void setLong(NamespacedKey key, long value) {
+        target.setLong(key, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public void setFloat(NamespacedKey key, float value) {
+        target.setFloat(key, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public void setDouble(NamespacedKey key, double value) {
+        target.setDouble(key, value);
+        dirty.add(key);
+    }
+
+    @Override
+    public void setBoolean(NamespacedKey key, boolean value) {
+        target.setBoolean(key, value);
+        dirty.add(key);
+    }
+}
@@ -0,0 +1,271 @@
+package ru.vladislav117.mcdata.tracking;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.DataKind;
+import ru.vladislav117.mcdata.backend.DataVisitor;
+import ru.vladislav117.mcdata.backend.KeyVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Хранилище с кэшированным индексом ключей по пространствам имён поверх другого хранилища.
+ * Каждая запись и удаление увеличивают счётчик изменений; индекс пространства имён перестраивается при обходе,
+ * если счётчик изменился с момента построения. Записи в исходное хранилище в обход этого хранилища индекс не замечает.
+ * Хранилище потокобезопасно, если потокобезопасно исходное хранилище.
+ */
+public class KeyIndexBackend implements DataBackend {
+    protected final DataBackend target;
+    protected final ConcurrentHashMap<String, Index> indexes = new ConcurrentHashMap<>();
+    protected final AtomicLong modifications = new AtomicLong();
+
+    /**
+     * Создание хранилища с индексом ключей.
+     *
+     * @param target Исходное хранилище
+     */
+    public KeyIndexBackend(DataBackend target) {
+        this.target = target;
+    }
+
+    /**
+     * Получение исходного хранилища.
+     *
+     * @return Исходное хранилище.
+     */
+    public DataBackend getTarget() {
+        return target;
+    }
+
+    /**
+     * Получение счётчика изменений.
+     *
+     * @return Количество записей и удалений через это хранилище.
+     */
+    public long getModifications() {
+        return modifications.get();
+    }
+
+    /**
+     * Сброс индекса.
+     * Нужен, если исходное хранилище изменялось в обход этого хранилища.
+     */
+    public void invalidate() {
+        indexes.clear();
+    }
+
+    /**
+     * Получение актуального индекса пространства имён.
+     * Счётчик изменений читается до обхода, поэтому индекс, при построении которого была запись, будет перестроен при следующем обходе.
+     *
+     * @param namespace Пространство имён
+     * @return Индекс.
+     */
+    protected Index getIndex(String namespace) {
+        long current = modifications.get();
+        Index index = indexes.get(namespace);
+        if (index != null && index.modifications == current) return index;
+        List<NamespacedKey> keys = new ArrayList<>();
+        List<DataKind> kinds = new ArrayList<>();
+        target.forEachKey(namespace, (key, kind) -> {
+            keys.add(key);
+            kinds.add(kind);
+        });
+        index = new Index(keys.toArray(new NamespacedKey[0]), kinds.toArray(new DataKind[0]), current);
+        indexes.put(namespace, index);
+        return index;
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        return target.has(key);
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return target.has(key, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        return target.get(key, type);
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        target.set(key, type, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        target.remove(key);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        return target.getContainer(key);
+    }
+
+    @Override
+    public @Nullable DataBackend getContainerView(NamespacedKey key) {
+        return target.getContainerView(key);
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        target.setContainer(key, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void updateContainer(NamespacedKey key, Consumer<DataBackend> update) {
+        target.updateContainer(key, update);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return target.createContainer();
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return target.getAdapterContext();
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        return target.getKeys();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return target.isEmpty();
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        target.forEach(visitor);
+    }
+
+    /**
+     * Обход ключей пространства имён вместе с видами значений.
+     * Для конкретного пространства имён ключи берутся из индекса, который строится при первом обходе после записи.
+     *
+     * @param namespace Пространство имён или null для всех ключей
+     * @param visitor Обходчик ключей
+     */
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        if (namespace == null) {
+            target.forEachKey(null, visitor);
+            return;
+        }
+        Index index = getIndex(namespace);
+        for (int position = 0; position < index.keys.length; position++) {
+            visitor.visitKey(index.keys[position], index.kinds[position]);
+        }
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        return target.visit(key, visitor);
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        return target.getByte(key, defaultValue);
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        return target.getShort(key, defaultValue);
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        return target.getInteger(key, defaultValue);
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        return target.getLong(key, defaultValue);
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        return target.getFloat(key, defaultValue);
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        return target.getDouble(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        return target.getBoolean(key, defaultValue);
+    }
+
+    @Override
+    public void setByte(NamespacedKey key, byte value) {
+        target.setByte(key, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void setShort(NamespacedKey key, short value) {
+        target.setShort(key, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void setInteger(NamespacedKey key, int value) {
+        target.setInteger(key, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void setLong(NamespacedKey key, long value) {
+        target.setLong(key, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void setFloat(NamespacedKey key, float value) {
+        target.setFloat(key, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void setDouble(NamespacedKey key, double value) {
+        target.setDouble(key, value);
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void setBoolean(NamespacedKey key, boolean value) {
+        target.setBoolean(key, value);
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * Ключи пространства имён с видами значений.
+     *
+     * @param keys Ключи
+     * @param kinds Виды значений
+     * @param modifications Значение счётчика изменений при построении
+     */
+    protected record Index(NamespacedKey[] keys, DataKind[] kinds, long modifications) {
+    }
+}
@@ -0,0 +1,89 @@
+package ru.vladislav117.mcdata.transaction;
+
+import ru.vladislav117.mcdata.DataManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Транзакция менеджера данных.
+ * Записи через менеджер транзакции накапливаются в буфере и применяются к исходному хранилищу одним проходом при фиксации.
+ * Если транзакция закрывается без фиксации, изменения отменяются.
+ */
+public class DataTransaction implements AutoCloseable {
+    protected final TransactionBackend backend;
+    protected final DataManager manager;
+    protected boolean completed = false;
+
+    /**
+     * Создание транзакции менеджера данных.
+     *
+     * @param manager Менеджер данных, к хранилищу которого применяются изменения
+     */
+    public DataTransaction(DataManager manager) {
+        this.backend = new TransactionBackend(manager.getBackend());
+        this.manager = new DataManager(backend, manager.getKeyCache());
+    }
+
+    /**
+     * Получение менеджера данных транзакции.
+     * Чтение через него видит накопленные изменения.
+     *
+     * @return Менеджер данных транзакции.
+     */
+    public DataManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Проверка завершённости транзакции.
+     *
+     * @return Была ли транзакция зафиксирована или отменена.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Фиксация транзакции.
+     * Для каждого ключа применяется только последнее значение.
+     */
+    public void commit() {
+        if (completed) throw new IllegalStateException("Transaction is already completed");
+        completed = true;
+        backend.commit();
+    }
+
+    /**
+     * Отмена транзакции.
+     */
+    public void rollback() {
+        if (completed) return;
+        completed = true;
+        backend.rollback();
+    }
+
+    /**
+     * Выполнение действия в транзакции.
+     * Если действие завершилось исключением, изменения отменяются, а исключение пробрасывается дальше.
+     *
+     * @param action Действие над менеджером данных транзакции
+     */
+    public void run(Consumer<DataManager> action) {
+        try {
+            action.accept(manager);
+        } catch (Throwable throwable) {
+            rollback();
+            throw throwable;
+        }
+        commit();
+    }
+
+    /**
+     * Закрытие транзакции.
+     * Незафиксированные изменения отменяются.
+     */
+    @Override
+    public void close() {
+        rollback();
+    }
+}
@@ -0,0 +1,263 @@
+package ru.vladislav117.mcdata.transaction;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.DataVisitor;
+import ru.vladislav117.mcdata.backend.KeyVisitor;
+import ru.vladislav117.mcdata.backend.FilteringDataVisitor;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Хранилище, накапливающее записи поверх другого хранилища.
+ * Записи и удаления попадают в локальный буфер; чтение видит сначала буфер, затем исходное хранилище.
+ * Для каждого ключа в буфере хранится только последнее значение.
+ */
+public class TransactionBackend implements DataBackend {
+    protected final DataBackend target;
+    protected final MemoryDataBackend writes;
+    protected final Set<NamespacedKey> removals = new HashSet<>();
+
+    /**
+     * Создание хранилища, накапливающего записи.
+     *
+     * @param target Исходное хранилище
+     */
+    public TransactionBackend(DataBackend target) {
+        this.target = target;
+        this.writes = new MemoryDataBackend(16, target.getAdapterContext());
+    }
+
+    /**
+     * Получение исходного хранилища.
+     *
+     * @return Исходное хранилище.
+     */
+    public DataBackend getTarget() {
+        return target;
+    }
+
+    /**
+     * Проверка наличия накопленных изменений.
+     *
+     * @return Есть ли накопленные записи или удаления.
+     */
+    public boolean hasChanges() {
+        return !writes.isEmpty() || !removals.isEmpty();
+    }
+
+    /**
+     * Применение накопленных изменений к исходному хранилищу за один проход и очистка буфера.
+     */
+    public void commit() {
+        for (NamespacedKey key : removals) {
+            target.remove(key);
+        }
+        writes.copyTo(target);
+        rollback();
+    }
+
+    /**
+     * Отмена накопленных изменений.
+     */
+    public void rollback() {
+        writes.clear();
+        removals.clear();
+    }
+
+    @Override
+    public boolean has(NamespacedKey key) {
+        if (writes.has(key)) return true;
+        return !removals.contains(key) && target.has(key);
+    }
+
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        if (writes.has(key)) return writes.has(key, type);
+        return !removals.contains(key) && target.has(key, type);
+    }
+
+    @Override
+    public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        if (writes.has(key)) return writes.get(key, type);
+        if (removals.contains(key)) return null;
+        return target.get(key, type);
+    }
+
+    @Override
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        writes.set(key, type, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        writes.remove(key);
+        removals.add(key);
+    }
+
+    @Override
+    public @Nullable DataBackend getContainer(NamespacedKey key) {
+        if (writes.has(key)) return writes.getContainer(key);
+        if (removals.contains(key)) return null;
+        return target.getContainer(key);
+    }
+
+    @Override
+    public void setContainer(NamespacedKey key, DataBackend value) {
+        writes.setContainer(key, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public DataBackend createContainer() {
+        return target.createContainer();
+    }
+
+    @Override
+    public @Nullable PersistentDataAdapterContext getAdapterContext() {
+        return target.getAdapterContext();
+    }
+
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        Set<NamespacedKey> keys = target.getKeys();
+        keys.removeAll(removals);
+        keys.addAll(writes.getKeys());
+        return keys;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!writes.isEmpty()) return false;
+        if (removals.isEmpty()) return target.isEmpty();
+        for (NamespacedKey key : target.getKeys()) {
+            if (!removals.contains(key)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEach(DataVisitor visitor) {
+        if (hasChanges()) {
+            target.forEach(new FilteringDataVisitor(visitor, key -> !removals.contains(key) && !writes.has(key)));
+        } else {
+            target.forEach(visitor);
+        }
+        writes.forEach(visitor);
+    }
+
+    @Override
+    public void forEachKey(@Nullable String namespace, KeyVisitor visitor) {
+        if (hasChanges()) {
+            target.forEachKey(namespace, (key, kind) -> {
+                if (!removals.contains(key) && !writes.has(key)) visitor.visitKey(key, kind);
+            });
+        } else {
+            target.forEachKey(namespace, visitor);
+        }
+        writes.forEachKey(namespace, visitor);
+    }
+
+    @Override
+    public boolean visit(NamespacedKey key, DataVisitor visitor) {
+        if (writes.visit(key, visitor)) return true;
+        return !removals.contains(key) && target.visit(key, visitor);
+    }
+
+    @Override
+    public byte getByte(NamespacedKey key, byte defaultValue) {
+        if (writes.has(key)) return writes.getByte(key, defaultValue);
+        if (removals.contains(key)) return defaultValue;
+        return target.getByte(key, defaultValue);
+    }
+
+    @Override
+    public short getShort(NamespacedKey key, short defaultValue) {
+        if (writes.has(key)) return writes.getShort(key, defaultValue);
+        if (removals.contains(key)) return defaultValue;
+        return target.getShort(key, defaultValue);
+    }
+
+    @Override
+    public int getInteger(NamespacedKey key, int defaultValue) {
+        if (writes.has(key)) return writes.getInteger(key, defaultValue);
+        if (removals.contains(key)) return defaultValue;
+        return target.getInteger(key, defaultValue);
+    }
+
+    @Override
+    public long getLong(NamespacedKey key, long defaultValue) {
+        if (writes.has(key)) return writes.getLong(key, defaultValue);
+        if (removals.contains(key)) return defaultValue;
+        return target.getLong(key, defaultValue);
+    }
+
+    @Override
+    public float getFloat(NamespacedKey key, float defaultValue) {
+        if (writes.has(key)) return writes.getFloat(key, defaultValue);
+        if (removals.contains(key)) return defaultValue;
+        return target.getFloat(key, defaultValue);
+    }
+
+    @Override
+    public double getDouble(NamespacedKey key, double defaultValue) {
+        if (writes.has(key)) return writes.getDouble(key, defaultValue);
+        if (removals.contains(key)) return defaultValue;
+        return target.getDouble(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(NamespacedKey key, boolean defaultValue) {
+        if (writes.has(key)) return writes.getBoolean(key, defaultValue);
+        if (removals.contains(key)) return defaultValue;
+        return target.getBoolean(key, defaultValue);
+    }
+
+    @Override
+    public void setByte(NamespacedKey key, byte value) {
+        writes.setByte(key, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public void setShort(NamespacedKey key, short value) {
+        writes.setShort(key, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public void setInteger(NamespacedKey key, int value) {
+        writes.setInteger(key, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public void setLong(NamespacedKey key, long value) {
+        writes.setLong(key, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public void setFloat(NamespacedKey key, float value) {
+        writes.setFloat(key, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public void setDouble(NamespacedKey key, double value) {
+        writes.setDouble(key, value);
+        removals.remove(key);
+    }
+
+    @Override
+    public void setBoolean(NamespacedKey key, boolean value) {
+        writes.setBoolean(key, value);
+        removals.remove(key);
+    }
+}
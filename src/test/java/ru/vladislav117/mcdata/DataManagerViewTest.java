@@ -0,0 +1,59 @@
+package ru.vladislav117.mcdata;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.tracking.DataDelta;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataManagerViewTest {
+    @Test
+    void viewUsesDirtyTrackingEnabledLater() {
+        DataManager manager = new DataManager(new MemoryDataBackend(), "test");
+        DataManager view = manager.withPrefix("quest.");
+
+        manager.trackDirty();
+        view.setInteger("stage", 3);
+
+        assertTrue(view.isTrackingDirty());
+        DataDelta delta = manager.drainDirty();
+        assertEquals(3, delta.getChanges().getInteger(new NamespacedKey("test", "quest.stage"), -1));
+    }
+
+    @Test
+    void viewSharesKeyIndexWithManager() {
+        DataManager manager = new DataManager(new MemoryDataBackend(), "test");
+        DataManager view = manager.withNamespace("other");
+
+        view.indexKeys();
+
+        assertTrue(manager.isIndexingKeys());
+        assertSame(manager.getBackend(), view.getBackend());
+    }
+
+    @Test
+    void concurrentViewsAreConcurrent() {
+        ConcurrentDataManager manager = new ConcurrentDataManager(new MemoryDataBackend(), "test");
+        ConcurrentDataManager view = manager.withPrefix("quest.").withNamespace("other");
+
+        view.setInteger("stage", 3);
+        manager.flush();
+
+        assertSame(manager.getConcurrentBackend(), view.getConcurrentBackend());
+        assertEquals(3, manager.getConcurrentBackend().getSource().getInteger(new NamespacedKey("other", "quest.stage"), -1));
+    }
+
+    @Test
+    void nestedContainerKeepsPrefix() {
+        DataManager manager = new DataManager(new MemoryDataBackend(), "test");
+        DataManager view = manager.withPrefix("quest.");
+        view.setContainer("data", new DataManager(new MemoryDataBackend(), "test"));
+
+        DataManager nested = view.getContainer("data");
+
+        assertEquals("quest.", nested.getPrefix());
+        nested.setInteger("stage", 3);
+        assertTrue(nested.getBackend().has(new NamespacedKey("test", "quest.stage")));
+    }
+}
@@ -0,0 +1,53 @@
+package ru.vladislav117.mcdata;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PrimitiveDefaultAllocationTest {
+    static final int ITERATIONS = 100_000;
+
+    @Test
+    void primitiveDefaultOverloadsDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(), "Thread allocation counter is unavailable");
+        DataManager manager = new DataManager(new MemoryDataBackend(), "test");
+        NamespacedKey missing = new NamespacedKey("test", "missing");
+        manager.setByte("byte", (byte) 100);
+        manager.setShort("short", (short) 1000);
+        manager.setInteger("integer", 100_000);
+        manager.setLong("long", 100_000L);
+        manager.setFloat("float", 1.5f);
+        manager.setDouble("double", 2.5);
+        manager.setBoolean("boolean", true);
+
+        long checksum = read(manager, missing);
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        checksum += read(manager, missing);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(2L * ITERATIONS * (100 + 1000 + 100_000 + 100_000 + 1 + 2 + 1 + 7), checksum);
+        assertTrue(allocated < 1024, "Primitive getXOrDefault allocated " + allocated + " bytes in " + ITERATIONS + " iterations");
+    }
+
+    static long read(DataManager manager, NamespacedKey missing) {
+        long checksum = 0;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            checksum += manager.getByteOrDefault("byte", (byte) 0);
+            checksum += manager.getShortOrDefault("short", (short) 0);
+            checksum += manager.getIntegerOrDefault("integer", 0);
+            checksum += manager.getLongOrDefault("long", 0L);
+            checksum += (long) manager.getFloatOrDefault("float", 0f);
+            checksum += (long) manager.getDoubleOrDefault("double", 0d);
+            checksum += manager.getBooleanOrDefault("boolean", false) ? 1 : 0;
+            checksum += manager.getIntegerOrDefault(missing, 7);
+        }
+        return checksum;
+    }
+}
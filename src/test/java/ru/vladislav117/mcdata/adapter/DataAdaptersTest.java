@@ -0,0 +1,76 @@
+package ru.vladislav117.mcdata.adapter;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.error.DataManagerTypeError;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataAdaptersTest {
+    static final NamespacedKey KEY = new NamespacedKey("test", "mode");
+
+    enum UsedMode {FIRST, SECOND}
+
+    enum RegisteredMode {FIRST, SECOND, THIRD}
+
+    enum ShortMode {FIRST, SECOND}
+
+    @Test
+    void tableInUseIsNotReplaced() {
+        EnumDataType<UsedMode> used = DataAdapters.getEnum(UsedMode.class);
+
+        assertThrows(IllegalStateException.class, () -> DataAdapters.registerEnum(UsedMode.class, UsedMode.SECOND, UsedMode.FIRST));
+        assertThrows(IllegalStateException.class, () -> DataAdapters.register(new EnumDataType<>(UsedMode.class, new UsedMode[]{UsedMode.SECOND})));
+        assertSame(used, DataAdapters.registerEnum(UsedMode.class, UsedMode.FIRST, UsedMode.SECOND));
+        assertSame(used, DataAdapters.getEnum(UsedMode.class));
+    }
+
+    @Test
+    void registeredTableIsUsed() {
+        EnumDataType<RegisteredMode> registered = DataAdapters.registerEnum(RegisteredMode.class, RegisteredMode.THIRD, RegisteredMode.FIRST);
+
+        assertSame(registered, DataAdapters.getEnum(RegisteredMode.class));
+        assertEquals(Integer.valueOf(0), registered.toPrimitive(RegisteredMode.THIRD, null));
+        assertThrows(IllegalStateException.class, () -> DataAdapters.registerEnum(RegisteredMode.class, RegisteredMode.FIRST));
+    }
+
+    @Test
+    void indexOutOfTableIsTypeError() {
+        DataAdapters.registerEnum(ShortMode.class, ShortMode.FIRST);
+        MemoryDataBackend backend = new MemoryDataBackend();
+        backend.setInteger(KEY, 5);
+        DataManager manager = new DataManager(backend, "test");
+
+        assertNull(backend.get(KEY, DataAdapters.getEnum(ShortMode.class)));
+        assertNull(manager.getEnumOrNull(KEY, ShortMode.class));
+        assertThrows(DataManagerTypeError.class, () -> manager.getEnum(KEY, ShortMode.class));
+    }
+
+    @Test
+    void checksValidateDecodedValues() {
+        DataAdapters.registerEnum(ShortMode.class, ShortMode.FIRST);
+        MemoryDataBackend backend = new MemoryDataBackend();
+        backend.setInteger(KEY, 5);
+        backend.set(new NamespacedKey("test", "location"), PersistentDataType.LONG_ARRAY, new long[6]);
+        backend.set(new NamespacedKey("test", "uuid"), PersistentDataType.LONG_ARRAY, new long[]{1, 2});
+        DataManager manager = new DataManager(backend, "test");
+
+        assertFalse(manager.isEnum(KEY, ShortMode.class));
+        assertFalse(manager.isUUID("location"));
+        assertTrue(manager.isLocation("location"));
+        assertTrue(manager.isUUID("uuid"));
+        assertFalse(manager.isLocation("uuid"));
+    }
+
+    @Test
+    void enumDefaultCanBeNull() {
+        DataManager manager = new DataManager(new MemoryDataBackend(), "test");
+
+        assertNull(manager.getEnumOrDefault(KEY, ShortMode.class, null));
+        manager.setEnum(KEY, ShortMode.FIRST);
+        assertEquals(ShortMode.FIRST, manager.getEnumOrDefault(KEY, ShortMode.class, null));
+    }
+}
@@ -0,0 +1,171 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.vladislav117.mcdata.error.DataManagerError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedDataBackendTest {
+    static final long REGION_SIZE = MappedDataBackend.minMappingSize;
+
+    @TempDir
+    Path directory;
+
+    static NamespacedKey key(String name) {
+        return new NamespacedKey("test", name);
+    }
+
+    static void fill(DataBackend backend) {
+        backend.setByte(key("byte"), (byte) -1);
+        backend.setShort(key("short"), (short) 1000);
+        backend.setInteger(key("integer"), 100_000);
+        backend.setLong(key("long"), Long.MIN_VALUE);
+        backend.setFloat(key("float"), 1.5f);
+        backend.setDouble(key("double"), -2.25);
+        backend.setBoolean(key("boolean"), true);
+        backend.set(key("string"), PersistentDataType.STRING, "строка");
+        backend.set(key("bytes"), PersistentDataType.BYTE_ARRAY, new byte[]{1, 2, 3});
+        backend.set(key("integers"), PersistentDataType.INTEGER_ARRAY, new int[]{4, 5, 6});
+        backend.set(key("longs"), PersistentDataType.LONG_ARRAY, new long[]{7, 8, 9});
+        MemoryDataBackend container = new MemoryDataBackend();
+        container.setInteger(key("nested"), 42);
+        backend.setContainer(key("container"), container);
+    }
+
+    static void check(DataBackend backend) {
+        assertEquals(12, backend.getKeys().size());
+        assertEquals((byte) -1, backend.getByte(key("byte"), (byte) 0));
+        assertEquals((short) 1000, backend.getShort(key("short"), (short) 0));
+        assertEquals(100_000, backend.getInteger(key("integer"), 0));
+        assertEquals(Long.MIN_VALUE, backend.getLong(key("long"), 0));
+        assertEquals(1.5f, backend.getFloat(key("float"), 0));
+        assertEquals(-2.25, backend.getDouble(key("double"), 0));
+        assertTrue(backend.getBoolean(key("boolean"), false));
+        assertEquals("строка", backend.get(key("string"), PersistentDataType.STRING));
+        assertArrayEquals(new byte[]{1, 2, 3}, backend.get(key("bytes"), PersistentDataType.BYTE_ARRAY));
+        assertArrayEquals(new int[]{4, 5, 6}, backend.get(key("integers"), PersistentDataType.INTEGER_ARRAY));
+        assertArrayEquals(new long[]{7, 8, 9}, backend.get(key("longs"), PersistentDataType.LONG_ARRAY));
+        DataBackend container = backend.getContainer(key("container"));
+        assertNotNull(container);
+        assertEquals(42, container.getInteger(key("nested"), 0));
+        assertFalse(backend.has(key("integer"), PersistentDataType.LONG));
+        assertNull(backend.get(key("missing"), PersistentDataType.STRING));
+    }
+
+    @Test
+    void roundTripsValuesAcrossReopen() throws IOException {
+        Path path = directory.resolve("data");
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            fill(backend);
+            check(backend);
+        }
+
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            check(backend);
+            backend.remove(key("string"));
+            backend.setInteger(key("integer"), 7);
+        }
+
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            assertFalse(backend.has(key("string")));
+            assertEquals(7, backend.getInteger(key("integer"), 0));
+            assertEquals(11, backend.size());
+        }
+    }
+
+    @Test
+    void resizesIndexThroughTemporaryFile() throws IOException {
+        Path path = directory.resolve("data");
+        int count = MappedDataBackend.minCapacity * 2;
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            for (int index = 0; index < count; index++) backend.setInteger(key("key" + index), index);
+            assertEquals(count, backend.size());
+        }
+        assertFalse(Files.exists(directory.resolve("data.index.tmp")));
+
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            assertEquals(count, backend.size());
+            for (int index = 0; index < count; index++) assertEquals(index, backend.getInteger(key("key" + index), -1));
+        }
+    }
+
+    @Test
+    void entriesDoNotCrossRegionBoundaries() throws IOException {
+        Path path = directory.resolve("data");
+        byte[] value = new byte[(int) REGION_SIZE / 3];
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            for (int index = 0; index < 8; index++) {
+                value[0] = (byte) index;
+                value[value.length - 1] = (byte) index;
+                backend.set(key("value" + index), PersistentDataType.BYTE_ARRAY, value);
+            }
+            assertTrue(backend.getDataSize() > REGION_SIZE * 3);
+            assertTrue(backend.getGarbage() > 0);
+            DataManagerError error = assertThrows(DataManagerError.class, () -> backend.set(key("huge"), PersistentDataType.BYTE_ARRAY, new byte[(int) REGION_SIZE]));
+            assertTrue(error.getMessage().contains("larger than mapping region"));
+        }
+
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            for (int index = 0; index < 8; index++) {
+                byte[] stored = backend.get(key("value" + index), PersistentDataType.BYTE_ARRAY);
+                assertNotNull(stored);
+                assertEquals(value.length, stored.length);
+                assertEquals((byte) index, stored[0]);
+                assertEquals((byte) index, stored[stored.length - 1]);
+            }
+        }
+    }
+
+    @Test
+    void compactionDropsStaleEntries() throws IOException {
+        Path path = directory.resolve("data");
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            fill(backend);
+            for (int index = 0; index < 100; index++) backend.set(key("string"), PersistentDataType.STRING, "x".repeat(index));
+            backend.set(key("string"), PersistentDataType.STRING, "строка");
+            long dataSize = backend.getDataSize();
+            assertTrue(backend.getGarbage() > 0);
+
+            backend.compact();
+
+            assertEquals(0, backend.getGarbage());
+            assertTrue(backend.getDataSize() < dataSize);
+            check(backend);
+        }
+
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            check(backend);
+        }
+    }
+
+    @Test
+    void rejectedWriteKeepsSize() throws IOException {
+        Path path = directory.resolve("data");
+        byte[] tooLarge = new byte[(int) REGION_SIZE];
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            assertThrows(DataManagerError.class, () -> backend.set(key("large"), PersistentDataType.BYTE_ARRAY, tooLarge));
+            assertTrue(backend.isEmpty());
+        }
+
+        try (MappedDataBackend backend = new MappedDataBackend(path, REGION_SIZE, null)) {
+            assertTrue(backend.isEmpty());
+            assertTrue(backend.getKeys().isEmpty());
+        }
+    }
+
+    @Test
+    void rejectsListValues() throws IOException {
+        try (MappedDataBackend backend = new MappedDataBackend(directory.resolve("data"), REGION_SIZE, null)) {
+            assertThrows(DataManagerError.class, () -> backend.set(key("list"), PersistentDataType.LIST.integers(), List.of(1, 2)));
+            assertFalse(backend.has(key("list")));
+        }
+    }
+}
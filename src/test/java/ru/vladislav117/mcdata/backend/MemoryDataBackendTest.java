@@ -0,0 +1,53 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.collection.DataLists;
+import ru.vladislav117.mcdata.error.DataManagerError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryDataBackendTest {
+    static final NamespacedKey INTEGERS = new NamespacedKey("test", "integers");
+    static final NamespacedKey ARRAYS = new NamespacedKey("test", "arrays");
+
+    @Test
+    void listsAreCopiedOnSetAndGet() {
+        int[] integers = {1, 2, 3};
+        List<int[]> arrays = new ArrayList<>(List.of(new int[]{4, 5}));
+        MemoryDataBackend backend = new MemoryDataBackend();
+        backend.set(INTEGERS, DataLists.INTEGERS, DataLists.ofIntegers(integers));
+        backend.set(ARRAYS, DataLists.INTEGER_ARRAYS, arrays);
+
+        integers[0] = 100;
+        arrays.get(0)[0] = 100;
+        arrays.add(new int[]{6});
+        backend.get(ARRAYS, DataLists.INTEGER_ARRAYS).get(0)[1] = 100;
+
+        assertEquals(List.of(1, 2, 3), backend.get(INTEGERS, DataLists.INTEGERS));
+        List<int[]> stored = backend.get(ARRAYS, DataLists.INTEGER_ARRAYS);
+        assertEquals(1, stored.size());
+        assertArrayEquals(new int[]{4, 5}, stored.get(0));
+    }
+
+    @Test
+    void listsAreCopiedToOtherBackends() {
+        MemoryDataBackend source = new MemoryDataBackend();
+        source.set(INTEGERS, DataLists.INTEGERS, List.of(1, 2));
+        MemoryDataBackend target = new MemoryDataBackend();
+
+        source.copyTo(target);
+
+        assertEquals(List.of(1, 2), target.get(INTEGERS, DataLists.INTEGERS));
+    }
+
+    @Test
+    void copyingUnknownValueFails() {
+        MemoryDataBackend target = new MemoryDataBackend();
+
+        assertThrows(DataManagerError.class, () -> new CopyingDataVisitor(target).visitOther(INTEGERS, null, null));
+    }
+}
@@ -0,0 +1,54 @@
+package ru.vladislav117.mcdata.backend;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotDataBackendTest {
+    static final NamespacedKey BYTES = new NamespacedKey("test", "bytes");
+    static final NamespacedKey INTEGERS = new NamespacedKey("test", "integers");
+    static final NamespacedKey LONGS = new NamespacedKey("test", "longs");
+
+    @Test
+    void snapshotDoesNotShareArraysWithSource() {
+        byte[] bytes = {1, 2, 3};
+        int[] integers = {4, 5, 6};
+        long[] longs = {7, 8, 9};
+        MemoryDataBackend source = new MemoryDataBackend();
+        source.set(BYTES, PersistentDataType.BYTE_ARRAY, bytes);
+        source.set(INTEGERS, PersistentDataType.INTEGER_ARRAY, integers);
+        source.set(LONGS, PersistentDataType.LONG_ARRAY, longs);
+        SnapshotDataBackend snapshot = new SnapshotDataBackend(source);
+
+        bytes[0] = 100;
+        integers[0] = 100;
+        longs[0] = 100;
+        source.get(BYTES, PersistentDataType.BYTE_ARRAY)[1] = 100;
+        source.get(INTEGERS, PersistentDataType.INTEGER_ARRAY)[1] = 100;
+        source.get(LONGS, PersistentDataType.LONG_ARRAY)[1] = 100;
+        snapshot.get(BYTES, PersistentDataType.BYTE_ARRAY)[2] = 100;
+        snapshot.get(INTEGERS, PersistentDataType.INTEGER_ARRAY)[2] = 100;
+        snapshot.get(LONGS, PersistentDataType.LONG_ARRAY)[2] = 100;
+
+        assertArrayEquals(new byte[]{1, 2, 3}, snapshot.get(BYTES, PersistentDataType.BYTE_ARRAY));
+        assertArrayEquals(new int[]{4, 5, 6}, snapshot.get(INTEGERS, PersistentDataType.INTEGER_ARRAY));
+        assertArrayEquals(new long[]{7, 8, 9}, snapshot.get(LONGS, PersistentDataType.LONG_ARRAY));
+        assertArrayEquals(new byte[]{1, 2, 3}, source.get(BYTES, PersistentDataType.BYTE_ARRAY));
+    }
+
+    @Test
+    void snapshotKeepsValuesAfterSourceChanges() {
+        MemoryDataBackend source = new MemoryDataBackend();
+        source.setInteger(INTEGERS, 1);
+        SnapshotDataBackend snapshot = new SnapshotDataBackend(source);
+
+        source.setInteger(INTEGERS, 2);
+        source.setLong(LONGS, 3);
+
+        assertEquals(1, snapshot.getInteger(INTEGERS, 0));
+        assertFalse(snapshot.has(LONGS));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.setInteger(INTEGERS, 4));
+    }
+}
@@ -0,0 +1,107 @@
+package ru.vladislav117.mcdata.concurrent;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.ConcurrentDataManager;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.key.DataPath;
+import ru.vladislav117.mcdata.tracking.DataDelta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDataBackendTest {
+    static final int WRITES = 20000;
+
+    @Test
+    void reloadKeepsConcurrentWrites() throws InterruptedException {
+        MemoryDataBackend source = new MemoryDataBackend();
+        ConcurrentDataBackend backend = new ConcurrentDataBackend(source);
+        Thread writer = new Thread(() -> {
+            for (int index = 0; index < WRITES; index++) {
+                backend.setInteger(new NamespacedKey("test", "key_" + index), index);
+            }
+        });
+
+        writer.start();
+        while (writer.isAlive()) {
+            backend.reload();
+        }
+        writer.join();
+        backend.flush();
+
+        for (int index = 0; index < WRITES; index++) {
+            NamespacedKey key = new NamespacedKey("test", "key_" + index);
+            assertEquals(index, backend.getInteger(key, -1), key.toString());
+            assertEquals(index, source.getInteger(key, -1), key.toString());
+        }
+    }
+
+    @Test
+    void pathWritesWithCommonRootAreNotLost() throws InterruptedException {
+        ConcurrentDataManager manager = new ConcurrentDataManager(new MemoryDataBackend(), "test");
+        Thread[] writers = new Thread[4];
+        for (int thread = 0; thread < writers.length; thread++) {
+            String prefix = "stats.thread_" + thread + "_";
+            writers[thread] = new Thread(() -> {
+                for (int index = 0; index < 500; index++) {
+                    manager.setInteger(DataPath.of(prefix + index), index);
+                }
+            });
+            writers[thread].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        manager.flush();
+
+        DataBackend stats = manager.getConcurrentBackend().getSource().getContainer(new NamespacedKey("test", "stats"));
+        assertNotNull(stats);
+        for (int thread = 0; thread < writers.length; thread++) {
+            for (int index = 0; index < 500; index++) {
+                assertEquals(index, manager.getInteger(DataPath.of("stats.thread_" + thread + "_" + index)));
+                assertEquals(index, stats.getInteger(new NamespacedKey("test", "thread_" + thread + "_" + index), -1));
+            }
+        }
+    }
+
+    @Test
+    void dirtyTrackingRecordsFlushedKeys() throws InterruptedException {
+        ConcurrentDataManager manager = new ConcurrentDataManager(new MemoryDataBackend(), "test");
+        manager.setInteger("before", 1);
+        manager.trackDirty().drainDirty();
+        DataManager view = manager.withPrefix("quest.");
+
+        Thread writer = new Thread(() -> view.setInteger("stage", 2));
+        writer.start();
+        writer.join();
+        manager.remove("before");
+        DataDelta delta = manager.drainDirty();
+
+        assertEquals(2, delta.getChanges().getInteger(new NamespacedKey("test", "quest.stage"), -1));
+        assertEquals(Set.of(new NamespacedKey("test", "before")), delta.getRemovals());
+        assertTrue(manager.drainDirty().getRemovals().isEmpty());
+    }
+
+    @Test
+    void keyIndexSeesWritesFromOtherThreads() throws InterruptedException {
+        ConcurrentDataManager manager = new ConcurrentDataManager(new MemoryDataBackend(), "test");
+        manager.indexKeys();
+        List<NamespacedKey> before = new ArrayList<>();
+        manager.forEachKey((key, kind) -> before.add(key));
+
+        Thread writer = new Thread(() -> manager.setInteger("value", 1));
+        writer.start();
+        writer.join();
+        List<NamespacedKey> after = new ArrayList<>();
+        manager.forEachKey((key, kind) -> after.add(key));
+
+        assertTrue(before.isEmpty());
+        assertEquals(List.of(new NamespacedKey("test", "value")), after);
+    }
+}
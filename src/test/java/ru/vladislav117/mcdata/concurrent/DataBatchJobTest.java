@@ -0,0 +1,58 @@
+package ru.vladislav117.mcdata.concurrent;
+
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataBatchJobTest {
+    @Test
+    void rejectedHoldersAreCountedAsFailed() {
+        Map<String, DataManager> managers = Map.of(
+                "first", new DataManager(new MemoryDataBackend(), "test"),
+                "second", new DataManager(new MemoryDataBackend(), "test"),
+                "third", new DataManager(new MemoryDataBackend(), "test"));
+        Executor executor = new Executor() {
+            int calls;
+
+            @Override
+            public void execute(Runnable command) {
+                if (calls++ == 1) throw new RejectedExecutionException("Executor is shut down");
+                command.run();
+            }
+        };
+        DataBatchJob<String> job = new DataBatchJob<>(List.of("first", "second", "third"), managers::get, manager -> manager.setInteger("value", 1), executor, 8);
+
+        assertFalse(job.tick());
+        assertTrue(job.tick());
+
+        assertEquals(3, job.getProcessed());
+        assertTrue(job.getCompletion().isDone());
+        assertEquals(2, job.getApplied());
+        List<DataBatchJob.Failure<String>> failures = job.getFailures();
+        assertEquals(1, failures.size());
+        assertEquals("second", failures.get(0).holder());
+        assertTrue(failures.get(0).throwable() instanceof RejectedExecutionException);
+        assertEquals(0, managers.get("second").getIntegerOrDefault("value", 0));
+        assertEquals(1, managers.get("third").getIntegerOrDefault("value", 0));
+    }
+
+    @Test
+    void taskFailuresKeepTheirHolder() {
+        Map<String, DataManager> managers = Map.of("first", new DataManager(new MemoryDataBackend(), "test"));
+        DataBatchJob<String> job = new DataBatchJob<>(List.of("first"), managers::get, manager -> {
+            throw new IllegalStateException("Task failed");
+        }, Runnable::run, 8);
+
+        assertTrue(job.tick());
+
+        assertEquals("first", job.getFailures().get(0).holder());
+        assertTrue(job.getFailures().get(0).throwable() instanceof IllegalStateException);
+    }
+}
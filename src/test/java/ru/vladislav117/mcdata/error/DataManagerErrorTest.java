@@ -0,0 +1,37 @@
+package ru.vladislav117.mcdata.error;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataManagerErrorTest {
+    static final NamespacedKey KEY = new NamespacedKey("test", "key");
+
+    @AfterEach
+    void resetStackless() {
+        DataManagerError.setStackless(false);
+    }
+
+    @Test
+    void keyErrorKeepsStackAndSuppressedExceptionsByDefault() {
+        DataManagerKeyError error = new DataManagerKeyError(KEY, PersistentDataType.INTEGER);
+        error.addSuppressed(new IllegalStateException("cleanup failed"));
+
+        assertTrue(error.getStackTrace().length > 0);
+        assertEquals(1, error.getSuppressed().length);
+        assertTrue(error.getMessage().contains("test:key"));
+    }
+
+    @Test
+    void stacklessErrorDropsStackAndSuppressedExceptions() {
+        DataManagerError.setStackless(true);
+        DataManagerTypeError error = new DataManagerTypeError(PersistentDataType.INTEGER);
+        error.addSuppressed(new IllegalStateException("cleanup failed"));
+
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals(0, error.getSuppressed().length);
+    }
+}
@@ -0,0 +1,51 @@
+package ru.vladislav117.mcdata.io;
+
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.error.DataManagerSerializationError;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataCompressionTest {
+    @Test
+    void roundTripsCompressibleAndStoredValues() {
+        byte[] zeros = new byte[1 << 20];
+        byte[] compressed = DataCompression.compress(zeros);
+        assertTrue(compressed.length < zeros.length / 100);
+        assertArrayEquals(zeros, DataCompression.decompress(compressed));
+
+        byte[] headerLike = {'M', 'C', 'Z', 0, 1};
+        byte[] stored = DataCompression.compress(headerLike);
+        assertEquals(DataCompression.storedHeaderSize + headerLike.length, stored.length);
+        assertArrayEquals(headerLike, DataCompression.decompress(stored));
+    }
+
+    @Test
+    void rejectsLengthBeyondDeflateRatioBeforeAllocating() {
+        byte[] forged = {'M', 'C', 'Z', DataCompression.DEFLATED, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0, 3, 0};
+
+        DataManagerSerializationError error = assertThrows(DataManagerSerializationError.class, () -> DataCompression.decompress(forged));
+        assertTrue(error.getMessage().contains("can not be inflated from 2 bytes"));
+    }
+
+    @Test
+    void valuesLargerThanPoolBuffersDoNotUsePool() {
+        ByteBufferPool pool = ByteBufferPool.getDefault();
+        pool.release(ByteBuffer.allocateDirect(1024));
+        int pooled = pool.getPooled();
+        byte[] large = new byte[pool.getMaxBufferSize() * 2];
+        for (int index = 0; index < large.length; index++) large[index] = (byte) (index % 7);
+        byte[] random = new byte[pool.getMaxBufferSize() * 2];
+        new Random(1).nextBytes(random);
+
+        byte[] compressed = DataCompression.compress(large);
+        byte[] stored = DataCompression.compress(random);
+
+        assertTrue(compressed.length < large.length / 10);
+        assertArrayEquals(large, DataCompression.decompress(compressed));
+        assertSame(random, stored);
+        assertEquals(pooled, pool.getPooled());
+    }
+}
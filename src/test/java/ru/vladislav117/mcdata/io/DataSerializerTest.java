@@ -0,0 +1,109 @@
+package ru.vladislav117.mcdata.io;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.ListPersistentDataType;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.backend.DataVisitor;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.collection.DataLists;
+import ru.vladislav117.mcdata.key.KeyCache;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSerializerTest {
+    @Test
+    void roundTripsValues() {
+        MemoryDataBackend source = new MemoryDataBackend();
+        source.setInteger(new NamespacedKey("test", "integer"), 42);
+        source.setDouble(new NamespacedKey("test", "double"), 1.5);
+        source.set(new NamespacedKey("test", "string"), PersistentDataType.STRING, "строка");
+        source.set(new NamespacedKey("test", "longs"), PersistentDataType.LONG_ARRAY, new long[]{1, 2, 3});
+
+        MemoryDataBackend target = new MemoryDataBackend();
+        DataSerializer.read(ByteBuffer.wrap(DataSerializer.toByteArray(source)), target);
+
+        assertEquals(4, target.size());
+        assertEquals(42, target.getInteger(new NamespacedKey("test", "integer"), 0));
+        assertEquals(1.5, target.getDouble(new NamespacedKey("test", "double"), 0));
+        assertEquals("строка", target.get(new NamespacedKey("test", "string"), PersistentDataType.STRING));
+        assertArrayEquals(new long[]{1, 2, 3}, target.get(new NamespacedKey("test", "longs"), PersistentDataType.LONG_ARRAY));
+    }
+
+    @Test
+    void roundTripsLists() {
+        NamespacedKey integers = new NamespacedKey("test", "integers");
+        NamespacedKey strings = new NamespacedKey("test", "strings");
+        NamespacedKey arrays = new NamespacedKey("test", "arrays");
+        NamespacedKey nested = new NamespacedKey("test", "nested");
+        ListPersistentDataType<List<String>, List<String>> nestedType = PersistentDataType.LIST.listTypeFrom(DataLists.STRINGS);
+        MemoryDataBackend source = new MemoryDataBackend();
+        source.set(integers, DataLists.INTEGERS, DataLists.ofIntegers(new int[]{1, 2, 3}));
+        source.set(strings, DataLists.STRINGS, List.of("a", "строка"));
+        source.set(arrays, DataLists.LONG_ARRAYS, List.of(new long[]{4, 5}, new long[0]));
+        source.set(nested, nestedType, List.of(List.of("b"), List.of()));
+
+        byte[] bytes = DataSerializer.toByteArray(source);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 16);
+        DataSerializer.write(source, buffer);
+        MemoryDataBackend target = new MemoryDataBackend();
+        DataSerializer.read(ByteBuffer.wrap(bytes), target);
+
+        assertEquals(bytes.length, buffer.position());
+        assertEquals(List.of(1, 2, 3), target.get(integers, DataLists.INTEGERS));
+        assertEquals(List.of("a", "строка"), target.get(strings, DataLists.STRINGS));
+        List<long[]> longArrays = target.get(arrays, DataLists.LONG_ARRAYS);
+        assertEquals(2, longArrays.size());
+        assertArrayEquals(new long[]{4, 5}, longArrays.get(0));
+        assertArrayEquals(new long[0], longArrays.get(1));
+        assertEquals(List.of(List.of("b"), List.of()), target.get(nested, nestedType));
+    }
+
+    @Test
+    void readsFirstVersion() {
+        MemoryDataBackend source = new MemoryDataBackend();
+        source.setInteger(new NamespacedKey("test", "integer"), 42);
+        byte[] bytes = DataSerializer.toByteArray(source);
+        bytes[4] = 1;
+
+        MemoryDataBackend target = new MemoryDataBackend();
+        DataSerializer.read(ByteBuffer.wrap(bytes), target);
+
+        assertEquals(42, target.getInteger(new NamespacedKey("test", "integer"), 0));
+    }
+
+    @Test
+    void readDoesNotCreateKeyCachesForUnknownNamespaces() {
+        MemoryDataBackend source = new MemoryDataBackend();
+        source.setInteger(new NamespacedKey("serializer_unknown", "value"), 1);
+
+        MemoryDataBackend target = new MemoryDataBackend();
+        DataSerializer.read(ByteBuffer.wrap(DataSerializer.toByteArray(source)), target);
+
+        assertEquals(1, target.getInteger(new NamespacedKey("serializer_unknown", "value"), 0));
+        assertNull(KeyCache.getIfPresent("serializer_unknown"));
+    }
+
+    @Test
+    void writeToPooledReleasesBufferOnFailure() {
+        ByteBufferPool pool = new ByteBufferPool(4, 1 << 20);
+        ByteBuffer pooled = pool.acquire(64);
+        pool.release(pooled);
+        MemoryDataBackend source = new MemoryDataBackend() {
+            int visits;
+
+            @Override
+            public void forEach(DataVisitor visitor) {
+                if (visits++ > 0) throw new IllegalStateException("Write failed");
+                super.forEach(visitor);
+            }
+        };
+        source.setInteger(new NamespacedKey("test", "integer"), 42);
+
+        assertThrows(IllegalStateException.class, () -> DataSerializer.writeToPooled(source, pool));
+        assertSame(pooled, pool.acquire(64));
+    }
+}
@@ -0,0 +1,51 @@
+package ru.vladislav117.mcdata.jfr;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.backend.MergePolicy;
+import ru.vladislav117.mcdata.key.KeyFilters;
+
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventDataBackendTest {
+    static final NamespacedKey VALUE = new NamespacedKey("test", "value");
+
+    @Test
+    void copyAndMergeAreDelegatedWithUnwrappedTarget() {
+        RecordingBackend source = new RecordingBackend();
+        source.setInteger(VALUE, 1);
+        MemoryDataBackend target = new MemoryDataBackend();
+        EventDataBackend wrappedTarget = new EventDataBackend(target);
+
+        new EventDataBackend(source).copyTo(wrappedTarget);
+        assertSame(target, source.copyTarget);
+
+        source.copyTarget = null;
+        new EventDataBackend(source).mergeTo(wrappedTarget, KeyFilters.all(), MergePolicy.KEEP_EXISTING);
+        assertSame(target, source.copyTarget);
+        assertEquals(1, target.getInteger(VALUE, -1));
+    }
+
+    /**
+     * Хранилище, запоминающее хранилище, в которое оно копировалось.
+     */
+    static class RecordingBackend extends MemoryDataBackend {
+        DataBackend copyTarget;
+
+        @Override
+        public void copyTo(DataBackend target) {
+            copyTarget = target;
+            super.copyTo(target);
+        }
+
+        @Override
+        public void mergeTo(DataBackend target, Predicate<NamespacedKey> filter, MergePolicy policy) {
+            copyTarget = target;
+            super.mergeTo(target, filter, policy);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ru.vladislav117.mcdata.key;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.error.DataManagerKeyError;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataPathTest {
+    static NamespacedKey key(String name) {
+        return new NamespacedKey("test", name);
+    }
+
+    @Test
+    void readThroughMissingContainerDoesNotCreateIt() {
+        MemoryDataBackend backend = new MemoryDataBackend();
+        DataManager manager = new DataManager(backend, "test");
+        DataPath path = DataPath.of("stats.combat.kills");
+
+        assertFalse(manager.contains(path));
+        assertFalse(manager.isInteger(path));
+        assertNull(manager.getIntegerOrNull(path));
+        assertEquals(-1, manager.getIntegerOrDefault(path, -1));
+        assertThrows(DataManagerKeyError.class, () -> manager.getInteger(path));
+        assertTrue(backend.isEmpty());
+    }
+
+    @Test
+    void writeCreatesContainers() {
+        MemoryDataBackend backend = new MemoryDataBackend();
+        DataManager manager = new DataManager(backend, "test");
+
+        manager.setInteger(DataPath.of("stats.combat.kills"), 3);
+
+        DataBackend stats = backend.getContainer(key("stats"));
+        assertNotNull(stats);
+        DataBackend combat = stats.getContainer(key("combat"));
+        assertNotNull(combat);
+        assertEquals(3, combat.getInteger(key("kills"), -1));
+        assertEquals(3, manager.getInteger(DataPath.of("stats.combat.kills")));
+    }
+
+    @Test
+    void writeRewritesOnlyTouchedBranch() {
+        RecordingBackend backend = new RecordingBackend();
+        DataManager manager = new DataManager(backend, "test");
+        manager.setInteger(DataPath.of("stats.combat.kills"), 1);
+        manager.setInteger(DataPath.of("stats.mining.blocks"), 2);
+        manager.setInteger(DataPath.of("quests.done"), 3);
+        backend.written.clear();
+
+        manager.setInteger(DataPath.of("stats.combat.kills"), 4);
+
+        assertEquals(Set.of(key("stats")), backend.written);
+        assertEquals(4, manager.getInteger(DataPath.of("stats.combat.kills")));
+        assertEquals(2, manager.getInteger(DataPath.of("stats.mining.blocks")));
+        assertEquals(3, manager.getInteger(DataPath.of("quests.done")));
+    }
+
+    @Test
+    void prefixIsAppliedToEverySegment() {
+        MemoryDataBackend backend = new MemoryDataBackend();
+        DataManager manager = new DataManager(backend, "test");
+        DataManager view = manager.withPrefix("quest.");
+        DataPath path = DataPath.of("stats.kills");
+
+        view.setInteger(path, 5);
+
+        DataBackend stats = backend.getContainer(key("quest.stats"));
+        assertNotNull(stats);
+        assertEquals(5, stats.getInteger(key("quest.kills"), -1));
+        assertEquals(5, view.getInteger(path));
+        assertFalse(manager.contains(path));
+    }
+
+    /**
+     * Хранилище, запоминающее ключи записанных в него контейнеров.
+     */
+    static class RecordingBackend extends MemoryDataBackend {
+        final Set<NamespacedKey> written = new HashSet<>();
+
+        @Override
+        public void setContainer(NamespacedKey key, DataBackend value) {
+            written.add(key);
+            super.setContainer(key, value);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.vladislav117.mcdata.key;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyCacheTest {
+    @Test
+    void namespaceCachesAreShared() {
+        assertSame(KeyCache.of("test"), KeyCache.of("test"));
+        assertSame(KeyCache.of("test"), KeyCache.of("test", ""));
+    }
+
+    @Test
+    void prefixCachesAreNotRegistered() {
+        KeyCache.of("test");
+        int size = KeyCache.caches.size();
+
+        for (int id = 0; id < 1000; id++) {
+            KeyCache cache = KeyCache.of("test", "quest." + id + ".");
+            assertEquals("test:quest." + id + ".stage", cache.get("stage").toString());
+        }
+
+        assertEquals(size, KeyCache.caches.size());
+    }
+}
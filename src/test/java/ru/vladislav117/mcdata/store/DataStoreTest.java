@@ -0,0 +1,217 @@
+package ru.vladislav117.mcdata.store;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataStoreTest {
+    static final NamespacedKey VALUE = new NamespacedKey("test", "value");
+    static final UUID FIRST = new UUID(1, 1);
+    static final UUID SECOND = new UUID(2, 2);
+    static final UUID THIRD = new UUID(3, 3);
+
+    @TempDir
+    Path directory;
+
+    static DataManager manager(int value) {
+        DataManager manager = new DataManager(new MemoryDataBackend(), "test");
+        manager.getBackend().setInteger(VALUE, value);
+        return manager;
+    }
+
+    static int value(DataStore store, UUID uuid) {
+        DataManager manager = store.load(uuid);
+        assertNotNull(manager, "No data for " + uuid);
+        return manager.getBackend().getInteger(VALUE, -1);
+    }
+
+    static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("Condition was not met in 5 seconds");
+            Thread.sleep(10);
+        }
+    }
+
+    Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.sorted().toList();
+            return segments.get(segments.size() - 1);
+        }
+    }
+
+    @Test
+    void reopenRestoresSavedAndDeletedData() throws IOException {
+        try (DataStore store = new DataStore(directory)) {
+            store.save(FIRST, manager(1));
+            store.save(SECOND, manager(2));
+            store.save(FIRST, manager(3));
+            store.delete(SECOND);
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(3, value(store, FIRST));
+            assertFalse(store.contains(SECOND));
+            assertNull(store.load(SECOND));
+        }
+    }
+
+    @Test
+    void emptyStoreKeepsSegmentHeaderOnReopen() throws IOException {
+        new DataStore(directory).close();
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(DataStore.fileHeaderSize, Files.size(lastSegment()));
+            store.save(FIRST, manager(1));
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(1, value(store, FIRST));
+        }
+    }
+
+    @Test
+    void tornTailRecordIsDiscardedOnReopen() throws IOException {
+        try (DataStore store = new DataStore(directory)) {
+            store.save(FIRST, manager(1));
+        }
+        Path segment = lastSegment();
+        long size = Files.size(segment);
+        ByteBuffer torn = ByteBuffer.allocate(DataStore.recordHeaderSize + 10).putInt(100).putLong(2).putLong(2).putInt(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(torn.flip());
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(size, Files.size(segment));
+            assertEquals(1, value(store, FIRST));
+            store.save(SECOND, manager(2));
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(1, value(store, FIRST));
+            assertEquals(2, value(store, SECOND));
+        }
+    }
+
+    @Test
+    void checksumMismatchDiscardsTailOnReopen() throws IOException {
+        try (DataStore store = new DataStore(directory)) {
+            store.save(FIRST, manager(1));
+            store.flush();
+            store.save(SECOND, manager(2));
+        }
+        Path segment = lastSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            long position = channel.size() - 1;
+            channel.read(last, position);
+            channel.write(last.put(0, (byte) ~last.get(0)).rewind(), position);
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(1, value(store, FIRST));
+            assertFalse(store.contains(SECOND));
+            store.save(THIRD, manager(3));
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(1, value(store, FIRST));
+            assertFalse(store.contains(SECOND));
+            assertEquals(3, value(store, THIRD));
+        }
+    }
+
+    @Test
+    void compactionRemovesStaleSegments() throws IOException {
+        try (DataStore store = new DataStore(directory, 1024, false)) {
+            for (int value = 0; value < 100; value++) {
+                store.save(FIRST, manager(value));
+                store.save(SECOND, manager(-value));
+                store.flush();
+            }
+            store.delete(SECOND);
+            store.flush();
+            assertTrue(Long.parseLong(lastSegment().getFileName().toString().substring(0, 16)) > 2);
+
+            store.compact();
+
+            assertTrue(store.getSegmentCount() <= 2, "Segments after compaction: " + store.getSegmentCount());
+            assertEquals(99, value(store, FIRST));
+            assertFalse(store.contains(SECOND));
+        }
+
+        try (DataStore store = new DataStore(directory, 1024, false)) {
+            assertEquals(99, value(store, FIRST));
+            assertFalse(store.contains(SECOND));
+        }
+    }
+
+    @Test
+    void failedWriteIsRetried() throws IOException, InterruptedException {
+        try (FailingDataStore store = new FailingDataStore(directory)) {
+            store.failures = 1;
+            store.save(FIRST, manager(1));
+            await(() -> store.getWriterError() != null);
+            store.save(FIRST, manager(2));
+            store.save(SECOND, manager(3));
+            await(() -> store.getPendingCount() == 0);
+            assertEquals(2, value(store, FIRST));
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(2, value(store, FIRST));
+            assertEquals(3, value(store, SECOND));
+        }
+    }
+
+    @Test
+    void closeFinishesWhenWritesFail() throws IOException {
+        try (FailingDataStore store = new FailingDataStore(directory)) {
+            store.failures = 3;
+            store.save(FIRST, manager(1));
+        }
+
+        try (DataStore store = new DataStore(directory)) {
+            assertEquals(1, value(store, FIRST));
+        }
+    }
+
+    /**
+     * Хранилище, запись которого обрывается на середине указанное число раз.
+     */
+    static class FailingDataStore extends DataStore {
+        volatile int failures;
+
+        FailingDataStore(Path directory) throws IOException {
+            super(directory, defaultSegmentSize, false);
+        }
+
+        @Override
+        protected void drainWriteBuffer() throws IOException {
+            if (failures > 0) {
+                failures--;
+                writeBuffer.flip();
+                writeBuffer.limit(writeBuffer.limit() / 2);
+                active.size += active.channel.write(writeBuffer, active.size);
+                throw new IOException("No space left on device");
+            }
+            super.drainWriteBuffer();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ru.vladislav117.mcdata.tracking;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.key.DataPath;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyTrackingBackendTest {
+    static NamespacedKey key(String name) {
+        return new NamespacedKey("test", name);
+    }
+
+    @Test
+    void setAndRemoveAreTracked() {
+        MemoryDataBackend target = new MemoryDataBackend();
+        target.setInteger(key("removed"), 1);
+        target.setInteger(key("untouched"), 2);
+        DirtyTrackingBackend backend = new DirtyTrackingBackend(target);
+
+        backend.setInteger(key("level"), 5);
+        backend.set(key("name"), PersistentDataType.STRING, "Steve");
+        backend.remove(key("removed"));
+
+        assertEquals(3, backend.getDirtyCount());
+        DataDelta delta = backend.drain();
+        assertEquals(Set.of(key("level"), key("name")), delta.getChanges().getKeys());
+        assertEquals(5, delta.getChanges().getInteger(key("level"), -1));
+        assertEquals("Steve", delta.getChanges().get(key("name"), PersistentDataType.STRING));
+        assertEquals(Set.of(key("removed")), delta.getRemovals());
+    }
+
+    @Test
+    void drainClearsDirtyKeys() {
+        DirtyTrackingBackend backend = new DirtyTrackingBackend(new MemoryDataBackend());
+        backend.setInteger(key("level"), 5);
+
+        backend.drain();
+
+        assertFalse(backend.isDirty());
+        DataDelta delta = backend.drain();
+        assertTrue(delta.getChanges().isEmpty());
+        assertTrue(delta.getRemovals().isEmpty());
+    }
+
+    @Test
+    void pathWriteMarksTopLevelKey() {
+        DataManager manager = new DataManager(new MemoryDataBackend(), "test").trackDirty();
+
+        manager.setInteger(DataPath.of("stats.combat.kills"), 3);
+
+        DataDelta delta = manager.drainDirty();
+        assertEquals(Set.of(key("stats")), delta.getChanges().getKeys());
+        DataBackend stats = delta.getChanges().getContainer(key("stats"));
+        assertNotNull(stats);
+        DataBackend combat = stats.getContainer(key("combat"));
+        assertNotNull(combat);
+        assertEquals(3, combat.getInteger(key("kills"), -1));
+    }
+
+    @Test
+    void deltaRoundTripsIntoAnotherBackend() {
+        MemoryDataBackend copy = new MemoryDataBackend();
+        copy.setInteger(key("removed"), 1);
+        copy.setInteger(key("untouched"), 2);
+        MemoryDataBackend target = MemoryDataBackend.copyOf(copy);
+        DirtyTrackingBackend backend = new DirtyTrackingBackend(target);
+        backend.setInteger(key("level"), 5);
+        backend.remove(key("removed"));
+
+        backend.drain().applyTo(copy);
+
+        assertEquals(target.getKeys(), copy.getKeys());
+        assertEquals(5, copy.getInteger(key("level"), -1));
+        assertEquals(2, copy.getInteger(key("untouched"), -1));
+        assertFalse(copy.has(key("removed")));
+    }
+}
@@ -0,0 +1,169 @@
+package ru.vladislav117.mcdata.tracking;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.vladislav117.mcdata.backend.DataBackend;
+import ru.vladislav117.mcdata.backend.DataKind;
+import ru.vladislav117.mcdata.backend.MappedDataBackend;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+import ru.vladislav117.mcdata.backend.PersistentDataContainerBackend;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyIndexBackendTest {
+    static final NamespacedKey LEVEL = new NamespacedKey("test", "level");
+    static final NamespacedKey NAME = new NamespacedKey("test", "name");
+    static final NamespacedKey OTHER = new NamespacedKey("other", "level");
+
+    @TempDir
+    Path directory;
+
+    static Map<NamespacedKey, DataKind> keys(DataBackend backend, @Nullable String namespace) {
+        Map<NamespacedKey, DataKind> keys = new HashMap<>();
+        backend.forEachKey(namespace, keys::put);
+        return keys;
+    }
+
+    static void checkNamespaces(DataBackend target) {
+        target.setInteger(LEVEL, 5);
+        target.set(NAME, PersistentDataType.STRING, "Steve");
+        target.setInteger(OTHER, 7);
+        KeyIndexBackend backend = new KeyIndexBackend(target);
+
+        assertEquals(Map.of(LEVEL, DataKind.INTEGER, NAME, DataKind.STRING), keys(backend, "test"));
+        assertEquals(Map.of(OTHER, DataKind.INTEGER), keys(backend, "other"));
+        assertEquals(Set.of(LEVEL, NAME, OTHER), keys(backend, null).keySet());
+        assertTrue(keys(backend, "missing").isEmpty());
+    }
+
+    @Test
+    void indexIsRebuiltAfterWrite() {
+        KeyIndexBackend backend = new KeyIndexBackend(new MemoryDataBackend());
+        backend.setInteger(LEVEL, 5);
+        assertEquals(Set.of(LEVEL), keys(backend, "test").keySet());
+
+        backend.set(NAME, PersistentDataType.STRING, "Steve");
+        assertEquals(Set.of(LEVEL, NAME), keys(backend, "test").keySet());
+
+        backend.remove(LEVEL);
+        assertEquals(Set.of(NAME), keys(backend, "test").keySet());
+    }
+
+    @Test
+    void invalidateRebuildsIndexAfterDirectWrites() {
+        MemoryDataBackend target = new MemoryDataBackend();
+        KeyIndexBackend backend = new KeyIndexBackend(target);
+        backend.setInteger(LEVEL, 5);
+        assertEquals(Set.of(LEVEL), keys(backend, "test").keySet());
+
+        target.set(NAME, PersistentDataType.STRING, "Steve");
+        assertEquals(Set.of(LEVEL), keys(backend, "test").keySet());
+
+        backend.invalidate();
+        assertEquals(Set.of(LEVEL, NAME), keys(backend, "test").keySet());
+    }
+
+    @Test
+    void filtersNamespacesOnMemoryBackend() {
+        checkNamespaces(new MemoryDataBackend());
+    }
+
+    @Test
+    void filtersNamespacesOnMappedBackend() throws IOException {
+        try (MappedDataBackend backend = new MappedDataBackend(directory.resolve("data"))) {
+            checkNamespaces(backend);
+        }
+    }
+
+    @Test
+    void filtersNamespacesOnContainerBackend() {
+        checkNamespaces(new PersistentDataContainerBackend(new TestContainer()));
+    }
+
+    /**
+     * Контейнер, хранящий значения в примитивном виде в памяти.
+     */
+    static class TestContainer implements PersistentDataContainer, PersistentDataAdapterContext {
+        final Map<NamespacedKey, Object> values = new LinkedHashMap<>();
+
+        @Override
+        public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+            values.put(key, type.toPrimitive(value, this));
+        }
+
+        @Override
+        public void remove(NamespacedKey key) {
+            values.remove(key);
+        }
+
+        @Override
+        public void readFromBytes(byte[] bytes, boolean clear) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+            return type.getPrimitiveType().isInstance(values.get(key));
+        }
+
+        @Override
+        public boolean has(NamespacedKey key) {
+            return values.containsKey(key);
+        }
+
+        @Override
+        public <P, C> @Nullable C get(NamespacedKey key, PersistentDataType<P, C> type) {
+            if (!has(key, type)) return null;
+            return type.fromPrimitive(type.getPrimitiveType().cast(values.get(key)), this);
+        }
+
+        @Override
+        public <P, C> C getOrDefault(NamespacedKey key, PersistentDataType<P, C> type, C defaultValue) {
+            C value = get(key, type);
+            return value == null ? defaultValue : value;
+        }
+
+        @Override
+        public Set<NamespacedKey> getKeys() {
+            return new HashSet<>(values.keySet());
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values.isEmpty();
+        }
+
+        @Override
+        public void copyTo(PersistentDataContainer other, boolean replace) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PersistentDataAdapterContext getAdapterContext() {
+            return this;
+        }
+
+        @Override
+        public byte[] serializeToBytes() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PersistentDataContainer newPersistentDataContainer() {
+            return new TestContainer();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package ru.vladislav117.mcdata.transaction;
+
+import org.bukkit.NamespacedKey;
+import org.junit.jupiter.api.Test;
+import ru.vladislav117.mcdata.DataManager;
+import ru.vladislav117.mcdata.backend.MemoryDataBackend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataTransactionTest {
+    static NamespacedKey key(String name) {
+        return new NamespacedKey("test", name);
+    }
+
+    @Test
+    void readsSeeOwnWrites() {
+        MemoryDataBackend backend = new MemoryDataBackend();
+        backend.setInteger(key("level"), 1);
+        backend.setInteger(key("removed"), 2);
+        DataManager manager = new DataManager(backend, "test");
+
+        try (DataTransaction transaction = manager.transaction()) {
+            DataManager inside = transaction.getManager();
+            inside.setInteger("level", 5);
+            inside.remove("removed");
+
+            assertEquals(5, inside.getInteger("level"));
+            assertFalse(inside.contains("removed"));
+            assertEquals(1, manager.getInteger("level"));
+            assertTrue(manager.contains("removed"));
+            transaction.commit();
+        }
+
+        assertEquals(5, manager.getInteger("level"));
+        assertFalse(manager.contains("removed"));
+    }
+
+    @Test
+    void batchRollsBackOnException() {
+        MemoryDataBackend backend = new MemoryDataBackend();
+        backend.setInteger(key("level"), 1);
+        DataManager manager = new DataManager(backend, "test");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> manager.batch(inside -> {
+            inside.setInteger("level", 5);
+            inside.setInteger("added", 6);
+            throw new IllegalStateException("failed");
+        }));
+
+        assertEquals("failed", exception.getMessage());
+        assertEquals(1, manager.getInteger("level"));
+        assertFalse(manager.contains("added"));
+    }
+
+    @Test
+    void commitAppliesRemovalsBeforeWrites() {
+        RecordingBackend backend = new RecordingBackend();
+        backend.setInteger(key("removed"), 1);
+        backend.operations.clear();
+        DataManager manager = new DataManager(backend, "test");
+
+        manager.batch(inside -> {
+            inside.setInteger("level", 5);
+            inside.remove("removed");
+            inside.remove("level");
+            inside.setInteger("level", 6);
+        });
+
+        assertEquals(List.of("remove test:removed", "set test:level"), backend.operations);
+        assertEquals(6, manager.getInteger("level"));
+        assertFalse(manager.contains("removed"));
+    }
+
+    /**
+     * Хранилище, запоминающее порядок записей и удалений.
+     */
+    static class RecordingBackend extends MemoryDataBackend {
+        final List<String> operations = new ArrayList<>();
+
+        @Override
+        public void setInteger(NamespacedKey key, int value) {
+            operations.add("set " + key);
+            super.setInteger(key, value);
+        }
+
+        @Override
+        public void remove(NamespacedKey key) {
+            operations.add("remove " + key);
+            super.remove(key);
+        }
+    }
+}